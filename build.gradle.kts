@@ -31,6 +31,11 @@ sourceSets.main {
     resources.srcDir(file("resources"))
 }
 
+sourceSets.test {
+    java.srcDirs(file("tests"))
+    resources.srcDir(file("testResources"))
+}
+
 allprojects {
     apply {
         plugin("java")
@@ -78,6 +83,10 @@ tasks {
         jvmArgs = listOf(intellijJvmArgs)
     }
 
+    test {
+        maxHeapSize = testMaxHeapSize
+    }
+
     patchPluginXml {
         version(pluginVersion)
         sinceBuild(pluginSinceBuild)
@@ -116,5 +125,7 @@ dependencies {
     }
 
     implementation(project(":rt-ant"))
+
+    testImplementation("junit:junit:$junitVersion")
 }
 
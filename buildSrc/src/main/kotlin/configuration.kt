@@ -26,6 +26,7 @@ const val kotlinApiVersion="1.4"
 // https://data.services.jetbrains.com/products?fields=code,name,releases.downloads,releases.version,releases.build,releases.type&code=IIC,IIU
 
 const val intellijJvmArgs="-Xmx2G"
+const val testMaxHeapSize="1G"
 const val intellijUpdateSinceUntilBuild=true
 
 const val pluginName_ = "SAP-Commerce-Developers-Toolset"
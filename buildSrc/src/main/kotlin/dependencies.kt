@@ -9,3 +9,4 @@ const val mavenModelVersion="3.6.3"
 const val commonsCodecVersion="1.15"
 const val commonsLang3Version="3.11"
 const val commonsCollections4Version="4.4"
+const val junitVersion="4.13.1"
@@ -4,8 +4,10 @@ package com.intellij.idea.plugin.hybris.impex.psi;
 import java.util.List;
 import org.jetbrains.annotations.*;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexAnyHeaderParameterNameStub;
 
-public interface ImpexAnyHeaderParameterName extends PsiElement {
+public interface ImpexAnyHeaderParameterName extends PsiElement, StubBasedPsiElement<ImpexAnyHeaderParameterNameStub> {
 
   @Nullable
   ImpexMacroUsageDec getMacroUsageDec();
@@ -4,8 +4,10 @@ package com.intellij.idea.plugin.hybris.impex.psi;
 import java.util.List;
 import org.jetbrains.annotations.*;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexAttributeStub;
 
-public interface ImpexAttribute extends PsiElement {
+public interface ImpexAttribute extends PsiElement, StubBasedPsiElement<ImpexAttributeStub> {
 
   @NotNull
   ImpexAnyAttributeName getAnyAttributeName();
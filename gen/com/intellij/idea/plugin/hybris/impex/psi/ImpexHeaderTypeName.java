@@ -4,7 +4,9 @@ package com.intellij.idea.plugin.hybris.impex.psi;
 import java.util.List;
 import org.jetbrains.annotations.*;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexHeaderTypeNameStub;
 
-public interface ImpexHeaderTypeName extends PsiElement {
+public interface ImpexHeaderTypeName extends PsiElement, StubBasedPsiElement<ImpexHeaderTypeNameStub> {
 
 }
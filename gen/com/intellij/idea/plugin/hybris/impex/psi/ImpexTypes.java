@@ -4,6 +4,7 @@ package com.intellij.idea.plugin.hybris.impex.psi;
 import com.intellij.psi.tree.IElementType;
 import com.intellij.psi.PsiElement;
 import com.intellij.lang.ASTNode;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexStubElementTypeFactory;
 import com.intellij.idea.plugin.hybris.impex.psi.impl.*;
 
 public interface ImpexTypes {
@@ -11,16 +12,16 @@ public interface ImpexTypes {
   IElementType ANY_ATTRIBUTE_NAME = new ImpexElementType("ANY_ATTRIBUTE_NAME");
   IElementType ANY_ATTRIBUTE_VALUE = new ImpexElementType("ANY_ATTRIBUTE_VALUE");
   IElementType ANY_HEADER_MODE = new ImpexElementType("ANY_HEADER_MODE");
-  IElementType ANY_HEADER_PARAMETER_NAME = new ImpexElementType("ANY_HEADER_PARAMETER_NAME");
-  IElementType ATTRIBUTE = new ImpexElementType("ATTRIBUTE");
+  IElementType ANY_HEADER_PARAMETER_NAME = ImpexStubElementTypeFactory.factory("ANY_HEADER_PARAMETER_NAME");
+  IElementType ATTRIBUTE = ImpexStubElementTypeFactory.factory("ATTRIBUTE");
   IElementType BEAN_SHELL = new ImpexElementType("BEAN_SHELL");
   IElementType COMMENT = new ImpexElementType("COMMENT");
   IElementType FULL_HEADER_PARAMETER = new ImpexElementType("FULL_HEADER_PARAMETER");
   IElementType FULL_HEADER_TYPE = new ImpexElementType("FULL_HEADER_TYPE");
   IElementType HEADER_LINE = new ImpexElementType("HEADER_LINE");
-  IElementType HEADER_TYPE_NAME = new ImpexElementType("HEADER_TYPE_NAME");
+  IElementType HEADER_TYPE_NAME = ImpexStubElementTypeFactory.factory("HEADER_TYPE_NAME");
   IElementType MACRO_DECLARATION = new ImpexElementType("MACRO_DECLARATION");
-  IElementType MACRO_NAME_DEC = new ImpexElementType("MACRO_NAME_DEC");
+  IElementType MACRO_NAME_DEC = ImpexStubElementTypeFactory.factory("MACRO_NAME_DEC");
   IElementType MACRO_USAGE_DEC = new ImpexElementType("MACRO_USAGE_DEC");
   IElementType MACRO_VALUE_DEC = new ImpexElementType("MACRO_VALUE_DEC");
   IElementType MODIFIERS = new ImpexElementType("MODIFIERS");
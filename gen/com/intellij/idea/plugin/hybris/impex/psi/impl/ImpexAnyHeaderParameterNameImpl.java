@@ -7,6 +7,8 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexAnyHeaderParameterNameStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes.*;
 import com.intellij.idea.plugin.hybris.impex.psi.references.ImpexAnyHeaderParameterNameMixin;
 import com.intellij.idea.plugin.hybris.impex.psi.*;
@@ -17,6 +19,10 @@ public class ImpexAnyHeaderParameterNameImpl extends ImpexAnyHeaderParameterName
     super(node);
   }
 
+  public ImpexAnyHeaderParameterNameImpl(@NotNull ImpexAnyHeaderParameterNameStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
+
   public void accept(@NotNull ImpexVisitor visitor) {
     visitor.visitAnyHeaderParameterName(this);
   }
@@ -29,7 +35,7 @@ public class ImpexAnyHeaderParameterNameImpl extends ImpexAnyHeaderParameterName
   @Override
   @Nullable
   public ImpexMacroUsageDec getMacroUsageDec() {
-    return findChildByClass(ImpexMacroUsageDec.class);
+    return PsiTreeUtil.getChildOfType(this, ImpexMacroUsageDec.class);
   }
 
 }
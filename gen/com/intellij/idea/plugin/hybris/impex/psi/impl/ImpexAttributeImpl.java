@@ -7,16 +7,22 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexAttributeStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes.*;
-import com.intellij.extapi.psi.ASTWrapperPsiElement;
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
 import com.intellij.idea.plugin.hybris.impex.psi.*;
 
-public class ImpexAttributeImpl extends ASTWrapperPsiElement implements ImpexAttribute {
+public class ImpexAttributeImpl extends StubBasedPsiElementBase<ImpexAttributeStub> implements ImpexAttribute {
 
   public ImpexAttributeImpl(@NotNull ASTNode node) {
     super(node);
   }
 
+  public ImpexAttributeImpl(@NotNull ImpexAttributeStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
+
   public void accept(@NotNull ImpexVisitor visitor) {
     visitor.visitAttribute(this);
   }
@@ -29,13 +35,13 @@ public class ImpexAttributeImpl extends ASTWrapperPsiElement implements ImpexAtt
   @Override
   @NotNull
   public ImpexAnyAttributeName getAnyAttributeName() {
-    return findNotNullChildByClass(ImpexAnyAttributeName.class);
+    return notNullChild(PsiTreeUtil.getChildOfType(this, ImpexAnyAttributeName.class));
   }
 
   @Override
   @Nullable
   public ImpexAnyAttributeValue getAnyAttributeValue() {
-    return findChildByClass(ImpexAnyAttributeValue.class);
+    return PsiTreeUtil.getChildOfType(this, ImpexAnyAttributeValue.class);
   }
 
 }
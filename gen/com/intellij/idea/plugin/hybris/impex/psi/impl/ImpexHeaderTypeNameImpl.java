@@ -7,6 +7,8 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexHeaderTypeNameStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes.*;
 import com.intellij.idea.plugin.hybris.impex.psi.references.ImpexHeaderTypeNameMixin;
 import com.intellij.idea.plugin.hybris.impex.psi.*;
@@ -17,6 +19,10 @@ public class ImpexHeaderTypeNameImpl extends ImpexHeaderTypeNameMixin implements
     super(node);
   }
 
+  public ImpexHeaderTypeNameImpl(@NotNull ImpexHeaderTypeNameStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
+
   public void accept(@NotNull ImpexVisitor visitor) {
     visitor.visitHeaderTypeName(this);
   }
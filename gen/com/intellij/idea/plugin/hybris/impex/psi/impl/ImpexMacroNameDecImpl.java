@@ -7,16 +7,22 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexMacroNameDecStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes.*;
-import com.intellij.idea.plugin.hybris.impex.psi.ImpexPsiNamedElementImpl;
+import com.intellij.idea.plugin.hybris.impex.psi.impl.ImpexMacroNameDecMixin;
 import com.intellij.idea.plugin.hybris.impex.psi.*;
 
-public class ImpexMacroNameDecImpl extends ImpexPsiNamedElementImpl implements ImpexMacroNameDec {
+public class ImpexMacroNameDecImpl extends ImpexMacroNameDecMixin implements ImpexMacroNameDec {
 
   public ImpexMacroNameDecImpl(@NotNull ASTNode node) {
     super(node);
   }
 
+  public ImpexMacroNameDecImpl(@NotNull ImpexMacroNameDecStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
+
   public void accept(@NotNull ImpexVisitor visitor) {
     visitor.visitMacroNameDec(this);
   }
@@ -0,0 +1,120 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.completion;
+
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaClass;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModelAccess;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Attribute and relation end lookup elements of item types, shared by the ImpEx header and FlexibleSearch column
+ * completions. Elements are built once per meta class and kept until the type system model is rebuilt.
+ */
+public class TypeSystemAttributeLookupCache {
+
+    private final Project myProject;
+    private volatile Snapshot mySnapshot;
+
+    public TypeSystemAttributeLookupCache(@NotNull final Project project) {
+        myProject = project;
+    }
+
+    public static TypeSystemAttributeLookupCache getInstance(@NotNull final Project project) {
+        return ServiceManager.getService(project, TypeSystemAttributeLookupCache.class);
+    }
+
+    /**
+     * @return immutable list of lookup elements, empty if there is no such item type
+     */
+    @NotNull
+    public List<LookupElement> getAttributeLookupElements(@NotNull final String itemTypeCode) {
+        final TSMetaModel model = TSMetaModelAccess.getInstance(myProject).getTypeSystemMeta();
+        final TSMetaClass metaClass = model.findMetaClassByName(itemTypeCode);
+
+        if (metaClass == null) {
+            return Collections.emptyList();
+        }
+        Snapshot snapshot = mySnapshot;
+
+        if (snapshot == null || snapshot.myModel != model) {
+            snapshot = new Snapshot(model);
+            mySnapshot = snapshot;
+        }
+        return snapshot.myLookupElements.computeIfAbsent(metaClass, TypeSystemAttributeLookupCache::createLookupElements);
+    }
+
+    @NotNull
+    private static List<LookupElement> createLookupElements(@NotNull final TSMetaClass metaClass) {
+        final List<LookupElement> elements = new ArrayList<>();
+
+        metaClass.getPropertiesStream(true).forEach(property -> {
+            final String name = property.getName();
+
+            if (StringUtil.isEmptyOrSpaces(name)) {
+                return;
+            }
+            final LookupElementBuilder builder = LookupElementBuilder
+                .create(name.trim())
+                .withIcon(HybrisIcons.TYPE_SYSTEM)
+                .withStrikeoutness(property.isDeprecated());
+            final String typeText = getTypePresentableText(property.getType());
+            elements.add(StringUtil.isEmpty(typeText) ? builder : builder.withTypeText(typeText, true));
+        });
+        metaClass.getReferenceEndsStream(true).forEach(referenceEnd -> elements.add(
+            LookupElementBuilder
+                .create(referenceEnd.getRole())
+                .withTypeText(referenceEnd.getTypeName())
+                .withIcon(HybrisIcons.TYPE_SYSTEM)
+        ));
+        return Collections.unmodifiableList(elements);
+    }
+
+    @NotNull
+    private static String getTypePresentableText(@Nullable final String type) {
+        if (type == null) {
+            return "";
+        }
+        final int index = type.lastIndexOf('.');
+        return index >= 0 ? type.substring(index + 1) : type;
+    }
+
+    private static final class Snapshot {
+
+        private final TSMetaModel myModel;
+        private final Map<TSMetaClass, List<LookupElement>> myLookupElements = new ConcurrentHashMap<>();
+
+        private Snapshot(@NotNull final TSMetaModel model) {
+            myModel = model;
+        }
+    }
+}
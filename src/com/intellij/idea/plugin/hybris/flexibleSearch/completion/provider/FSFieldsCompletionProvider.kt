@@ -22,25 +22,14 @@ import com.intellij.codeInsight.completion.CompletionParameters
 import com.intellij.codeInsight.completion.CompletionProvider
 import com.intellij.codeInsight.completion.CompletionResultSet
 import com.intellij.codeInsight.lookup.LookupElementBuilder
-import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
+import com.intellij.idea.plugin.hybris.completion.TypeSystemAttributeLookupCache
 import com.intellij.idea.plugin.hybris.flexibleSearch.completion.analyzer.isColumnReferenceIdentifier
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchCorrelationName
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchQuerySpecification
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableName
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableReference
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes
-import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModelAccess
-import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaProperty
-import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaReference
+import com.intellij.idea.plugin.hybris.flexibleSearch.scope.FlexibleSearchQueryScope
 import com.intellij.openapi.project.Project
-import com.intellij.openapi.util.text.StringUtil
-import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.psi.util.PsiTreeUtil.findSiblingBackward
 import com.intellij.util.JavaeeIcons.PARAMETER_ICON
 import com.intellij.util.ProcessingContext
-import java.util.Objects
-import java.util.Optional
-import java.util.stream.Stream
 
 /**
  * @author Nosov Aleksandr <nosovae.dev@gmail.com>
@@ -55,44 +44,20 @@ class FSFieldsCompletionProvider : CompletionProvider<CompletionParameters>() {
         val psiElementUnderCaret = parameters.originalPosition ?: parameters.position
 
         if (isColumnReferenceIdentifier(parameters)) {
+            val scope = FlexibleSearchQueryScope.forElement(psiElementUnderCaret) ?: return
             val tableNameId = findSiblingBackward(parameters.position, FlexibleSearchTypes.TABLE_NAME_IDENTIFIER, null)
 
             if (tableNameId == null) {
-                val querySpecification = PsiTreeUtil.getParentOfType(psiElementUnderCaret, FlexibleSearchQuerySpecification::class.java)
-
-                val tableRefs = PsiTreeUtil.findChildrenOfType(querySpecification, FlexibleSearchTableReference::class.java)
-                val correlationNames = if (tableRefs.isNotEmpty()) PsiTreeUtil.findChildrenOfType(tableRefs.first(), FlexibleSearchCorrelationName::class.java) else listOf()
-
-                if (correlationNames.isNotEmpty()) {
-                    correlationNames.map { it.text }
+                if (scope.correlationNames.isNotEmpty()) {
+                    scope.correlationNames
                             .map { LookupElementBuilder.create(it).withPresentableText(it).withIcon(PARAMETER_ICON) }
                             .forEach { result.addElement(it) }
 
                 } else {
-                    val tableName = PsiTreeUtil.findChildOfType(querySpecification, FlexibleSearchTableName::class.java)
-                    if (tableName != null) {
-                        fillDomAttributesCompletions(project, tableName.text, result)
-                    }
+                    scope.defaultTable?.let { fillDomAttributesCompletions(project, it.text, result) }
                 }
             } else {
-                val querySpecification = PsiTreeUtil.getTopmostParentOfType(psiElementUnderCaret, FlexibleSearchQuerySpecification::class.java)
-                val tableNames = PsiTreeUtil.findChildrenOfType(querySpecification, FlexibleSearchTableReference::class.java)
-
-                if (tableNames.isNotEmpty()) {
-                    val foundTableName = tableNames
-                            .map { PsiTreeUtil.findChildOfType(it, FlexibleSearchTableName::class.java) }
-                            .filter {
-                                if (it != null) {
-                                    val element = PsiTreeUtil.getNextSiblingOfType(it, FlexibleSearchCorrelationName::class.java)
-                                    element != null && element.text == tableNameId.text
-                                } else {
-                                    false
-                                }
-                            }
-                    if (foundTableName.isNotEmpty()) {
-                        fillDomAttributesCompletions(project, foundTableName.first()!!.text, result)
-                    }
-                }
+                scope.findTable(tableNameId.text)?.let { fillDomAttributesCompletions(project, it.text, result) }
             }
         }
     }
@@ -104,48 +69,12 @@ class FSFieldsCompletionProvider : CompletionProvider<CompletionParameters>() {
             itemTypeCode: String,
             resultSet: CompletionResultSet
     ) {
-        val metaModel = TSMetaModelAccess.getInstance(project).typeSystemMeta
-        val metaClass = Optional.ofNullable(metaModel.findMetaClassByName(itemTypeCode))
-
         val currentPrefix = resultSet.prefixMatcher.prefix
         val delimiters = arrayOf('.', ':')
         val emptyPrefixResultSet = resultSet.withPrefixMatcher(currentPrefix.substringAfter(delimiters))
-        metaClass
-                .map { meta -> meta.getPropertiesStream(true) }
-                .orElse(Stream.empty<TSMetaProperty>())
-                .map<LookupElementBuilder> { prop ->
-                    val name = prop.name ?: return@map null
-
-                    val builder = LookupElementBuilder
-                            .create(name)
-                            .withIcon(HybrisIcons.TYPE_SYSTEM)
-                            .withStrikeoutness(prop.isDeprecated)
-                    val typeText = getTypePresentableText(prop.type)
-                    return@map if (StringUtil.isEmpty(typeText)) builder else builder.withTypeText(typeText, true)
-                }
-                .filter { Objects.nonNull(it) }
-                .forEach { emptyPrefixResultSet.addElement(it) }
-        metaClass
-                .map { meta -> meta.getReferenceEndsStream(true) }
-                .orElse(Stream.empty<TSMetaReference.ReferenceEnd>())
-                .map { ref ->
-                    LookupElementBuilder
-                            .create(ref.role)
-                            .withTypeText(ref.typeName)
-                            .withIcon(HybrisIcons.TYPE_SYSTEM)
-                }
-                .forEach { emptyPrefixResultSet.addElement(it) }
-    }
-
-    private fun getTypePresentableText(type: String?): String {
-        if (type == null) {
-            return ""
-        }
-        val index = type.lastIndexOf('.')
-        return if (index >= 0) type.substring(index + 1) else type
+        emptyPrefixResultSet.addAllElements(TypeSystemAttributeLookupCache.getInstance(project).getAttributeLookupElements(itemTypeCode))
     }
 
-
     private fun String.substringAfter(delimiters: Array<Char>, missingDelimiterValue: String = this): String {
         val result = delimiters
                 .filter { delimiter -> indexOf(delimiter) != -1 }
@@ -23,16 +23,29 @@ import com.intellij.idea.plugin.hybris.impex.psi.impl.ImpexStringImpl;
 import com.intellij.lang.Language;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.InjectedLanguagePlaces;
 import com.intellij.psi.LanguageInjector;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiExpressionList;
 import com.intellij.psi.PsiLanguageInjectionHost;
+import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.impl.source.tree.java.PsiMethodCallExpressionImpl;
+import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiShortNamesCache;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * @author Nosov Aleksandr <nosovae.dev@gmail.com>
@@ -41,34 +54,81 @@ public class FlexibleSearchInjector implements LanguageInjector {
 
     private static final Logger LOG = Logger.getInstance(FlexibleSearchInjector.class);
 
+    private static final String FLEXIBLE_SEARCH_SERVICE = "FlexibleSearchService";
+    private static final String SEARCH_METHOD = "search";
+    private static final String SELECT_KEYWORD = "select";
+
     @Override
     public void getLanguagesToInject(
         @NotNull final PsiLanguageInjectionHost host,
         @NotNull final InjectedLanguagePlaces injectionPlacesRegistrar
     ) {
-        final PsiElement hostParent = host.getParent();
         if (host instanceof ImpexStringImpl) {
             final String hostString = StringUtil.unquoteString(host.getText()).toLowerCase();
             if (StringUtil.trim(hostString).startsWith("select ")) {
                 registerInjectionPlace(injectionPlacesRegistrar, host);
             }
+            return;
         }
+        final PsiMethodCallExpression callExpression = getSearchCallCandidate(host);
 
-        if (hostParent != null) {
-            if (hostParent.getParent() instanceof PsiMethodCallExpressionImpl) {
-                final PsiMethodCallExpressionImpl callExpression = (PsiMethodCallExpressionImpl) hostParent.getParent();
-                final PsiMethod method = callExpression.resolveMethod();
-                if (method != null) {
-                    final PsiClass containingClass = method.getContainingClass();
-                    if (containingClass != null
-                        && "FlexibleSearchService".equals(containingClass.getName())
-                        && "search".equals(method.getName())) {
-
-                        registerInjectionPlace(injectionPlacesRegistrar, host);
-                    }
-                }
-            }
+        if (callExpression == null) {
+            return;
+        }
+        final Set<PsiMethod> searchMethods = getSearchMethods(host.getProject());
+
+        if (searchMethods.isEmpty()) {
+            return;
         }
+        final PsiMethod method = callExpression.resolveMethod();
+
+        if (method != null && searchMethods.contains(method)) {
+            registerInjectionPlace(injectionPlacesRegistrar, host);
+        }
+    }
+
+    /**
+     * Textual checks which are cheap enough to run for every string literal: the literal has to mention {@code select}
+     * and has to be an argument of a call named {@code search}. Nothing is resolved here.
+     */
+    @Nullable
+    private static PsiMethodCallExpression getSearchCallCandidate(@NotNull final PsiLanguageInjectionHost host) {
+        if (!(host instanceof PsiLiteralExpression)) {
+            return null;
+        }
+        final PsiElement argumentList = host.getParent();
+
+        if (!(argumentList instanceof PsiExpressionList)
+            || !(argumentList.getParent() instanceof PsiMethodCallExpression)
+            || !StringUtil.containsIgnoreCase(host.getText(), SELECT_KEYWORD)) {
+            return null;
+        }
+        final PsiMethodCallExpression callExpression = (PsiMethodCallExpression) argumentList.getParent();
+
+        return SEARCH_METHOD.equals(callExpression.getMethodExpression().getReferenceName())
+            ? callExpression
+            : null;
+    }
+
+    /**
+     * {@code search} methods declared by any {@code FlexibleSearchService} class of the project, found through the
+     * short names index and cached until the next PSI change. An empty set means no call can be a FlexibleSearch one,
+     * so method resolution is skipped entirely.
+     */
+    @NotNull
+    private static Set<PsiMethod> getSearchMethods(@NotNull final Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(project, () -> {
+            final Set<PsiMethod> methods = new HashSet<>();
+            final PsiClass[] classes = PsiShortNamesCache.getInstance(project).getClassesByName(
+                FLEXIBLE_SEARCH_SERVICE,
+                GlobalSearchScope.allScope(project)
+            );
+
+            for (PsiClass psiClass : classes) {
+                Collections.addAll(methods, psiClass.findMethodsByName(SEARCH_METHOD, false));
+            }
+            return CachedValueProvider.Result.create(methods, PsiModificationTracker.MODIFICATION_COUNT);
+        });
     }
 
     private void registerInjectionPlace(
@@ -91,4 +151,4 @@ public class FlexibleSearchInjector implements LanguageInjector {
             }
         }
     }
-}
\ No newline at end of file
+}
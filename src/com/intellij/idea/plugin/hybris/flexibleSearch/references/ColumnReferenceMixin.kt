@@ -2,11 +2,9 @@ package com.intellij.idea.plugin.hybris.flexibleSearch.references
 
 import com.intellij.extapi.psi.ASTWrapperPsiElement
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchColumnReference
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchFromClause
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchQuerySpecification
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableName
-import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableReference
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes
+import com.intellij.idea.plugin.hybris.flexibleSearch.scope.FlexibleSearchQueryScope
 import com.intellij.idea.plugin.hybris.psi.references.TypeSystemReferenceBase
 import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel
 import com.intellij.idea.plugin.hybris.type.system.model.Attribute
@@ -16,9 +14,7 @@ import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiReference
 import com.intellij.psi.ResolveResult
 import com.intellij.psi.impl.source.tree.LeafPsiElement
-import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.util.xml.DomElement
-import java.util.Optional
 
 /**
  * @author Nosov Aleksandr <nosovae.dev@gmail.com>
@@ -44,32 +40,31 @@ abstract class ColumnReferenceMixin(node: ASTNode) : ASTWrapperPsiElement(node),
 
 internal class TypeSystemAttributeReference(owner: FlexibleSearchColumnReference) : TypeSystemReferenceBase<FlexibleSearchColumnReference>(owner) {
 
-    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> {
-        val meta = typeSystemMeta
+    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> =
+            resolveWithCaching(incompleteCode) { resolveInMetaModel(it) }
+
+    private fun resolveInMetaModel(meta: TSMetaModel): Array<ResolveResult> {
         val featureName = element.text.replace("!", "")
+        val scope = FlexibleSearchQueryScope.forElement(element) ?: return ResolveResult.EMPTY_ARRAY
         if (hasPrefix(element)) {
-            return findReference(meta, deepSearchOfTypeReference(element, element.firstChild.text), element.lastChild.text)
+            return findReference(meta, scope.findTable(element.firstChild.text), element.lastChild.text)
         }
-        return findReference(meta, findItemTypeReference(), featureName)
+        return findReference(meta, scope.defaultTable, featureName)
     }
 
     private fun hasPrefix(element: FlexibleSearchColumnReference) = ((element.firstChild as LeafPsiElement).elementType == FlexibleSearchTypes.TABLE_NAME_IDENTIFIER)
 
-    private fun findReference(meta: TSMetaModel, itemType: Optional<FlexibleSearchTableName>, refName: String): Array<ResolveResult> {
+    private fun findReference(meta: TSMetaModel, itemType: FlexibleSearchTableName?, refName: String): Array<ResolveResult> {
         val metaClass = itemType
-                .map { it.text.replace("!", "") }
-                .map { meta.findMetaClassByName(it) }
-
-        if (!metaClass.isPresent) {
-            return ResolveResult.EMPTY_ARRAY
-        }
+                ?.let { meta.findMetaClassByName(it.text.replace("!", "")) }
+                ?: return ResolveResult.EMPTY_ARRAY
 
-        val attributes = metaClass.get()
+        val attributes = metaClass
                 .findPropertiesByName(refName, true)
                 .mapNotNull { it.retrieveDom() }
                 .map { AttributeResolveResult(it) }.toList()
 
-        val relations = metaClass.get()
+        val relations = metaClass
                 .findReferenceEndsByRole(refName, true)
                 .mapNotNull { it.retrieveDom() }
                 .map { RelationElementResolveResult(it) }
@@ -77,38 +72,6 @@ internal class TypeSystemAttributeReference(owner: FlexibleSearchColumnReference
         return (attributes + relations).toTypedArray() 
     }
 
-    private fun findItemTypeReference(): Optional<FlexibleSearchTableName> {
-        return Optional.ofNullable(PsiTreeUtil.getParentOfType(element, FlexibleSearchQuerySpecification::class.java))
-                .map { PsiTreeUtil.findChildOfType(it, FlexibleSearchFromClause::class.java) }
-                .map { it!!.tableReferenceList }
-                .map { PsiTreeUtil.findChildOfType(it, FlexibleSearchTableName::class.java) }
-    }
-
-    private fun deepSearchOfTypeReference(elem: PsiElement, prefix: String): Optional<FlexibleSearchTableName> {
-        val parent = PsiTreeUtil.getParentOfType(elem, FlexibleSearchQuerySpecification::class.java)
-        val tables = PsiTreeUtil.findChildrenOfType(parent, FlexibleSearchTableReference::class.java).toList()
-
-        val tableReference = tables.find {
-            val tableName = PsiTreeUtil.findChildOfAnyType(it, FlexibleSearchTableName::class.java)
-            val corName = findCorName(tableName)
-            prefix == corName
-        }
-        return if (tableReference == null && parent != null) {
-            deepSearchOfTypeReference(parent, prefix)
-        } else {
-            Optional.ofNullable(PsiTreeUtil.findChildOfType(tableReference, FlexibleSearchTableName::class.java))
-        }
-    }
-
-    private fun findCorName(tableName: FlexibleSearchTableName?) : String {
-        val corNameEl = PsiTreeUtil.findSiblingForward(tableName!!.originalElement, FlexibleSearchTypes.CORRELATION_NAME, null)
-        if (corNameEl == null) {
-            return tableName.text
-        } 
-        return corNameEl.text
-    }
-        
-
     private class AttributeResolveResult(private val myDomAttribute: Attribute) : TypeSystemReferenceBase.TypeSystemResolveResult {
         override fun getElement(): PsiElement? = myDomAttribute.qualifier.xmlAttributeValue
         override fun isValidResult() = element != null
@@ -3,6 +3,7 @@ package com.intellij.idea.plugin.hybris.flexibleSearch.references
 import com.intellij.extapi.psi.ASTWrapperPsiElement
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableName
 import com.intellij.idea.plugin.hybris.psi.references.TypeSystemReferenceBase
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel
 import com.intellij.idea.plugin.hybris.type.system.model.ItemType
 import com.intellij.idea.plugin.hybris.type.system.model.Relation
 import com.intellij.lang.ASTNode
@@ -37,8 +38,10 @@ abstract class TypeNameMixin(astNode: ASTNode) : ASTWrapperPsiElement(astNode),
 
 class TypeSystemItemRef(owner: FlexibleSearchTableName) : TypeSystemReferenceBase<FlexibleSearchTableName>(owner) {
 
-    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> {
-        val meta = typeSystemMeta
+    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> =
+            resolveWithCaching(incompleteCode) { resolveInMetaModel(it) }
+
+    private fun resolveInMetaModel(meta: TSMetaModel): Array<ResolveResult> {
         val lookingForName = element.text.replace("!", "")
         val res0 = Optional.ofNullable(meta.findMetaClassByName(lookingForName))
                 .map { it.retrieveAllDomsStream() }
@@ -0,0 +1,97 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.scope
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchFromClause
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchQuerySpecification
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableName
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableReference
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes
+import com.intellij.psi.PsiElement
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.PsiTreeUtil
+
+/**
+ * Aliases and tables visible from a single `SELECT`. Joined tables and tables of nested subqueries are included,
+ * aliases which are not declared in the query itself are looked up in the enclosing queries.
+ *
+ * The scope is built once per [FlexibleSearchQuerySpecification] and dropped together with the cached PSI.
+ */
+class FlexibleSearchQueryScope private constructor(
+        private val querySpecification: FlexibleSearchQuerySpecification,
+        private val tables: Map<String, FlexibleSearchTableName>,
+        /**
+         * Explicitly declared aliases (`{Product AS p}`), in declaration order.
+         */
+        val correlationNames: List<String>,
+        /**
+         * First table of the `FROM` clause, columns without an alias prefix belong to it.
+         */
+        val defaultTable: FlexibleSearchTableName?
+) {
+
+    /**
+     * Finds the table declared with the given alias, or with the given name when it has no alias.
+     */
+    fun findTable(alias: String): FlexibleSearchTableName? = tables[alias] ?: outerScope()?.findTable(alias)
+
+    private fun outerScope() = PsiTreeUtil.getParentOfType(querySpecification, FlexibleSearchQuerySpecification::class.java)
+            ?.let { of(it) }
+
+    companion object {
+
+        @JvmStatic
+        fun of(querySpecification: FlexibleSearchQuerySpecification): FlexibleSearchQueryScope =
+                CachedValuesManager.getCachedValue(querySpecification) {
+                    CachedValueProvider.Result.create(build(querySpecification), querySpecification)
+                }
+
+        /**
+         * Scope of the innermost query which contains the given element.
+         */
+        @JvmStatic
+        fun forElement(element: PsiElement): FlexibleSearchQueryScope? =
+                PsiTreeUtil.getParentOfType(element, FlexibleSearchQuerySpecification::class.java)
+                        ?.let { of(it) }
+
+        private fun build(querySpecification: FlexibleSearchQuerySpecification): FlexibleSearchQueryScope {
+            val tables = LinkedHashMap<String, FlexibleSearchTableName>()
+            val correlationNames = ArrayList<String>()
+
+            PsiTreeUtil.findChildrenOfType(querySpecification, FlexibleSearchTableReference::class.java).forEach { tableReference ->
+                val tableName = PsiTreeUtil.findChildOfType(tableReference, FlexibleSearchTableName::class.java)
+                        ?: return@forEach
+                val correlationName = PsiTreeUtil.findSiblingForward(tableName, FlexibleSearchTypes.CORRELATION_NAME, null)
+
+                if (correlationName == null) {
+                    tables.putIfAbsent(tableName.text, tableName)
+                } else {
+                    correlationNames.add(correlationName.text)
+                    tables.putIfAbsent(correlationName.text, tableName)
+                }
+            }
+            val defaultTable = PsiTreeUtil.findChildOfType(querySpecification, FlexibleSearchFromClause::class.java)
+                    ?.tableReferenceList
+                    ?.let { PsiTreeUtil.findChildOfType(it, FlexibleSearchTableName::class.java) }
+
+            return FlexibleSearchQueryScope(querySpecification, tables, correlationNames, defaultTable)
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql;
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFile;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchQuerySpecification;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModelAccess;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+/**
+ * Shows the SQL of the FlexibleSearch statement under the caret, or of the first statement of the file.
+ */
+public class FlexibleSearchSqlAction extends AnAction {
+
+    @Override
+    public void actionPerformed(@NotNull final AnActionEvent e) {
+        final Project project = e.getProject();
+        final Editor editor = e.getData(CommonDataKeys.EDITOR);
+        final PsiFile file = e.getData(CommonDataKeys.PSI_FILE);
+        if (project == null || editor == null || !(file instanceof FlexibleSearchFile)) {
+            return;
+        }
+
+        final FlexibleSearchQuerySpecification query = Optional
+            .ofNullable(file.findElementAt(editor.getCaretModel().getOffset()))
+            .map(element -> PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchQuerySpecification.class))
+            .orElseGet(() -> PsiTreeUtil.findChildOfType(file, FlexibleSearchQuerySpecification.class));
+        if (query == null) {
+            return;
+        }
+
+        final FlexibleSearchSqlTranslator translator = new FlexibleSearchSqlTranslator(
+            TSMetaModelAccess.getInstance(project).getTypeSystemMeta(file)
+        );
+        FlexibleSearchSqlToolWindowFactory.show(project, translator.translate(query));
+    }
+
+    @Override
+    public void update(@NotNull final AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(
+            e.getProject() != null && e.getData(CommonDataKeys.PSI_FILE) instanceof FlexibleSearchFile
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql;
+
+import com.intellij.openapi.editor.colors.EditorColorsManager;
+import com.intellij.openapi.editor.colors.EditorFontType;
+import com.intellij.ui.OnePixelSplitter;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.components.JBTextArea;
+import com.intellij.ui.table.TableView;
+import com.intellij.util.ui.ColumnInfo;
+import com.intellij.util.ui.ListTableModel;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.stream.Collectors;
+
+import static com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message;
+
+/**
+ * Translated SQL on the left, tables read by it on the right.
+ */
+class FlexibleSearchSqlPanel extends JPanel {
+
+    private final JBTextArea mySqlArea = new JBTextArea();
+    private final ListTableModel<FlexibleSearchSqlTranslation.TouchedTable> myTablesModel = new ListTableModel<>(
+        new TextColumn("flexible.search.sql.table.column.table") {
+
+            @Override
+            public String valueOf(final FlexibleSearchSqlTranslation.TouchedTable table) {
+                return table.getTable();
+            }
+        },
+        new TextColumn("flexible.search.sql.table.column.types") {
+
+            @Override
+            public String valueOf(final FlexibleSearchSqlTranslation.TouchedTable table) {
+                return table.getTypeCodes()
+                            .entrySet()
+                            .stream()
+                            .map(entry -> entry.getValue() == null
+                                ? entry.getKey()
+                                : entry.getKey() + " (" + entry.getValue() + ')')
+                            .collect(Collectors.joining(", "));
+            }
+        },
+        new TextColumn("flexible.search.sql.table.column.predicates") {
+
+            @Override
+            public String valueOf(final FlexibleSearchSqlTranslation.TouchedTable table) {
+                return String.join(", ", table.getPredicateColumns());
+            }
+        },
+        new TextColumn("flexible.search.sql.table.column.subtype.scan") {
+
+            @Override
+            public String valueOf(final FlexibleSearchSqlTranslation.TouchedTable table) {
+                return table.isSubtypeScan() ? message("flexible.search.sql.table.subtype.scan.yes") : "";
+            }
+        }
+    );
+
+    FlexibleSearchSqlPanel() {
+        super(new BorderLayout());
+
+        mySqlArea.setEditable(false);
+        mySqlArea.setFont(EditorColorsManager.getInstance().getGlobalScheme().getFont(EditorFontType.PLAIN));
+        mySqlArea.getEmptyText().setText(message("flexible.search.sql.empty.text"));
+
+        final OnePixelSplitter splitter = new OnePixelSplitter(false, 0.6f);
+        splitter.setFirstComponent(ScrollPaneFactory.createScrollPane(mySqlArea));
+        splitter.setSecondComponent(ScrollPaneFactory.createScrollPane(new TableView<>(myTablesModel)));
+        add(splitter, BorderLayout.CENTER);
+    }
+
+    void show(@NotNull final FlexibleSearchSqlTranslation translation) {
+        final StringBuilder text = new StringBuilder();
+        translation.getWarnings().forEach(warning -> text.append("-- ").append(warning).append('\n'));
+        text.append(translation.getSql());
+
+        mySqlArea.setText(text.toString());
+        mySqlArea.setCaretPosition(0);
+        myTablesModel.setItems(translation.getTouchedTables());
+    }
+
+    private abstract static class TextColumn extends ColumnInfo<FlexibleSearchSqlTranslation.TouchedTable, String> {
+
+        TextColumn(@NotNull final String key) {
+            super(message(key));
+        }
+    }
+}
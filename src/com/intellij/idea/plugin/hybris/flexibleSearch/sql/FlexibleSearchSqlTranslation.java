@@ -0,0 +1,114 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SQL produced for a single FlexibleSearch statement together with the tables it reads.
+ */
+public class FlexibleSearchSqlTranslation {
+
+    private final String mySql;
+    private final List<TouchedTable> myTouchedTables;
+    private final List<String> myWarnings;
+
+    FlexibleSearchSqlTranslation(
+        @NotNull final String sql,
+        @NotNull final List<TouchedTable> touchedTables,
+        @NotNull final List<String> warnings
+    ) {
+        mySql = sql;
+        myTouchedTables = Collections.unmodifiableList(touchedTables);
+        myWarnings = Collections.unmodifiableList(warnings);
+    }
+
+    @NotNull
+    public String getSql() {
+        return mySql;
+    }
+
+    @NotNull
+    public List<TouchedTable> getTouchedTables() {
+        return myTouchedTables;
+    }
+
+    /**
+     * Types, attributes and constructs which could not be mapped to the database model.
+     */
+    @NotNull
+    public List<String> getWarnings() {
+        return myWarnings;
+    }
+
+    /**
+     * Database table read by the statement. Columns used in {@code WHERE}, {@code ON} and {@code ORDER BY}
+     * are the candidates for an index.
+     */
+    public static class TouchedTable {
+
+        private final String myTable;
+        private final Map<String, String> myTypeCodes = new LinkedHashMap<>();
+        private final Set<String> myPredicateColumns = new LinkedHashSet<>();
+
+        TouchedTable(@NotNull final String table) {
+            myTable = table;
+        }
+
+        void addType(@NotNull final String type, final String typeCode) {
+            myTypeCodes.putIfAbsent(type, typeCode);
+        }
+
+        void addPredicateColumn(@NotNull final String column) {
+            myPredicateColumns.add(column);
+        }
+
+        @NotNull
+        public String getTable() {
+            return myTable;
+        }
+
+        /**
+         * Types whose items are read from this table, mapped to their deployment type code.
+         */
+        @NotNull
+        public Map<String, String> getTypeCodes() {
+            return Collections.unmodifiableMap(myTypeCodes);
+        }
+
+        @NotNull
+        public Set<String> getPredicateColumns() {
+            return Collections.unmodifiableSet(myPredicateColumns);
+        }
+
+        /**
+         * More than one type shares the table, so the statement has to filter rows by {@code TypePkString}.
+         */
+        public boolean isSubtypeScan() {
+            return myTypeCodes.size() > 1;
+        }
+    }
+}
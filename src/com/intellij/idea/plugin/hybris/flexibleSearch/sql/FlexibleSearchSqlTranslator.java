@@ -0,0 +1,664 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql;
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchColumnLocalization;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchColumnReference;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchCorrelationName;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchJoinCondition;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchJoinedTable;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchOrderByClause;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchQuerySpecification;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSearchCondition;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTableExpression;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTablePrimary;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes;
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchWhereClause;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaClass;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaProperty;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaReference;
+import com.intellij.idea.plugin.hybris.type.system.model.Attribute;
+import com.intellij.idea.plugin.hybris.type.system.model.Cardinality;
+import com.intellij.idea.plugin.hybris.type.system.model.ItemType;
+import com.intellij.idea.plugin.hybris.type.system.model.Relation;
+import com.intellij.idea.plugin.hybris.type.system.model.RelationElement;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Translates a FlexibleSearch statement into the SQL the server would run, without connecting to it.
+ * <p>
+ * Types are mapped to their deployment tables. {@code {Type}} reads the type and all of its subtypes, so a type
+ * whose subtypes are deployed into different tables becomes a derived table
+ * {@code (SELECT ... FROM t1 UNION ALL SELECT ... FROM t2) alias} with one branch per table, which selects the columns
+ * the statement uses, while {@code {Type!}} reads the type itself only. Every table is filtered by
+ * {@code TypePkString}; the composed type PKs are only known at runtime and are rendered as {@code ?typePk.<Type>}
+ * parameters. Columns are resolved against the tables of their own query first and of the enclosing queries next.
+ */
+public class FlexibleSearchSqlTranslator {
+
+    static final int MAX_UNION_BRANCHES = 64;
+
+    private static final String GENERIC_ITEMS_TABLE = "genericitems";
+    private static final String LINKS_TABLE = "links";
+    private static final String LOCALIZED_TABLE_SUFFIX = "lp";
+    private static final String LOCALIZED_TYPE_PREFIX = "localized:";
+    private static final String DYNAMIC_PERSISTENCE = "dynamic";
+    private static final String PROPERTY_COLUMN_PREFIX = "p_";
+
+    private static final Map<String, String> ITEM_COLUMNS = new HashMap<>();
+    private static final Map<String, String> LINK_COLUMNS = new HashMap<>();
+
+    static {
+        ITEM_COLUMNS.put("pk", "PK");
+        ITEM_COLUMNS.put("itemtype", "TypePkString");
+        ITEM_COLUMNS.put("owner", "OwnerPkString");
+        ITEM_COLUMNS.put("creationtime", "createdTS");
+        ITEM_COLUMNS.put("modifiedtime", "modifiedTS");
+
+        LINK_COLUMNS.putAll(ITEM_COLUMNS);
+        LINK_COLUMNS.put("source", "SourcePK");
+        LINK_COLUMNS.put("target", "TargetPK");
+        LINK_COLUMNS.put("qualifier", "Qualifier");
+        LINK_COLUMNS.put("language", "languagepk");
+        LINK_COLUMNS.put("sequencenumber", "SequenceNumber");
+        LINK_COLUMNS.put("reversesequencenumber", "RSequenceNumber");
+    }
+
+    private final TSMetaModel myMetaModel;
+    private final Map<TSMetaClass, String> myTables = new HashMap<>();
+    private Map<String, List<TSMetaClass>> mySubTypes;
+
+    public FlexibleSearchSqlTranslator(@NotNull final TSMetaModel metaModel) {
+        myMetaModel = metaModel;
+    }
+
+    @NotNull
+    public FlexibleSearchSqlTranslation translate(@NotNull final FlexibleSearchQuerySpecification query) {
+        return new Translation(query).run();
+    }
+
+    @NotNull
+    private List<Partition> partitionHierarchy(@NotNull final TSMetaClass metaClass) {
+        final Map<String, Partition> partitions = new LinkedHashMap<>();
+        final Deque<TSMetaClass> queue = new ArrayDeque<>();
+        final Set<String> visited = new HashSet<>();
+        queue.add(metaClass);
+
+        while (!queue.isEmpty()) {
+            final TSMetaClass type = queue.poll();
+            if (!visited.add(lowerCase(type.getName()))) {
+                continue;
+            }
+            partitions.computeIfAbsent(tableOf(type), Partition::new).addType(type.getName(), type.getTypeCode());
+            queue.addAll(getSubTypes().getOrDefault(lowerCase(type.getName()), Collections.emptyList()));
+        }
+        return new ArrayList<>(partitions.values());
+    }
+
+    @NotNull
+    private Map<String, List<TSMetaClass>> getSubTypes() {
+        if (mySubTypes == null) {
+            mySubTypes = new HashMap<>();
+            myMetaModel.getMetaClassesStream().forEach(metaClass -> {
+                final String parent = Optional.ofNullable(metaClass.getExtendedMetaClassName())
+                                              .orElse(TSMetaClass.IMPLICIT_SUPER_CLASS_NAME);
+                if (!parent.equalsIgnoreCase(metaClass.getName())) {
+                    mySubTypes.computeIfAbsent(lowerCase(parent), key -> new ArrayList<>()).add(metaClass);
+                }
+            });
+        }
+        return mySubTypes;
+    }
+
+    /**
+     * Deployment table of the type, inherited from the closest supertype which declares one.
+     */
+    @NotNull
+    private String tableOf(@NotNull final TSMetaClass metaClass) {
+        return myTables.computeIfAbsent(metaClass, type -> {
+            final Set<String> visited = new HashSet<>();
+            TSMetaClass current = type;
+
+            while (current != null && visited.add(lowerCase(current.getName()))) {
+                final Optional<String> table = current.retrieveAllDomsStream()
+                                                      .map(ItemType::getDeployment)
+                                                      .map(deployment -> deployment.getTable().getStringValue())
+                                                      .filter(StringUtil::isNotEmpty)
+                                                      .findFirst();
+                if (table.isPresent()) {
+                    return table.get();
+                }
+                final String parent = current.getExtendedMetaClassName();
+                current = parent == null ? null : myMetaModel.findMetaClassByName(parent);
+            }
+            return GENERIC_ITEMS_TABLE;
+        });
+    }
+
+    @NotNull
+    private static String tableOf(@NotNull final TSMetaReference relation) {
+        return Optional.ofNullable(relation.retrieveDom())
+                       .map(Relation::getDeployment)
+                       .map(deployment -> deployment.getTable().getStringValue())
+                       .filter(StringUtil::isNotEmpty)
+                       .orElse(LINKS_TABLE);
+    }
+
+    @NotNull
+    private static String lowerCase(@NotNull final String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * State of a single translation: the resolved tables and columns and the SQL being rendered.
+     */
+    private class Translation {
+
+        private final FlexibleSearchQuerySpecification myQuery;
+        private final Map<FlexibleSearchTablePrimary, Source> mySources = new LinkedHashMap<>();
+        private final Map<FlexibleSearchColumnReference, Column> myColumns = new LinkedHashMap<>();
+        private final List<String> myWarnings = new ArrayList<>();
+
+        private final Deque<FilterSink> mySinks = new ArrayDeque<>();
+        private final StringBuilder myOut = new StringBuilder();
+
+        Translation(@NotNull final FlexibleSearchQuerySpecification query) {
+            myQuery = query;
+        }
+
+        @NotNull
+        FlexibleSearchSqlTranslation run() {
+            int index = 0;
+            for (FlexibleSearchTablePrimary primary : PsiTreeUtil.findChildrenOfType(myQuery, FlexibleSearchTablePrimary.class)) {
+                mySources.put(primary, createSource(primary, index++));
+            }
+            for (FlexibleSearchColumnReference reference : PsiTreeUtil.findChildrenOfType(myQuery, FlexibleSearchColumnReference.class)) {
+                final Column column = resolveColumn(reference);
+                if (column != null) {
+                    myColumns.put(reference, column);
+                }
+            }
+
+            mySinks.push(new FilterSink());
+            render(myQuery);
+            mySinks.pop();
+
+            return new FlexibleSearchSqlTranslation(myOut.toString().trim(), collectTouchedTables(), myWarnings);
+        }
+
+        @NotNull
+        private Source createSource(@NotNull final FlexibleSearchTablePrimary primary, final int index) {
+            final String text = primary.getTableName().getText();
+            final boolean exact = text.endsWith("!");
+            final String typeName = StringUtil.trimEnd(text, "!");
+            final FlexibleSearchCorrelationName correlationName = primary.getCorrelationName();
+            final Source source = new Source(
+                PsiTreeUtil.getParentOfType(primary, FlexibleSearchQuerySpecification.class),
+                correlationName == null ? text : correlationName.getText(),
+                correlationName == null ? "item_t" + index : correlationName.getText()
+            );
+
+            source.myMetaClass = myMetaModel.findMetaClassByName(typeName);
+            if (source.myMetaClass != null) {
+                if (exact) {
+                    final Partition partition = new Partition(tableOf(source.myMetaClass));
+                    partition.addType(source.myMetaClass.getName(), source.myMetaClass.getTypeCode());
+                    source.myPartitions.add(partition);
+                } else {
+                    final List<Partition> partitions = partitionHierarchy(source.myMetaClass);
+                    if (partitions.size() > MAX_UNION_BRANCHES) {
+                        myWarnings.add("Only the first " + MAX_UNION_BRANCHES + " tables of " + typeName + " are shown");
+                    }
+                    source.myPartitions.addAll(partitions.subList(0, Math.min(partitions.size(), MAX_UNION_BRANCHES)));
+                }
+                return source;
+            }
+
+            source.myRelation = myMetaModel.findRelationByName(typeName).stream().findFirst().orElse(null);
+            if (source.myRelation != null) {
+                final Partition partition = new Partition(tableOf(source.myRelation));
+                partition.addType(source.myRelation.getName(), source.myRelation.getTypeCode());
+                source.myPartitions.add(partition);
+                return source;
+            }
+
+            myWarnings.add("Unknown type " + typeName + ", its name is used as the table name");
+            source.myPartitions.add(new Partition(typeName));
+            return source;
+        }
+
+        @Nullable
+        private Column resolveColumn(@NotNull final FlexibleSearchColumnReference reference) {
+            final PsiElement prefix = reference.getTableNameIdentifier();
+            final Source source = findSource(
+                PsiTreeUtil.getParentOfType(reference, FlexibleSearchQuerySpecification.class),
+                prefix == null ? null : prefix.getText()
+            );
+            if (source == null) {
+                return null;
+            }
+
+            final String attribute = prefix == null ? reference.getText() : reference.getLastChild().getText();
+            final Column column = resolveColumn(source, attribute);
+
+            if (column.myLocalized) {
+                final PsiElement next = PsiTreeUtil.skipSiblingsForward(reference, PsiWhiteSpace.class);
+                column.myLanguage = next instanceof FlexibleSearchColumnLocalization
+                    ? ((FlexibleSearchColumnLocalization) next).getIdentifier().getText()
+                    : "";
+                source.myLocalizedAliases.computeIfAbsent(
+                    column.myLanguage,
+                    language -> source.myAlias + LOCALIZED_TABLE_SUFFIX + (language.isEmpty() ? "" : "_" + language)
+                );
+            }
+            column.myPredicate = isPredicate(reference);
+            return column;
+        }
+
+        @NotNull
+        private Column resolveColumn(@NotNull final Source source, @NotNull final String attribute) {
+            final String key = lowerCase(attribute);
+
+            if (source.myRelation != null) {
+                final String column = LINK_COLUMNS.get(key);
+                if (column == null) {
+                    myWarnings.add("Unknown attribute " + source.myRelation.getName() + "." + attribute);
+                }
+                return new Column(source, column == null ? attribute : column, false);
+            }
+            if (source.myMetaClass == null) {
+                return new Column(source, attribute, false);
+            }
+            if (ITEM_COLUMNS.containsKey(key)) {
+                return new Column(source, ITEM_COLUMNS.get(key), false);
+            }
+
+            final String typeName = source.myMetaClass.getName();
+            final Collection<? extends TSMetaProperty> properties = source.myMetaClass.findPropertiesByName(attribute, true);
+            if (!properties.isEmpty()) {
+                final TSMetaProperty property = properties.iterator().next();
+                final Attribute dom = property.retrieveDom();
+                if (dom != null && DYNAMIC_PERSISTENCE.equals(dom.getPersistence().getType().getStringValue())) {
+                    myWarnings.add(typeName + "." + attribute + " is a dynamic attribute and has no column");
+                    return new Column(source, attribute, false);
+                }
+                final boolean localized = StringUtil.startsWith(StringUtil.notNullize(property.getType()), LOCALIZED_TYPE_PREFIX);
+                return new Column(source, PROPERTY_COLUMN_PREFIX + key, localized);
+            }
+
+            final Collection<? extends TSMetaReference.ReferenceEnd> ends = source.myMetaClass.findReferenceEndsByRole(attribute, true);
+            if (!ends.isEmpty()) {
+                final RelationElement dom = ends.iterator().next().retrieveDom();
+                if (dom != null && dom.getCardinality().getValue() == Cardinality.ONE) {
+                    return new Column(source, PROPERTY_COLUMN_PREFIX + key, false);
+                }
+                myWarnings.add(typeName + "." + attribute + " is a relation collection and has no column, join the relation type instead");
+                return new Column(source, attribute, false);
+            }
+
+            myWarnings.add("Unknown attribute " + typeName + "." + attribute);
+            return new Column(source, attribute, false);
+        }
+
+        /**
+         * Finds the table with the given alias among the tables of the query itself, tables of nested subqueries
+         * are not visible there. Aliases which are not declared in the query are looked up in the enclosing queries,
+         * a column without an alias belongs to the first table of its own query.
+         */
+        @Nullable
+        private Source findSource(@Nullable final FlexibleSearchQuerySpecification query, @Nullable final String alias) {
+            for (FlexibleSearchQuerySpecification current = query;
+                 current != null;
+                 current = PsiTreeUtil.getParentOfType(current, FlexibleSearchQuerySpecification.class)) {
+
+                for (Source source : mySources.values()) {
+                    if (source.myQuery == current && (alias == null || alias.equals(source.myName))) {
+                        return source;
+                    }
+                }
+                if (alias == null) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Whether the column restricts or orders the rows of its own query, which makes it an index candidate.
+         */
+        private boolean isPredicate(@NotNull final PsiElement element) {
+            for (PsiElement parent = element.getParent(); parent != null; parent = parent.getParent()) {
+                if (parent instanceof FlexibleSearchWhereClause
+                    || parent instanceof FlexibleSearchJoinCondition
+                    || parent instanceof FlexibleSearchOrderByClause) {
+                    return true;
+                }
+                if (parent instanceof FlexibleSearchQuerySpecification) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private void render(@NotNull final PsiElement element) {
+            if (element instanceof FlexibleSearchTablePrimary) {
+                renderTablePrimary((FlexibleSearchTablePrimary) element);
+            } else if (element instanceof FlexibleSearchColumnReference) {
+                renderColumn((FlexibleSearchColumnReference) element);
+            } else if (element instanceof FlexibleSearchColumnLocalization) {
+                // rendered as a join of the localized table
+            } else if (element instanceof FlexibleSearchTableExpression) {
+                renderTableExpression((FlexibleSearchTableExpression) element);
+            } else if (element instanceof FlexibleSearchJoinedTable) {
+                renderJoinedTable(element);
+            } else if (element instanceof FlexibleSearchWhereClause) {
+                renderCondition(element, ((FlexibleSearchWhereClause) element).getSearchCondition());
+            } else if (element instanceof FlexibleSearchJoinCondition) {
+                renderCondition(element, ((FlexibleSearchJoinCondition) element).getSearchCondition());
+            } else if (element.getFirstChild() == null) {
+                renderLeaf(element);
+            } else {
+                renderChildren(element);
+            }
+        }
+
+        private void renderChildren(@NotNull final PsiElement element) {
+            for (PsiElement child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+                render(child);
+            }
+        }
+
+        private void renderLeaf(@NotNull final PsiElement leaf) {
+            final IElementType type = leaf.getNode().getElementType();
+
+            if (type == FlexibleSearchTypes.LEFT_BRACE || type == FlexibleSearchTypes.RIGHT_BRACE) {
+                return;
+            }
+            if (type == FlexibleSearchTypes.SEMICOLON && leaf.getParent() == myQuery) {
+                return;
+            }
+            if (type == FlexibleSearchTypes.LEFT_DOUBLE_BRACE) {
+                myOut.append('(');
+            } else if (type == FlexibleSearchTypes.RIGHT_DOUBLE_BRACE) {
+                myOut.append(')');
+            } else {
+                myOut.append(leaf.getText());
+            }
+        }
+
+        private void renderTablePrimary(@NotNull final FlexibleSearchTablePrimary primary) {
+            final Source source = mySources.get(primary);
+
+            if (source.isUnion()) {
+                myOut.append('(').append(source.myPartitions
+                    .stream()
+                    .map(partition -> renderUnionBranch(source, partition))
+                    .collect(Collectors.joining(" UNION ALL "))
+                ).append(") ").append(source.myAlias);
+                return;
+            }
+            final Partition partition = source.myPartitions.get(0);
+            renderTable(source, partition, myOut);
+
+            if (!partition.myTypes.isEmpty()) {
+                mySinks.peek().myFilters.add(typeFilter(source, partition));
+            }
+        }
+
+        /**
+         * One {@code SELECT} of the derived table of a type deployed into several tables. It reads the columns the
+         * statement uses, localized ones under their own label, and filters the table by the types read from it.
+         */
+        @NotNull
+        private String renderUnionBranch(@NotNull final Source source, @NotNull final Partition partition) {
+            final Set<String> columns = new LinkedHashSet<>();
+
+            for (Column column : myColumns.values()) {
+                if (column.mySource != source) {
+                    continue;
+                }
+                columns.add(column.myLocalized
+                    ? source.myLocalizedAliases.get(column.myLanguage) + '.' + column.myName + " AS " + unionColumnLabel(column)
+                    : source.myAlias + '.' + column.myName);
+            }
+            if (columns.isEmpty()) {
+                columns.add(source.myAlias + '.' + ITEM_COLUMNS.get("pk"));
+            }
+
+            final StringBuilder branch = new StringBuilder("SELECT ").append(String.join(", ", columns)).append(" FROM ");
+            renderTable(source, partition, branch);
+            if (!partition.myTypes.isEmpty()) {
+                branch.append(" WHERE ").append(typeFilter(source, partition));
+            }
+            return branch.toString();
+        }
+
+        private void renderTable(@NotNull final Source source, @NotNull final Partition partition, @NotNull final StringBuilder out) {
+            out.append(partition.myTable).append(' ').append(source.myAlias);
+
+            source.myLocalizedAliases.forEach((language, alias) -> out
+                .append(" LEFT JOIN ").append(partition.myTable).append(LOCALIZED_TABLE_SUFFIX).append(' ').append(alias)
+                .append(" ON ").append(alias).append(".ITEMPK = ").append(source.myAlias).append(".PK")
+                .append(" AND ").append(alias).append(".LANGPK = ")
+                .append(language.isEmpty() ? "?session.language" : "?language." + language));
+        }
+
+        @NotNull
+        private String typeFilter(@NotNull final Source source, @NotNull final Partition partition) {
+            return source.myAlias + ".TypePkString IN (" + partition.myTypes
+                .keySet()
+                .stream()
+                .map(type -> "?typePk." + type)
+                .collect(Collectors.joining(", ")) + ")";
+        }
+
+        @NotNull
+        private String unionColumnLabel(@NotNull final Column column) {
+            return column.mySource.myLocalizedAliases.get(column.myLanguage) + '_' + column.myName;
+        }
+
+        private void renderColumn(@NotNull final FlexibleSearchColumnReference reference) {
+            final Column column = myColumns.get(reference);
+            if (column == null) {
+                renderChildren(reference);
+                return;
+            }
+            if (column.myLocalized && column.mySource.isUnion()) {
+                myOut.append(column.mySource.myAlias).append('.').append(unionColumnLabel(column));
+                return;
+            }
+            final String alias = column.myLocalized
+                ? column.mySource.myLocalizedAliases.get(column.myLanguage)
+                : column.mySource.myAlias;
+            myOut.append(alias).append('.').append(column.myName);
+        }
+
+        private void renderTableExpression(@NotNull final FlexibleSearchTableExpression expression) {
+            final FilterSink sink = new FilterSink();
+            mySinks.push(sink);
+
+            for (PsiElement child = expression.getFirstChild(); child != null; child = child.getNextSibling()) {
+                render(child);
+                if (child == expression.getFromClause() && expression.getWhereClause() == null && !sink.myFilters.isEmpty()) {
+                    myOut.append(" WHERE ").append(String.join(" AND ", sink.myFilters));
+                    sink.myConsumed = true;
+                }
+            }
+            mySinks.pop();
+            if (!sink.myConsumed && !sink.myFilters.isEmpty()) {
+                myWarnings.add("Type filters could not be placed: " + String.join(" AND ", sink.myFilters));
+            }
+        }
+
+        private void renderJoinedTable(@NotNull final PsiElement joinedTable) {
+            final FilterSink sink = new FilterSink();
+            mySinks.push(sink);
+            renderChildren(joinedTable);
+            mySinks.pop();
+
+            if (!sink.myConsumed) {
+                mySinks.peek().myFilters.addAll(sink.myFilters);
+            }
+        }
+
+        /**
+         * Renders a {@code WHERE} or {@code ON} clause and appends the type filters of the tables it belongs to.
+         * Filters of an outer-joined table go into its {@code ON} clause, so they don't turn the join into an inner one.
+         */
+        private void renderCondition(@NotNull final PsiElement clause, @Nullable final FlexibleSearchSearchCondition condition) {
+            final FilterSink sink = mySinks.peek();
+
+            for (PsiElement child = clause.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child == condition && !sink.myFilters.isEmpty()) {
+                    myOut.append('(');
+                    render(child);
+                    myOut.append(") AND ").append(String.join(" AND ", sink.myFilters));
+                    sink.myConsumed = true;
+                } else {
+                    render(child);
+                }
+            }
+        }
+
+        @NotNull
+        private List<FlexibleSearchSqlTranslation.TouchedTable> collectTouchedTables() {
+            final Map<String, FlexibleSearchSqlTranslation.TouchedTable> tables = new LinkedHashMap<>();
+
+            for (Source source : mySources.values()) {
+                for (Partition partition : source.myPartitions) {
+                    final FlexibleSearchSqlTranslation.TouchedTable table = tables.computeIfAbsent(
+                        partition.myTable, FlexibleSearchSqlTranslation.TouchedTable::new
+                    );
+                    partition.myTypes.forEach(table::addType);
+
+                    if (!source.myLocalizedAliases.isEmpty()) {
+                        tables.computeIfAbsent(
+                            partition.myTable + LOCALIZED_TABLE_SUFFIX, FlexibleSearchSqlTranslation.TouchedTable::new
+                        );
+                    }
+                }
+            }
+            for (Column column : myColumns.values()) {
+                if (!column.myPredicate) {
+                    continue;
+                }
+                for (Partition partition : column.mySource.myPartitions) {
+                    final String table = column.myLocalized
+                        ? partition.myTable + LOCALIZED_TABLE_SUFFIX
+                        : partition.myTable;
+                    tables.get(table).addPredicateColumn(column.myName);
+                }
+            }
+            return new ArrayList<>(tables.values());
+        }
+    }
+
+    /**
+     * A table together with the types read from it.
+     */
+    private static class Partition {
+
+        private final String myTable;
+        private final Map<String, String> myTypes = new LinkedHashMap<>();
+
+        Partition(@NotNull final String table) {
+            myTable = table;
+        }
+
+        void addType(@NotNull final String type, @Nullable final String typeCode) {
+            myTypes.put(type, typeCode);
+        }
+    }
+
+    /**
+     * A {@code {Type}} of the statement and the tables it may be read from.
+     */
+    private static class Source {
+
+        private final FlexibleSearchQuerySpecification myQuery;
+        private final String myName;
+        private final String myAlias;
+        private final List<Partition> myPartitions = new ArrayList<>();
+        private final Map<String, String> myLocalizedAliases = new LinkedHashMap<>();
+        private TSMetaClass myMetaClass;
+        private TSMetaReference myRelation;
+
+        /**
+         * @param query the query which declares the type
+         * @param name  the name columns refer to the type by: its correlation name, or the type name without one
+         * @param alias the alias of the table in SQL
+         */
+        Source(@Nullable final FlexibleSearchQuerySpecification query, @NotNull final String name, @NotNull final String alias) {
+            myQuery = query;
+            myName = name;
+            myAlias = alias;
+        }
+
+        /**
+         * Subtypes are deployed into more than one table, which are read through a {@code UNION ALL} derived table.
+         */
+        boolean isUnion() {
+            return myPartitions.size() > 1;
+        }
+    }
+
+    private static class Column {
+
+        private final Source mySource;
+        private final String myName;
+        private final boolean myLocalized;
+        private String myLanguage;
+        private boolean myPredicate;
+
+        Column(@NotNull final Source source, @NotNull final String name, final boolean localized) {
+            mySource = source;
+            myName = name;
+            myLocalized = localized;
+        }
+    }
+
+    private static class FilterSink {
+
+        private final List<String> myFilters = new ArrayList<>();
+        private boolean myConsumed;
+    }
+}
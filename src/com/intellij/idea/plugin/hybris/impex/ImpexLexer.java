@@ -103,28 +103,29 @@ class ImpexLexer implements FlexLexer {
     "\11\11\1\12\1\13\1\14\1\15\1\16\4\11\1\17"+
     "\2\11\1\20\1\21\1\22\1\3\1\23\1\24\1\25"+
     "\1\26\1\27\2\3\6\30\1\31\1\32\1\33\1\34"+
-    "\2\30\1\17\2\30\1\2\1\6\1\2\1\35\1\3"+
+    "\2\30\1\17\2\30\1\2\1\6\1\2\1\35\2\3"+
     "\1\36\1\37\1\40\6\41\1\42\1\41\1\17\1\3"+
     "\2\43\1\44\1\0\1\45\3\46\1\0\3\4\1\11"+
-    "\1\0\1\47\2\50\1\11\1\0\4\11\1\17\1\11"+
-    "\1\51\3\0\1\52\2\46\1\53\1\30\1\54\1\30"+
-    "\3\0\1\2\1\41\1\47\1\45\2\46\3\41\2\55"+
-    "\2\0\1\46\1\56\1\46\1\0\3\4\1\47\1\0"+
-    "\2\50\1\11\1\0\4\11\1\17\1\0\2\46\2\30"+
-    "\1\17\2\0\1\2\1\47\1\41\2\46\2\41\1\17"+
-    "\2\55\1\0\2\46\1\0\3\4\1\50\2\0\1\11"+
-    "\1\57\2\11\1\0\1\46\1\57\1\60\1\46\1\57"+
-    "\1\55\1\0\2\46\1\0\3\4\1\50\1\57\1\0"+
-    "\3\11\1\0\2\46\1\55\1\0\1\46\1\0\2\61"+
-    "\1\62\1\63\1\0\2\64\1\65\1\66\2\0\1\41"+
-    "\4\0\1\4\2\0\1\11\2\0\1\41\4\0\1\4"+
-    "\2\0\1\11\1\67\1\0\1\41\2\0\2\46\1\0"+
+    "\1\0\1\47\1\0\1\50\2\51\1\11\1\0\4\11"+
+    "\1\17\1\11\1\52\3\0\1\53\2\46\1\54\1\0"+
+    "\1\55\1\30\1\56\1\30\3\0\1\2\1\41\1\47"+
+    "\1\50\2\46\3\41\2\57\2\0\1\46\1\60\1\46"+
+    "\1\0\3\4\1\47\1\0\2\51\1\11\1\0\4\11"+
+    "\1\17\1\0\2\46\2\30\1\17\2\0\1\2\1\47"+
+    "\1\41\2\46\2\41\1\17\2\57\1\0\2\46\1\0"+
+    "\3\4\1\51\2\0\1\11\1\61\2\11\1\0\1\46"+
+    "\1\61\1\62\1\46\1\61\1\57\1\0\2\46\1\0"+
+    "\3\4\1\51\1\61\1\0\3\11\1\0\2\46\1\57"+
+    "\1\0\1\46\1\0\2\63\1\64\1\65\1\0\2\66"+
+    "\1\67\1\70\2\0\1\41\4\0\1\4\2\0\1\11"+
+    "\2\0\1\41\4\0\1\4\2\0\1\11\1\71\1\0"+
+    "\1\41\2\0\2\46\1\0\1\4\1\0\1\11\1\0"+
+    "\1\46\1\0\1\4\1\0\1\11\1\0\1\46\1\0"+
     "\1\4\1\0\1\11\1\0\1\46\1\0\1\4\1\0"+
-    "\1\11\1\0\1\46\1\0\1\4\1\0\1\11\1\0"+
-    "\1\46\1\0\1\4\1\0\1\11\1\0\2\70\2\71";
+    "\1\11\1\0\2\72\2\73";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[287];
+    int [] result = new int[292];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -152,42 +153,43 @@ class ImpexLexer implements FlexLexer {
     "\0\0\0\61\0\142\0\223\0\304\0\365\0\u0126\0\u0157"+
     "\0\u0188\0\u01b9\0\u01ea\0\u021b\0\u024c\0\u027d\0\u02ae\0\u027d"+
     "\0\u02df\0\u0310\0\u0341\0\u0372\0\u03a3\0\u03d4\0\u0405\0\u027d"+
-    "\0\u0436\0\u0467\0\u0498\0\u04c9\0\u027d\0\u04fa\0\u052b\0\u0372"+
-    "\0\u055c\0\u058d\0\u05be\0\u05ef\0\u0620\0\u027d\0\u027d\0\u027d"+
-    "\0\u027d\0\u027d\0\u0651\0\u0682\0\u06b3\0\u06e4\0\u0715\0\u0746"+
-    "\0\u0777\0\u027d\0\u07a8\0\u07d9\0\u080a\0\u027d\0\u027d\0\u027d"+
-    "\0\u027d\0\u027d\0\u0746\0\u083b\0\u027d\0\u086c\0\u0372\0\u080a"+
-    "\0\u089d\0\u08ce\0\u027d\0\u027d\0\u027d\0\u027d\0\u08ff\0\u06e4"+
-    "\0\u0930\0\u0961\0\u0777\0\u0992\0\u09c3\0\u09f4\0\u0a25\0\u052b"+
-    "\0\u027d\0\u027d\0\u027d\0\u0a56\0\u0a87\0\u0ab8\0\u0ae9\0\u0b1a"+
-    "\0\u0b4b\0\u027d\0\u0b7c\0\u0bad\0\u0bde\0\u027d\0\u0c0f\0\u027d"+
-    "\0\u0372\0\u0c40\0\u0c71\0\u0ca2\0\u0cd3\0\u0d04\0\u0d35\0\u0d66"+
-    "\0\u0d97\0\u0dc8\0\u0df9\0\u0e2a\0\u0e5b\0\u0e8c\0\u0ebd\0\u0eee"+
-    "\0\u0f1f\0\u0f50\0\u0f81\0\u0fb2\0\u0fe3\0\u1014\0\u0746\0\u1045"+
-    "\0\u1076\0\u10a7\0\u027d\0\u10d8\0\u1109\0\u083b\0\u113a\0\u027d"+
-    "\0\u116b\0\u119c\0\u11cd\0\u11fe\0\u122f\0\u1260\0\u1291\0\u12c2"+
-    "\0\u12f3\0\u1324\0\u1355\0\u1386\0\u13b7\0\u13e8\0\u1419\0\u144a"+
-    "\0\u147b\0\u14ac\0\u027d\0\u14dd\0\u150e\0\u153f\0\u1570\0\u15a1"+
-    "\0\u027d\0\u15d2\0\u1603\0\u1634\0\u1665\0\u1696\0\u16c7\0\u16f8"+
-    "\0\u1729\0\u175a\0\u178b\0\u17bc\0\u17ed\0\u181e\0\u184f\0\u1880"+
-    "\0\u119c\0\u18b1\0\u0961\0\u18e2\0\u0a56\0\u1913\0\u1944\0\u1975"+
-    "\0\u19a6\0\u19d7\0\u13b7\0\u1a08\0\u1a39\0\u1a6a\0\u1a9b\0\u1acc"+
-    "\0\u1afd\0\u1b2e\0\u1b5f\0\u1b90\0\u1bc1\0\u1bf2\0\u1c23\0\u1c54"+
-    "\0\u04fa\0\u1c85\0\u1cb6\0\u1ce7\0\u1d18\0\u086c\0\u18b1\0\u1d49"+
-    "\0\u0a56\0\u1d7a\0\u1dab\0\u1ddc\0\u1e0d\0\u1e3e\0\u1e6f\0\u1ea0"+
-    "\0\u1ed1\0\u1f02\0\u027d\0\u1f33\0\u1f64\0\u1f95\0\u1fc6\0\u1ff7"+
-    "\0\u2028\0\u2059\0\u208a\0\u20bb\0\u20ec\0\u211d\0\u214e\0\u217f"+
-    "\0\u02ae\0\u02ae\0\u21b0\0\u21e1\0\u2212\0\u04fa\0\u04fa\0\u2243"+
-    "\0\u2274\0\u22a5\0\u22d6\0\u2307\0\u2338\0\u2369\0\u239a\0\u23cb"+
-    "\0\u23fc\0\u242d\0\u245e\0\u248f\0\u24c0\0\u24f1\0\u2522\0\u2553"+
-    "\0\u2584\0\u25b5\0\u1603\0\u25e6\0\u2617\0\u027d\0\u17ed\0\u1944"+
-    "\0\u1a08\0\u2648\0\u2679\0\u26aa\0\u26db\0\u270c\0\u273d\0\u276e"+
-    "\0\u279f\0\u27d0\0\u2801\0\u2832\0\u2863\0\u2894\0\u28c5\0\u28f6"+
-    "\0\u2927\0\u2958\0\u2989\0\u29ba\0\u29eb\0\u2a1c\0\u2a4d\0\u2a7e"+
-    "\0\u2aaf\0\u2ae0\0\u2b11\0\u027d\0\u02ae\0\u027d\0\u04fa";
+    "\0\u0436\0\u0467\0\u0498\0\u04c9\0\u027d\0\u04fa\0\u052b\0\u055c"+
+    "\0\u058d\0\u05be\0\u05ef\0\u0620\0\u0651\0\u027d\0\u027d\0\u027d"+
+    "\0\u027d\0\u027d\0\u0682\0\u06b3\0\u06e4\0\u0715\0\u0746\0\u0777"+
+    "\0\u07a8\0\u027d\0\u07d9\0\u080a\0\u083b\0\u027d\0\u027d\0\u027d"+
+    "\0\u027d\0\u027d\0\u0777\0\u086c\0\u027d\0\u089d\0\u08ce\0\u083b"+
+    "\0\u08ff\0\u0930\0\u027d\0\u027d\0\u027d\0\u027d\0\u0961\0\u0715"+
+    "\0\u0992\0\u09c3\0\u07a8\0\u09f4\0\u0a25\0\u0a56\0\u0a87\0\u052b"+
+    "\0\u055c\0\u027d\0\u027d\0\u027d\0\u0ab8\0\u0ae9\0\u0b1a\0\u0b4b"+
+    "\0\u0b7c\0\u0bad\0\u027d\0\u0bde\0\u0c0f\0\u0c40\0\u027d\0\u0c71"+
+    "\0\u027d\0\u0372\0\u0ca2\0\u0cd3\0\u0d04\0\u0d35\0\u0d66\0\u0d97"+
+    "\0\u0dc8\0\u0df9\0\u0e2a\0\u0e5b\0\u0e8c\0\u055c\0\u0ebd\0\u0eee"+
+    "\0\u0f1f\0\u0f50\0\u0f81\0\u0fb2\0\u0fe3\0\u1014\0\u1045\0\u1076"+
+    "\0\u10a7\0\u0777\0\u10d8\0\u1109\0\u113a\0\u027d\0\u116b\0\u119c"+
+    "\0\u086c\0\u08ce\0\u11cd\0\u11fe\0\u027d\0\u122f\0\u1260\0\u1291"+
+    "\0\u12c2\0\u12f3\0\u1324\0\u1355\0\u1386\0\u13b7\0\u13e8\0\u1419"+
+    "\0\u144a\0\u147b\0\u14ac\0\u14dd\0\u150e\0\u153f\0\u1570\0\u027d"+
+    "\0\u15a1\0\u15d2\0\u1603\0\u1634\0\u1665\0\u027d\0\u1696\0\u16c7"+
+    "\0\u16f8\0\u1729\0\u175a\0\u178b\0\u17bc\0\u17ed\0\u181e\0\u184f"+
+    "\0\u1880\0\u18b1\0\u18e2\0\u1913\0\u1944\0\u1260\0\u1975\0\u09c3"+
+    "\0\u19a6\0\u0ab8\0\u19d7\0\u1a08\0\u1a39\0\u1a6a\0\u1a9b\0\u147b"+
+    "\0\u1acc\0\u1afd\0\u1b2e\0\u1b5f\0\u1b90\0\u1bc1\0\u1bf2\0\u1c23"+
+    "\0\u1c54\0\u1c85\0\u1cb6\0\u1ce7\0\u1d18\0\u04fa\0\u1d49\0\u1d7a"+
+    "\0\u1dab\0\u1ddc\0\u089d\0\u1975\0\u1e0d\0\u0ab8\0\u1e3e\0\u1e6f"+
+    "\0\u1ea0\0\u1ed1\0\u1f02\0\u1f33\0\u1f64\0\u1f95\0\u1fc6\0\u027d"+
+    "\0\u1ff7\0\u2028\0\u2059\0\u208a\0\u20bb\0\u20ec\0\u211d\0\u214e"+
+    "\0\u217f\0\u21b0\0\u21e1\0\u2212\0\u2243\0\u02ae\0\u02ae\0\u2274"+
+    "\0\u22a5\0\u22d6\0\u04fa\0\u04fa\0\u2307\0\u2338\0\u2369\0\u239a"+
+    "\0\u23cb\0\u23fc\0\u242d\0\u245e\0\u248f\0\u24c0\0\u24f1\0\u2522"+
+    "\0\u2553\0\u2584\0\u25b5\0\u25e6\0\u2617\0\u2648\0\u2679\0\u16c7"+
+    "\0\u26aa\0\u26db\0\u027d\0\u18b1\0\u1a08\0\u1acc\0\u270c\0\u273d"+
+    "\0\u276e\0\u279f\0\u27d0\0\u2801\0\u2832\0\u2863\0\u2894\0\u28c5"+
+    "\0\u28f6\0\u2927\0\u2958\0\u2989\0\u29ba\0\u29eb\0\u2a1c\0\u2a4d"+
+    "\0\u2a7e\0\u2aaf\0\u2ae0\0\u2b11\0\u2b42\0\u2b73\0\u2ba4\0\u2bd5"+
+    "\0\u027d\0\u02ae\0\u027d\0\u04fa";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[287];
+    int [] result = new int[292];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -231,329 +233,331 @@ class ImpexLexer implements FlexLexer {
     "\1\75\1\106\1\107\5\76\1\75\1\76\1\110\1\111"+
     "\2\75\5\76\1\112\1\113\1\75\2\114\1\20\1\21"+
     "\1\115\3\114\1\116\50\114\1\16\1\117\1\20\1\21"+
-    "\1\22\2\16\1\120\1\24\1\65\4\117\1\16\3\117"+
-    "\1\66\1\117\1\16\1\121\3\16\1\122\2\16\1\123"+
+    "\1\22\2\16\1\120\1\121\1\65\4\117\1\16\3\117"+
+    "\1\66\1\117\1\16\1\122\3\16\1\123\2\16\1\124"+
     "\6\117\1\16\1\117\1\16\1\117\2\16\5\117\2\16"+
-    "\1\0\2\124\1\20\1\21\1\22\2\124\1\125\1\126"+
-    "\1\127\3\124\1\130\3\124\1\131\3\124\1\121\3\124"+
-    "\1\132\3\124\1\133\7\124\1\131\1\134\12\124\2\16"+
+    "\1\0\2\125\1\20\1\21\1\22\2\125\1\126\1\127"+
+    "\1\130\3\125\1\131\3\125\1\132\3\125\1\122\3\125"+
+    "\1\133\3\125\1\134\7\125\1\132\1\135\12\125\2\16"+
     "\1\20\1\21\1\22\53\16\1\0\2\16\1\20\1\21"+
-    "\1\22\4\16\1\135\46\16\1\0\2\136\1\20\1\21"+
-    "\1\22\4\136\1\137\46\136\63\0\1\17\10\0\4\17"+
+    "\1\22\4\16\1\136\46\16\1\0\2\137\1\20\1\21"+
+    "\1\22\4\137\1\140\46\137\63\0\1\17\10\0\4\17"+
     "\1\0\3\17\13\0\6\17\1\0\1\17\1\0\1\17"+
-    "\2\0\5\17\5\0\1\20\62\0\1\22\62\0\1\140"+
-    "\52\0\10\141\1\142\50\141\1\0\1\143\10\0\1\144"+
-    "\3\143\1\0\3\143\1\0\1\145\2\0\2\145\5\0"+
-    "\6\143\1\0\1\143\1\0\1\143\2\0\5\143\17\0"+
-    "\1\146\45\0\1\17\10\0\2\17\1\147\1\17\1\0"+
+    "\2\0\5\17\5\0\1\20\62\0\1\22\62\0\1\141"+
+    "\52\0\10\142\1\143\50\142\1\0\1\144\10\0\1\145"+
+    "\3\144\1\0\3\144\1\0\1\146\2\0\2\146\5\0"+
+    "\6\144\1\0\1\144\1\0\1\144\2\0\5\144\17\0"+
+    "\1\147\45\0\1\17\10\0\2\17\1\150\1\17\1\0"+
     "\3\17\13\0\6\17\1\0\1\17\1\0\1\17\2\0"+
     "\5\17\4\0\1\17\10\0\4\17\1\0\3\17\13\0"+
-    "\3\17\1\150\2\17\1\0\1\17\1\0\1\17\2\0"+
+    "\3\17\1\151\2\17\1\0\1\17\1\0\1\17\2\0"+
     "\5\17\4\0\1\17\10\0\4\17\1\0\3\17\13\0"+
-    "\6\17\1\0\1\17\1\0\1\17\2\0\1\151\4\17"+
+    "\6\17\1\0\1\17\1\0\1\17\2\0\1\152\4\17"+
     "\3\0\2\33\2\0\57\33\2\0\1\34\54\33\1\0"+
-    "\1\36\10\0\4\36\1\0\3\36\1\0\1\152\11\0"+
+    "\1\36\10\0\4\36\1\0\3\36\1\0\1\153\11\0"+
     "\6\36\1\0\1\36\1\0\1\36\2\0\5\36\3\0"+
-    "\2\153\2\0\3\153\1\154\51\153\1\0\1\155\10\0"+
-    "\1\156\3\155\1\0\3\155\13\0\6\155\1\0\1\155"+
-    "\1\0\1\155\2\0\5\155\4\0\1\36\10\0\4\36"+
-    "\1\0\3\36\1\0\1\152\11\0\4\36\1\157\1\36"+
-    "\1\0\1\36\1\0\1\36\2\0\5\36\17\0\1\160"+
-    "\45\0\1\36\10\0\2\36\1\161\1\36\1\0\3\36"+
-    "\1\0\1\152\11\0\6\36\1\0\1\36\1\0\1\36"+
-    "\2\0\5\36\4\0\1\36\10\0\4\36\1\0\3\36"+
-    "\1\0\1\152\11\0\6\36\1\0\1\36\1\0\1\57"+
-    "\2\0\5\36\4\0\1\36\10\0\4\36\1\0\3\36"+
-    "\1\0\1\152\11\0\1\36\1\162\4\36\1\0\1\36"+
+    "\2\154\2\0\3\154\1\155\51\154\2\156\2\0\4\156"+
+    "\1\157\50\156\1\0\1\160\10\0\1\161\3\160\1\0"+
+    "\3\160\13\0\6\160\1\0\1\160\1\0\1\160\2\0"+
+    "\5\160\4\0\1\36\10\0\4\36\1\0\3\36\1\0"+
+    "\1\153\11\0\4\36\1\162\1\36\1\0\1\36\1\0"+
+    "\1\36\2\0\5\36\17\0\1\163\45\0\1\36\10\0"+
+    "\2\36\1\164\1\36\1\0\3\36\1\0\1\153\11\0"+
+    "\6\36\1\0\1\36\1\0\1\36\2\0\5\36\4\0"+
+    "\1\36\10\0\4\36\1\0\3\36\1\0\1\153\11\0"+
+    "\6\36\1\0\1\36\1\0\1\57\2\0\5\36\4\0"+
+    "\1\36\10\0\4\36\1\0\3\36\1\0\1\153\11\0"+
+    "\1\36\1\165\4\36\1\0\1\36\1\0\1\36\2\0"+
+    "\5\36\4\0\1\36\10\0\4\36\1\0\3\36\1\0"+
+    "\1\153\11\0\3\36\1\166\2\36\1\0\1\36\1\0"+
+    "\1\36\2\0\5\36\4\0\1\36\10\0\4\36\1\0"+
+    "\3\36\1\0\1\153\11\0\6\36\1\0\1\36\1\0"+
+    "\1\36\2\0\1\167\4\36\51\0\1\170\13\0\1\36"+
+    "\10\0\4\36\1\0\3\36\1\0\1\171\11\0\6\36"+
+    "\1\0\1\36\1\0\1\57\2\0\5\36\4\0\1\172"+
+    "\10\0\4\172\1\0\3\172\13\0\6\172\1\0\1\172"+
+    "\1\0\1\172\2\0\5\172\21\0\2\173\42\0\1\63"+
+    "\10\0\4\63\1\0\3\63\13\0\6\63\1\0\1\63"+
+    "\1\0\1\63\2\0\5\63\4\0\1\64\2\0\1\174"+
+    "\5\0\4\64\1\0\3\64\1\0\1\175\2\0\1\176"+
+    "\6\0\6\64\1\0\1\64\1\0\1\64\2\0\5\64"+
+    "\4\0\1\177\10\0\1\200\3\177\1\0\3\177\13\0"+
+    "\6\177\1\0\1\177\1\0\1\177\2\0\5\177\4\0"+
+    "\1\201\10\0\4\201\1\0\3\201\13\0\6\201\1\0"+
+    "\1\201\1\0\1\201\2\0\5\201\4\0\1\76\10\0"+
+    "\4\76\1\0\3\76\13\0\6\76\1\0\1\76\1\0"+
+    "\1\76\2\0\5\76\3\0\10\202\1\203\50\202\1\0"+
+    "\1\76\10\0\4\76\1\0\3\76\13\0\4\76\1\204"+
+    "\1\76\1\0\1\76\1\0\1\76\2\0\5\76\4\0"+
+    "\1\76\10\0\4\76\1\0\3\76\11\0\1\205\1\0"+
+    "\6\76\1\0\1\76\1\0\1\111\2\0\5\76\4\0"+
+    "\1\76\10\0\4\76\1\0\3\76\13\0\1\76\1\206"+
+    "\4\76\1\0\1\76\1\0\1\76\2\0\5\76\4\0"+
+    "\1\76\10\0\4\76\1\0\3\76\1\0\1\207\11\0"+
+    "\6\76\1\0\1\76\1\0\1\111\2\0\5\76\4\0"+
+    "\1\210\10\0\4\210\1\0\3\210\13\0\6\210\1\0"+
+    "\1\210\1\0\1\210\2\0\5\210\3\0\2\114\2\0"+
+    "\57\114\2\0\1\115\54\114\2\116\2\211\4\116\1\212"+
+    "\50\116\1\0\1\117\10\0\4\117\1\0\3\117\1\0"+
+    "\1\117\11\0\6\117\1\0\1\117\1\0\1\117\2\0"+
+    "\5\117\3\0\2\125\3\0\20\125\1\0\3\125\1\0"+
+    "\27\125\2\213\2\0\1\154\2\213\1\214\15\213\1\154"+
+    "\3\213\1\154\27\213\2\127\2\0\1\156\3\127\1\215"+
+    "\14\127\1\156\3\127\1\156\27\127\1\125\1\216\3\0"+
+    "\5\125\1\217\3\216\1\125\3\216\3\125\1\0\3\125"+
+    "\1\0\3\125\6\216\1\125\1\216\1\125\1\216\2\125"+
+    "\5\216\5\125\3\0\20\125\1\0\3\125\1\0\7\125"+
+    "\1\220\21\125\3\0\20\125\1\0\3\125\1\0\14\125"+
+    "\1\135\14\125\3\0\20\125\1\0\3\125\1\0\4\125"+
+    "\1\221\24\125\3\0\16\125\1\222\1\125\1\0\3\125"+
+    "\1\0\14\125\1\135\12\125\1\0\1\223\10\0\1\224"+
+    "\3\223\1\0\3\223\13\0\6\223\1\0\1\223\1\0"+
+    "\1\223\2\0\5\223\15\0\1\225\56\0\1\142\51\0"+
+    "\1\144\2\0\1\226\5\0\1\227\3\144\1\0\3\144"+
+    "\1\230\1\146\2\0\2\146\5\0\6\144\1\0\1\144"+
+    "\1\0\1\144\2\0\5\144\4\0\1\144\2\0\1\226"+
+    "\5\0\1\227\1\231\2\144\1\0\3\144\1\230\1\146"+
+    "\2\0\2\146\5\0\6\144\1\0\1\144\1\0\1\144"+
+    "\2\0\5\144\4\0\1\146\10\0\4\146\1\0\3\146"+
+    "\1\0\1\146\2\0\2\146\5\0\6\146\1\0\1\146"+
+    "\1\0\1\146\2\0\5\146\46\0\2\232\15\0\1\17"+
+    "\10\0\4\17\1\0\3\17\13\0\6\17\1\232\1\233"+
+    "\1\0\1\17\2\0\5\17\4\0\1\17\10\0\4\17"+
+    "\1\0\3\17\13\0\6\17\1\0\1\17\1\0\1\17"+
+    "\2\0\3\17\1\234\1\17\4\0\1\17\10\0\4\17"+
+    "\1\0\3\17\13\0\6\17\1\0\1\17\1\0\1\17"+
+    "\2\0\1\17\1\235\3\17\4\0\1\36\10\0\4\36"+
+    "\1\0\3\36\13\0\6\36\1\0\1\36\1\0\1\36"+
+    "\2\0\5\36\3\0\2\154\2\0\3\154\1\236\51\154"+
+    "\7\0\1\237\61\0\1\156\51\0\1\160\10\0\4\160"+
+    "\1\0\3\160\1\0\1\240\11\0\6\160\1\0\1\160"+
+    "\1\0\1\160\2\0\5\160\4\0\1\160\10\0\1\160"+
+    "\1\241\2\160\1\0\3\160\1\0\1\240\11\0\6\160"+
+    "\1\0\1\160\1\0\1\160\2\0\5\160\4\0\1\36"+
+    "\10\0\4\36\1\0\3\36\1\0\1\153\11\0\5\36"+
+    "\1\242\1\0\1\36\1\0\1\36\2\0\5\36\46\0"+
+    "\2\243\15\0\1\36\10\0\4\36\1\0\3\36\1\0"+
+    "\1\153\11\0\6\36\1\243\1\244\1\0\1\36\2\0"+
+    "\5\36\4\0\1\36\10\0\4\36\1\0\3\36\1\0"+
+    "\1\153\11\0\2\36\1\245\3\36\1\0\1\36\1\0"+
+    "\1\36\2\0\5\36\4\0\1\36\10\0\4\36\1\0"+
+    "\3\36\1\0\1\153\11\0\6\36\1\0\1\36\1\0"+
+    "\1\36\2\0\3\36\1\246\1\36\4\0\1\36\10\0"+
+    "\4\36\1\0\3\36\1\0\1\153\11\0\6\36\1\0"+
+    "\1\36\1\0\1\36\2\0\1\36\1\247\3\36\26\0"+
+    "\1\207\22\0\1\170\13\0\1\36\10\0\4\36\1\0"+
+    "\3\36\13\0\6\36\1\0\1\36\1\0\1\250\2\0"+
+    "\5\36\23\0\1\251\44\0\1\174\21\0\1\176\33\0"+
+    "\1\64\10\0\4\64\1\0\3\64\13\0\6\64\1\0"+
+    "\1\64\1\0\1\64\2\0\5\64\4\0\1\177\10\0"+
+    "\4\177\1\0\3\177\1\0\1\252\11\0\6\177\1\0"+
+    "\1\177\1\0\1\177\2\0\5\177\4\0\1\177\10\0"+
+    "\1\177\1\253\2\177\1\0\3\177\1\0\1\252\11\0"+
+    "\6\177\1\0\1\177\1\0\1\177\2\0\5\177\13\0"+
+    "\1\202\51\0\1\76\10\0\4\76\1\0\3\76\13\0"+
+    "\5\76\1\254\1\0\1\76\1\0\1\76\2\0\5\76"+
+    "\4\0\1\76\10\0\4\76\1\0\3\76\13\0\2\76"+
+    "\1\255\3\76\1\0\1\76\1\0\1\76\2\0\5\76"+
+    "\51\0\1\256\13\0\1\210\10\0\4\210\1\0\3\210"+
+    "\1\0\1\257\11\0\6\210\1\0\1\210\1\0\1\210"+
+    "\2\0\5\210\1\260\2\0\10\211\1\261\50\211\2\114"+
+    "\2\0\4\114\1\116\50\114\2\213\2\0\1\154\2\213"+
+    "\1\262\15\213\1\154\3\213\1\154\27\213\2\125\3\0"+
+    "\2\125\1\263\15\125\1\0\3\125\1\0\31\125\3\0"+
+    "\3\125\1\127\14\125\1\0\3\125\1\0\30\125\1\216"+
+    "\3\0\5\125\4\216\1\125\3\216\1\125\1\264\1\125"+
+    "\1\0\3\125\1\0\3\125\6\216\1\125\1\216\1\125"+
+    "\1\216\2\125\5\216\4\125\1\216\3\0\5\125\1\216"+
+    "\1\265\2\216\1\125\3\216\1\125\1\264\1\125\1\0"+
+    "\3\125\1\0\3\125\6\216\1\125\1\216\1\125\1\216"+
+    "\2\125\5\216\5\125\3\0\20\125\1\0\3\125\1\0"+
+    "\10\125\1\266\20\125\3\0\20\125\1\0\3\125\1\0"+
+    "\5\125\1\267\23\125\3\0\20\125\1\0\3\125\1\0"+
+    "\14\125\1\270\12\125\1\0\1\223\10\0\4\223\1\0"+
+    "\3\223\1\0\1\271\11\0\6\223\1\0\1\223\1\0"+
+    "\1\223\2\0\5\223\4\0\1\223\10\0\1\223\1\272"+
+    "\2\223\1\0\3\223\1\0\1\271\11\0\6\223\1\0"+
+    "\1\223\1\0\1\223\2\0\5\223\16\0\1\273\51\0"+
+    "\1\226\15\0\1\230\37\0\1\144\2\0\1\226\5\0"+
+    "\1\227\1\274\2\144\1\0\3\144\1\230\1\146\2\0"+
+    "\2\146\5\0\6\144\1\0\1\144\1\0\1\144\2\0"+
+    "\5\144\4\0\1\144\2\0\1\226\5\0\1\227\1\144"+
+    "\1\275\1\144\1\0\3\144\1\230\1\146\2\0\2\146"+
+    "\5\0\6\144\1\0\1\144\1\0\1\144\2\0\5\144"+
+    "\43\0\1\276\21\0\1\17\10\0\4\17\1\0\3\17"+
+    "\13\0\3\17\1\277\2\17\1\0\1\17\1\0\1\17"+
+    "\2\0\5\17\4\0\1\17\10\0\1\17\1\300\2\17"+
+    "\1\0\3\17\13\0\6\17\1\0\1\17\1\0\1\17"+
+    "\2\0\5\17\4\0\1\17\10\0\4\17\1\0\3\17"+
+    "\13\0\4\17\1\301\1\17\1\0\1\17\1\0\1\17"+
+    "\2\0\5\17\12\0\1\236\52\0\1\160\10\0\4\160"+
+    "\1\0\3\160\13\0\6\160\1\0\1\160\1\0\1\160"+
+    "\2\0\5\160\4\0\1\160\10\0\2\160\1\302\1\160"+
+    "\1\0\3\160\1\0\1\240\11\0\6\160\1\0\1\160"+
+    "\1\0\1\160\2\0\5\160\4\0\1\36\10\0\4\36"+
+    "\1\0\3\36\1\0\1\153\11\0\6\36\1\303\1\245"+
+    "\1\0\1\36\2\0\5\36\43\0\1\304\21\0\1\36"+
+    "\10\0\4\36\1\0\3\36\1\0\1\153\11\0\3\36"+
+    "\1\305\2\36\1\0\1\36\1\0\1\36\2\0\5\36"+
+    "\4\0\1\36\10\0\4\36\1\0\3\36\1\0\1\153"+
+    "\11\0\3\36\1\306\2\36\1\0\1\36\1\0\1\36"+
+    "\2\0\5\36\4\0\1\36\10\0\1\36\1\307\2\36"+
+    "\1\0\3\36\1\0\1\153\11\0\6\36\1\0\1\36"+
     "\1\0\1\36\2\0\5\36\4\0\1\36\10\0\4\36"+
-    "\1\0\3\36\1\0\1\152\11\0\3\36\1\163\2\36"+
+    "\1\0\3\36\1\0\1\153\11\0\4\36\1\310\1\36"+
     "\1\0\1\36\1\0\1\36\2\0\5\36\4\0\1\36"+
-    "\10\0\4\36\1\0\3\36\1\0\1\152\11\0\6\36"+
-    "\1\0\1\36\1\0\1\36\2\0\1\164\4\36\51\0"+
-    "\1\165\13\0\1\36\10\0\4\36\1\0\3\36\1\0"+
-    "\1\166\11\0\6\36\1\0\1\36\1\0\1\57\2\0"+
-    "\5\36\4\0\1\167\10\0\4\167\1\0\3\167\13\0"+
-    "\6\167\1\0\1\167\1\0\1\167\2\0\5\167\21\0"+
-    "\2\170\42\0\1\63\10\0\4\63\1\0\3\63\13\0"+
-    "\6\63\1\0\1\63\1\0\1\63\2\0\5\63\4\0"+
-    "\1\64\2\0\1\171\5\0\4\64\1\0\3\64\1\0"+
-    "\1\172\2\0\1\173\6\0\6\64\1\0\1\64\1\0"+
-    "\1\64\2\0\5\64\4\0\1\174\10\0\1\175\3\174"+
-    "\1\0\3\174\13\0\6\174\1\0\1\174\1\0\1\174"+
-    "\2\0\5\174\4\0\1\176\10\0\4\176\1\0\3\176"+
-    "\13\0\6\176\1\0\1\176\1\0\1\176\2\0\5\176"+
+    "\10\0\4\36\1\0\3\36\1\0\1\153\11\0\6\36"+
+    "\1\0\1\36\1\0\1\250\2\0\5\36\17\0\1\311"+
+    "\45\0\1\177\10\0\4\177\1\0\3\177\13\0\6\177"+
+    "\1\0\1\177\1\0\1\177\2\0\5\177\4\0\1\177"+
+    "\10\0\2\177\1\312\1\177\1\0\3\177\1\0\1\252"+
+    "\11\0\6\177\1\0\1\177\1\0\1\177\2\0\5\177"+
     "\4\0\1\76\10\0\4\76\1\0\3\76\13\0\6\76"+
-    "\1\0\1\76\1\0\1\76\2\0\5\76\4\0\1\76"+
-    "\10\0\4\76\1\0\3\76\13\0\4\76\1\177\1\76"+
-    "\1\0\1\76\1\0\1\76\2\0\5\76\4\0\1\76"+
-    "\10\0\4\76\1\0\3\76\11\0\1\200\1\0\6\76"+
-    "\1\0\1\76\1\0\1\111\2\0\5\76\4\0\1\76"+
-    "\10\0\4\76\1\0\3\76\13\0\1\76\1\201\4\76"+
-    "\1\0\1\76\1\0\1\76\2\0\5\76\4\0\1\76"+
-    "\10\0\4\76\1\0\3\76\1\0\1\202\11\0\6\76"+
-    "\1\0\1\76\1\0\1\111\2\0\5\76\4\0\1\203"+
-    "\10\0\4\203\1\0\3\203\13\0\6\203\1\0\1\203"+
-    "\1\0\1\203\2\0\5\203\3\0\2\114\2\0\57\114"+
-    "\2\0\1\115\54\114\2\116\2\204\4\116\1\205\50\116"+
-    "\1\0\1\117\10\0\4\117\1\0\3\117\1\0\1\117"+
-    "\11\0\6\117\1\0\1\117\1\0\1\117\2\0\5\117"+
-    "\3\0\2\124\3\0\20\124\1\0\3\124\1\0\27\124"+
-    "\2\206\2\0\1\153\2\206\1\207\15\206\1\153\3\206"+
-    "\1\153\27\206\2\126\3\141\3\126\1\210\14\126\1\141"+
-    "\3\126\1\141\27\126\1\124\1\211\3\0\5\124\1\212"+
-    "\3\211\1\124\3\211\3\124\1\0\3\124\1\0\3\124"+
-    "\6\211\1\124\1\211\1\124\1\211\2\124\5\211\5\124"+
-    "\3\0\20\124\1\0\3\124\1\0\7\124\1\213\21\124"+
-    "\3\0\20\124\1\0\3\124\1\0\14\124\1\134\14\124"+
-    "\3\0\20\124\1\0\3\124\1\0\4\124\1\214\24\124"+
-    "\3\0\16\124\1\215\1\124\1\0\3\124\1\0\14\124"+
-    "\1\134\12\124\1\0\1\216\10\0\1\217\3\216\1\0"+
-    "\3\216\13\0\6\216\1\0\1\216\1\0\1\216\2\0"+
-    "\5\216\15\0\1\220\56\0\1\141\51\0\1\143\2\0"+
-    "\1\221\5\0\1\222\3\143\1\0\3\143\1\223\1\145"+
-    "\2\0\2\145\5\0\6\143\1\0\1\143\1\0\1\143"+
-    "\2\0\5\143\4\0\1\143\2\0\1\221\5\0\1\222"+
-    "\1\224\2\143\1\0\3\143\1\223\1\145\2\0\2\145"+
-    "\5\0\6\143\1\0\1\143\1\0\1\143\2\0\5\143"+
-    "\4\0\1\145\10\0\4\145\1\0\3\145\1\0\1\145"+
-    "\2\0\2\145\5\0\6\145\1\0\1\145\1\0\1\145"+
-    "\2\0\5\145\46\0\2\225\15\0\1\17\10\0\4\17"+
-    "\1\0\3\17\13\0\6\17\1\225\1\226\1\0\1\17"+
-    "\2\0\5\17\4\0\1\17\10\0\4\17\1\0\3\17"+
-    "\13\0\6\17\1\0\1\17\1\0\1\17\2\0\3\17"+
-    "\1\227\1\17\4\0\1\17\10\0\4\17\1\0\3\17"+
-    "\13\0\6\17\1\0\1\17\1\0\1\17\2\0\1\17"+
-    "\1\230\3\17\4\0\1\36\10\0\4\36\1\0\3\36"+
-    "\13\0\6\36\1\0\1\36\1\0\1\36\2\0\5\36"+
-    "\3\0\2\153\2\0\3\153\1\231\51\153\7\0\1\232"+
-    "\52\0\1\155\10\0\4\155\1\0\3\155\1\0\1\233"+
-    "\11\0\6\155\1\0\1\155\1\0\1\155\2\0\5\155"+
-    "\4\0\1\155\10\0\1\155\1\234\2\155\1\0\3\155"+
-    "\1\0\1\233\11\0\6\155\1\0\1\155\1\0\1\155"+
-    "\2\0\5\155\4\0\1\36\10\0\4\36\1\0\3\36"+
-    "\1\0\1\152\11\0\5\36\1\235\1\0\1\36\1\0"+
-    "\1\36\2\0\5\36\46\0\2\236\15\0\1\36\10\0"+
-    "\4\36\1\0\3\36\1\0\1\152\11\0\6\36\1\236"+
-    "\1\237\1\0\1\36\2\0\5\36\4\0\1\36\10\0"+
-    "\4\36\1\0\3\36\1\0\1\152\11\0\2\36\1\240"+
-    "\3\36\1\0\1\36\1\0\1\36\2\0\5\36\4\0"+
-    "\1\36\10\0\4\36\1\0\3\36\1\0\1\152\11\0"+
-    "\6\36\1\0\1\36\1\0\1\36\2\0\3\36\1\241"+
-    "\1\36\4\0\1\36\10\0\4\36\1\0\3\36\1\0"+
-    "\1\152\11\0\6\36\1\0\1\36\1\0\1\36\2\0"+
-    "\1\36\1\242\3\36\26\0\1\202\22\0\1\165\13\0"+
-    "\1\36\10\0\4\36\1\0\3\36\13\0\6\36\1\0"+
-    "\1\36\1\0\1\243\2\0\5\36\23\0\1\244\44\0"+
-    "\1\171\21\0\1\173\33\0\1\64\10\0\4\64\1\0"+
-    "\3\64\13\0\6\64\1\0\1\64\1\0\1\64\2\0"+
-    "\5\64\4\0\1\174\10\0\4\174\1\0\3\174\1\0"+
-    "\1\245\11\0\6\174\1\0\1\174\1\0\1\174\2\0"+
-    "\5\174\4\0\1\174\10\0\1\174\1\246\2\174\1\0"+
-    "\3\174\1\0\1\245\11\0\6\174\1\0\1\174\1\0"+
-    "\1\174\2\0\5\174\4\0\1\76\10\0\4\76\1\0"+
-    "\3\76\13\0\5\76\1\247\1\0\1\76\1\0\1\76"+
-    "\2\0\5\76\4\0\1\76\10\0\4\76\1\0\3\76"+
-    "\13\0\2\76\1\250\3\76\1\0\1\76\1\0\1\76"+
-    "\2\0\5\76\51\0\1\251\13\0\1\203\10\0\4\203"+
-    "\1\0\3\203\1\0\1\252\11\0\6\203\1\0\1\203"+
-    "\1\0\1\203\2\0\5\203\1\253\2\0\10\204\1\254"+
-    "\50\204\2\114\2\0\4\114\1\116\50\114\2\206\2\0"+
-    "\1\153\2\206\1\255\15\206\1\153\3\206\1\153\27\206"+
-    "\2\124\3\0\2\124\1\256\15\124\1\0\3\124\1\0"+
-    "\31\124\3\0\3\124\1\126\14\124\1\0\3\124\1\0"+
-    "\30\124\1\211\3\0\5\124\4\211\1\124\3\211\1\124"+
-    "\1\257\1\124\1\0\3\124\1\0\3\124\6\211\1\124"+
-    "\1\211\1\124\1\211\2\124\5\211\4\124\1\211\3\0"+
-    "\5\124\1\211\1\260\2\211\1\124\3\211\1\124\1\257"+
-    "\1\124\1\0\3\124\1\0\3\124\6\211\1\124\1\211"+
-    "\1\124\1\211\2\124\5\211\5\124\3\0\20\124\1\0"+
-    "\3\124\1\0\10\124\1\261\20\124\3\0\20\124\1\0"+
-    "\3\124\1\0\5\124\1\262\23\124\3\0\20\124\1\0"+
-    "\3\124\1\0\14\124\1\263\12\124\1\0\1\216\10\0"+
-    "\4\216\1\0\3\216\1\0\1\264\11\0\6\216\1\0"+
-    "\1\216\1\0\1\216\2\0\5\216\4\0\1\216\10\0"+
-    "\1\216\1\265\2\216\1\0\3\216\1\0\1\264\11\0"+
-    "\6\216\1\0\1\216\1\0\1\216\2\0\5\216\16\0"+
-    "\1\266\51\0\1\221\15\0\1\223\37\0\1\143\2\0"+
-    "\1\221\5\0\1\222\1\267\2\143\1\0\3\143\1\223"+
-    "\1\145\2\0\2\145\5\0\6\143\1\0\1\143\1\0"+
-    "\1\143\2\0\5\143\4\0\1\143\2\0\1\221\5\0"+
-    "\1\222\1\143\1\270\1\143\1\0\3\143\1\223\1\145"+
-    "\2\0\2\145\5\0\6\143\1\0\1\143\1\0\1\143"+
-    "\2\0\5\143\43\0\1\271\21\0\1\17\10\0\4\17"+
-    "\1\0\3\17\13\0\3\17\1\272\2\17\1\0\1\17"+
-    "\1\0\1\17\2\0\5\17\4\0\1\17\10\0\1\17"+
-    "\1\273\2\17\1\0\3\17\13\0\6\17\1\0\1\17"+
+    "\1\303\1\255\1\0\1\76\2\0\5\76\4\0\1\76"+
+    "\10\0\4\76\1\0\3\76\13\0\3\76\1\313\2\76"+
+    "\1\0\1\76\1\0\1\76\2\0\5\76\4\0\1\314"+
+    "\10\0\4\314\1\0\3\314\13\0\6\314\1\0\1\314"+
+    "\1\0\1\314\2\0\5\314\13\0\1\211\50\0\2\125"+
+    "\3\0\2\125\1\262\15\125\1\0\3\125\1\0\30\125"+
+    "\1\216\3\0\5\125\4\216\1\125\3\216\3\125\1\0"+
+    "\3\125\1\0\3\125\6\216\1\125\1\216\1\125\1\216"+
+    "\2\125\5\216\4\125\1\216\3\0\5\125\2\216\1\315"+
+    "\1\216\1\125\3\216\1\125\1\264\1\125\1\0\3\125"+
+    "\1\0\3\125\6\216\1\125\1\216\1\125\1\216\2\125"+
+    "\5\216\5\125\3\0\20\125\1\0\3\125\1\0\11\125"+
+    "\2\267\16\125\3\0\20\125\1\0\3\125\1\0\6\125"+
+    "\1\316\20\125\1\0\1\223\10\0\4\223\1\0\3\223"+
+    "\13\0\6\223\1\0\1\223\1\0\1\223\2\0\5\223"+
+    "\4\0\1\223\10\0\2\223\1\317\1\223\1\0\3\223"+
+    "\1\0\1\271\11\0\6\223\1\0\1\223\1\0\1\223"+
+    "\2\0\5\223\17\0\1\320\45\0\1\144\2\0\1\226"+
+    "\5\0\1\227\1\144\1\321\1\144\1\0\3\144\1\230"+
+    "\1\146\2\0\2\146\5\0\6\144\1\0\1\144\1\0"+
+    "\1\144\2\0\5\144\4\0\1\144\2\0\1\226\5\0"+
+    "\1\227\2\144\1\322\1\0\3\144\1\230\1\146\2\0"+
+    "\2\146\5\0\6\144\1\0\1\144\1\0\1\144\2\0"+
+    "\5\144\41\0\1\323\23\0\1\17\10\0\4\17\1\0"+
+    "\3\17\13\0\1\17\1\324\4\17\1\0\1\17\1\0"+
+    "\1\17\2\0\5\17\4\0\1\17\10\0\4\17\1\0"+
+    "\3\17\13\0\6\17\1\0\1\17\1\0\1\17\2\0"+
+    "\4\17\1\325\4\0\1\17\10\0\4\17\1\0\3\17"+
+    "\13\0\1\326\5\17\1\0\1\17\1\0\1\17\2\0"+
+    "\5\17\4\0\1\160\10\0\3\160\1\327\1\0\3\160"+
+    "\1\0\1\240\11\0\6\160\1\0\1\160\1\0\1\160"+
+    "\2\0\5\160\43\0\1\330\56\0\1\331\23\0\1\36"+
+    "\10\0\4\36\1\0\3\36\1\0\1\153\11\0\1\36"+
+    "\1\332\4\36\1\0\1\36\1\0\1\36\2\0\5\36"+
+    "\4\0\1\36\10\0\4\36\1\0\3\36\1\0\1\153"+
+    "\11\0\6\36\1\0\1\36\1\0\1\36\2\0\4\36"+
+    "\1\333\4\0\1\36\10\0\4\36\1\0\3\36\1\0"+
+    "\1\153\11\0\1\334\5\36\1\0\1\36\1\0\1\36"+
+    "\2\0\5\36\16\0\1\335\46\0\1\177\10\0\3\177"+
+    "\1\336\1\0\3\177\1\0\1\252\11\0\6\177\1\0"+
+    "\1\177\1\0\1\177\2\0\5\177\3\0\1\125\1\216"+
+    "\3\0\5\125\3\216\1\337\1\125\3\216\1\125\1\264"+
+    "\1\125\1\0\3\125\1\0\3\125\6\216\1\125\1\216"+
+    "\1\125\1\216\2\125\5\216\3\125\1\0\1\223\10\0"+
+    "\3\223\1\340\1\0\3\223\1\0\1\271\11\0\6\223"+
+    "\1\0\1\223\1\0\1\223\2\0\5\223\20\0\1\341"+
+    "\44\0\1\144\2\0\1\226\5\0\1\227\2\144\1\342"+
+    "\1\0\3\144\1\230\1\146\2\0\2\146\5\0\6\144"+
+    "\1\0\1\144\1\0\1\144\2\0\5\144\4\0\1\144"+
+    "\2\0\1\226\5\0\1\227\3\144\1\343\3\144\1\230"+
+    "\1\146\2\0\2\146\5\0\6\144\1\0\1\144\1\0"+
+    "\1\144\2\0\5\144\40\0\1\344\24\0\1\17\10\0"+
+    "\4\17\1\0\3\17\13\0\1\345\5\17\1\0\1\17"+
     "\1\0\1\17\2\0\5\17\4\0\1\17\10\0\4\17"+
-    "\1\0\3\17\13\0\4\17\1\274\1\17\1\0\1\17"+
-    "\1\0\1\17\2\0\5\17\12\0\1\231\52\0\1\155"+
-    "\10\0\4\155\1\0\3\155\13\0\6\155\1\0\1\155"+
-    "\1\0\1\155\2\0\5\155\4\0\1\155\10\0\2\155"+
-    "\1\275\1\155\1\0\3\155\1\0\1\233\11\0\6\155"+
-    "\1\0\1\155\1\0\1\155\2\0\5\155\4\0\1\36"+
-    "\10\0\4\36\1\0\3\36\1\0\1\152\11\0\6\36"+
-    "\1\276\1\240\1\0\1\36\2\0\5\36\43\0\1\277"+
-    "\21\0\1\36\10\0\4\36\1\0\3\36\1\0\1\152"+
-    "\11\0\3\36\1\300\2\36\1\0\1\36\1\0\1\36"+
-    "\2\0\5\36\4\0\1\36\10\0\4\36\1\0\3\36"+
-    "\1\0\1\152\11\0\3\36\1\301\2\36\1\0\1\36"+
-    "\1\0\1\36\2\0\5\36\4\0\1\36\10\0\1\36"+
-    "\1\302\2\36\1\0\3\36\1\0\1\152\11\0\6\36"+
-    "\1\0\1\36\1\0\1\36\2\0\5\36\4\0\1\36"+
-    "\10\0\4\36\1\0\3\36\1\0\1\152\11\0\4\36"+
-    "\1\303\1\36\1\0\1\36\1\0\1\36\2\0\5\36"+
-    "\4\0\1\36\10\0\4\36\1\0\3\36\1\0\1\152"+
-    "\11\0\6\36\1\0\1\36\1\0\1\243\2\0\5\36"+
-    "\17\0\1\304\45\0\1\174\10\0\4\174\1\0\3\174"+
-    "\13\0\6\174\1\0\1\174\1\0\1\174\2\0\5\174"+
-    "\4\0\1\174\10\0\2\174\1\305\1\174\1\0\3\174"+
-    "\1\0\1\245\11\0\6\174\1\0\1\174\1\0\1\174"+
-    "\2\0\5\174\4\0\1\76\10\0\4\76\1\0\3\76"+
-    "\13\0\6\76\1\276\1\250\1\0\1\76\2\0\5\76"+
-    "\4\0\1\76\10\0\4\76\1\0\3\76\13\0\3\76"+
-    "\1\306\2\76\1\0\1\76\1\0\1\76\2\0\5\76"+
-    "\4\0\1\307\10\0\4\307\1\0\3\307\13\0\6\307"+
-    "\1\0\1\307\1\0\1\307\2\0\5\307\13\0\1\204"+
-    "\50\0\2\124\3\0\2\124\1\255\15\124\1\0\3\124"+
-    "\1\0\30\124\1\211\3\0\5\124\4\211\1\124\3\211"+
-    "\3\124\1\0\3\124\1\0\3\124\6\211\1\124\1\211"+
-    "\1\124\1\211\2\124\5\211\4\124\1\211\3\0\5\124"+
-    "\2\211\1\310\1\211\1\124\3\211\1\124\1\257\1\124"+
-    "\1\0\3\124\1\0\3\124\6\211\1\124\1\211\1\124"+
-    "\1\211\2\124\5\211\5\124\3\0\20\124\1\0\3\124"+
-    "\1\0\11\124\2\262\16\124\3\0\20\124\1\0\3\124"+
-    "\1\0\6\124\1\311\20\124\1\0\1\216\10\0\4\216"+
-    "\1\0\3\216\13\0\6\216\1\0\1\216\1\0\1\216"+
-    "\2\0\5\216\4\0\1\216\10\0\2\216\1\312\1\216"+
-    "\1\0\3\216\1\0\1\264\11\0\6\216\1\0\1\216"+
-    "\1\0\1\216\2\0\5\216\17\0\1\313\45\0\1\143"+
-    "\2\0\1\221\5\0\1\222\1\143\1\314\1\143\1\0"+
-    "\3\143\1\223\1\145\2\0\2\145\5\0\6\143\1\0"+
-    "\1\143\1\0\1\143\2\0\5\143\4\0\1\143\2\0"+
-    "\1\221\5\0\1\222\2\143\1\315\1\0\3\143\1\223"+
-    "\1\145\2\0\2\145\5\0\6\143\1\0\1\143\1\0"+
-    "\1\143\2\0\5\143\41\0\1\316\23\0\1\17\10\0"+
-    "\4\17\1\0\3\17\13\0\1\17\1\317\4\17\1\0"+
-    "\1\17\1\0\1\17\2\0\5\17\4\0\1\17\10\0"+
-    "\4\17\1\0\3\17\13\0\6\17\1\0\1\17\1\0"+
-    "\1\17\2\0\4\17\1\320\4\0\1\17\10\0\4\17"+
-    "\1\0\3\17\13\0\1\321\5\17\1\0\1\17\1\0"+
-    "\1\17\2\0\5\17\4\0\1\155\10\0\3\155\1\322"+
-    "\1\0\3\155\1\0\1\233\11\0\6\155\1\0\1\155"+
-    "\1\0\1\155\2\0\5\155\43\0\1\323\56\0\1\324"+
-    "\23\0\1\36\10\0\4\36\1\0\3\36\1\0\1\152"+
-    "\11\0\1\36\1\325\4\36\1\0\1\36\1\0\1\36"+
-    "\2\0\5\36\4\0\1\36\10\0\4\36\1\0\3\36"+
-    "\1\0\1\152\11\0\6\36\1\0\1\36\1\0\1\36"+
-    "\2\0\4\36\1\326\4\0\1\36\10\0\4\36\1\0"+
-    "\3\36\1\0\1\152\11\0\1\327\5\36\1\0\1\36"+
-    "\1\0\1\36\2\0\5\36\16\0\1\330\46\0\1\174"+
-    "\10\0\3\174\1\331\1\0\3\174\1\0\1\245\11\0"+
-    "\6\174\1\0\1\174\1\0\1\174\2\0\5\174\3\0"+
-    "\1\124\1\211\3\0\5\124\3\211\1\332\1\124\3\211"+
-    "\1\124\1\257\1\124\1\0\3\124\1\0\3\124\6\211"+
-    "\1\124\1\211\1\124\1\211\2\124\5\211\3\124\1\0"+
-    "\1\216\10\0\3\216\1\333\1\0\3\216\1\0\1\264"+
-    "\11\0\6\216\1\0\1\216\1\0\1\216\2\0\5\216"+
-    "\20\0\1\334\44\0\1\143\2\0\1\221\5\0\1\222"+
-    "\2\143\1\335\1\0\3\143\1\223\1\145\2\0\2\145"+
-    "\5\0\6\143\1\0\1\143\1\0\1\143\2\0\5\143"+
-    "\4\0\1\143\2\0\1\221\5\0\1\222\3\143\1\336"+
-    "\3\143\1\223\1\145\2\0\2\145\5\0\6\143\1\0"+
-    "\1\143\1\0\1\143\2\0\5\143\40\0\1\337\24\0"+
-    "\1\17\10\0\4\17\1\0\3\17\13\0\1\340\5\17"+
-    "\1\0\1\17\1\0\1\17\2\0\5\17\4\0\1\17"+
-    "\10\0\4\17\1\0\3\17\13\0\3\17\1\341\2\17"+
-    "\1\0\1\17\1\0\1\17\2\0\5\17\4\0\1\17"+
-    "\10\0\4\17\1\0\3\17\13\0\3\17\1\342\2\17"+
-    "\1\0\1\17\1\0\1\17\2\0\5\17\4\0\1\155"+
-    "\10\0\4\155\1\343\3\155\1\0\1\233\11\0\6\155"+
-    "\1\0\1\155\1\0\1\155\2\0\5\155\40\0\1\344"+
-    "\24\0\1\36\10\0\4\36\1\0\3\36\1\0\1\152"+
-    "\11\0\1\345\5\36\1\0\1\36\1\0\1\36\2\0"+
+    "\1\0\3\17\13\0\3\17\1\346\2\17\1\0\1\17"+
+    "\1\0\1\17\2\0\5\17\4\0\1\17\10\0\4\17"+
+    "\1\0\3\17\13\0\3\17\1\347\2\17\1\0\1\17"+
+    "\1\0\1\17\2\0\5\17\4\0\1\160\10\0\4\160"+
+    "\1\350\3\160\1\0\1\240\11\0\6\160\1\0\1\160"+
+    "\1\0\1\160\2\0\5\160\40\0\1\351\24\0\1\36"+
+    "\10\0\4\36\1\0\3\36\1\0\1\153\11\0\1\352"+
+    "\5\36\1\0\1\36\1\0\1\36\2\0\5\36\4\0"+
+    "\1\36\10\0\4\36\1\0\3\36\1\0\1\153\11\0"+
+    "\3\36\1\353\2\36\1\0\1\36\1\0\1\36\2\0"+
     "\5\36\4\0\1\36\10\0\4\36\1\0\3\36\1\0"+
-    "\1\152\11\0\3\36\1\346\2\36\1\0\1\36\1\0"+
-    "\1\36\2\0\5\36\4\0\1\36\10\0\4\36\1\0"+
-    "\3\36\1\0\1\152\11\0\3\36\1\347\2\36\1\0"+
-    "\1\36\1\0\1\36\2\0\5\36\41\0\1\350\23\0"+
-    "\1\174\10\0\4\174\1\351\3\174\1\0\1\245\11\0"+
-    "\6\174\1\0\1\174\1\0\1\174\2\0\5\174\3\0"+
-    "\1\124\1\211\3\0\5\124\4\211\1\352\3\211\1\124"+
-    "\1\257\1\124\1\0\3\124\1\0\3\124\6\211\1\124"+
-    "\1\211\1\124\1\211\2\124\5\211\3\124\1\0\1\216"+
-    "\10\0\4\216\1\353\3\216\1\0\1\264\11\0\6\216"+
-    "\1\0\1\216\1\0\1\216\2\0\5\216\21\0\2\353"+
-    "\42\0\1\143\2\0\1\221\5\0\1\222\3\143\1\354"+
-    "\3\143\1\223\1\145\2\0\2\145\5\0\6\143\1\0"+
-    "\1\143\1\0\1\143\2\0\5\143\23\0\1\355\113\0"+
-    "\1\356\6\0\1\17\10\0\4\17\1\0\3\17\13\0"+
-    "\6\17\1\0\1\17\1\0\1\17\2\0\2\17\1\357"+
-    "\2\17\23\0\1\360\113\0\1\361\6\0\1\36\10\0"+
-    "\4\36\1\0\3\36\1\0\1\152\11\0\6\36\1\0"+
-    "\1\36\1\0\1\36\2\0\2\36\1\362\2\36\43\0"+
-    "\1\363\40\0\1\364\40\0\2\124\3\0\13\124\1\365"+
-    "\4\124\1\0\3\124\1\0\27\124\20\0\1\366\60\0"+
-    "\1\367\61\0\1\370\76\0\1\371\22\0\1\17\10\0"+
-    "\4\17\1\0\3\17\13\0\2\17\1\372\3\17\1\0"+
-    "\1\17\1\0\1\17\2\0\5\17\24\0\1\373\76\0"+
-    "\1\374\22\0\1\36\10\0\4\36\1\0\3\36\1\0"+
-    "\1\152\11\0\2\36\1\375\3\36\1\0\1\36\1\0"+
-    "\1\36\2\0\5\36\36\0\1\376\46\0\1\377\37\0"+
-    "\2\124\3\0\14\124\1\u0100\3\124\1\0\3\124\1\0"+
-    "\27\124\21\0\1\u0101\60\0\1\u0102\40\0\1\u0103\2\0"+
-    "\1\221\5\0\1\u0104\3\u0103\1\0\3\u0103\1\223\12\0"+
-    "\6\u0103\1\0\1\u0103\1\0\1\u0103\2\0\5\u0103\54\0"+
-    "\1\u0105\10\0\1\17\10\0\4\17\1\0\3\17\13\0"+
-    "\6\17\1\0\1\17\1\0\1\17\2\0\1\u0106\4\17"+
-    "\54\0\1\u0107\10\0\1\36\10\0\4\36\1\0\3\36"+
-    "\1\0\1\152\11\0\6\36\1\0\1\36\1\0\1\36"+
-    "\2\0\1\u0108\4\36\4\0\1\u0102\2\0\1\221\5\0"+
-    "\1\u0109\3\u0102\1\0\3\u0102\1\223\12\0\6\u0102\1\0"+
-    "\1\u0102\1\0\1\u0102\2\0\5\u0102\4\0\1\u0103\2\0"+
-    "\1\221\5\0\1\u0104\3\u0103\1\0\3\u0103\1\223\1\245"+
-    "\11\0\6\u0103\1\0\1\u0103\1\0\1\u0103\2\0\5\u0103"+
-    "\4\0\1\u0103\2\0\1\221\5\0\1\u0104\1\u010a\2\u0103"+
-    "\1\0\3\u0103\1\223\1\245\11\0\6\u0103\1\0\1\u0103"+
-    "\1\0\1\u0103\2\0\5\u0103\55\0\1\u010b\7\0\1\17"+
-    "\10\0\4\17\1\0\3\17\13\0\6\17\1\0\1\17"+
-    "\1\0\1\17\2\0\1\17\1\u010c\3\17\55\0\1\u010d"+
-    "\7\0\1\36\10\0\4\36\1\0\3\36\1\0\1\152"+
-    "\11\0\6\36\1\0\1\36\1\0\1\36\2\0\1\36"+
-    "\1\u010e\3\36\4\0\1\u0102\2\0\1\221\5\0\1\u0109"+
-    "\1\u010f\2\u0102\1\0\3\u0102\1\223\12\0\6\u0102\1\0"+
-    "\1\u0102\1\0\1\u0102\2\0\5\u0102\4\0\1\u0103\2\0"+
-    "\1\221\5\0\1\u0104\1\u0103\1\u0110\1\u0103\1\0\3\u0103"+
-    "\1\223\1\245\11\0\6\u0103\1\0\1\u0103\1\0\1\u0103"+
-    "\2\0\5\u0103\44\0\1\u0111\20\0\1\17\10\0\4\17"+
-    "\1\0\3\17\13\0\4\17\1\u0112\1\17\1\0\1\17"+
-    "\1\0\1\17\2\0\5\17\44\0\1\u0113\20\0\1\36"+
-    "\10\0\4\36\1\0\3\36\1\0\1\152\11\0\4\36"+
-    "\1\u0114\1\36\1\0\1\36\1\0\1\36\2\0\5\36"+
-    "\4\0\1\u0102\2\0\1\221\5\0\1\u0109\1\u0102\1\u0115"+
-    "\1\u0102\1\0\3\u0102\1\223\12\0\6\u0102\1\0\1\u0102"+
-    "\1\0\1\u0102\2\0\5\u0102\4\0\1\u0103\2\0\1\221"+
-    "\5\0\1\u0104\2\u0103\1\u0116\1\0\3\u0103\1\223\1\245"+
-    "\11\0\6\u0103\1\0\1\u0103\1\0\1\u0103\2\0\5\u0103"+
-    "\40\0\1\u0117\24\0\1\17\10\0\4\17\1\0\3\17"+
-    "\13\0\1\u0118\5\17\1\0\1\17\1\0\1\17\2\0"+
-    "\5\17\40\0\1\u0119\24\0\1\36\10\0\4\36\1\0"+
-    "\3\36\1\0\1\152\11\0\1\u011a\5\36\1\0\1\36"+
-    "\1\0\1\36\2\0\5\36\4\0\1\u0102\2\0\1\221"+
-    "\5\0\1\u0109\2\u0102\1\u011b\1\0\3\u0102\1\223\12\0"+
-    "\6\u0102\1\0\1\u0102\1\0\1\u0102\2\0\5\u0102\4\0"+
-    "\1\u0103\2\0\1\221\5\0\1\u0104\3\u0103\1\354\3\u0103"+
-    "\1\223\1\245\11\0\6\u0103\1\0\1\u0103\1\0\1\u0103"+
-    "\2\0\5\u0103\43\0\1\u011c\21\0\1\17\10\0\4\17"+
-    "\1\0\3\17\13\0\3\17\1\u011d\2\17\1\0\1\17"+
-    "\1\0\1\17\2\0\5\17\43\0\1\u011e\21\0\1\36"+
-    "\10\0\4\36\1\0\3\36\1\0\1\152\11\0\3\36"+
-    "\1\u011f\2\36\1\0\1\36\1\0\1\36\2\0\5\36"+
-    "\4\0\1\u0102\2\0\1\221\5\0\1\u0109\3\u0102\1\354"+
-    "\3\u0102\1\223\12\0\6\u0102\1\0\1\u0102\1\0\1\u0102"+
-    "\2\0\5\u0102\3\0";
+    "\1\153\11\0\3\36\1\354\2\36\1\0\1\36\1\0"+
+    "\1\36\2\0\5\36\41\0\1\355\23\0\1\177\10\0"+
+    "\4\177\1\356\3\177\1\0\1\252\11\0\6\177\1\0"+
+    "\1\177\1\0\1\177\2\0\5\177\3\0\1\125\1\216"+
+    "\3\0\5\125\4\216\1\357\3\216\1\125\1\264\1\125"+
+    "\1\0\3\125\1\0\3\125\6\216\1\125\1\216\1\125"+
+    "\1\216\2\125\5\216\3\125\1\0\1\223\10\0\4\223"+
+    "\1\360\3\223\1\0\1\271\11\0\6\223\1\0\1\223"+
+    "\1\0\1\223\2\0\5\223\21\0\2\360\42\0\1\144"+
+    "\2\0\1\226\5\0\1\227\3\144\1\361\3\144\1\230"+
+    "\1\146\2\0\2\146\5\0\6\144\1\0\1\144\1\0"+
+    "\1\144\2\0\5\144\23\0\1\362\113\0\1\363\6\0"+
+    "\1\17\10\0\4\17\1\0\3\17\13\0\6\17\1\0"+
+    "\1\17\1\0\1\17\2\0\2\17\1\364\2\17\23\0"+
+    "\1\365\113\0\1\366\6\0\1\36\10\0\4\36\1\0"+
+    "\3\36\1\0\1\153\11\0\6\36\1\0\1\36\1\0"+
+    "\1\36\2\0\2\36\1\367\2\36\43\0\1\370\40\0"+
+    "\1\371\40\0\2\125\3\0\13\125\1\372\4\125\1\0"+
+    "\3\125\1\0\27\125\20\0\1\373\60\0\1\374\61\0"+
+    "\1\375\76\0\1\376\22\0\1\17\10\0\4\17\1\0"+
+    "\3\17\13\0\2\17\1\377\3\17\1\0\1\17\1\0"+
+    "\1\17\2\0\5\17\24\0\1\u0100\76\0\1\u0101\22\0"+
+    "\1\36\10\0\4\36\1\0\3\36\1\0\1\153\11\0"+
+    "\2\36\1\u0102\3\36\1\0\1\36\1\0\1\36\2\0"+
+    "\5\36\36\0\1\u0103\46\0\1\u0104\37\0\2\125\3\0"+
+    "\14\125\1\u0105\3\125\1\0\3\125\1\0\27\125\21\0"+
+    "\1\u0106\60\0\1\u0107\40\0\1\u0108\2\0\1\226\5\0"+
+    "\1\u0109\3\u0108\1\0\3\u0108\1\230\12\0\6\u0108\1\0"+
+    "\1\u0108\1\0\1\u0108\2\0\5\u0108\54\0\1\u010a\10\0"+
+    "\1\17\10\0\4\17\1\0\3\17\13\0\6\17\1\0"+
+    "\1\17\1\0\1\17\2\0\1\u010b\4\17\54\0\1\u010c"+
+    "\10\0\1\36\10\0\4\36\1\0\3\36\1\0\1\153"+
+    "\11\0\6\36\1\0\1\36\1\0\1\36\2\0\1\u010d"+
+    "\4\36\4\0\1\u0107\2\0\1\226\5\0\1\u010e\3\u0107"+
+    "\1\0\3\u0107\1\230\12\0\6\u0107\1\0\1\u0107\1\0"+
+    "\1\u0107\2\0\5\u0107\4\0\1\u0108\2\0\1\226\5\0"+
+    "\1\u0109\3\u0108\1\0\3\u0108\1\230\1\252\11\0\6\u0108"+
+    "\1\0\1\u0108\1\0\1\u0108\2\0\5\u0108\4\0\1\u0108"+
+    "\2\0\1\226\5\0\1\u0109\1\u010f\2\u0108\1\0\3\u0108"+
+    "\1\230\1\252\11\0\6\u0108\1\0\1\u0108\1\0\1\u0108"+
+    "\2\0\5\u0108\55\0\1\u0110\7\0\1\17\10\0\4\17"+
+    "\1\0\3\17\13\0\6\17\1\0\1\17\1\0\1\17"+
+    "\2\0\1\17\1\u0111\3\17\55\0\1\u0112\7\0\1\36"+
+    "\10\0\4\36\1\0\3\36\1\0\1\153\11\0\6\36"+
+    "\1\0\1\36\1\0\1\36\2\0\1\36\1\u0113\3\36"+
+    "\4\0\1\u0107\2\0\1\226\5\0\1\u010e\1\u0114\2\u0107"+
+    "\1\0\3\u0107\1\230\12\0\6\u0107\1\0\1\u0107\1\0"+
+    "\1\u0107\2\0\5\u0107\4\0\1\u0108\2\0\1\226\5\0"+
+    "\1\u0109\1\u0108\1\u0115\1\u0108\1\0\3\u0108\1\230\1\252"+
+    "\11\0\6\u0108\1\0\1\u0108\1\0\1\u0108\2\0\5\u0108"+
+    "\44\0\1\u0116\20\0\1\17\10\0\4\17\1\0\3\17"+
+    "\13\0\4\17\1\u0117\1\17\1\0\1\17\1\0\1\17"+
+    "\2\0\5\17\44\0\1\u0118\20\0\1\36\10\0\4\36"+
+    "\1\0\3\36\1\0\1\153\11\0\4\36\1\u0119\1\36"+
+    "\1\0\1\36\1\0\1\36\2\0\5\36\4\0\1\u0107"+
+    "\2\0\1\226\5\0\1\u010e\1\u0107\1\u011a\1\u0107\1\0"+
+    "\3\u0107\1\230\12\0\6\u0107\1\0\1\u0107\1\0\1\u0107"+
+    "\2\0\5\u0107\4\0\1\u0108\2\0\1\226\5\0\1\u0109"+
+    "\2\u0108\1\u011b\1\0\3\u0108\1\230\1\252\11\0\6\u0108"+
+    "\1\0\1\u0108\1\0\1\u0108\2\0\5\u0108\40\0\1\u011c"+
+    "\24\0\1\17\10\0\4\17\1\0\3\17\13\0\1\u011d"+
+    "\5\17\1\0\1\17\1\0\1\17\2\0\5\17\40\0"+
+    "\1\u011e\24\0\1\36\10\0\4\36\1\0\3\36\1\0"+
+    "\1\153\11\0\1\u011f\5\36\1\0\1\36\1\0\1\36"+
+    "\2\0\5\36\4\0\1\u0107\2\0\1\226\5\0\1\u010e"+
+    "\2\u0107\1\u0120\1\0\3\u0107\1\230\12\0\6\u0107\1\0"+
+    "\1\u0107\1\0\1\u0107\2\0\5\u0107\4\0\1\u0108\2\0"+
+    "\1\226\5\0\1\u0109\3\u0108\1\361\3\u0108\1\230\1\252"+
+    "\11\0\6\u0108\1\0\1\u0108\1\0\1\u0108\2\0\5\u0108"+
+    "\43\0\1\u0121\21\0\1\17\10\0\4\17\1\0\3\17"+
+    "\13\0\3\17\1\u0122\2\17\1\0\1\17\1\0\1\17"+
+    "\2\0\5\17\43\0\1\u0123\21\0\1\36\10\0\4\36"+
+    "\1\0\3\36\1\0\1\153\11\0\3\36\1\u0124\2\36"+
+    "\1\0\1\36\1\0\1\36\2\0\5\36\4\0\1\u0107"+
+    "\2\0\1\226\5\0\1\u010e\3\u0107\1\361\3\u0107\1\230"+
+    "\12\0\6\u0107\1\0\1\u0107\1\0\1\u0107\2\0\5\u0107"+
+    "\3\0";
 
   private static int [] zzUnpackTrans() {
-    int [] result = new int[11074];
+    int [] result = new int[11270];
     int offset = 0;
     offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -593,23 +597,24 @@ class ImpexLexer implements FlexLexer {
   private static final String ZZ_ATTRIBUTE_PACKED_0 =
     "\1\0\1\1\5\0\1\1\5\0\1\11\1\1\1\11"+
     "\7\1\1\11\4\1\1\11\10\1\5\11\7\1\1\11"+
-    "\3\1\5\11\2\1\1\11\5\1\4\11\12\1\3\11"+
+    "\3\1\5\11\2\1\1\11\5\1\4\11\13\1\3\11"+
     "\6\1\1\11\3\1\1\11\1\1\1\11\1\0\4\1"+
-    "\1\0\4\1\1\0\4\1\1\0\7\1\3\0\1\11"+
-    "\4\1\1\11\1\1\3\0\13\1\2\0\1\1\1\11"+
-    "\1\1\1\0\3\1\1\11\1\0\3\1\1\0\5\1"+
-    "\1\0\5\1\2\0\12\1\1\0\2\1\1\0\4\1"+
-    "\2\0\4\1\1\0\6\1\1\0\2\1\1\0\4\1"+
-    "\1\11\1\0\3\1\1\0\3\1\1\0\1\1\1\0"+
-    "\4\1\1\0\4\1\2\0\1\1\4\0\1\1\2\0"+
-    "\1\1\2\0\1\1\4\0\1\1\2\0\1\1\1\11"+
-    "\1\0\1\1\2\0\2\1\1\0\1\1\1\0\1\1"+
+    "\1\0\4\1\1\0\1\1\1\0\4\1\1\0\7\1"+
+    "\3\0\1\11\3\1\1\0\2\1\1\11\1\1\3\0"+
+    "\13\1\2\0\1\1\1\11\1\1\1\0\3\1\1\11"+
+    "\1\0\3\1\1\0\5\1\1\0\5\1\2\0\12\1"+
+    "\1\0\2\1\1\0\4\1\2\0\4\1\1\0\6\1"+
+    "\1\0\2\1\1\0\4\1\1\11\1\0\3\1\1\0"+
+    "\3\1\1\0\1\1\1\0\4\1\1\0\4\1\2\0"+
+    "\1\1\4\0\1\1\2\0\1\1\2\0\1\1\4\0"+
+    "\1\1\2\0\1\1\1\11\1\0\1\1\2\0\2\1"+
     "\1\0\1\1\1\0\1\1\1\0\1\1\1\0\1\1"+
     "\1\0\1\1\1\0\1\1\1\0\1\1\1\0\1\1"+
-    "\1\0\1\1\1\0\1\11\1\1\1\11\1\1";
+    "\1\0\1\1\1\0\1\1\1\0\1\1\1\0\1\11"+
+    "\1\1\1\11\1\1";
 
   private static int [] zzUnpackAttribute() {
-    int [] result = new int[287];
+    int [] result = new int[292];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -664,6 +669,32 @@ class ImpexLexer implements FlexLexer {
   /** denotes if the user-EOF-code has already been executed */
   private boolean zzEOFDone;
 
+  /* user code: */
+    /**
+     * A double quoted value has to be followed by the end of its field, otherwise its opening quote is a stray one
+     * and only this quote is returned as the given token type. Without this an inserted quote would turn every
+     * following quoted value of the file inside out.
+     */
+    private IElementType doubleStringOr(final IElementType strayQuoteType) {
+        int offset = zzMarkedPos;
+        while (offset < zzEndRead && isWhiteSpace(zzBuffer.charAt(offset))) {
+            offset++;
+        }
+        if (offset == zzEndRead || isFieldEnd(zzBuffer.charAt(offset))) {
+            return ImpexTypes.DOUBLE_STRING;
+        }
+        yypushback(yylength() - 1);
+        return strayQuoteType;
+    }
+
+    private static boolean isWhiteSpace(final char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    private static boolean isFieldEnd(final char c) {
+        return c == ';' || c == '\r' || c == '\n';
+    }
+
 
   /**
    * Creates a new scanner
@@ -927,231 +958,241 @@ class ImpexLexer implements FlexLexer {
             { return ImpexTypes.COMMENT_BODY;
             } 
             // fall through
-          case 58: break;
+          case 60: break;
           case 2: 
             { return ImpexTypes.BEAN_SHELL_BODY;
             } 
             // fall through
-          case 59: break;
+          case 61: break;
           case 3: 
             { return TokenType.BAD_CHARACTER;
             } 
             // fall through
-          case 60: break;
+          case 62: break;
           case 4: 
             { yybegin(FIELD_VALUE); return ImpexTypes.VALUE_SUBTYPE;
             } 
             // fall through
-          case 61: break;
+          case 63: break;
           case 5: 
             { yybegin(YYINITIAL); return ImpexTypes.CRLF;
             } 
             // fall through
-          case 62: break;
+          case 64: break;
           case 6: 
             { return TokenType.WHITE_SPACE;
             } 
             // fall through
-          case 63: break;
+          case 65: break;
           case 7: 
             { yybegin(COMMENT); return ImpexTypes.COMMENT_MARKER;
             } 
             // fall through
-          case 64: break;
+          case 66: break;
           case 8: 
             { yybegin(FIELD_VALUE); return ImpexTypes.FIELD_VALUE_SEPARATOR;
             } 
             // fall through
-          case 65: break;
+          case 67: break;
           case 9: 
             { return ImpexTypes.MACRO_VALUE;
             } 
             // fall through
-          case 66: break;
+          case 68: break;
           case 10: 
             { return ImpexTypes.LEFT_SQUARE_BRACKET;
             } 
             // fall through
-          case 67: break;
+          case 69: break;
           case 11: 
             { return ImpexTypes.RIGHT_SQUARE_BRACKET;
             } 
             // fall through
-          case 68: break;
+          case 70: break;
           case 12: 
             { return ImpexTypes.LEFT_ROUND_BRACKET;
             } 
             // fall through
-          case 69: break;
+          case 71: break;
           case 13: 
             { return ImpexTypes.RIGHT_ROUND_BRACKET;
             } 
             // fall through
-          case 70: break;
+          case 72: break;
           case 14: 
             { return ImpexTypes.COMMA;
             } 
             // fall through
-          case 71: break;
+          case 73: break;
           case 15: 
             { return ImpexTypes.DIGIT;
             } 
             // fall through
-          case 72: break;
+          case 74: break;
           case 16: 
             { yybegin(WAITING_MACRO_VALUE); return ImpexTypes.ASSIGN_VALUE;
             } 
             // fall through
-          case 73: break;
+          case 75: break;
           case 17: 
             { yybegin(HEADER_LINE); return ImpexTypes.HEADER_TYPE;
             } 
             // fall through
-          case 74: break;
+          case 76: break;
           case 18: 
             { return ImpexTypes.HEADER_PARAMETER_NAME;
             } 
             // fall through
-          case 75: break;
+          case 77: break;
           case 19: 
             { yybegin(WAITING_ATTR_OR_PARAM_VALUE); return ImpexTypes.ASSIGN_VALUE;
             } 
             // fall through
-          case 76: break;
+          case 78: break;
           case 20: 
             { return ImpexTypes.DOT;
             } 
             // fall through
-          case 77: break;
+          case 79: break;
           case 21: 
             { yybegin(MODYFIERS_BLOCK); return ImpexTypes.LEFT_SQUARE_BRACKET;
             } 
             // fall through
-          case 78: break;
+          case 80: break;
           case 22: 
             { return ImpexTypes.PARAMETERS_SEPARATOR;
             } 
             // fall through
-          case 79: break;
+          case 81: break;
           case 23: 
             { return ImpexTypes.ALTERNATIVE_PATTERN;
             } 
             // fall through
-          case 80: break;
+          case 82: break;
           case 24: 
             { return ImpexTypes.FIELD_VALUE;
             } 
             // fall through
-          case 81: break;
+          case 83: break;
           case 25: 
             { return ImpexTypes.FIELD_VALUE_SEPARATOR;
             } 
             // fall through
-          case 82: break;
+          case 84: break;
           case 26: 
             { return ImpexTypes.FIELD_LIST_ITEM_SEPARATOR;
             } 
             // fall through
-          case 83: break;
+          case 85: break;
           case 27: 
             { return ImpexTypes.DEFAULT_PATH_DELIMITER;
             } 
             // fall through
-          case 84: break;
+          case 86: break;
           case 28: 
             { return ImpexTypes.ALTERNATIVE_MAP_DELIMITER;
             } 
             // fall through
-          case 85: break;
+          case 87: break;
           case 29: 
             { return ImpexTypes.ATTRIBUTE_NAME;
             } 
             // fall through
-          case 86: break;
+          case 88: break;
           case 30: 
             { yybegin(HEADER_LINE); return ImpexTypes.RIGHT_SQUARE_BRACKET;
             } 
             // fall through
-          case 87: break;
+          case 89: break;
           case 31: 
             { return ImpexTypes.ATTRIBUTE_SEPARATOR;
             } 
             // fall through
-          case 88: break;
+          case 90: break;
           case 32: 
             { yybegin(MODYFIERS_BLOCK); return ImpexTypes.ALTERNATIVE_MAP_DELIMITER;
             } 
             // fall through
-          case 89: break;
+          case 91: break;
           case 33: 
             { return ImpexTypes.ATTRIBUTE_VALUE;
             } 
             // fall through
-          case 90: break;
+          case 92: break;
           case 34: 
             { yybegin(MODYFIERS_BLOCK); return ImpexTypes.ATTRIBUTE_SEPARATOR;
             } 
             // fall through
-          case 91: break;
+          case 93: break;
           case 35: 
             { yypushback(yylength()); yybegin(MACRO_USAGE);
             } 
             // fall through
-          case 92: break;
+          case 94: break;
           case 36: 
             { yybegin(BEAN_SHELL); return ImpexTypes.BEAN_SHELL_MARKER;
             } 
             // fall through
-          case 93: break;
+          case 95: break;
           case 37: 
-            { return ImpexTypes.DOUBLE_STRING;
+            { return doubleStringOr(TokenType.BAD_CHARACTER);
             } 
             // fall through
-          case 94: break;
+          case 96: break;
           case 38: 
             { return ImpexTypes.MACRO_USAGE;
             } 
             // fall through
-          case 95: break;
+          case 97: break;
           case 39: 
             { return ImpexTypes.SINGLE_STRING;
             } 
             // fall through
-          case 96: break;
+          case 98: break;
           case 40: 
-            { yypushback(yylength()); yybegin(WAITING_MACRO_CONFIG_USAGE);
+            { return ImpexTypes.DOUBLE_STRING;
             } 
             // fall through
-          case 97: break;
+          case 99: break;
           case 41: 
-            { return ImpexTypes.HEADER_SPECIAL_PARAMETER_NAME;
+            { yypushback(yylength()); yybegin(WAITING_MACRO_CONFIG_USAGE);
             } 
             // fall through
-          case 98: break;
+          case 100: break;
           case 42: 
+            { return ImpexTypes.HEADER_SPECIAL_PARAMETER_NAME;
+            } 
+            // fall through
+          case 101: break;
+          case 43: 
             { yybegin(HEADER_LINE);
                                                               yypushback(1);
                                                               return ImpexTypes.FUNCTION;
             } 
             // fall through
-          case 99: break;
-          case 43: 
+          case 102: break;
+          case 44: 
             { return ImpexTypes.DOCUMENT_ID;
             } 
             // fall through
-          case 100: break;
-          case 44: 
+          case 103: break;
+          case 45: 
+            { return doubleStringOr(ImpexTypes.FIELD_VALUE);
+            } 
+            // fall through
+          case 104: break;
+          case 46: 
             { return ImpexTypes.DEFAULT_KEY_VALUE_DELIMITER;
             } 
             // fall through
-          case 101: break;
-          case 45: 
+          case 105: break;
+          case 47: 
             { yybegin(WAITING_MACRO_VALUE);
                                                                 return ImpexTypes.MACRO_USAGE;
             } 
             // fall through
-          case 102: break;
-          case 46: 
+          case 106: break;
+          case 48: 
             { yybegin(MACRO_DECLARATION);
                                                               /* Push back '='. */
                                                               yypushback(1);
@@ -1160,62 +1201,62 @@ class ImpexLexer implements FlexLexer {
                                                               return ImpexTypes.MACRO_NAME_DECLARATION;
             } 
             // fall through
-          case 103: break;
-          case 47: 
+          case 107: break;
+          case 49: 
             { return ImpexTypes.BOOLEAN;
             } 
             // fall through
-          case 104: break;
-          case 48: 
+          case 108: break;
+          case 50: 
             { return ImpexTypes.FIELD_VALUE_URL;
             } 
             // fall through
-          case 105: break;
-          case 49: 
+          case 109: break;
+          case 51: 
             { yybegin(HEADER_TYPE); return ImpexTypes.HEADER_MODE_INSERT;
             } 
             // fall through
-          case 106: break;
-          case 50: 
+          case 110: break;
+          case 52: 
             { yybegin(HEADER_TYPE); return ImpexTypes.HEADER_MODE_REMOVE;
             } 
             // fall through
-          case 107: break;
-          case 51: 
+          case 111: break;
+          case 53: 
             { yybegin(HEADER_TYPE); return ImpexTypes.HEADER_MODE_UPDATE;
             } 
             // fall through
-          case 108: break;
-          case 52: 
+          case 112: break;
+          case 54: 
             { return ImpexTypes.HEADER_MODE_INSERT;
             } 
             // fall through
-          case 109: break;
-          case 53: 
+          case 113: break;
+          case 55: 
             { return ImpexTypes.HEADER_MODE_REMOVE;
             } 
             // fall through
-          case 110: break;
-          case 54: 
+          case 114: break;
+          case 56: 
             { return ImpexTypes.HEADER_MODE_UPDATE;
             } 
             // fall through
-          case 111: break;
-          case 55: 
+          case 115: break;
+          case 57: 
             { return ImpexTypes.FIELD_VALUE_IGNORE;
             } 
             // fall through
-          case 112: break;
-          case 56: 
+          case 116: break;
+          case 58: 
             { yybegin(HEADER_TYPE); return ImpexTypes.HEADER_MODE_INSERT_UPDATE;
             } 
             // fall through
-          case 113: break;
-          case 57: 
+          case 117: break;
+          case 59: 
             { return ImpexTypes.HEADER_MODE_INSERT_UPDATE;
             } 
             // fall through
-          case 114: break;
+          case 118: break;
           default:
             zzScanError(ZZ_NO_MATCH);
           }
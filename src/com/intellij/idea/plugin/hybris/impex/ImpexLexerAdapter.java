@@ -19,12 +19,43 @@
 package com.intellij.idea.plugin.hybris.impex;
 
 import com.intellij.lexer.FlexAdapter;
+import com.intellij.lexer.RestartableLexer;
+import com.intellij.lexer.TokenIterator;
 
 import java.io.Reader;
 
-public class ImpexLexerAdapter extends FlexAdapter {
+/**
+ * Declares {@link ImpexLexer#YYINITIAL} as the only state the editor highlighter may restart lexing from, which is what
+ * it would assume for a plain {@link FlexAdapter} as well. A line break brings the lexer back to {@code YYINITIAL}
+ * unless it is part of a token, so a single edit is usually re-lexed from the start of the edited line up to the first
+ * token which matches the old token stream again. A double quoted value may span lines, but the lexer only accepts one
+ * which is followed by the end of its field, so an inserted {@code "} is lexed as a stray quote or closes the value at
+ * the next field end instead of changing every following quoted value of the file.
+ */
+public class ImpexLexerAdapter extends FlexAdapter implements RestartableLexer {
 
     public ImpexLexerAdapter() {
         super(new ImpexLexer((Reader) null));
     }
+
+    @Override
+    public int getStartState() {
+        return ImpexLexer.YYINITIAL;
+    }
+
+    @Override
+    public boolean isRestartableState(final int state) {
+        return state == ImpexLexer.YYINITIAL;
+    }
+
+    @Override
+    public void start(
+        final CharSequence buffer,
+        final int startOffset,
+        final int endOffset,
+        final int initialState,
+        final TokenIterator tokenIterator
+    ) {
+        start(buffer, startOffset, endOffset, initialState);
+    }
 }
@@ -20,11 +20,10 @@ package com.intellij.idea.plugin.hybris.impex;
 
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexFile;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexStubFileElementType;
 import com.intellij.lang.ASTNode;
-import com.intellij.lang.Language;
 import com.intellij.lang.ParserDefinition;
 import com.intellij.lang.PsiParser;
-import com.intellij.lexer.FlexAdapter;
 import com.intellij.lexer.Lexer;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.FileViewProvider;
@@ -35,8 +34,6 @@ import com.intellij.psi.tree.IFileElementType;
 import com.intellij.psi.tree.TokenSet;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.Reader;
-
 public class ImpexParserDefinition implements ParserDefinition {
 
     public static final TokenSet WHITE_SPACES = TokenSet.create(TokenType.WHITE_SPACE);
@@ -47,12 +44,12 @@ public class ImpexParserDefinition implements ParserDefinition {
         ImpexTypes.STRING
     );
 
-    public static final IFileElementType FILE = new IFileElementType(Language.<ImpexLanguage>findInstance(ImpexLanguage.class));
+    public static final IFileElementType FILE = new ImpexStubFileElementType();
 
     @NotNull
     @Override
     public Lexer createLexer(final Project project) {
-        return new FlexAdapter(new ImpexLexer((Reader) null));
+        return new ImpexLexerAdapter();
     }
 
     @NotNull
@@ -21,30 +21,20 @@ package com.intellij.idea.plugin.hybris.impex.completion.provider;
 import com.intellij.codeInsight.completion.CompletionParameters;
 import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
-import com.intellij.codeInsight.lookup.LookupElementBuilder;
-import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons;
+import com.intellij.idea.plugin.hybris.completion.TypeSystemAttributeLookupCache;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexFullHeaderType;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderLine;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderTypeName;
-import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaClass;
-import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel;
-import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModelAccess;
 import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.ProcessingContext;
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Stream;
-
 /**
  * Created 22:13 14 May 2016
  *
@@ -84,44 +74,9 @@ public class ImpexHeaderItemTypeAttributeNameCompletionProvider extends Completi
         @NotNull final ImpexHeaderTypeName headerTypeName,
         @NotNull final CompletionResultSet resultSet
     ) {
-
-        final TSMetaModel metaModel = TSMetaModelAccess.getInstance(project).getTypeSystemMeta();
-        final String itemTypeCode = headerTypeName.getText();
-        final Optional<TSMetaClass> metaClass = Optional.ofNullable(metaModel.findMetaClassByName(itemTypeCode));
-
-        metaClass
-            .map(meta -> meta.getPropertiesStream(true))
-            .orElse(Stream.empty())
-            .map(prop -> {
-                final String name = prop.getName();
-
-                if (StringUtils.isBlank(name)) {
-                    return null;
-                }
-                final LookupElementBuilder builder = LookupElementBuilder
-                    .create(name.trim())
-                    .withIcon(HybrisIcons.TYPE_SYSTEM)
-                    .withStrikeoutness(prop.isDeprecated());
-                final String typeText = getTypePresentableText(prop.getType());
-                return StringUtil.isEmpty(typeText) ? builder : builder.withTypeText(typeText, true);
-            })
-            .filter(Objects::nonNull)
-            .forEach(resultSet::addElement);
-
-        metaClass
-            .map(meta -> meta.getReferenceEndsStream(true))
-            .orElse(Stream.empty())
-            .map(ref -> LookupElementBuilder.create(ref.getRole()).withIcon(HybrisIcons.TYPE_SYSTEM))
-            .forEach(resultSet::addElement);
-    }
-
-    @NotNull
-    private static String getTypePresentableText(@Nullable final String type) {
-        if (type == null) {
-            return "";
-        }
-        final int index = type.lastIndexOf('.');
-        return index >= 0 ? type.substring(index + 1) : type;
+        resultSet.addAllElements(
+            TypeSystemAttributeLookupCache.getInstance(project).getAttributeLookupElements(headerTypeName.getText())
+        );
     }
 
     @Nullable
@@ -30,6 +30,4 @@ import org.jetbrains.annotations.NotNull;
 public interface AlignmentStrategy {
 
     Alignment getAlignment(@NotNull ASTNode currentNode);
-
-    void processNode(@NotNull ASTNode currentNode);
 }
@@ -19,19 +19,17 @@
 package com.intellij.idea.plugin.hybris.impex.formatting;
 
 import com.intellij.formatting.Alignment;
-import com.intellij.idea.plugin.hybris.impex.psi.ImpexFile;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes;
-import com.intellij.idea.plugin.hybris.impex.psi.ImpexValueGroup;
-import com.intellij.idea.plugin.hybris.impex.utils.ImpexPsiUtils;
 import com.intellij.lang.ASTNode;
-import com.intellij.psi.util.PsiTreeUtil;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created 12:55 01 January 2015
@@ -40,88 +38,41 @@ import java.util.List;
  */
 public class ColumnsAlignmentStrategy implements AlignmentStrategy {
 
-    protected final List<Alignment> alignments = new ArrayList<>();
-    protected int columnNumber = 0;
+    protected final ImpexTableModel tableModel;
+    protected final Map<Integer, List<Alignment>> alignments = new HashMap<>();
 
-    public ColumnsAlignmentStrategy() {
+    public ColumnsAlignmentStrategy(@NotNull final ImpexTableModel tableModel) {
+        Validate.notNull(tableModel);
+
+        this.tableModel = tableModel;
     }
 
     @Override
     public Alignment getAlignment(@NotNull final ASTNode currentNode) {
         Validate.notNull(currentNode);
 
-        final Alignment alignment;
-
-        if (isNewColumn(currentNode)) {
-            if (columnNumber >= alignments.size()) {
-                alignment = Alignment.createAlignment(true, Alignment.Anchor.LEFT);
-                alignments.add(alignment);
-            } else {
-                alignment = alignments.get(columnNumber);
-            }
-            columnNumber++;
-        } else {
-            alignment = Alignment.createAlignment();
+        if (!isNewColumn(currentNode)) {
+            return Alignment.createAlignment();
         }
 
-        return alignment;
-    }
+        final int tableIndex = tableModel.getTableIndex(currentNode);
+        final int columnNumber = tableModel.getColumnIndex(currentNode);
 
-    @Override
-    public void processNode(@NotNull final ASTNode currentNode) {
-        Validate.notNull(currentNode);
-
-        if (isStartOfTheFile(currentNode)) {
-            columnNumber = 0;
-            alignments.clear();
-        } else {
-            if (isNewLine(currentNode)) {
-                columnNumber = 0;
-            }
-
-            if (isHeaderLine(currentNode)) {
-                alignments.clear();
-            }
-            
-            if (ImpexPsiUtils.isUserRightsMacros(currentNode.getPsi())) {
-                alignments.clear();
-            }
+        if (tableIndex < 0 || columnNumber < 0) {
+            return Alignment.createAlignment();
         }
-    }
-
-    @Contract(pure = true)
-    protected boolean isStartOfTheFile(@Nullable final ASTNode currentNode) {
-        return null != currentNode && currentNode.getPsi() instanceof ImpexFile;
-    }
 
-    @Contract(pure = true)
-    protected boolean isNewLine(@Nullable final ASTNode currentNode) {
-        return null != currentNode
-               && ImpexTypes.VALUE_GROUP == currentNode.getElementType()
-               && isStartOfValueLine(currentNode);
-    }
+        final List<Alignment> tableAlignments = alignments.computeIfAbsent(tableIndex, index -> new ArrayList<>());
 
-    @Contract(pure = true)
-    protected boolean isStartOfValueLine(@Nullable final ASTNode currentNode) {
-        if (null == currentNode) {
-            return false;
+        while (columnNumber >= tableAlignments.size()) {
+            tableAlignments.add(Alignment.createAlignment(true, Alignment.Anchor.LEFT));
         }
 
-        final ImpexValueGroup child = PsiTreeUtil.findChildOfType(
-            currentNode.getTreeParent().getPsi(),
-            ImpexValueGroup.class
-        );
-
-        return child == currentNode.getPsi();
+        return tableAlignments.get(columnNumber);
     }
 
     @Contract(pure = true)
     protected boolean isNewColumn(@Nullable final ASTNode currentNode) {
         return null != currentNode && ImpexTypes.VALUE_GROUP == currentNode.getElementType();
     }
-
-    @Contract(pure = true)
-    protected boolean isHeaderLine(@Nullable final ASTNode currentNode) {
-        return null != currentNode && ImpexTypes.HEADER_LINE == currentNode.getElementType();
-    }
 }
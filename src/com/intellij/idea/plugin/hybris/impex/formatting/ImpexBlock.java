@@ -26,7 +26,7 @@ import com.intellij.formatting.SpacingBuilder;
 import com.intellij.formatting.Wrap;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes;
 import com.intellij.lang.ASTNode;
-import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.TokenType;
 import com.intellij.psi.codeStyle.CodeStyleSettings;
 import com.intellij.psi.formatter.common.AbstractBlock;
@@ -46,32 +46,37 @@ public class ImpexBlock extends AbstractBlock {
 
     private final SpacingBuilder spacingBuilder;
     private final CodeStyleSettings codeStyleSettings;
+    private final AlignmentStrategy alignmentStrategy;
+    private final TextRange formattedRange;
 
     public ImpexBlock(
         @NotNull final ASTNode node,
         @Nullable final Wrap wrap,
         @Nullable final Alignment alignment,
         @NotNull final SpacingBuilder spacingBuilder,
-        @NotNull final CodeStyleSettings codeStyleSettings
+        @NotNull final CodeStyleSettings codeStyleSettings,
+        @NotNull final AlignmentStrategy alignmentStrategy,
+        @NotNull final TextRange formattedRange
     ) {
         super(node, wrap, alignment);
 
         this.spacingBuilder = spacingBuilder;
         this.codeStyleSettings = codeStyleSettings;
+        this.alignmentStrategy = alignmentStrategy;
+        this.formattedRange = formattedRange;
     }
 
     @Override
     protected List<Block> buildChildren() {
-        final List<Block> blocks = new ArrayList<Block>();
+        if (isOutsideOfFormattedRange()) {
+            return EMPTY;
+        }
 
-        final AlignmentStrategy alignmentStrategy = getAlignmentStrategy();
-        alignmentStrategy.processNode(myNode);
+        final List<Block> blocks = new ArrayList<Block>();
 
         ASTNode currentNode = myNode.getFirstChildNode();
 
         while (null != currentNode) {
-            alignmentStrategy.processNode(currentNode);
-
             if (isNotWhitespaceOrNewLine(currentNode)
                 && !isCurrentNodeHasParentValue(currentNode)) {
 
@@ -80,8 +85,9 @@ public class ImpexBlock extends AbstractBlock {
                     null,
                     alignmentStrategy.getAlignment(currentNode),
                     spacingBuilder,
-                    codeStyleSettings
-
+                    codeStyleSettings,
+                    alignmentStrategy,
+                    formattedRange
                 );
 
                 blocks.add(block);
@@ -93,18 +99,12 @@ public class ImpexBlock extends AbstractBlock {
         return blocks;
     }
 
-    @NotNull
-    private AlignmentStrategy getAlignmentStrategy() {
-        final ImpexCodeStyleSettings impexCodeStyleSettings = this.codeStyleSettings.getCustomSettings(
-            ImpexCodeStyleSettings.class
-        );
-
-        if (impexCodeStyleSettings.TABLIFY) {
-
-            return ServiceManager.getService(TableAlignmentStrategy.class);
-        }
-
-        return ServiceManager.getService(ColumnsAlignmentStrategy.class);
+    /**
+     * Lines of the tables which are not touched by the formatting are kept as leaf blocks,
+     * so their value groups are neither built nor aligned.
+     */
+    private boolean isOutsideOfFormattedRange() {
+        return !formattedRange.intersects(myNode.getTextRange());
     }
 
     private boolean isNotWhitespaceOrNewLine(final ASTNode currentNode) {
@@ -129,6 +129,6 @@ public class ImpexBlock extends AbstractBlock {
 
     @Override
     public boolean isLeaf() {
-        return myNode.getFirstChildNode() == null;
+        return myNode.getFirstChildNode() == null || isOutsideOfFormattedRange();
     }
 }
@@ -38,17 +38,29 @@ public class ImpexFormattingModelBuilder implements FormattingModelBuilder {
 
     @Override
     public @NotNull FormattingModel createModel(@NotNull FormattingContext formattingContext) {
-        return createModelInternally(formattingContext.getPsiElement(), formattingContext.getCodeStyleSettings());
+        return createModelInternally(
+            formattingContext.getPsiElement(),
+            formattingContext.getFormattingRange(),
+            formattingContext.getCodeStyleSettings()
+        );
     }
 
     @NotNull
-    private FormattingModel createModelInternally(final PsiElement element, final CodeStyleSettings settings) {
+    private FormattingModel createModelInternally(
+        final PsiElement element,
+        final TextRange formattingRange,
+        final CodeStyleSettings settings
+    ) {
+        final ImpexTableModel tableModel = ImpexTableModel.getInstance(element.getContainingFile());
+
         final Block impexBlock = new ImpexBlock(
             element.getNode(),
             null,
             Alignment.createAlignment(),
             createSpaceBuilder(settings),
-            settings
+            settings,
+            createAlignmentStrategy(tableModel, settings),
+            tableModel.getAffectedRange(formattingRange)
         );
 
         return FormattingModelProvider.createFormattingModelForPsiFile(
@@ -58,6 +70,20 @@ public class ImpexFormattingModelBuilder implements FormattingModelBuilder {
         );
     }
 
+    @NotNull
+    private static AlignmentStrategy createAlignmentStrategy(
+        @NotNull final ImpexTableModel tableModel,
+        @NotNull final CodeStyleSettings settings
+    ) {
+        final ImpexCodeStyleSettings impexSettings = settings.getCustomSettings(ImpexCodeStyleSettings.class);
+
+        if (impexSettings.TABLIFY) {
+            return new TableAlignmentStrategy(tableModel);
+        }
+
+        return new ColumnsAlignmentStrategy(tableModel);
+    }
+
     private static SpacingBuilder createSpaceBuilder(final CodeStyleSettings settings) {
         final ImpexCodeStyleSettings impexSettings = settings.getCustomSettings(ImpexCodeStyleSettings.class);
 
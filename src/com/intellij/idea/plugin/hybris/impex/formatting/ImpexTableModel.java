@@ -0,0 +1,152 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes;
+import com.intellij.idea.plugin.hybris.impex.utils.ImpexPsiUtils;
+import com.intellij.lang.ASTNode;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table layout of an ImpEx file used by the formatter.
+ * <p>
+ * The file is split into tables, each one starting with a header line (or a user rights macro) and spanning all
+ * following value lines. For every row the model knows the table it belongs to and for every column separator
+ * its column index, so alignments can be computed per table without walking the PSI again.
+ * The model is cached per file and dropped on any change of the file.
+ */
+public class ImpexTableModel {
+
+    private static final Key<CachedValue<ImpexTableModel>> TABLE_MODEL_CACHE_KEY = Key.create("IMPEX_TABLE_MODEL_CACHE");
+
+    private final List<TextRange> tables = new ArrayList<>();
+    private final Map<ASTNode, Integer> rowTables = new HashMap<>();
+    private final Map<ASTNode, Integer> columns = new HashMap<>();
+
+    protected ImpexTableModel(@NotNull final ASTNode fileNode) {
+        int table = -1;
+
+        for (ASTNode node = fileNode.getFirstChildNode(); null != node; node = node.getTreeNext()) {
+            final IElementType elementType = node.getElementType();
+
+            if (ImpexTypes.HEADER_LINE == elementType) {
+                table = startTable(node);
+                addRow(table, node, ImpexTypes.PARAMETERS_SEPARATOR);
+            } else if (ImpexTypes.VALUE_LINE == elementType) {
+                if (table < 0) {
+                    table = startTable(node);
+                }
+                addRow(table, node, ImpexTypes.VALUE_GROUP);
+            } else if (ImpexPsiUtils.isUserRightsMacros(node.getPsi())) {
+                table = startTable(node);
+            }
+        }
+    }
+
+    @NotNull
+    public static ImpexTableModel getInstance(@NotNull final PsiFile file) {
+        return CachedValuesManager.getCachedValue(file, TABLE_MODEL_CACHE_KEY, () -> CachedValueProvider.Result.create(
+            new ImpexTableModel(file.getNode()),
+            file
+        ));
+    }
+
+    /**
+     * @return index of the table containing the given row or its direct child, -1 if the node is not a part of a table.
+     */
+    public int getTableIndex(@Nullable final ASTNode node) {
+        if (null == node) {
+            return -1;
+        }
+        final Integer table = rowTables.get(node);
+
+        if (null != table) {
+            return table;
+        }
+        final ASTNode row = node.getTreeParent();
+
+        return null == row ? -1 : rowTables.getOrDefault(row, -1);
+    }
+
+    /**
+     * @return index of the column started by the given value group or parameters separator, -1 otherwise.
+     */
+    public int getColumnIndex(@Nullable final ASTNode node) {
+        return null == node ? -1 : columns.getOrDefault(node, -1);
+    }
+
+    @NotNull
+    public List<TextRange> getTables() {
+        return Collections.unmodifiableList(tables);
+    }
+
+    /**
+     * Expands the given range to the bounds of all tables it intersects, because the width of a column depends
+     * on every row of its table.
+     */
+    @NotNull
+    public TextRange getAffectedRange(@NotNull final TextRange range) {
+        int startOffset = range.getStartOffset();
+        int endOffset = range.getEndOffset();
+
+        for (final TextRange table : tables) {
+            if (table.getStartOffset() > endOffset) {
+                break;
+            }
+            if (table.intersects(range)) {
+                startOffset = Math.min(startOffset, table.getStartOffset());
+                endOffset = Math.max(endOffset, table.getEndOffset());
+            }
+        }
+
+        return new TextRange(startOffset, endOffset);
+    }
+
+    private int startTable(@NotNull final ASTNode node) {
+        tables.add(node.getTextRange());
+
+        return tables.size() - 1;
+    }
+
+    private void addRow(final int table, @NotNull final ASTNode row, @NotNull final IElementType columnType) {
+        rowTables.put(row, table);
+        tables.set(table, tables.get(table).union(row.getTextRange()));
+
+        int column = 0;
+        for (ASTNode child = row.getFirstChildNode(); null != child; child = child.getTreeNext()) {
+            if (columnType == child.getElementType()) {
+                columns.put(child, column++);
+            }
+        }
+    }
+}
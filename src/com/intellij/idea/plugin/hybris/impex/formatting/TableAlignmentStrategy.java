@@ -21,6 +21,7 @@ package com.intellij.idea.plugin.hybris.impex.formatting;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes;
 import com.intellij.lang.ASTNode;
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -30,10 +31,8 @@ import org.jetbrains.annotations.Nullable;
  */
 public class TableAlignmentStrategy extends ColumnsAlignmentStrategy {
 
-    @Override
-    @Contract(pure = true)
-    protected boolean isNewLine(@Nullable final ASTNode currentNode) {
-        return this.isHeaderLine(currentNode) || super.isNewLine(currentNode);
+    public TableAlignmentStrategy(@NotNull final ImpexTableModel tableModel) {
+        super(tableModel);
     }
 
     @Override
@@ -26,8 +26,6 @@ import com.intellij.openapi.util.text.StringUtil
 import com.intellij.psi.InjectedLanguagePlaces
 import com.intellij.psi.LanguageInjector
 import com.intellij.psi.PsiLanguageInjectionHost
-import java.util.regex.Matcher
-import java.util.regex.Pattern
 
 
 /**
@@ -73,15 +71,13 @@ class ImpexXmlLanguageInjector : LanguageInjector {
      * @param inString a string that might be XML
      * @return true of the string is XML, false otherwise
      */
-    val xmlPatternRegExp = "<(\\S+?)(.*?)>(.*?)</\\1>".toRegex()
-    
     fun String.isXmlLike(): Boolean {
         if (this.trim { it <= ' ' }.isNotEmpty()) {
             if (this.trim { it <= ' ' }.startsWith("<")) {
-                return xmlPatternRegExp.containsMatchIn(this)
+                return XmlFragmentDetector.containsXmlFragment(this)
             }
         }
 
         return false
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.impex.injection
+
+/**
+ * Single pass replacement for the `<(\S+?)(.*?)>(.*?)</\1>` check: looks for an element which is opened and closed
+ * with the same tag name on one line. Every character is visited once, tag names are kept in hash sets which are
+ * reset at line breaks, so long values with many unbalanced brackets cannot make it backtrack.
+ *
+ * Unlike the pattern, a closing tag has to repeat the whole name of an opened tag and names end at '/', so values
+ * like `<ab>x</a>` or `<a/b>x</a/b>` are not taken for XML any more.
+ */
+object XmlFragmentDetector {
+
+    @JvmStatic
+    fun containsXmlFragment(text: CharSequence): Boolean {
+        // tags whose name was read but whose '>' has not been seen yet
+        val pendingTags = HashSet<String>()
+        // tags followed by '>', a closing tag with one of these names completes a fragment
+        val openedTags = HashSet<String>()
+        var index = 0
+
+        while (index < text.length) {
+            val char = text[index]
+
+            when {
+                isLineBreak(char) -> {
+                    pendingTags.clear()
+                    openedTags.clear()
+                    index++
+                }
+                char == '>' -> {
+                    openedTags.addAll(pendingTags)
+                    pendingTags.clear()
+                    index++
+                }
+                char == '<' && index + 1 < text.length && text[index + 1] == '/' -> {
+                    val nameEnd = readName(text, index + 2)
+
+                    if (nameEnd > index + 2 && nameEnd < text.length && text[nameEnd] == '>'
+                            && openedTags.contains(text.substring(index + 2, nameEnd))) {
+                        return true
+                    }
+                    index += 2
+                }
+                char == '<' -> {
+                    val nameEnd = readName(text, index + 1)
+
+                    if (nameEnd > index + 1) {
+                        pendingTags.add(text.substring(index + 1, nameEnd))
+                    }
+                    index = maxOf(nameEnd, index + 1)
+                }
+                else -> index++
+            }
+        }
+        return false
+    }
+
+    /**
+     * @return offset of the first character after the tag name which starts at [start]
+     */
+    private fun readName(text: CharSequence, start: Int): Int {
+        var index = start
+        while (index < text.length && isNameChar(text[index])) {
+            index++
+        }
+        return index
+    }
+
+    private fun isNameChar(char: Char) = char != '>' && char != '<' && char != '/' && !isWhitespace(char)
+
+    // the same set of characters as \s in java.util.regex
+    private fun isWhitespace(char: Char) = char == ' ' || char == '\t' || char == '\n' || char == '\u000B' || char == '\u000C' || char == '\r'
+
+    // characters which '.' of java.util.regex does not match
+    private fun isLineBreak(char: Char) = char == '\n' || char == '\r' || char == '\u0085' || char == '\u2028' || char == '\u2029'
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.inspection.batch;
+
+import com.intellij.execution.executors.DefaultRunExecutor;
+import com.intellij.execution.filters.TextConsoleBuilderFactory;
+import com.intellij.execution.ui.ConsoleView;
+import com.intellij.execution.ui.RunContentDescriptor;
+import com.intellij.execution.ui.RunContentManager;
+import com.intellij.idea.plugin.hybris.actions.ActionUtils;
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Inspects all ImpEx files of the custom extensions in one go and shows the report in the Run tool window.
+ */
+public class ImpexBatchInspectionAction extends AnAction {
+
+    @Override
+    public void actionPerformed(@NotNull final AnActionEvent e) {
+        final Project project = getEventProject(e);
+
+        if (project == null) {
+            return;
+        }
+        final String title = HybrisI18NBundleUtils.message("action.Impex.BatchInspection.report.title");
+        final ConsoleView console = TextConsoleBuilderFactory.getInstance().createBuilder(project).getConsole();
+        final RunContentDescriptor descriptor = new RunContentDescriptor(console, null, console.getComponent(), title);
+
+        RunContentManager.getInstance(project).showRunContent(DefaultRunExecutor.getRunExecutorInstance(), descriptor);
+        ProgressManager.getInstance().run(new ImpexBatchInspectionTask(project, console));
+    }
+
+    @Override
+    public void update(@NotNull final AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(ActionUtils.isHybrisContext(e));
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.inspection.batch;
+
+import com.intellij.codeHighlighting.HighlightDisplayLevel;
+import com.intellij.codeInsight.daemon.HighlightDisplayKey;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.InspectionProfile;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemDescriptorUtil;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.codeInspection.ex.InspectionToolWrapper;
+import com.intellij.codeInspection.ex.LocalInspectionToolWrapper;
+import com.intellij.execution.filters.OpenFileHyperlinkInfo;
+import com.intellij.execution.ui.ConsoleView;
+import com.intellij.execution.ui.ConsoleViewContentType;
+import com.intellij.idea.plugin.hybris.impex.ImpexLanguage;
+import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType;
+import com.intellij.idea.plugin.hybris.project.descriptors.HybrisModuleDescriptor;
+import com.intellij.idea.plugin.hybris.project.descriptors.HybrisModuleDescriptorType;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.profile.codeInspection.InspectionProjectProfileManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the enabled ImpEx inspections over every ImpEx file found in {@code resources/impex} of the custom
+ * extensions. Files are inspected on a bounded pool, problems are printed to the console as soon as a file is
+ * done and the time spent in each inspection is summarized at the end.
+ */
+public class ImpexBatchInspectionTask extends Task.Backgroundable {
+
+    private static final Logger LOG = Logger.getInstance(ImpexBatchInspectionTask.class);
+
+    private static final String IMPEX_RESOURCES_PATH = "resources/impex";
+    private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private final ConsoleView console;
+    private final Map<String, InspectionStatistics> statistics = new ConcurrentHashMap<>();
+
+    public ImpexBatchInspectionTask(@NotNull final Project project, @NotNull final ConsoleView console) {
+        super(project, "Inspecting ImpEx files", true);
+        this.console = console;
+    }
+
+    @Override
+    public void run(@NotNull final ProgressIndicator indicator) {
+        indicator.setIndeterminate(false);
+        indicator.setText("Collecting ImpEx files...");
+
+        final List<VirtualFile> files = ReadAction.compute(() -> collectCustomImpexFiles(myProject));
+        final List<LocalInspectionToolWrapper> inspections = ReadAction.compute(() -> getEnabledImpexInspections(myProject));
+
+        if (files.isEmpty() || inspections.isEmpty()) {
+            console.print("Nothing to inspect: no ImpEx files or no enabled ImpEx inspections found.\n", ConsoleViewContentType.SYSTEM_OUTPUT);
+            return;
+        }
+        inspections.forEach(it -> statistics.put(it.getShortName(), new InspectionStatistics()));
+        console.print(
+            String.format("Inspecting %d ImpEx file(s) with %d inspection(s) on %d thread(s)%n%n", files.size(), inspections.size(), MAX_THREADS),
+            ConsoleViewContentType.SYSTEM_OUTPUT
+        );
+
+        final long startedAt = System.nanoTime();
+        final AtomicInteger processed = new AtomicInteger();
+        final AtomicInteger problems = new AtomicInteger();
+        final ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("ImpexBatchInspection", MAX_THREADS);
+        final List<Future<?>> futures = new ArrayList<>(files.size());
+
+        try {
+            for (VirtualFile file : files) {
+                futures.add(executor.submit(() -> ProgressManager.getInstance().executeProcessUnderProgress(() -> {
+                    indicator.checkCanceled();
+                    problems.addAndGet(inspectFile(file, inspections));
+
+                    final int done = processed.incrementAndGet();
+                    indicator.setFraction((double) done / files.size());
+                    indicator.setText2(file.getPresentableUrl());
+                }, indicator)));
+            }
+            for (Future<?> future : futures) {
+                indicator.checkCanceled();
+                awaitQuietly(future);
+            }
+        } catch (ProcessCanceledException e) {
+            futures.forEach(it -> it.cancel(false));
+            console.print("\nInspection cancelled.\n", ConsoleViewContentType.SYSTEM_OUTPUT);
+            throw e;
+        } finally {
+            executor.shutdown();
+        }
+        printSummary(processed.get(), problems.get(), System.nanoTime() - startedAt);
+    }
+
+    private int inspectFile(@NotNull final VirtualFile file, @NotNull final List<LocalInspectionToolWrapper> inspections) {
+        // a read action per file, which gives way to write actions and is restarted afterwards, so a long batch
+        // never blocks typing; the console is written to only once the read action is over
+        final FileProblems fileProblems = ReadAction
+            .nonBlocking(() -> inspectInReadAction(file, inspections))
+            .inSmartMode(myProject)
+            .executeSynchronously();
+
+        if (fileProblems == null) {
+            return 0;
+        }
+        fileProblems.elapsedNanos.forEach((shortName, elapsedNanos) -> statistics.get(shortName).record(
+            elapsedNanos, fileProblems.problemsCount.getOrDefault(shortName, 0)
+        ));
+        printProblems(file, fileProblems.problems);
+        return fileProblems.problems.size();
+    }
+
+    @Nullable
+    private FileProblems inspectInReadAction(
+        @NotNull final VirtualFile file,
+        @NotNull final List<LocalInspectionToolWrapper> inspections
+    ) {
+        if (!file.isValid()) {
+            return null;
+        }
+        final PsiFile psiFile = PsiManager.getInstance(myProject).findFile(file);
+
+        if (psiFile == null) {
+            return null;
+        }
+        final InspectionManager inspectionManager = InspectionManager.getInstance(myProject);
+        final FileProblems fileProblems = new FileProblems();
+
+        for (LocalInspectionToolWrapper wrapper : inspections) {
+            ProgressManager.checkCanceled();
+
+            // some ImpEx inspections keep per-file state in the tool instance, so every file gets its own copy
+            final LocalInspectionTool tool = wrapper.createCopy().getTool();
+            final ProblemsHolder holder = new ProblemsHolder(inspectionManager, psiFile, false);
+            final long startedAt = System.nanoTime();
+
+            runInspection(tool, psiFile, holder);
+            fileProblems.elapsedNanos.put(wrapper.getShortName(), System.nanoTime() - startedAt);
+            fileProblems.problemsCount.put(wrapper.getShortName(), holder.getResultCount());
+
+            for (ProblemDescriptor descriptor : holder.getResults()) {
+                fileProblems.problems.add(new Problem(
+                    descriptor.getLineNumber(),
+                    wrapper.getShortName(),
+                    ProblemDescriptorUtil.renderDescriptionMessage(descriptor, descriptor.getPsiElement())
+                ));
+            }
+        }
+        return fileProblems;
+    }
+
+    private static void runInspection(
+        @NotNull final LocalInspectionTool tool,
+        @NotNull final PsiFile psiFile,
+        @NotNull final ProblemsHolder holder
+    ) {
+        final LocalInspectionToolSession session = new LocalInspectionToolSession(psiFile, 0, psiFile.getTextLength());
+        tool.inspectionStarted(session, false);
+
+        final PsiElementVisitor visitor = tool.buildVisitor(holder, false, session);
+        psiFile.accept(new PsiRecursiveElementWalkingVisitor() {
+
+            @Override
+            public void visitElement(@NotNull final PsiElement element) {
+                element.accept(visitor);
+                super.visitElement(element);
+            }
+        });
+        tool.inspectionFinished(session, holder);
+    }
+
+    private void printProblems(@NotNull final VirtualFile file, @NotNull final List<Problem> problems) {
+        for (Problem problem : problems) {
+            console.printHyperlink(
+                file.getPresentableUrl() + ':' + (problem.line + 1),
+                new OpenFileHyperlinkInfo(myProject, file, problem.line)
+            );
+            console.print(
+                " [" + problem.shortName + "] " + problem.description + '\n',
+                ConsoleViewContentType.NORMAL_OUTPUT
+            );
+        }
+    }
+
+    private void printSummary(final int files, final int problems, final long elapsedNanos) {
+        final StringBuilder summary = new StringBuilder()
+            .append(String.format(
+                "%nInspected %d file(s) in %d ms, %d problem(s) found%n%n",
+                files, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), problems
+            ))
+            .append(String.format("%-40s %12s %12s %10s%n", "Inspection", "Total, ms", "Avg, ms", "Problems"));
+
+        statistics.entrySet().stream()
+                  .sorted(Comparator.comparingLong(
+                      (Map.Entry<String, InspectionStatistics> it) -> it.getValue().nanos.sum()
+                  ).reversed())
+                  .forEach(it -> summary.append(String.format(
+                      "%-40s %12d %12.2f %10d%n",
+                      it.getKey(),
+                      TimeUnit.NANOSECONDS.toMillis(it.getValue().nanos.sum()),
+                      it.getValue().averageMillis(),
+                      it.getValue().problems.sum()
+                  )));
+        console.print(summary.toString(), ConsoleViewContentType.SYSTEM_OUTPUT);
+    }
+
+    private static void awaitQuietly(@NotNull final Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessCanceledException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ProcessCanceledException) {
+                throw (ProcessCanceledException) e.getCause();
+            }
+            LOG.warn("ImpEx batch inspection failed", e.getCause());
+        }
+    }
+
+    @NotNull
+    private static List<VirtualFile> collectCustomImpexFiles(@NotNull final Project project) {
+        final Set<VirtualFile> files = new LinkedHashSet<>();
+
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            if (HybrisModuleDescriptor.getDescriptorType(module) != HybrisModuleDescriptorType.CUSTOM) {
+                continue;
+            }
+            for (VirtualFile contentRoot : ModuleRootManager.getInstance(module).getContentRoots()) {
+                final VirtualFile impexDirectory = contentRoot.findFileByRelativePath(IMPEX_RESOURCES_PATH);
+
+                if (impexDirectory == null || !impexDirectory.isDirectory()) {
+                    continue;
+                }
+                VfsUtilCore.iterateChildrenRecursively(impexDirectory, null, file -> {
+                    if (!file.isDirectory() && ImpexFileType.getInstance().equals(file.getFileType())) {
+                        files.add(file);
+                    }
+                    return true;
+                });
+            }
+        }
+        return new ArrayList<>(files);
+    }
+
+    @NotNull
+    private static List<LocalInspectionToolWrapper> getEnabledImpexInspections(@NotNull final Project project) {
+        final InspectionProfile profile = InspectionProjectProfileManager.getInstance(project).getCurrentProfile();
+        final List<LocalInspectionToolWrapper> inspections = new ArrayList<>();
+
+        for (InspectionToolWrapper<?, ?> wrapper : profile.getInspectionTools(null)) {
+            if (!(wrapper instanceof LocalInspectionToolWrapper)
+                || !ImpexLanguage.getInstance().getID().equals(wrapper.getLanguage())) {
+                continue;
+            }
+            final HighlightDisplayKey key = HighlightDisplayKey.find(wrapper.getShortName());
+
+            if (key != null && profile.isToolEnabled(key) && profile.getErrorLevel(key, null) != HighlightDisplayLevel.DO_NOT_SHOW) {
+                inspections.add((LocalInspectionToolWrapper) wrapper);
+            }
+        }
+        return inspections;
+    }
+
+    /**
+     * Problems of a single file, rendered inside the read action, so they can be printed without one.
+     */
+    private static class FileProblems {
+
+        private final List<Problem> problems = new ArrayList<>();
+        private final Map<String, Long> elapsedNanos = new LinkedHashMap<>();
+        private final Map<String, Integer> problemsCount = new HashMap<>();
+    }
+
+    private static class Problem {
+
+        private final int line;
+        private final String shortName;
+        private final String description;
+
+        private Problem(final int line, @NotNull final String shortName, @NotNull final String description) {
+            this.line = line;
+            this.shortName = shortName;
+            this.description = description;
+        }
+    }
+
+    private static class InspectionStatistics {
+
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder files = new LongAdder();
+        private final LongAdder problems = new LongAdder();
+
+        private void record(final long elapsedNanos, final int problemsFound) {
+            nanos.add(elapsedNanos);
+            files.increment();
+            problems.add(problemsFound);
+        }
+
+        private double averageMillis() {
+            final long count = files.sum();
+            return count == 0 ? 0 : nanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
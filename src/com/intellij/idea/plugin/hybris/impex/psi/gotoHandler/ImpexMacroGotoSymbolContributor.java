@@ -0,0 +1,63 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.gotoHandler;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexMacroNameDec;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.index.ImpexMacroNameIndex;
+import com.intellij.navigation.ChooseByNameContributorEx;
+import com.intellij.navigation.NavigationItem;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.FindSymbolParameters;
+import com.intellij.util.indexing.IdFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Makes macro declarations of all ImpEx files available in "Go to Symbol", answered from the stub index only.
+ */
+public class ImpexMacroGotoSymbolContributor implements ChooseByNameContributorEx {
+
+    @Override
+    public void processNames(
+        @NotNull final Processor<? super String> processor,
+        @NotNull final GlobalSearchScope scope,
+        @Nullable final IdFilter filter
+    ) {
+        StubIndex.getInstance().processAllKeys(ImpexMacroNameIndex.KEY, processor, scope, filter);
+    }
+
+    @Override
+    public void processElementsWithName(
+        @NotNull final String name,
+        @NotNull final Processor<? super NavigationItem> processor,
+        @NotNull final FindSymbolParameters parameters
+    ) {
+        StubIndex.getInstance().processElements(
+            ImpexMacroNameIndex.KEY,
+            name,
+            parameters.getProject(),
+            parameters.getSearchScope(),
+            parameters.getIdFilter(),
+            ImpexMacroNameDec.class,
+            processor
+        );
+    }
+}
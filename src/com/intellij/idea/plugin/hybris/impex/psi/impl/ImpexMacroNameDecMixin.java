@@ -0,0 +1,88 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.impl;
+
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
+import com.intellij.ide.projectView.PresentationData;
+import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType;
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexMacroNameDec;
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexMacroNameDecStub;
+import com.intellij.idea.plugin.hybris.impex.psi.util.ImpexPsiNamedElementUtilsKt;
+import com.intellij.lang.ASTNode;
+import com.intellij.navigation.ItemPresentation;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stub based counterpart of {@link com.intellij.idea.plugin.hybris.impex.psi.ImpexPsiNamedElementImpl}
+ * used for macro declarations.
+ */
+public abstract class ImpexMacroNameDecMixin extends StubBasedPsiElementBase<ImpexMacroNameDecStub>
+    implements ImpexMacroNameDec {
+
+    public ImpexMacroNameDecMixin(@NotNull final ASTNode node) {
+        super(node);
+    }
+
+    public ImpexMacroNameDecMixin(
+        @NotNull final ImpexMacroNameDecStub stub,
+        @NotNull final IStubElementType<?, ?> nodeType
+    ) {
+        super(stub, nodeType);
+    }
+
+    @NotNull
+    @Override
+    public PsiElement setName(@NotNull final String newName) {
+        return ImpexPsiNamedElementUtilsKt.setName(this, newName);
+    }
+
+    @Nullable
+    @Override
+    public String getName() {
+        final ASTNode keyNode = getNode().findChildByType(ImpexTypes.VALUE);
+
+        // IMPORTANT: Convert embedded escaped spaces to simple spaces
+        return keyNode == null ? null : keyNode.getText().replace("\\\\ ", " ");
+    }
+
+    @NotNull
+    @Override
+    public ItemPresentation getPresentation() {
+        final ImpexMacroNameDecStub stub = getGreenStub();
+        final String macroName = stub == null ? getText() : stub.getMacroName();
+
+        return new PresentationData(
+            macroName,
+            getContainingFile().getName(),
+            ImpexFileType.getInstance().getIcon(),
+            null
+        );
+    }
+
+    @Override
+    public String toString() {
+        final String text = getText();
+
+        return text == null ? super.toString() : text;
+    }
+}
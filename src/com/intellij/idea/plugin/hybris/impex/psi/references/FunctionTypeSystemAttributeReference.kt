@@ -22,6 +22,7 @@ import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyHeaderParameterName
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexParameter
 import com.intellij.idea.plugin.hybris.impex.psi.references.result.EnumResolveResult
 import com.intellij.idea.plugin.hybris.psi.references.TypeSystemReferenceBase
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel
 import com.intellij.idea.plugin.hybris.type.system.model.Attribute
 import com.intellij.idea.plugin.hybris.type.system.model.EnumType
 import com.intellij.idea.plugin.hybris.type.system.model.RelationElement
@@ -37,14 +38,16 @@ import java.util.Objects
  */
 class FunctionTypeSystemAttributeReference(owner: ImpexParameter) : TypeSystemReferenceBase<ImpexParameter>(owner) {
 
-    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> {
-        val meta = typeSystemMeta
+    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> =
+            resolveWithCaching(incompleteCode) { resolveInMetaModel(it) }
+
+    private fun resolveInMetaModel(meta: TSMetaModel): Array<ResolveResult> {
         val featureName = element.text.trim()
         val typeName = findItemTypeReference()
         val metaClass = meta.findMetaClassByName(typeName)
 
         if (metaClass == null) {
-            val metaEnum = meta.findMetaEnumByName(findItemTypeReference())
+            val metaEnum = meta.findMetaEnumByName(typeName)
             if (metaEnum != null) {
                 val result = metaEnum.retrieveDom()
                 return arrayOf(EnumResolveResult(result))
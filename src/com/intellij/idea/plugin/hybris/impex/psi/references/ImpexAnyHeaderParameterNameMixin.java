@@ -17,12 +17,14 @@
  */
 package com.intellij.idea.plugin.hybris.impex.psi.references;
 
-import com.intellij.extapi.psi.ASTWrapperPsiElement;
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyHeaderParameterName;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexAnyHeaderParameterNameStub;
 import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
+import com.intellij.psi.stubs.IStubElementType;
 import com.intellij.psi.tree.IElementType;
 import org.jetbrains.annotations.NotNull;
 
@@ -31,8 +33,8 @@ import java.util.Optional;
 /**
  * Created by Martin Zdarsky-Jones (martin.zdarsky@hybris.com) on 15/06/2016.
  */
-public abstract class ImpexAnyHeaderParameterNameMixin extends ASTWrapperPsiElement implements
-                                                                                    ImpexAnyHeaderParameterName {
+public abstract class ImpexAnyHeaderParameterNameMixin extends StubBasedPsiElementBase<ImpexAnyHeaderParameterNameStub>
+    implements ImpexAnyHeaderParameterName {
 
     private TypeSystemAttributeReference myReference;
 
@@ -40,6 +42,13 @@ public abstract class ImpexAnyHeaderParameterNameMixin extends ASTWrapperPsiElem
         super(astNode);
     }
 
+    public ImpexAnyHeaderParameterNameMixin(
+        @NotNull final ImpexAnyHeaderParameterNameStub stub,
+        @NotNull final IStubElementType<?, ?> nodeType
+    ) {
+        super(stub, nodeType);
+    }
+
     @NotNull
     @Override
     public final PsiReference[] getReferences() {
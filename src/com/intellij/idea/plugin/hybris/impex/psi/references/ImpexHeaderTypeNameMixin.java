@@ -17,16 +17,19 @@
  */
 package com.intellij.idea.plugin.hybris.impex.psi.references;
 
-import com.intellij.extapi.psi.ASTWrapperPsiElement;
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderTypeName;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.ImpexHeaderTypeNameStub;
 import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiReference;
+import com.intellij.psi.stubs.IStubElementType;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Created by Martin Zdarsky-Jones (martin.zdarsky@hybris.com) on 15/06/2016.
  */
-public abstract class ImpexHeaderTypeNameMixin extends ASTWrapperPsiElement implements ImpexHeaderTypeName {
+public abstract class ImpexHeaderTypeNameMixin extends StubBasedPsiElementBase<ImpexHeaderTypeNameStub>
+    implements ImpexHeaderTypeName {
 
     private TypeSystemItemReference myReference;
 
@@ -34,6 +37,13 @@ public abstract class ImpexHeaderTypeNameMixin extends ASTWrapperPsiElement impl
         super(astNode);
     }
 
+    public ImpexHeaderTypeNameMixin(
+        @NotNull final ImpexHeaderTypeNameStub stub,
+        @NotNull final IStubElementType<?, ?> nodeType
+    ) {
+        super(stub, nodeType);
+    }
+
     @NotNull
     @Override
     public final PsiReference[] getReferences() {
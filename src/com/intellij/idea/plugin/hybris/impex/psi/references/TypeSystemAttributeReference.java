@@ -64,17 +64,26 @@ class TypeSystemAttributeReference extends TypeSystemReferenceBase<ImpexAnyHeade
     @NotNull
     @Override
     public ResolveResult[] multiResolve(final boolean incompleteCode) {
-        final TSMetaModel meta = getTypeSystemMeta();
+        return resolveWithCaching(incompleteCode, this::resolveInMetaModel);
+    }
+
+    @NotNull
+    private ResolveResult[] resolveInMetaModel(@NotNull final TSMetaModel meta) {
+        final String typeName = findHeaderItemTypeName(getElement()).map(PsiElement::getText).orElse(null);
+
+        if (typeName == null) {
+            return ResolveResult.EMPTY_ARRAY;
+        }
         final String featureName = getElement().getText().trim();
 
-        List<ResolveResult> result = tryResolveForItemType(meta, featureName);
+        List<ResolveResult> result = tryResolveForItemType(meta, typeName, featureName);
 
         if (result == null) {
-            result = tryResolveForRelationType(meta, featureName);
+            result = tryResolveForRelationType(meta, typeName, featureName);
         }
 
         if (result == null) {
-            result = tryResolveForEnumType(meta, featureName);
+            result = tryResolveForEnumType(meta, typeName, featureName);
         }
 
         if (result == null) {
@@ -84,14 +93,17 @@ class TypeSystemAttributeReference extends TypeSystemReferenceBase<ImpexAnyHeade
         return result.toArray(new ResolveResult[0]);
     }
 
-    private List<ResolveResult> tryResolveForEnumType(final TSMetaModel meta, final String featureName) {
-        final Optional<TSMetaEnum> metaEnum = findHeaderItemTypeName(getElement()).map(PsiElement::getText)
-                                                                                  .map(meta::findMetaEnumByName);
-        if (!metaEnum.isPresent()) {
+    private List<ResolveResult> tryResolveForEnumType(
+        final TSMetaModel meta,
+        final String typeName,
+        final String featureName
+    ) {
+        final TSMetaEnum metaEnum = meta.findMetaEnumByName(typeName);
+        if (metaEnum == null) {
             return null;
         }
 
-        final EnumType enumType = metaEnum.get().retrieveDom();
+        final EnumType enumType = metaEnum.retrieveDom();
         if (CODE_ATTRIBUTE_NAME.equals(featureName) || NAME_ATTRIBUTE_NAME.equals(featureName)) {
             final EnumResolveResult resolveResult = new EnumResolveResult(enumType);
             return Collections.singletonList(resolveResult);
@@ -100,9 +112,12 @@ class TypeSystemAttributeReference extends TypeSystemReferenceBase<ImpexAnyHeade
         return null;
     }
 
-    private List<ResolveResult> tryResolveForItemType(final TSMetaModel meta, final String featureName) {
-        final Optional<TSMetaClass> metaClass = findHeaderItemTypeName(getElement()).map(PsiElement::getText)
-                                                                                    .map(meta::findMetaClassByName);
+    private List<ResolveResult> tryResolveForItemType(
+        final TSMetaModel meta,
+        final String typeName,
+        final String featureName
+    ) {
+        final Optional<TSMetaClass> metaClass = Optional.ofNullable(meta.findMetaClassByName(typeName));
         if (!metaClass.isPresent()) {
             return null;
         }
@@ -125,15 +140,17 @@ class TypeSystemAttributeReference extends TypeSystemReferenceBase<ImpexAnyHeade
         return result;
     }
 
-    private List<ResolveResult> tryResolveForRelationType(final TSMetaModel meta, final String featureName) {
-        final Optional<List<TSMetaReference>> metaReferences = findHeaderItemTypeName(getElement())
-            .map(PsiElement::getText)
-            .map(meta::findRelationByName);
+    private List<ResolveResult> tryResolveForRelationType(
+        final TSMetaModel meta,
+        final String typeName,
+        final String featureName
+    ) {
+        final List<TSMetaReference> metaReferences = meta.findRelationByName(typeName);
 
-        if (!metaReferences.isPresent()) {
+        if (metaReferences == null) {
             return null;
         }
-        final Set<TSMetaReference> references = new HashSet<>(metaReferences.get());
+        final Set<TSMetaReference> references = new HashSet<>(metaReferences);
         if (SOURCE_ATTRIBUTE_NAME.equals(featureName)) {
             return emptyIfNull(references).stream()
                                           .map(TSMetaReference::getSource)
@@ -48,7 +48,11 @@ class TypeSystemItemReference extends TypeSystemReferenceBase<ImpexHeaderTypeNam
     @NotNull
     @Override
     public ResolveResult[] multiResolve(final boolean incompleteCode) {
-        final TSMetaModel meta = getTypeSystemMeta();
+        return resolveWithCaching(incompleteCode, this::resolveInMetaModel);
+    }
+
+    @NotNull
+    private ResolveResult[] resolveInMetaModel(@NotNull final TSMetaModel meta) {
         final String lookingForName = getElement().getText();
         final Optional<TSMetaClass> metaClass = searchInMetaClasses(meta, lookingForName);
         if (metaClass.isPresent()) {
@@ -0,0 +1,57 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyHeaderParameterName;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stub of a header attribute name together with the item type name of its header line.
+ */
+public class ImpexAnyHeaderParameterNameStub extends StubBase<ImpexAnyHeaderParameterName> {
+
+    private final String parameterName;
+    private final String headerTypeName;
+
+    public ImpexAnyHeaderParameterNameStub(
+        final StubElement parent,
+        @NotNull final IStubElementType elementType,
+        @NotNull final String parameterName,
+        @Nullable final String headerTypeName
+    ) {
+        super(parent, elementType);
+
+        this.parameterName = parameterName;
+        this.headerTypeName = headerTypeName;
+    }
+
+    @NotNull
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    @Nullable
+    public String getHeaderTypeName() {
+        return headerTypeName;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyHeaderParameterName;
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexFullHeaderType;
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderLine;
+import com.intellij.idea.plugin.hybris.impex.psi.impl.ImpexAnyHeaderParameterNameImpl;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.index.ImpexHeaderParameterNameIndex;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Optional;
+
+public class ImpexAnyHeaderParameterNameStubElementType
+    extends ImpexStubElementType<ImpexAnyHeaderParameterNameStub, ImpexAnyHeaderParameterName> {
+
+    public ImpexAnyHeaderParameterNameStubElementType(@NotNull @NonNls final String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public ImpexAnyHeaderParameterName createPsi(@NotNull final ImpexAnyHeaderParameterNameStub stub) {
+        return new ImpexAnyHeaderParameterNameImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ImpexAnyHeaderParameterNameStub createStub(
+        @NotNull final ImpexAnyHeaderParameterName psi,
+        final StubElement parentStub
+    ) {
+        return new ImpexAnyHeaderParameterNameStub(parentStub, this, psi.getText().trim(), getHeaderTypeName(psi));
+    }
+
+    @Override
+    public void serialize(
+        @NotNull final ImpexAnyHeaderParameterNameStub stub,
+        @NotNull final StubOutputStream dataStream
+    ) throws IOException {
+        dataStream.writeName(stub.getParameterName());
+        dataStream.writeName(stub.getHeaderTypeName());
+    }
+
+    @NotNull
+    @Override
+    public ImpexAnyHeaderParameterNameStub deserialize(
+        @NotNull final StubInputStream dataStream,
+        final StubElement parentStub
+    ) throws IOException {
+        final String parameterName = String.valueOf(dataStream.readNameString());
+        final String headerTypeName = dataStream.readNameString();
+
+        return new ImpexAnyHeaderParameterNameStub(parentStub, this, parameterName, headerTypeName);
+    }
+
+    @Override
+    public void indexStub(@NotNull final ImpexAnyHeaderParameterNameStub stub, @NotNull final IndexSink sink) {
+        final String headerTypeName = stub.getHeaderTypeName();
+
+        if (headerTypeName != null) {
+            sink.occurrence(
+                ImpexHeaderParameterNameIndex.KEY, ImpexHeaderParameterNameIndex.key(headerTypeName, stub.getParameterName())
+            );
+        }
+    }
+
+    @Nullable
+    private static String getHeaderTypeName(@NotNull final ImpexAnyHeaderParameterName psi) {
+        return Optional.ofNullable(PsiTreeUtil.getParentOfType(psi, ImpexHeaderLine.class))
+                       .map(ImpexHeaderLine::getFullHeaderType)
+                       .map(ImpexFullHeaderType::getHeaderTypeName)
+                       .map(PsiElement::getText)
+                       .map(String::trim)
+                       .orElse(null);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexAttribute;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stub of a header modifier, e.g. {@code unique=true} in {@code code[unique=true]}.
+ */
+public class ImpexAttributeStub extends StubBase<ImpexAttribute> {
+
+    private final String modifierName;
+    private final String modifierValue;
+
+    public ImpexAttributeStub(
+        final StubElement parent,
+        @NotNull final IStubElementType elementType,
+        @NotNull final String modifierName,
+        @Nullable final String modifierValue
+    ) {
+        super(parent, elementType);
+
+        this.modifierName = modifierName;
+        this.modifierValue = modifierValue;
+    }
+
+    @NotNull
+    public String getModifierName() {
+        return modifierName;
+    }
+
+    @Nullable
+    public String getModifierValue() {
+        return modifierValue;
+    }
+}
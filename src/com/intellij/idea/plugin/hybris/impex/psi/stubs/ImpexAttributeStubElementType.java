@@ -0,0 +1,82 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexAttribute;
+import com.intellij.idea.plugin.hybris.impex.psi.impl.ImpexAttributeImpl;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.index.ImpexModifierNameIndex;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+public class ImpexAttributeStubElementType extends ImpexStubElementType<ImpexAttributeStub, ImpexAttribute> {
+
+    public ImpexAttributeStubElementType(@NotNull @NonNls final String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public ImpexAttribute createPsi(@NotNull final ImpexAttributeStub stub) {
+        return new ImpexAttributeImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ImpexAttributeStub createStub(@NotNull final ImpexAttribute psi, final StubElement parentStub) {
+        final String modifierValue = Optional.ofNullable(psi.getAnyAttributeValue())
+                                             .map(PsiElement::getText)
+                                             .map(String::trim)
+                                             .orElse(null);
+
+        return new ImpexAttributeStub(parentStub, this, psi.getAnyAttributeName().getText().trim(), modifierValue);
+    }
+
+    @Override
+    public void serialize(
+        @NotNull final ImpexAttributeStub stub,
+        @NotNull final StubOutputStream dataStream
+    ) throws IOException {
+        dataStream.writeName(stub.getModifierName());
+        dataStream.writeName(stub.getModifierValue());
+    }
+
+    @NotNull
+    @Override
+    public ImpexAttributeStub deserialize(
+        @NotNull final StubInputStream dataStream,
+        final StubElement parentStub
+    ) throws IOException {
+        final String modifierName = String.valueOf(dataStream.readNameString());
+        final String modifierValue = dataStream.readNameString();
+
+        return new ImpexAttributeStub(parentStub, this, modifierName, modifierValue);
+    }
+
+    @Override
+    public void indexStub(@NotNull final ImpexAttributeStub stub, @NotNull final IndexSink sink) {
+        sink.occurrence(ImpexModifierNameIndex.KEY, stub.getModifierName());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderTypeName;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stub of the item type name of a header line, e.g. {@code Product} in {@code INSERT_UPDATE Product;code[unique=true]}.
+ */
+public class ImpexHeaderTypeNameStub extends StubBase<ImpexHeaderTypeName> {
+
+    private final String typeName;
+
+    public ImpexHeaderTypeNameStub(
+        final StubElement parent,
+        @NotNull final IStubElementType elementType,
+        @NotNull final String typeName
+    ) {
+        super(parent, elementType);
+
+        this.typeName = typeName;
+    }
+
+    @NotNull
+    public String getTypeName() {
+        return typeName;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexMacroNameDec;
+import com.intellij.idea.plugin.hybris.impex.psi.impl.ImpexMacroNameDecImpl;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.index.ImpexMacroNameIndex;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class ImpexMacroNameDecStubElementType extends ImpexStubElementType<ImpexMacroNameDecStub, ImpexMacroNameDec> {
+
+    public ImpexMacroNameDecStubElementType(@NotNull @NonNls final String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public ImpexMacroNameDec createPsi(@NotNull final ImpexMacroNameDecStub stub) {
+        return new ImpexMacroNameDecImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ImpexMacroNameDecStub createStub(@NotNull final ImpexMacroNameDec psi, final StubElement parentStub) {
+        return new ImpexMacroNameDecStub(parentStub, this, psi.getText().trim());
+    }
+
+    @Override
+    public void serialize(
+        @NotNull final ImpexMacroNameDecStub stub,
+        @NotNull final StubOutputStream dataStream
+    ) throws IOException {
+        dataStream.writeName(stub.getMacroName());
+    }
+
+    @NotNull
+    @Override
+    public ImpexMacroNameDecStub deserialize(
+        @NotNull final StubInputStream dataStream,
+        final StubElement parentStub
+    ) throws IOException {
+        return new ImpexMacroNameDecStub(parentStub, this, String.valueOf(dataStream.readNameString()));
+    }
+
+    @Override
+    public void indexStub(@NotNull final ImpexMacroNameDecStub stub, @NotNull final IndexSink sink) {
+        sink.occurrence(ImpexMacroNameIndex.KEY, stub.getMacroName());
+    }
+}
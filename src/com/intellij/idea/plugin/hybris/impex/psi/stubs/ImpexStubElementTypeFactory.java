@@ -0,0 +1,47 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs;
+
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Creates element types of the stub based ImpEx elements, referenced by {@code elementTypeFactory} in Impex.bnf.
+ */
+public final class ImpexStubElementTypeFactory {
+
+    private ImpexStubElementTypeFactory() {
+    }
+
+    @NotNull
+    public static IElementType factory(@NotNull final String name) {
+        switch (name) {
+            case "HEADER_TYPE_NAME":
+                return new ImpexHeaderTypeNameStubElementType(name);
+            case "ANY_HEADER_PARAMETER_NAME":
+                return new ImpexAnyHeaderParameterNameStubElementType(name);
+            case "ATTRIBUTE":
+                return new ImpexAttributeStubElementType(name);
+            case "MACRO_NAME_DEC":
+                return new ImpexMacroNameDecStubElementType(name);
+            default:
+                throw new IllegalArgumentException("Unknown stub element type: " + name);
+        }
+    }
+}
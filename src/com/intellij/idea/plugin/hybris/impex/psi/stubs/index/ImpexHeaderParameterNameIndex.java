@@ -0,0 +1,79 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs.index;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyHeaderParameterName;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import com.intellij.util.Processor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Attributes used in ImpEx header lines, keyed by {@code <item type code>.<attribute name>} in lower case, e.g.
+ * {@code INSERT_UPDATE Product;code[unique=true];catalogVersion(catalog(id),version)} produces the keys
+ * {@code product.code} and {@code product.catalogversion}. Parameters nested in brackets belong to other types
+ * and are not indexed.
+ */
+public class ImpexHeaderParameterNameIndex extends StringStubIndexExtension<ImpexAnyHeaderParameterName> {
+
+    public static final StubIndexKey<String, ImpexAnyHeaderParameterName> KEY = StubIndexKey.createIndexKey("impex.header.parameter.name");
+
+    @NotNull
+    @Override
+    public StubIndexKey<String, ImpexAnyHeaderParameterName> getKey() {
+        return KEY;
+    }
+
+    @NotNull
+    public static String key(@NotNull final String typeCode, @NotNull final String attributeName) {
+        return (typeCode.trim() + '.' + attributeName.trim()).toLowerCase();
+    }
+
+    /**
+     * @return {@code false} if the processor stopped the search
+     */
+    public static boolean process(
+        @NotNull final Collection<String> keys,
+        @NotNull final Project project,
+        @NotNull final GlobalSearchScope scope,
+        @NotNull final Processor<? super ImpexAnyHeaderParameterName> processor
+    ) {
+        final StubIndex index = StubIndex.getInstance();
+
+        for (final String key : keys) {
+            if (!index.processElements(KEY, key, project, scope, ImpexAnyHeaderParameterName.class, processor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean hasOccurrences(
+        @NotNull final Collection<String> keys,
+        @NotNull final Project project,
+        @NotNull final GlobalSearchScope scope
+    ) {
+        return !process(keys, project, scope, parameterName -> false);
+    }
+}
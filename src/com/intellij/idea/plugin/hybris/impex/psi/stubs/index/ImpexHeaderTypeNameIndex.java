@@ -0,0 +1,61 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs.index;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderTypeName;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import com.intellij.util.Processor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Item type names used in ImpEx header lines, keyed by the lower case type name.
+ */
+public class ImpexHeaderTypeNameIndex extends StringStubIndexExtension<ImpexHeaderTypeName> {
+
+    public static final StubIndexKey<String, ImpexHeaderTypeName> KEY = StubIndexKey.createIndexKey("impex.header.type.name");
+
+    @NotNull
+    @Override
+    public StubIndexKey<String, ImpexHeaderTypeName> getKey() {
+        return KEY;
+    }
+
+    @NotNull
+    public static String key(@NotNull final String typeName) {
+        return typeName.trim().toLowerCase();
+    }
+
+    /**
+     * @return {@code false} if the processor stopped the search
+     */
+    public static boolean process(
+        @NotNull final String typeName,
+        @NotNull final Project project,
+        @NotNull final GlobalSearchScope scope,
+        @NotNull final Processor<? super ImpexHeaderTypeName> processor
+    ) {
+        return StubIndex.getInstance().processElements(
+            KEY, key(typeName), project, scope, ImpexHeaderTypeName.class, processor
+        );
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs.index;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexAttribute;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Modifier names used in ImpEx headers, e.g. {@code unique} or {@code mode}.
+ */
+public class ImpexModifierNameIndex extends StringStubIndexExtension<ImpexAttribute> {
+
+    public static final StubIndexKey<String, ImpexAttribute> KEY = StubIndexKey.createIndexKey("impex.modifier.name");
+
+    @NotNull
+    @Override
+    public StubIndexKey<String, ImpexAttribute> getKey() {
+        return KEY;
+    }
+
+    @NotNull
+    public static Collection<ImpexAttribute> find(
+        @NotNull final String name,
+        @NotNull final Project project,
+        @NotNull final GlobalSearchScope scope
+    ) {
+        return StubIndex.getElements(KEY, name, project, scope, ImpexAttribute.class);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.search;
+
+import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.index.ImpexHeaderParameterNameIndex;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.index.ImpexHeaderTypeNameIndex;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaClass;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModelAccess;
+import com.intellij.idea.plugin.hybris.type.system.model.Attribute;
+import com.intellij.idea.plugin.hybris.type.system.model.ItemType;
+import com.intellij.openapi.application.QueryExecutorBase;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlAttributeValue;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.Processor;
+import com.intellij.util.xml.DomElement;
+import com.intellij.util.xml.DomManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.intellij.idea.plugin.hybris.type.system.utils.TypeSystemUtils.isTypeSystemXmlFile;
+
+/**
+ * Finds ImpEx header types and header attributes referencing an item type or an attribute declared in items.xml.
+ * Candidates are taken from {@link ImpexHeaderTypeNameIndex} and {@link ImpexHeaderParameterNameIndex} instead of
+ * a full-text search over all ImpEx files.
+ */
+public class ImpexTypeSystemSearcher extends QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters> {
+
+    private static final Key<CachedValue<Map<String, Set<String>>>> SUBTYPES_CACHE_KEY = Key.create("IMPEX_TS_SUBTYPES_CACHE");
+
+    public ImpexTypeSystemSearcher() {
+        super(true);
+    }
+
+    @Override
+    public void processQuery(
+        @NotNull final ReferencesSearch.SearchParameters queryParameters,
+        @NotNull final Processor<? super PsiReference> consumer
+    ) {
+        final PsiElement elementToSearch = queryParameters.getElementToSearch();
+        if (!(elementToSearch instanceof XmlAttributeValue) || !elementToSearch.isValid()) {
+            return;
+        }
+
+        final SearchScope scope = queryParameters.getEffectiveSearchScope();
+        if (!(scope instanceof GlobalSearchScope)) {
+            return;
+        }
+
+        final GlobalSearchScope impexScope = GlobalSearchScope.getScopeRestrictedByFileTypes(
+            (GlobalSearchScope) scope, ImpexFileType.getInstance()
+        );
+        final Processor<PsiElement> referenceProcessor = element -> {
+            for (final PsiReference reference : element.getReferences()) {
+                if (reference.isReferenceTo(elementToSearch) && !consumer.process(reference)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+
+        final XmlAttributeValue value = (XmlAttributeValue) elementToSearch;
+        final String typeCode = getItemTypeCode(value);
+        if (typeCode != null) {
+            ImpexHeaderTypeNameIndex.process(typeCode, value.getProject(), impexScope, referenceProcessor);
+            return;
+        }
+
+        final Set<String> keys = getImpexIndexKeys(value);
+        if (!keys.isEmpty()) {
+            ImpexHeaderParameterNameIndex.process(keys, value.getProject(), impexScope, referenceProcessor);
+        }
+    }
+
+    /**
+     * @return keys of {@link ImpexHeaderParameterNameIndex} for the given {@code qualifier} value of an items.xml
+     * attribute, one for the item type of the attribute and one for each of its subtypes, because a header of a
+     * subtype may use the attribute as well. Empty set if the value is not an attribute qualifier.
+     */
+    @NotNull
+    public static Set<String> getImpexIndexKeys(@NotNull final XmlAttributeValue qualifierValue) {
+        final PsiFile psiFile = qualifierValue.getContainingFile();
+        final DomElement dom = getDomElement(qualifierValue);
+
+        if (!(dom instanceof Attribute) || !isTypeSystemXmlFile(psiFile)) {
+            return Collections.emptySet();
+        }
+        final Attribute attribute = (Attribute) dom;
+
+        if (!qualifierValue.equals(attribute.getQualifier().getXmlAttributeValue())) {
+            return Collections.emptySet();
+        }
+
+        final ItemType itemType = attribute.getParentOfType(ItemType.class, false);
+        final String typeCode = itemType == null ? null : itemType.getCode().getStringValue();
+        final String qualifier = attribute.getQualifier().getStringValue();
+
+        if (StringUtil.isEmpty(typeCode) || StringUtil.isEmpty(qualifier)) {
+            return Collections.emptySet();
+        }
+
+        final String rootType = typeCode.trim().toLowerCase();
+        return getSubtypes(psiFile).getOrDefault(rootType, Collections.singleton(rootType)).stream()
+                                   .map(type -> ImpexHeaderParameterNameIndex.key(type, qualifier))
+                                   .collect(Collectors.toSet());
+    }
+
+    /**
+     * @return code of the item type if the value is the {@code code} of an items.xml item type, otherwise {@code null}
+     */
+    @Nullable
+    private static String getItemTypeCode(@NotNull final XmlAttributeValue codeValue) {
+        final DomElement dom = getDomElement(codeValue);
+
+        if (!(dom instanceof ItemType) || !isTypeSystemXmlFile(codeValue.getContainingFile())) {
+            return null;
+        }
+        final ItemType itemType = (ItemType) dom;
+
+        return codeValue.equals(itemType.getCode().getXmlAttributeValue())
+            ? StringUtil.nullize(itemType.getCode().getStringValue(), true)
+            : null;
+    }
+
+    @Nullable
+    private static DomElement getDomElement(@NotNull final XmlAttributeValue value) {
+        final XmlTag parentTag = PsiTreeUtil.getParentOfType(value, XmlTag.class);
+
+        return parentTag == null ? null : DomManager.getDomManager(parentTag.getProject()).getDomElement(parentTag);
+    }
+
+    /**
+     * Lower case code of every item type of the type system, mapped to the codes of the type itself and of all of
+     * its subtypes. Built once per type system model instead of once per attribute.
+     */
+    @NotNull
+    private static Map<String, Set<String>> getSubtypes(@NotNull final PsiFile typeSystemFile) {
+        return CachedValuesManager.getCachedValue(typeSystemFile, SUBTYPES_CACHE_KEY, () -> CachedValueProvider.Result.create(
+            collectSubtypes(TSMetaModelAccess.getInstance(typeSystemFile.getProject()).getTypeSystemMeta(typeSystemFile)),
+            PsiModificationTracker.MODIFICATION_COUNT
+        ));
+    }
+
+    @NotNull
+    private static Map<String, Set<String>> collectSubtypes(@NotNull final TSMetaModel metaModel) {
+        final Map<String, String> superTypes = new HashMap<>();
+
+        metaModel.getMetaClassesStream()
+                 .filter(metaClass -> metaClass.getName() != null)
+                 .forEach(metaClass -> superTypes.putIfAbsent(
+                     metaClass.getName().toLowerCase(),
+                     Objects.toString(metaClass.getExtendedMetaClassName(), TSMetaClass.IMPLICIT_SUPER_CLASS_NAME)
+                            .toLowerCase()
+                 ));
+
+        final Map<String, Set<String>> subtypes = new HashMap<>();
+
+        for (final String type : superTypes.keySet()) {
+            final Set<String> visited = new HashSet<>();
+
+            for (String current = type; current != null && visited.add(current); current = superTypes.get(current)) {
+                subtypes.computeIfAbsent(current, key -> new HashSet<>()).add(type);
+            }
+        }
+        return subtypes;
+    }
+}
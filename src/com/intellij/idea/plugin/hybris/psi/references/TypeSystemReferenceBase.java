@@ -25,9 +25,12 @@ import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReferenceBase;
 import com.intellij.psi.ResolveResult;
+import com.intellij.psi.impl.source.resolve.ResolveCache;
 import com.intellij.util.xml.DomElement;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Function;
+
 /**
  * Created by Martin Zdarsky-Jones (martin.zdarsky@hybris.com) on 15/06/2016.
  */
@@ -65,6 +68,24 @@ public abstract class TypeSystemReferenceBase<PSI extends PsiElement> extends Ps
         return metaModelService.getTypeSystemMeta();
     }
 
+    /**
+     * Resolves the reference against the current type system model and keeps the result in {@link ResolveCache}.
+     * The model is rebuilt only after a change of an items.xml file, which drops the resolve cache as well,
+     * so cached results never outlive the model they were computed from.
+     */
+    @NotNull
+    protected final ResolveResult[] resolveWithCaching(
+        final boolean incompleteCode,
+        @NotNull final Function<TSMetaModel, ResolveResult[]> resolver
+    ) {
+        return ResolveCache.getInstance(getProject()).resolveWithCaching(
+            this,
+            (reference, incomplete) -> resolver.apply(reference.getTypeSystemMeta()),
+            true,
+            incompleteCode
+        );
+    }
+
     public interface TypeSystemResolveResult extends ResolveResult {
 
         @NotNull
@@ -29,6 +29,8 @@ import java.util.List;
 
 public class HybrisApplicationSettings {
 
+    public static final int DEFAULT_CONSOLE_OUTPUT_SIZE_LIMIT_KB = 1024;
+
     public static final List<String> DEFAULT_JUNK_FILE_NAMES = Lists.newArrayList(
         ".classpath",
         ".directory",
@@ -133,6 +135,9 @@ public class HybrisApplicationSettings {
     @PropertyName("warnIfGeneratedItemsAreOutOfDate")
     private boolean warnIfGeneratedItemsAreOutOfDate = true;
 
+    @PropertyName("consoleOutputSizeLimitKb")
+    private int consoleOutputSizeLimitKb = DEFAULT_CONSOLE_OUTPUT_SIZE_LIMIT_KB;
+
 
     public HybrisApplicationSettings() {
     }
@@ -329,6 +334,14 @@ public class HybrisApplicationSettings {
         this.extensionsResourcesToExcludeList = extensionsResourcesToExcludeList;
     }
 
+    public int getConsoleOutputSizeLimitKb() {
+        return consoleOutputSizeLimitKb;
+    }
+
+    public void setConsoleOutputSizeLimitKb(final int consoleOutputSizeLimitKb) {
+        this.consoleOutputSizeLimitKb = consoleOutputSizeLimitKb;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
@@ -356,6 +369,7 @@ public class HybrisApplicationSettings {
             .append(excludeTestSources)
             .append(extensionsResourcesToExcludeList)
             .append(warnIfGeneratedItemsAreOutOfDate)
+            .append(consoleOutputSizeLimitKb)
             .toHashCode();
     }
 
@@ -396,6 +410,7 @@ public class HybrisApplicationSettings {
             .append(excludeTestSources, other.excludeTestSources)
             .append(extensionsResourcesToExcludeList, other.extensionsResourcesToExcludeList)
             .append(warnIfGeneratedItemsAreOutOfDate, other.warnIfGeneratedItemsAreOutOfDate)
+            .append(consoleOutputSizeLimitKb, other.consoleOutputSizeLimitKb)
             .isEquals();
     }
 
@@ -426,6 +441,7 @@ public class HybrisApplicationSettings {
         sb.append(", developmentMode='").append(developmentMode).append('\'');
         sb.append(", excludeTestSources='").append(excludeTestSources).append('\'');
         sb.append(", warnIfGeneratedItemsAreOutOfDate='").append(warnIfGeneratedItemsAreOutOfDate).append('\'');
+        sb.append(", consoleOutputSizeLimitKb='").append(consoleOutputSizeLimitKb).append('\'');
         sb.append('}');
         return sb.toString();
     }
@@ -62,6 +62,7 @@ public class HybrisApplicationSettingsForm {
     private JCheckBox excludeTestSources;
     private JPanel extensionsResourcesToExclude;
     private JCheckBox warnIfGeneratedItemsAreOutOfDateCheckBox;
+    private JSpinner consoleOutputSizeLimitSpinner;
 
     private MyListPanel junkListPanel;
     private MyListPanel tsdListPanel;
@@ -86,6 +87,7 @@ public class HybrisApplicationSettingsForm {
         scanThroughExternalModule.setSelected(data.isScanThroughExternalModule());
         excludeTestSources.setSelected(data.isExcludeTestSources());
         warnIfGeneratedItemsAreOutOfDateCheckBox.setSelected(data.isWarnIfGeneratedItemsAreOutOfDate());
+        consoleOutputSizeLimitSpinner.setValue(data.getConsoleOutputSizeLimitKb());
     }
 
     public void getData(final HybrisApplicationSettings data) {
@@ -107,6 +109,7 @@ public class HybrisApplicationSettingsForm {
         data.setScanThroughExternalModule(scanThroughExternalModule.isSelected());
         data.setExcludeTestSources(excludeTestSources.isSelected());
         data.setWarnIfGeneratedItemsAreOutOfDate(warnIfGeneratedItemsAreOutOfDateCheckBox.isSelected());
+        data.setConsoleOutputSizeLimitKb((Integer) consoleOutputSizeLimitSpinner.getValue());
     }
 
     public boolean isModified(final HybrisApplicationSettings data) {
@@ -164,6 +167,9 @@ public class HybrisApplicationSettingsForm {
         if (warnIfGeneratedItemsAreOutOfDateCheckBox.isSelected() != data.isWarnIfGeneratedItemsAreOutOfDate()) {
             return true;
         }
+        if (!consoleOutputSizeLimitSpinner.getValue().equals(data.getConsoleOutputSizeLimitKb())) {
+            return true;
+        }
         return false;
     }
 
@@ -185,6 +191,10 @@ public class HybrisApplicationSettingsForm {
         extensionsResourcesToExcludeListPanel = new MyListPanel("hybris.import.settings.exclude.resources.name", "hybris.import.settings.exclude.resources.popup.add.title", "hybris.import.settings.exclude.resources.popup.add.text", "hybris.import.settings.exclude.resources.popup.edit.title", "hybris.import.settings.exclude.resources.popup.edit.text", new ArrayList<String>());
         extensionsResourcesToExclude = extensionsResourcesToExcludeListPanel;
 
+        consoleOutputSizeLimitSpinner = new JSpinner(new SpinnerNumberModel(
+            HybrisApplicationSettings.DEFAULT_CONSOLE_OUTPUT_SIZE_LIMIT_KB, 16, 1024 * 1024, 256
+        ));
+
         projectTreeViewSettingsLabel = new JBLabel();
         projectTreeViewSettingsLabel.setBorder(IdeBorderFactory.createTitledBorder(HybrisI18NBundleUtils.message(
             "hybris.project.view.tree.settings")));
@@ -9,6 +9,8 @@ public class HybrisRemoteConnectionSettings implements Serializable {
 
     public enum Type {Hybris, SOLR}
 
+    public static final int DEFAULT_TIMEOUT_MILLIS = 6000;
+
     protected String uuid;
     protected String displayName;
     protected String hostIP;
@@ -21,6 +23,8 @@ public class HybrisRemoteConnectionSettings implements Serializable {
     protected String hacPassword;
     protected String generatedURL;
     protected Type type;
+    protected int connectTimeout = DEFAULT_TIMEOUT_MILLIS;
+    protected int socketTimeout = DEFAULT_TIMEOUT_MILLIS;
 
     public String getUuid() {
         return uuid;
@@ -118,6 +122,22 @@ public class HybrisRemoteConnectionSettings implements Serializable {
         this.type = type;
     }
 
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(final int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public void setSocketTimeout(final int socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
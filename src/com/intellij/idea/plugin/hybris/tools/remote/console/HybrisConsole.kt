@@ -3,9 +3,14 @@ package com.intellij.idea.plugin.hybris.tools.remote.console
 import com.intellij.execution.console.LanguageConsoleImpl
 import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings
 import com.intellij.idea.plugin.hybris.tools.remote.console.preprocess.HybrisConsolePreProcessor
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacBatch
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacExecution
 import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
 import com.intellij.lang.Language
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.ThrowableComputable
+import com.intellij.util.concurrency.AppExecutorUtil
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.TimeUnit
 
 /**
@@ -17,8 +22,50 @@ abstract class HybrisConsole(project: Project, title: String, language: Language
         this.printDefaultText()
     }
 
+    private val executions: MutableSet<HacExecution<*>> = ConcurrentHashMap.newKeySet()
+    private val executor by lazy {
+        AppExecutorUtil.createBoundedApplicationPoolExecutor("Hybris Console: $title", maxConcurrentExecutions())
+    }
+
     abstract fun execute(query: String): HybrisHttpResult
 
+    /**
+     * Runs [execute] in the background, cancelling the returned execution aborts the request in flight.
+     */
+    fun executeAsync(query: String): HacExecution<HybrisHttpResult> = submit { execute(query) }
+
+    /**
+     * Statements of the input to be sent in a single request, empty when the input is executed as a whole.
+     */
+    open fun batchStatements(query: String): List<HacBatch.Statement> = listOf()
+
+    open fun executeBatch(statements: List<HacBatch.Statement>): List<HybrisHttpResult> = statements.map { execute(it.text) }
+
+    fun executeBatchAsync(statements: List<HacBatch.Statement>): HacExecution<List<HybrisHttpResult>> = submit { executeBatch(statements) }
+
+    /**
+     * Executions of this console beyond this limit wait for a running one to finish, other consoles are not affected.
+     */
+    open fun maxConcurrentExecutions() = 1
+
+    fun canExecute() = executions.size < maxConcurrentExecutions()
+
+    fun isExecuting() = executions.isNotEmpty()
+
+    fun cancelExecutions() = executions.forEach { it.cancel(true) }
+
+    protected fun <T> submit(computation: () -> T): HacExecution<T> {
+        val execution = HacExecution.submit(executor, ThrowableComputable<T, Exception> { computation() })
+        executions.add(execution)
+        execution.whenComplete { _, _ -> executions.remove(execution) }
+        return execution
+    }
+
+    override fun dispose() {
+        cancelExecutions()
+        super.dispose()
+    }
+
     open fun preProcessors(): List<HybrisConsolePreProcessor> = listOf()
 
     open fun printDefaultText() {
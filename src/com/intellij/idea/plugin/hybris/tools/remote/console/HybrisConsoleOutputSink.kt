@@ -0,0 +1,116 @@
+package com.intellij.idea.plugin.hybris.tools.remote.console
+
+import com.intellij.execution.filters.HyperlinkInfo
+import com.intellij.execution.ui.ConsoleViewContentType
+import com.intellij.execution.ui.ConsoleViewContentType.SYSTEM_OUTPUT
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.settings.HybrisApplicationSettingsComponent
+import com.intellij.openapi.application.ApplicationManager
+import com.intellij.openapi.application.ModalityState
+import com.intellij.openapi.diagnostic.Logger
+import com.intellij.openapi.fileEditor.FileEditorManager
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.LocalFileSystem
+import java.io.File
+import java.io.IOException
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * Prints the output of a remote execution into a [HybrisConsole] from a background thread.
+ *
+ * The text is appended in chunks of at most [CHUNK_SIZE] characters and every chunk is moved into the console
+ * document before the next one is queued, so the EDT never absorbs a large output at once. Once [sizeLimit]
+ * characters have been printed the rest of an output is cut off, the full output is written to a temporary file
+ * which is linked from the console instead.
+ */
+class HybrisConsoleOutputSink(private val console: HybrisConsole,
+                              private val indicator: ProgressIndicator? = null,
+                              private val sizeLimit: Int = defaultSizeLimit()) {
+
+    private var printed = 0
+
+    /**
+     * File with the full text of the last truncated output, `null` until an output is truncated.
+     */
+    var fullOutputFile: File? = null
+        private set
+
+    fun print(text: String?, contentType: ConsoleViewContentType) {
+        if (text.isNullOrEmpty()) return
+
+        if (text.length <= sizeLimit - printed) {
+            printChunked(text, contentType)
+            return
+        }
+
+        var headLength = max(sizeLimit - printed, 0)
+        if (headLength > 0 && Character.isHighSurrogate(text[headLength - 1])) headLength--
+        printChunked(text.substring(0, headLength), contentType)
+        printed = sizeLimit
+
+        console.print("\n" + message("hybris.console.output.truncated", text.length - headLength), SYSTEM_OUTPUT)
+        val file = writeToFile(text)
+        fullOutputFile = file
+        if (file != null) {
+            console.print(" ", SYSTEM_OUTPUT)
+            console.printHyperlink(message("hybris.console.output.show.full"), FullOutputHyperlinkInfo(file))
+        }
+        console.print("\n", SYSTEM_OUTPUT)
+        flush()
+    }
+
+    /**
+     * Whether the whole text fits into what is left of the limit, larger texts should not be highlighted.
+     */
+    fun fits(text: String?) = text == null || text.length <= sizeLimit - printed
+
+    private fun printChunked(text: String, contentType: ConsoleViewContentType) {
+        var offset = 0
+        while (offset < text.length) {
+            indicator?.checkCanceled()
+
+            var end = min(offset + CHUNK_SIZE, text.length)
+            if (end < text.length && Character.isHighSurrogate(text[end - 1])) end--
+            console.print(text.substring(offset, end), contentType)
+            printed += end - offset
+            offset = end
+
+            if (offset < text.length) flush()
+        }
+    }
+
+    /**
+     * Moves the deferred text into the console document and waits for it, which keeps this thread at the pace of
+     * the EDT instead of piling up the whole output in the deferred buffer.
+     */
+    private fun flush() {
+        ApplicationManager.getApplication().invokeAndWait({
+            if (!console.consoleEditor.isDisposed) console.flushDeferredText()
+        }, ModalityState.any())
+    }
+
+    private fun writeToFile(text: String): File? = try {
+        FileUtil.createTempFile("hybris-console-output", ".txt", true).also { FileUtil.writeToFile(it, text) }
+    } catch (e: IOException) {
+        LOG.warn("Unable to keep the full console output", e)
+        null
+    }
+
+    private class FullOutputHyperlinkInfo(private val file: File) : HyperlinkInfo {
+        override fun navigate(project: Project) {
+            val virtualFile = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(file) ?: return
+            FileEditorManager.getInstance(project).openFile(virtualFile, true)
+        }
+    }
+
+    companion object {
+        const val CHUNK_SIZE = 64 * 1024
+
+        private val LOG = Logger.getInstance(HybrisConsoleOutputSink::class.java)
+
+        private fun defaultSizeLimit() = HybrisApplicationSettingsComponent.getInstance().state.consoleOutputSizeLimitKb * 1024
+    }
+}
@@ -30,20 +30,18 @@ class HybrisExecuteImmediatelyAction(private val tabbedPane: HybrisTabs, execute
     override fun update(e: AnActionEvent) {
         val editor = tabbedPane.activeConsole().consoleEditor
         val lookup = LookupManager.getActiveLookup(editor)
-        e.presentation.isEnabled = !executeActionHandler.isProcessRunning && (lookup == null || !lookup.isCompletion)
+        e.presentation.isEnabled = tabbedPane.activeConsole().canExecute() && (lookup == null || !lookup.isCompletion)
     }
 }
 
 class HybrisSuspendAction(private val tabbedPane: HybrisTabs, executeActionHandler: HybrisConsoleExecuteActionHandler) :
         HybrisExecuteActionBase(executeActionHandler, AllIcons.Actions.Suspend) {
     override fun actionPerformed(e: AnActionEvent) {
-        
+        tabbedPane.activeConsole().cancelExecutions()
     }
 
     override fun update(e: AnActionEvent) {
-        val editor = tabbedPane.activeConsole().consoleEditor
-        val lookup = LookupManager.getActiveLookup(editor)
-        e.presentation.isEnabled = executeActionHandler.isProcessRunning
+        e.presentation.isEnabled = tabbedPane.activeConsole().isExecuting()
     }
 
 }
\ No newline at end of file
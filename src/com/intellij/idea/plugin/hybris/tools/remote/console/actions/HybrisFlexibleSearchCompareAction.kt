@@ -0,0 +1,103 @@
+package com.intellij.idea.plugin.hybris.tools.remote.console.actions
+
+import com.intellij.execution.ui.ConsoleViewContentType.ERROR_OUTPUT
+import com.intellij.execution.ui.ConsoleViewContentType.SYSTEM_OUTPUT
+import com.intellij.icons.AllIcons
+import com.intellij.ide.util.ChooseElementsDialog
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons.HYBRIS_REMOTE_ICON
+import com.intellij.idea.plugin.hybris.settings.HybrisDeveloperSpecificProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings
+import com.intellij.idea.plugin.hybris.tools.remote.console.actions.handler.awaitResult
+import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisFlexibleSearchConsole
+import com.intellij.idea.plugin.hybris.tools.remote.console.result.FlexibleSearchResultToolWindowFactory
+import com.intellij.idea.plugin.hybris.tools.remote.console.view.HybrisTabs
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacFanOut
+import com.intellij.idea.plugin.hybris.tools.remote.http.HybrisHacHttpClient
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultDiff
+import com.intellij.openapi.actionSystem.AnAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.application.ApplicationManager
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Pair
+import javax.swing.Icon
+
+/**
+ * Runs the query of the FlexibleSearch console on several connections at once. The results are shown side by side
+ * in the FlexibleSearch Result tool window, after a row-level comparison of them in the first tab.
+ */
+class HybrisFlexibleSearchCompareAction(private val tabbedPane: HybrisTabs) : AnAction(
+        message("action.console.hybris.flexible.search.compare.text"),
+        message("action.console.hybris.flexible.search.compare.description"),
+        AllIcons.Actions.Diff) {
+
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+        val console = tabbedPane.activeConsole() as? HybrisFlexibleSearchConsole ?: return
+        val query = console.currentEditor.document.text
+        if (query.isBlank()) return
+
+        val dialog = object : ChooseElementsDialog<HybrisRemoteConnectionSettings>(
+                project,
+                getConnections(project),
+                message("action.console.hybris.flexible.search.compare.text"),
+                message("action.console.hybris.flexible.search.compare.choose"),
+                false) {
+            override fun getItemText(item: HybrisRemoteConnectionSettings) = item.toString()
+            override fun getItemIcon(item: HybrisRemoteConnectionSettings): Icon? = HYBRIS_REMOTE_ICON
+        }
+        val selected = dialog.showAndGetResult()
+        if (selected.isEmpty()) return
+
+        val client = HybrisHacHttpClient.getInstance(project)
+        val targets = selected.map { HacFanOut.Target(it.toString(), it, client.getHostHacURL(project, it)) }
+
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, message("action.console.hybris.flexible.search.compare.progress"), true) {
+            override fun run(indicator: ProgressIndicator) {
+                val startedAt = System.currentTimeMillis()
+                val results = awaitResult(console, console.compareAsync(query, targets), indicator) ?: return
+                val millis = System.currentTimeMillis() - startedAt
+
+                console.print("[COMPARE] \n", SYSTEM_OUTPUT)
+                results.forEach {
+                    val rows = it.result.flexibleSearchResult
+                    if (rows != null) {
+                        console.print(message("flexible.search.compare.console.rows", it.target.name, rows.rowCount, it.millis) + "\n", SYSTEM_OUTPUT)
+                    } else {
+                        console.print("${it.target.name}: ${it.result.errorMessage}\n", ERROR_OUTPUT)
+                    }
+                }
+                console.print(message("flexible.search.compare.console.time", millis, results.sumOf { it.millis }) + "\n", SYSTEM_OUTPUT)
+
+                val answered = results.filter { it.result.flexibleSearchResult != null }
+                if (answered.isEmpty()) return
+
+                val diff = FlexibleSearchResultDiff.compare(answered.map { it.target.name }, answered.map { it.result.flexibleSearchResult })
+                console.print(message("flexible.search.compare.console.diff", diff.changedRows, diff.missingRows, diff.sameRows) + "\n", SYSTEM_OUTPUT)
+
+                val tabs = mutableListOf<Pair<String, FlexibleSearchResult>>(Pair.create(message("flexible.search.compare.tab"), diff.result))
+                answered.forEach { tabs.add(Pair.create(it.target.name, it.result.flexibleSearchResult)) }
+                ApplicationManager.getApplication().invokeLater {
+                    if (!project.isDisposed) FlexibleSearchResultToolWindowFactory.show(project, tabs)
+                }
+            }
+        })
+    }
+
+    override fun update(e: AnActionEvent) {
+        val project = e.project
+        e.presentation.isVisible = tabbedPane.activeConsole() is HybrisFlexibleSearchConsole
+        e.presentation.isEnabled = e.presentation.isVisible && project != null
+                && tabbedPane.activeConsole().canExecute()
+                && getConnections(project).size > 1
+    }
+
+    private fun getConnections(project: Project): List<HybrisRemoteConnectionSettings> {
+        val state = HybrisDeveloperSpecificProjectSettingsComponent.getInstance(project).state ?: return listOf()
+        return state.remoteConnectionSettingsList.filter { it.type == HybrisRemoteConnectionSettings.Type.Hybris }
+    }
+}
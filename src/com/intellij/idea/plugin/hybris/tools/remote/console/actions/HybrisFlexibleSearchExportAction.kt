@@ -0,0 +1,60 @@
+package com.intellij.idea.plugin.hybris.tools.remote.console.actions
+
+import com.intellij.execution.ui.ConsoleViewContentType.ERROR_OUTPUT
+import com.intellij.execution.ui.ConsoleViewContentType.SYSTEM_OUTPUT
+import com.intellij.icons.AllIcons
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.tools.remote.console.actions.handler.awaitResult
+import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisFlexibleSearchConsole
+import com.intellij.idea.plugin.hybris.tools.remote.console.view.HybrisTabs
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultExporter.Format
+import com.intellij.openapi.actionSystem.AnAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.fileChooser.FileChooserFactory
+import com.intellij.openapi.fileChooser.FileSaverDescriptor
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+import com.intellij.openapi.util.io.FileUtilRt
+
+/**
+ * Runs the query of the FlexibleSearch console without a row limit and streams the rows into a CSV or TSV file.
+ */
+class HybrisFlexibleSearchExportAction(private val tabbedPane: HybrisTabs) : AnAction(
+        message("action.console.hybris.flexible.search.export.text"),
+        message("action.console.hybris.flexible.search.export.description"),
+        AllIcons.ToolbarDecorator.Export) {
+
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+        val console = tabbedPane.activeConsole() as? HybrisFlexibleSearchConsole ?: return
+        val query = console.currentEditor.document.text
+        if (query.isBlank()) return
+
+        val descriptor = FileSaverDescriptor(
+                message("action.console.hybris.flexible.search.export.text"),
+                message("action.console.hybris.flexible.search.export.description"),
+                Format.CSV.extension, Format.TSV.extension)
+        val target = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project)
+                .save(null, "flexibleSearchResult.${Format.CSV.extension}")
+                ?.file ?: return
+        val format = Format.byExtension(FileUtilRt.getExtension(target.name))
+
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, message("action.console.hybris.flexible.search.export.progress"), true) {
+            override fun run(indicator: ProgressIndicator) {
+                val result = awaitResult(console, console.exportAsync(query, target, format, indicator), indicator) ?: return
+                if (result.hasError()) {
+                    console.print("[ERROR] \n", SYSTEM_OUTPUT)
+                    console.print("${result.errorMessage}\n", ERROR_OUTPUT)
+                } else {
+                    console.print("[EXPORT] \n${result.output}", SYSTEM_OUTPUT)
+                }
+            }
+        })
+    }
+
+    override fun update(e: AnActionEvent) {
+        e.presentation.isVisible = tabbedPane.activeConsole() is HybrisFlexibleSearchConsole
+        e.presentation.isEnabled = e.presentation.isVisible && e.project != null && tabbedPane.activeConsole().canExecute()
+    }
+}
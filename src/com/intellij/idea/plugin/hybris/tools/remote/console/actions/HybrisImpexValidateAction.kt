@@ -26,7 +26,7 @@ class HybrisImpexValidateAction(private val tabbedPane: HybrisTabs,
         val editor = tabbedPane.activeConsole().consoleEditor
         val lookup = LookupManager.getActiveLookup(editor)
         
-        e.presentation.isEnabled = !executeValidationActionHandler.isProcessRunning && 
+        e.presentation.isEnabled = tabbedPane.activeConsole().canExecute() && 
                 (lookup == null || !lookup.isCompletion) && tabbedPane.activeConsole() is HybrisImpexConsole
 
         e.presentation.isVisible = tabbedPane.activeConsole() is HybrisImpexConsole
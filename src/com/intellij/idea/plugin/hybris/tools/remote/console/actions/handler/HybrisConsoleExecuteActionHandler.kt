@@ -4,12 +4,17 @@ package com.intellij.idea.plugin.hybris.tools.remote.console.actions.handler
 import com.intellij.execution.console.ConsoleHistoryController
 import com.intellij.execution.impl.ConsoleViewUtil
 import com.intellij.execution.ui.ConsoleViewContentType.*
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
 import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
+import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsoleOutputSink
 import com.intellij.idea.plugin.hybris.tools.remote.console.SolrConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisImpexMonitorConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisSolrSearchConsole
+import com.intellij.idea.plugin.hybris.tools.remote.console.result.FlexibleSearchResultToolWindowFactory
 import com.intellij.idea.plugin.hybris.tools.remote.console.view.HybrisTabs
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacBatch
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult
 import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
 import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult.HybrisHttpResultBuilder.createResult
 import com.intellij.json.JsonFileType
@@ -20,6 +25,7 @@ import com.intellij.openapi.progress.ProgressIndicator
 import com.intellij.openapi.progress.ProgressManager
 import com.intellij.openapi.progress.Task
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Pair
 import com.intellij.openapi.util.TextRange
 import com.intellij.openapi.util.text.StringUtil
 
@@ -36,32 +42,45 @@ class HybrisConsoleExecuteActionHandler(private val project: Project,
     }
 
     private fun processLine(console: HybrisConsole, query: String) {
+        val statements = console.batchStatements(query)
+        if (statements.isNotEmpty()) {
+            processBatch(console, statements)
+            return
+        }
+        // submitted right away, so that the console is busy before the next update of the actions
+        val execution = console.executeAsync(query)
         ApplicationManager.getApplication().runReadAction {
-            ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Execute HTTP Call ...") {
+            ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Execute HTTP Call ...", true) {
                 override fun run(indicator: ProgressIndicator) {
-                    isProcessRunning = true
                     try {
                         setEditorEnabled(console, false)
-                        val httpResult = console.execute(query)
+                        val httpResult = awaitResult(console, execution, indicator) ?: return
+                        val sink = HybrisConsoleOutputSink(console, indicator)
 
                         when (console) {
                             is HybrisImpexMonitorConsole -> {
                                 console.clear()
-                                printSyntaxText(console, httpResult.output, ImpexFileType.getInstance())
+                                printSyntaxText(console, sink, httpResult.output, ImpexFileType.getInstance())
                             }
                             is HybrisSolrSearchConsole -> {
                                 console.clear()
                                 if (httpResult.hasError()) {
-                                    printSyntaxText(console, httpResult.errorMessage, PlainTextFileType.INSTANCE)
+                                    printSyntaxText(console, sink, httpResult.errorMessage, PlainTextFileType.INSTANCE)
                                 } else {
-                                    printSyntaxText(console, httpResult.output, JsonFileType.INSTANCE)
+                                    printSyntaxText(console, sink, httpResult.output, JsonFileType.INSTANCE)
                                 }
 
                             }
-                            else -> printPlainText(console, httpResult)
+                            else -> {
+                                val flexibleSearchResult = httpResult.flexibleSearchResult
+                                if (flexibleSearchResult != null) {
+                                    printFlexibleSearchResult(console, sink, flexibleSearchResult)
+                                } else {
+                                    printPlainText(console, sink, httpResult)
+                                }
+                            }
                         }
                     } finally {
-                        isProcessRunning = false
                         setEditorEnabled(console, true)
                     }
                 }
@@ -69,7 +88,54 @@ class HybrisConsoleExecuteActionHandler(private val project: Project,
         }
     }
 
-    private fun printPlainText(console: HybrisConsole, httpResult: HybrisHttpResult?) {
+    /**
+     * Sends all statements in a single request and prints the result of each of them on its own, FlexibleSearch
+     * results are also shown in a tab per statement of the result tool window.
+     */
+    private fun processBatch(console: HybrisConsole, statements: List<HacBatch.Statement>) {
+        val execution = console.executeBatchAsync(statements)
+        ApplicationManager.getApplication().runReadAction {
+            ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Execute HTTP Call ...", true) {
+                override fun run(indicator: ProgressIndicator) {
+                    try {
+                        setEditorEnabled(console, false)
+                        val results = awaitResult(console, execution, indicator) ?: return
+                        val sink = HybrisConsoleOutputSink(console, indicator)
+
+                        if (results.size != statements.size) {
+                            // the request failed as a whole
+                            results.forEach { printPlainText(console, sink, it) }
+                            return
+                        }
+                        val tabs = mutableListOf<Pair<String, FlexibleSearchResult>>()
+                        results.forEachIndexed { index, result ->
+                            val summary = summarize(statements[index].text)
+                            console.print("[STATEMENT ${index + 1}/${statements.size}] $summary\n", SYSTEM_OUTPUT)
+
+                            val flexibleSearchResult = result.flexibleSearchResult
+                            if (flexibleSearchResult != null) {
+                                printFlexibleSearchResult(console, sink, flexibleSearchResult, false)
+                                tabs.add(Pair.create("${index + 1}: $summary", flexibleSearchResult))
+                            } else {
+                                printPlainText(console, sink, result)
+                            }
+                        }
+                        if (tabs.isNotEmpty()) {
+                            ApplicationManager.getApplication().invokeLater {
+                                if (!project.isDisposed) FlexibleSearchResultToolWindowFactory.show(project, tabs)
+                            }
+                        }
+                    } finally {
+                        setEditorEnabled(console, true)
+                    }
+                }
+            })
+        }
+    }
+
+    private fun summarize(statement: String) = StringUtil.first(statement.trim().lineSequence().first(), SUMMARY_LENGTH, true)
+
+    private fun printPlainText(console: HybrisConsole, sink: HybrisConsoleOutputSink, httpResult: HybrisHttpResult?) {
         val result = createResult().errorMessage(httpResult?.errorMessage).output(httpResult?.output).result(httpResult?.result).detailMessage(httpResult?.detailMessage).build()
         val detailMessage = result.detailMessage
         val output = result.output
@@ -78,21 +144,60 @@ class HybrisConsoleExecuteActionHandler(private val project: Project,
 
         if (result.hasError()) {
             console.print("[ERROR] \n", SYSTEM_OUTPUT)
-            console.print("$errorMessage\n$detailMessage\n", ERROR_OUTPUT)
+            sink.print("$errorMessage\n$detailMessage\n", ERROR_OUTPUT)
             return
         }
         if (!StringUtil.isEmptyOrSpaces(output)) {
             console.print("[OUTPUT] \n", SYSTEM_OUTPUT)
-            console.print(output, NORMAL_OUTPUT)
+            sink.print(output, NORMAL_OUTPUT)
         }
         if (!StringUtil.isEmptyOrSpaces(res)) {
             console.print("[RESULT] \n", SYSTEM_OUTPUT)
-            console.print(res, NORMAL_OUTPUT)
+            sink.print(res, NORMAL_OUTPUT)
         }
     }
 
-    private fun printSyntaxText(console: HybrisConsole, output: String, fileType: FileType) {
-        ConsoleViewUtil.printAsFileType(console, output, fileType)
+    /**
+     * Prints the first page of the result, larger results are shown in full in the result tool window, which only
+     * renders the visible rows. The results of a batch are handed to the tool window all at once by the caller.
+     */
+    private fun printFlexibleSearchResult(console: HybrisConsole,
+                                          sink: HybrisConsoleOutputSink,
+                                          result: FlexibleSearchResult,
+                                          showInToolWindow: Boolean = true) {
+        console.print("[OUTPUT] \n", SYSTEM_OUTPUT)
+        sink.print(result.renderPage(0), NORMAL_OUTPUT)
+
+        if (result.pageCount > 1 || result.skippedRows > 0) {
+            val hiddenRows = result.rowCount - FlexibleSearchResult.PAGE_SIZE
+            if (hiddenRows > 0) {
+                console.print(message("flexible.search.result.console.more", hiddenRows) + "\n", SYSTEM_OUTPUT)
+            }
+            if (result.skippedRows > 0) {
+                console.print(message("flexible.search.result.console.skipped", result.skippedRows) + "\n", SYSTEM_OUTPUT)
+            }
+            if (showInToolWindow) {
+                ApplicationManager.getApplication().invokeLater {
+                    if (!project.isDisposed) FlexibleSearchResultToolWindowFactory.show(project, result)
+                }
+            }
+        } else if (showInToolWindow && result.rowCount > 0) {
+            console.printHyperlink(message("flexible.search.result.console.show")) {
+                if (!it.isDisposed) FlexibleSearchResultToolWindowFactory.show(it, result)
+            }
+            console.print("\n", SYSTEM_OUTPUT)
+        }
+    }
+
+    /**
+     * Highlighting needs the whole text at once, outputs above the size limit of the sink are printed as plain text.
+     */
+    private fun printSyntaxText(console: HybrisConsole, sink: HybrisConsoleOutputSink, output: String, fileType: FileType) {
+        if (sink.fits(output)) {
+            ConsoleViewUtil.printAsFileType(console, output, fileType)
+        } else {
+            sink.print(output, NORMAL_OUTPUT)
+        }
     }
 
     fun runExecuteAction(tabbedPane: HybrisTabs) {
@@ -129,6 +234,7 @@ class HybrisConsoleExecuteActionHandler(private val project: Project,
         }
     }
 
-    var isProcessRunning: Boolean = false
-
+    companion object {
+        private const val SUMMARY_LENGTH = 80
+    }
 }
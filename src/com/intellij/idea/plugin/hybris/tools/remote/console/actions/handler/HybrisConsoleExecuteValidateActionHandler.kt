@@ -6,6 +6,7 @@ import com.intellij.execution.impl.ConsoleViewUtil
 import com.intellij.execution.ui.ConsoleViewContentType.*
 import com.intellij.idea.plugin.hybris.impex.file.ImpexFileType
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
+import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsoleOutputSink
 import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisImpexConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisImpexMonitorConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.view.HybrisTabs
@@ -32,20 +33,21 @@ class HybrisConsoleExecuteValidateActionHandler(private val project: Project,
     }
 
     private fun processLine(console: HybrisConsole, text: String) {
+        // submitted right away, so that the console is busy before the next update of the actions
+        val execution = (console as HybrisImpexConsole).validateAsync(text)
         ApplicationManager.getApplication().runReadAction {
-            ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Execute HTTP Call to Hybris...") {
+            ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Execute HTTP Call to Hybris...", true) {
                 override fun run(indicator: ProgressIndicator) {
-                    isProcessRunning = true
                     try {
                         setEditorEnabled(console, false)
-                        val httpResult = (console as HybrisImpexConsole).validate(text)
+                        val httpResult = awaitResult(console, execution, indicator) ?: return
+                        val sink = HybrisConsoleOutputSink(console, indicator)
 
                         when (console) {
-                            is HybrisImpexMonitorConsole -> printSyntaxText(console, httpResult)
-                            else -> printPlainText(console, httpResult)
+                            is HybrisImpexMonitorConsole -> printSyntaxText(console, sink, httpResult)
+                            else -> printPlainText(console, sink, httpResult)
                         }
                     } finally {
-                        isProcessRunning = false
                         setEditorEnabled(console, true)
                     }
                 }
@@ -53,7 +55,7 @@ class HybrisConsoleExecuteValidateActionHandler(private val project: Project,
         }
     }
 
-    private fun printPlainText(console: HybrisConsole, httpResult: HybrisHttpResult?) {
+    private fun printPlainText(console: HybrisConsole, sink: HybrisConsoleOutputSink, httpResult: HybrisHttpResult?) {
         val result = createResult().errorMessage(httpResult?.errorMessage).output(httpResult?.output).result(httpResult?.result).detailMessage(httpResult?.detailMessage).build()
         val detailMessage = result.detailMessage
         val output = result.output
@@ -62,20 +64,20 @@ class HybrisConsoleExecuteValidateActionHandler(private val project: Project,
 
         if (result.hasError()) {
             console.print("[ERROR] \n", SYSTEM_OUTPUT)
-            console.print("$errorMessage\n$detailMessage\n", ERROR_OUTPUT)
+            sink.print("$errorMessage\n$detailMessage\n", ERROR_OUTPUT)
             return
         }
         if (!StringUtil.isEmptyOrSpaces(output)) {
             console.print("[OUTPUT] \n", SYSTEM_OUTPUT)
-            console.print(output, NORMAL_OUTPUT)
+            sink.print(output, NORMAL_OUTPUT)
         }
         if (!StringUtil.isEmptyOrSpaces(output)) {
             console.print("[RESULT] \n", SYSTEM_OUTPUT)
-            console.print(res, NORMAL_OUTPUT)
+            sink.print(res, NORMAL_OUTPUT)
         }
     }
 
-    private fun printSyntaxText(console: HybrisConsole, httpResult: HybrisHttpResult?) {
+    private fun printSyntaxText(console: HybrisConsole, sink: HybrisConsoleOutputSink, httpResult: HybrisHttpResult?) {
         val result = createResult().errorMessage(httpResult?.errorMessage)
                 .output(httpResult?.output)
                 .result(httpResult?.result)
@@ -84,7 +86,11 @@ class HybrisConsoleExecuteValidateActionHandler(private val project: Project,
         val output = result.output
 
         console.clear()
-        ConsoleViewUtil.printAsFileType(console, output, ImpexFileType.getInstance())
+        if (sink.fits(output)) {
+            ConsoleViewUtil.printAsFileType(console, output, ImpexFileType.getInstance())
+        } else {
+            sink.print(output, NORMAL_OUTPUT)
+        }
 
     }
 
@@ -121,6 +127,4 @@ class HybrisConsoleExecuteValidateActionHandler(private val project: Project,
         }
     }
 
-    var isProcessRunning: Boolean = false
-
 }
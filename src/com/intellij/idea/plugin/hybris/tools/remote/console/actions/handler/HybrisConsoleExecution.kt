@@ -0,0 +1,22 @@
+package com.intellij.idea.plugin.hybris.tools.remote.console.actions.handler
+
+import com.intellij.execution.ui.ConsoleViewContentType.SYSTEM_OUTPUT
+import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacExecution
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.progress.ProgressIndicator
+
+/**
+ * Waits for an execution of the console. Cancelling the progress aborts the request, a cancelled execution is
+ * reported in the console and yields `null`.
+ */
+internal fun <T> awaitResult(console: HybrisConsole,
+                             execution: HacExecution<T>,
+                             indicator: ProgressIndicator): T? {
+    return try {
+        execution.await(indicator)
+    } catch (e: ProcessCanceledException) {
+        console.print("[CANCELLED] \n", SYSTEM_OUTPUT)
+        null
+    }
+}
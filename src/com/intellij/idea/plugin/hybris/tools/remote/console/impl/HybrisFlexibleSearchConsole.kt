@@ -21,17 +21,25 @@ package com.intellij.idea.plugin.hybris.tools.remote.console.impl
 import com.intellij.execution.console.ConsoleHistoryController
 import com.intellij.execution.console.ConsoleRootType
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
 import com.intellij.idea.plugin.hybris.flexibleSearch.FlexibleSearchLanguage
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.ui.HybrisConsoleQueryPanel
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacBatch
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacExecution
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacFanOut
 import com.intellij.idea.plugin.hybris.tools.remote.http.HybrisHacHttpClient
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultExporter
 import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
+import com.intellij.openapi.progress.ProgressIndicator
 import com.intellij.openapi.project.Project
 import com.intellij.ui.components.JBCheckBox
 import com.intellij.ui.components.JBLabel
+import com.intellij.util.concurrency.AppExecutorUtil
 import com.intellij.vcs.log.ui.frame.WrappedFlowLayout
 import java.awt.BorderLayout
 import java.awt.Insets
+import java.io.File
 import javax.swing.JPanel
 import javax.swing.JSpinner
 import javax.swing.SpinnerNumberModel
@@ -49,8 +57,11 @@ class HybrisFlexibleSearchConsole(project: Project) : HybrisConsole(project, Hyb
     private val plainSqlCheckbox = JBCheckBox()
     private val plainSqlLabel = JBLabel("SQL: ")
 
-    private val maxRowsSpinner = JSpinner(SpinnerNumberModel(10, 1, 100, 1))
-    private val maxRowsLabel = JBLabel("Rows (max 100): ")
+    private val maxRowsSpinner = JSpinner(SpinnerNumberModel(10, 1, MAX_ROWS, 1))
+    private val maxRowsLabel = JBLabel("Rows (max $MAX_ROWS): ")
+
+    private val batchCheckbox = JBCheckBox()
+    private val batchLabel = JBLabel("Batch: ")
 
     private val labelInsets = Insets(0, 10, 0, 1)
 
@@ -65,6 +76,7 @@ class HybrisFlexibleSearchConsole(project: Project) : HybrisConsole(project, Hyb
         initCommitElements()
         initPlainSqlElements()
         initMaxRowsElements()
+        initBatchElements()
 
         panel.add(queryConsolePanel)
         add(panel, BorderLayout.NORTH)
@@ -89,6 +101,13 @@ class HybrisFlexibleSearchConsole(project: Project) : HybrisConsole(project, Hyb
         panel.add(maxRowsSpinner)
     }
 
+    private fun initBatchElements() {
+        batchLabel.border = EmptyBorder(labelInsets)
+        batchLabel.toolTipText = message("hybris.console.batch.flexible.search.tooltip")
+        panel.add(batchLabel)
+        panel.add(batchCheckbox)
+    }
+
     override fun execute(query: String): HybrisHttpResult {
         return HybrisHacHttpClient.getInstance(project)
                 .executeFlexibleSearch(
@@ -99,4 +118,47 @@ class HybrisFlexibleSearchConsole(project: Project) : HybrisConsole(project, Hyb
                         query
                 )
     }
+
+    override fun batchStatements(query: String): List<HacBatch.Statement> {
+        if (!batchCheckbox.isSelected) return listOf()
+
+        val kind = if (plainSqlCheckbox.isSelected) HacBatch.Kind.SQL else HacBatch.Kind.FLEXIBLE_SEARCH
+        val queries = HacBatch.splitQueries(query)
+        return if (queries.size > 1) queries.map { HacBatch.Statement(kind, it) } else listOf()
+    }
+
+    override fun executeBatch(statements: List<HacBatch.Statement>): List<HybrisHttpResult> {
+        return HybrisHacHttpClient.getInstance(project)
+                .executeBatch(project, statements, commitCheckbox.isSelected, maxRowsSpinner.value as Int)
+    }
+
+    /**
+     * Runs the query on all targets at once, each of them gets [FAN_OUT_TIMEOUT_MILLIS] to answer.
+     */
+    fun compareAsync(query: String, targets: List<HacFanOut.Target>): HacExecution<List<HacFanOut.TargetResult>> {
+        val isPlainSql = plainSqlCheckbox.isSelected
+        val maxRows = maxRowsSpinner.value.toString()
+        return submit {
+            HacFanOut(HybrisHacHttpClient.getInstance(project), AppExecutorUtil.getAppExecutorService())
+                    .executeFlexibleSearch(targets, isPlainSql, maxRows, query, FAN_OUT_TIMEOUT_MILLIS)
+        }
+    }
+
+    fun exportAsync(query: String, target: File, format: FlexibleSearchResultExporter.Format, indicator: ProgressIndicator): HacExecution<HybrisHttpResult> {
+        val isPlainSql = plainSqlCheckbox.isSelected
+        return submit {
+            HybrisHacHttpClient.getInstance(project)
+                    .exportFlexibleSearch(project, isPlainSql, query, target, format, indicator)
+        }
+    }
+
+    companion object {
+        const val FAN_OUT_TIMEOUT_MILLIS = 60_000L
+
+        /**
+         * Results are kept in pages and larger ones are shown in the result tool window, so the cap only guards
+         * against queries which would fetch whole tables.
+         */
+        const val MAX_ROWS = 100_000
+    }
 }
\ No newline at end of file
@@ -21,7 +21,9 @@ package com.intellij.idea.plugin.hybris.tools.remote.console.impl
 import com.intellij.execution.console.ConsoleHistoryController
 import com.intellij.execution.console.ConsoleRootType
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacBatch
 import com.intellij.idea.plugin.hybris.tools.remote.http.HybrisHacHttpClient
 import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
 import com.intellij.openapi.project.Project
@@ -40,6 +42,8 @@ class HybrisGroovyConsole(project: Project) : HybrisConsole(project, HybrisConst
     private val panel = JPanel(FlowLayout(FlowLayout.LEFT, 0, 0))
     private val commitCheckbox = JBCheckBox()
     private val commitLabel = JBLabel("Commit mode: ")
+    private val batchCheckbox = JBCheckBox()
+    private val batchLabel = JBLabel("Batch: ")
 
     init {
         createUI()
@@ -51,6 +55,11 @@ class HybrisGroovyConsole(project: Project) : HybrisConsole(project, HybrisConst
         commitCheckbox.border = EmptyBorder(0, 0, 0, 5)
         panel.add(commitLabel)
         panel.add(commitCheckbox)
+        batchLabel.border = EmptyBorder(5, 10, 5, 3)
+        batchLabel.toolTipText = message("hybris.console.batch.groovy.tooltip")
+        batchCheckbox.border = EmptyBorder(0, 0, 0, 5)
+        panel.add(batchLabel)
+        panel.add(batchCheckbox)
         add(panel, BorderLayout.NORTH)
         isEditable = true
     }
@@ -58,4 +67,15 @@ class HybrisGroovyConsole(project: Project) : HybrisConsole(project, HybrisConst
     override fun execute(query: String): HybrisHttpResult {
         return HybrisHacHttpClient.getInstance(project).executeGroovyScript(project, query, commitCheckbox.isSelected)
     }
+
+    override fun batchStatements(query: String): List<HacBatch.Statement> {
+        if (!batchCheckbox.isSelected) return listOf()
+
+        val scripts = HacBatch.splitScripts(query)
+        return if (scripts.size > 1) scripts.map { HacBatch.Statement(HacBatch.Kind.GROOVY, it) } else listOf()
+    }
+
+    override fun executeBatch(statements: List<HacBatch.Statement>): List<HybrisHttpResult> {
+        return HybrisHacHttpClient.getInstance(project).executeBatch(project, statements, commitCheckbox.isSelected, 0)
+    }
 }
\ No newline at end of file
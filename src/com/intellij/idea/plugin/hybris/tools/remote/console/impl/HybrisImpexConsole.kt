@@ -25,6 +25,7 @@ import com.intellij.idea.plugin.hybris.impex.ImpexLanguage
 import com.intellij.idea.plugin.hybris.tools.remote.console.CatalogVersionOption
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.preprocess.HybrisConsolePreProcessorCatalogVersion
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacExecution
 import com.intellij.idea.plugin.hybris.tools.remote.http.HybrisHacHttpClient
 import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
 import com.intellij.openapi.application.ApplicationManager
@@ -95,6 +96,8 @@ class HybrisImpexConsole(project: Project) : HybrisConsole(project, HybrisConsta
         return HybrisHacHttpClient.getInstance(project).importImpex(project, settings)
     }
 
+    fun validateAsync(text: String): HacExecution<HybrisHttpResult> = submit { validate(text) }
+
     fun validate(text: String): HybrisHttpResult {
         val settings = mutableMapOf(
                 "scriptContent" to text,
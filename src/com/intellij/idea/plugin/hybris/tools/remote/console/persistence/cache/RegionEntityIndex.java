@@ -0,0 +1,127 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for Intellij IDEA.
+ * Copyright (C) 2019 EPAM Systems <hybrisideaplugin@epam.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache;
+
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over the words of the names and bodies of the entities of a region. A search matches the entities
+ * containing all words of the text, the last word also matches as a prefix so that results narrow down while typing.
+ * Not thread safe, access is guarded by the owning region.
+ */
+public class RegionEntityIndex {
+
+    private final TreeMap<String, Set<String>> idsByWord = new TreeMap<>();
+    private final Map<String, Set<String>> wordsById = new HashMap<>();
+
+    public void add(@NotNull final RegionEntity<?> entity) {
+        remove(entity.getId());
+
+        final Set<String> words = tokenize(entity.getName() + ' ' + entity.getBody());
+        wordsById.put(entity.getId(), words);
+        for (final String word : words) {
+            idsByWord.computeIfAbsent(word, key -> new HashSet<>()).add(entity.getId());
+        }
+    }
+
+    public void remove(final String id) {
+        final Set<String> words = wordsById.remove(id);
+        if (words == null) {
+            return;
+        }
+        for (final String word : words) {
+            final Set<String> ids = idsByWord.get(word);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByWord.remove(word);
+            }
+        }
+    }
+
+    public void clear() {
+        idsByWord.clear();
+        wordsById.clear();
+    }
+
+    /**
+     * @return ids of the matching entities, all of them if the text has no words
+     */
+    @NotNull
+    public Set<String> search(@NotNull final String text) {
+        final List<String> words = new ArrayList<>(tokenize(text));
+        if (words.isEmpty()) {
+            return new HashSet<>(wordsById.keySet());
+        }
+
+        Set<String> result = null;
+        for (int i = 0; i < words.size() && (result == null || !result.isEmpty()); i++) {
+            final String word = words.get(i);
+            final Collection<Set<String>> matches = i == words.size() - 1
+                ? idsByWord.subMap(word, true, word + Character.MAX_VALUE, true).values()
+                : singletonOrEmpty(idsByWord.get(word));
+
+            final Set<String> ids = new HashSet<>();
+            matches.forEach(ids::addAll);
+            if (result == null) {
+                result = ids;
+            } else {
+                result.retainAll(ids);
+            }
+        }
+        return result;
+    }
+
+    private static Collection<Set<String>> singletonOrEmpty(final Set<String> ids) {
+        final List<Set<String>> matches = new ArrayList<>(1);
+        if (ids != null) {
+            matches.add(ids);
+        }
+        return matches;
+    }
+
+    @NotNull
+    static Set<String> tokenize(@NotNull final String text) {
+        final Set<String> words = new LinkedHashSet<>();
+        final StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
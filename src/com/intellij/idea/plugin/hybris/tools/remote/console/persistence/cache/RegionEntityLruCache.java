@@ -0,0 +1,118 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for Intellij IDEA.
+ * Copyright (C) 2019 EPAM Systems <hybrisideaplugin@epam.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache;
+
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Entities of a region in access order, bounded by their estimated heap size rather than by their number, so a few
+ * large queries cannot crowd out the rest of the history. Not thread safe, access is guarded by the owning region.
+ */
+public class RegionEntityLruCache {
+
+    private static final int ENTITY_OVERHEAD_BYTES = 96;
+
+    private final LinkedHashMap<String, RegionEntity<?>> entities = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxSizeInBytes;
+    private long sizeInBytes;
+
+    public RegionEntityLruCache(final long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Puts the entity as the most recently used one and evicts the least recently used entities above the limit,
+     * the entity itself is always kept.
+     *
+     * @return evicted entities
+     */
+    @NotNull
+    public List<RegionEntity<?>> put(@NotNull final RegionEntity<?> entity) {
+        final RegionEntity<?> previous = entities.put(entity.getId(), entity);
+        if (previous != null) {
+            sizeInBytes -= sizeOf(previous);
+        }
+        sizeInBytes += sizeOf(entity);
+
+        if (sizeInBytes <= maxSizeInBytes) {
+            return Collections.emptyList();
+        }
+        final List<RegionEntity<?>> evicted = new ArrayList<>();
+        final Iterator<RegionEntity<?>> iterator = entities.values().iterator();
+        while (sizeInBytes > maxSizeInBytes && entities.size() > 1) {
+            final RegionEntity<?> eldest = iterator.next();
+            iterator.remove();
+            sizeInBytes -= sizeOf(eldest);
+            evicted.add(eldest);
+        }
+        return evicted;
+    }
+
+    public RegionEntity<?> get(final String id) {
+        return entities.get(id);
+    }
+
+    public RegionEntity<?> remove(final String id) {
+        final RegionEntity<?> removed = entities.remove(id);
+        if (removed != null) {
+            sizeInBytes -= sizeOf(removed);
+        }
+        return removed;
+    }
+
+    public void clear() {
+        entities.clear();
+        sizeInBytes = 0;
+    }
+
+    /**
+     * @return entities from the least to the most recently used one
+     */
+    @NotNull
+    public List<RegionEntity<?>> values() {
+        return new ArrayList<>(entities.values());
+    }
+
+    public int size() {
+        return entities.size();
+    }
+
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    private static long sizeOf(final RegionEntity<?> entity) {
+        return ENTITY_OVERHEAD_BYTES + 2L * (length(entity.getId()) + length(entity.getName()) + length(entity.getBody()));
+    }
+
+    private static int length(final Object value) {
+        return value == null ? 0 : value.toString().length();
+    }
+}
@@ -21,22 +21,26 @@ package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.i
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.HybrisConsoleRegionsCache;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.Region;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class HybrisConsoleInMemoryRegionsCache implements HybrisConsoleRegionsCache {
+/**
+ * Keeps the regions in memory, each region holds its most recently used entities up to
+ * {@link Region#DEFAULT_MAX_SIZE_IN_BYTES}.
+ */
+public class HybrisConsoleLruRegionsCache implements HybrisConsoleRegionsCache {
 
     private static final String SOLR = "SOLR";
     private static final String FLEXIBLE_SEARCH = "FLEXIBLE_SEARCH";
 
 
-    private Map<String, Region> regions;
+    private final Map<String, Region> regions;
 
-    public HybrisConsoleInMemoryRegionsCache() {
-        this.regions = new HashMap<>(2);
+    public HybrisConsoleLruRegionsCache() {
+        this.regions = new ConcurrentHashMap<>(2);
 
-        regions.put(SOLR, new Region(SOLR, 7));
-        regions.put(FLEXIBLE_SEARCH, new Region(FLEXIBLE_SEARCH, 7));
+        regions.put(SOLR, new Region(SOLR));
+        regions.put(FLEXIBLE_SEARCH, new Region(FLEXIBLE_SEARCH));
     }
 
     @Override
@@ -49,4 +53,4 @@ public class HybrisConsoleInMemoryRegionsCache implements HybrisConsoleRegionsCa
         return regions.get(regionName);
     }
 
-}
\ No newline at end of file
+}
@@ -18,49 +18,93 @@
 
 package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo;
 
-public class Region<T> {
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.RegionEntityIndex;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.RegionEntityLruCache;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
 
-    private String name;
-    private RegionEntityFIFOCache<T> entities;
-    private int maxNumberEntities;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-    public Region() {
-    }
+public class Region {
+
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 2 * 1024 * 1024;
+
+    private final String name;
+    private final RegionEntityLruCache entities;
+    private final RegionEntityIndex index = new RegionEntityIndex();
 
     public Region(String name) {
-        this.maxNumberEntities = -1;
-        this.entities = new RegionEntityFIFOCache<>(maxNumberEntities);
-        this.name = name;
+        this(name, DEFAULT_MAX_SIZE_IN_BYTES);
     }
 
-    public Region(String name, int maxNumberEntities) {
-        this(name);
-        this.maxNumberEntities = maxNumberEntities;
-        this.entities = new RegionEntityFIFOCache<>(maxNumberEntities);
+    public Region(String name, long maxSizeInBytes) {
+        this.name = name;
+        this.entities = new RegionEntityLruCache(maxSizeInBytes);
     }
 
     public String getName() {
         return name;
     }
 
-    public void setName(final String name) {
-        this.name = name;
+    public long getMaxSizeInBytes() {
+        return entities.getMaxSizeInBytes();
+    }
+
+    /**
+     * @return entities evicted to keep the region within its size
+     */
+    @NotNull
+    public synchronized List<RegionEntity<?>> put(@NotNull final RegionEntity<?> entity) {
+        final List<RegionEntity<?>> evicted = entities.put(entity);
+        index.add(entity);
+        evicted.forEach(it -> index.remove(it.getId()));
+        return evicted;
+    }
+
+    /**
+     * Also makes the entity the most recently used one.
+     */
+    public synchronized Optional<RegionEntity<?>> find(final String entityId) {
+        return Optional.ofNullable(entities.get(entityId));
+    }
+
+    public synchronized boolean remove(final String entityId) {
+        index.remove(entityId);
+        return entities.remove(entityId) != null;
     }
 
-    public RegionEntityFIFOCache<T> getEntities() {
-        return entities;
+    public synchronized void clear() {
+        entities.clear();
+        index.clear();
     }
 
-    public void setEntities(final RegionEntityFIFOCache<T> entities) {
-        this.entities = entities;
+    /**
+     * @return entities from the least to the most recently used one
+     */
+    @NotNull
+    public synchronized List<RegionEntity<?>> getEntities() {
+        return entities.values();
     }
 
-    public int getMaxNumberEntities() {
-        return maxNumberEntities;
+    /**
+     * @return entities matching all words of the text, in the order of {@link #getEntities()}
+     */
+    @NotNull
+    public synchronized List<RegionEntity<?>> search(final String text) {
+        if (StringUtils.isBlank(text)) {
+            return entities.values();
+        }
+        final Set<String> ids = index.search(text);
+        return entities.values().stream()
+                       .filter(entity -> ids.contains(entity.getId()))
+                       .collect(Collectors.toList());
     }
 
-    public void setMaxNumberEntities(final int maxNumberEntities) {
-        this.maxNumberEntities = maxNumberEntities;
+    public synchronized int size() {
+        return entities.size();
     }
 
-}
\ No newline at end of file
+}
@@ -23,7 +23,7 @@ import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 public interface RegionEntityService {
@@ -34,11 +34,13 @@ public interface RegionEntityService {
 
     <T> RegionEntity<T> save(String regionName, String entityName, T entityBody);
 
-    Optional<RegionEntity> find(String entityId);
+    Optional<RegionEntity<?>> find(String entityId);
 
     void remove(String entityId);
 
-    Map<String, RegionEntity> getAll(String regionName);
+    List<RegionEntity<?>> getAll(String regionName);
+
+    List<RegionEntity<?>> search(String regionName, String text);
 
     void removeAll(String regionName);
 }
\ No newline at end of file
@@ -18,6 +18,7 @@
 
 package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services;
 
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
 import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
@@ -31,8 +32,27 @@ public interface RegionPersistenceService {
         return ServiceManager.getService(project, RegionPersistenceService.class);
     }
 
-    void writeRegionData(Path destination, String regionName);
+    /**
+     * Restores the regions from the storage directory, changes recorded before are written afterwards.
+     */
+    void load(Path storageDirectory) throws IOException;
 
-    void loadRegionData(Path source, String regionName) throws IOException;
+    void recordSave(String regionName, RegionEntity<?> entity);
+
+    void recordRemove(String regionName, String entityId);
+
+    void recordRemoveAll(String regionName);
+
+    /**
+     * Records a use of the entity, which makes it the most recently used entity of its region.
+     */
+    void recordTouch(String regionName, String entityId);
+
+    /**
+     * Writes the recorded changes which are still pending.
+     *
+     * @return {@code false} if the changes could not be written, they are kept pending then
+     */
+    boolean flush();
 
 }
\ No newline at end of file
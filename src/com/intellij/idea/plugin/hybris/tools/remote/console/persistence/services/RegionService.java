@@ -33,8 +33,6 @@ public interface RegionService {
 
     Region findOrCreate(final String name);
 
-    void save(final Region region);
-
     void remove(final String name);
 
     Map<String, Region> getAll();
@@ -18,12 +18,16 @@
 
 package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.impl;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.intellij.idea.plugin.hybris.common.HybrisConstants;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.HybrisConsoleRegionsCache;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.Region;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.ConsolePersistenceService;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.RegionPersistenceService;
-import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.ui.HybrisConsoleNotificationUtil;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.ui.listeners.HybrisConsoleQueryPanelEventManager;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.project.ProjectUtil;
@@ -32,9 +36,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
 
 public class DefaultConsolePersistenceService implements ConsolePersistenceService {
 
@@ -59,26 +67,26 @@ public class DefaultConsolePersistenceService implements ConsolePersistenceServi
 
     @Override
     public void loadPersistedQueries() {
-        final Path directoryPath = Paths.get(getStoragePath());
-
-        if (Files.exists(directoryPath)) {
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            final Path directoryPath = Paths.get(getStoragePath());
+            FileUtil.createDirectory(directoryPath.toFile());
             try {
-                loadEntitiesFromFile(regionPersistenceService, getStoragePath());
+                regionPersistenceService.load(directoryPath);
+                migrateRegionFile(directoryPath, SOLR);
+                migrateRegionFile(directoryPath, FLEXIBLE_SEARCH);
             } catch (IOException e) {
-                LOG.error(e);
+                LOG.warn("Unable to load the console query history", e);
             }
-            HybrisConsoleQueryPanelEventManager.getInstance(project).notifyListeners();
-            return;
-        }
-        FileUtil.createDirectory(new File(String.valueOf(directoryPath)));
-        HybrisConsoleQueryPanelEventManager.getInstance(project).notifyListeners();
+            ApplicationManager.getApplication().invokeLater(
+                () -> HybrisConsoleQueryPanelEventManager.getInstance(project).notifyListeners(),
+                project.getDisposed()
+            );
+        });
     }
 
     @Override
     public void persistQueryRegions() {
-        final String projectPath = getStoragePath();
-        regionPersistenceService.writeRegionData(getRegionPath(projectPath, SOLR), SOLR);
-        regionPersistenceService.writeRegionData(getRegionPath(projectPath, FLEXIBLE_SEARCH), FLEXIBLE_SEARCH);
+        regionPersistenceService.flush();
     }
 
     @NotNull
@@ -86,29 +94,46 @@ public class DefaultConsolePersistenceService implements ConsolePersistenceServi
         return ProjectUtil.guessProjectDir(project).getPath() + HybrisConstants.QUERY_STORAGE_FOLDER_PATH;
     }
 
-    private void loadEntitiesFromFile(final RegionPersistenceService loadService, final String path) throws
-                                                                                                     IOException {
-        loadEntityFromFile(loadService, getRegionPath(path, SOLR), SOLR);
-        loadEntityFromFile(loadService, getRegionPath(path, FLEXIBLE_SEARCH), FLEXIBLE_SEARCH);
-    }
-
-    private void loadEntityFromFile(
-        final RegionPersistenceService loadService,
-        final Path path,
-        final String regionName
-    ) throws IOException {
-        try {
-            loadService.loadRegionData(path, regionName);
-        } catch (IllegalArgumentException e) {
-            final String notificationTitle = e.getMessage();
-            final String notificationName = "Only 'FLEXIBLE_SEARCH' or 'SOLR' are allowable regions.";
-            HybrisConsoleNotificationUtil.displayWarningNotification(notificationTitle, notificationName, project);
+    /**
+     * Moves the queries of a region file written by previous versions into the journal. The file is deleted only
+     * once its queries are written, a malformed file is kept as {@code *_region.json.bak}.
+     */
+    private void migrateRegionFile(final Path directoryPath, final String regionName) throws IOException {
+        final Path regionPath = getRegionPath(directoryPath, regionName);
+        if (!Files.isRegularFile(regionPath)) {
+            return;
+        }
+        final RegionFile regionFile;
+        try (Reader reader = Files.newBufferedReader(regionPath, StandardCharsets.UTF_8)) {
+            regionFile = new Gson().fromJson(reader, RegionFile.class);
+        } catch (JsonParseException e) {
+            final Path backupPath = regionPath.resolveSibling(regionPath.getFileName() + ".bak");
+            LOG.warn("Malformed query region file " + regionPath + " is kept as " + backupPath, e);
+            Files.move(regionPath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            return;
         }
+        if (regionFile != null && regionFile.entities != null) {
+            final Region region = hybrisConsoleRegionsCache.findRegion(regionName);
+            for (final RegionEntity<String> entity : regionFile.entities.values()) {
+                region.put(entity);
+                regionPersistenceService.recordSave(regionName, entity);
+            }
+        }
+        if (!regionPersistenceService.flush()) {
+            LOG.warn("Query region file " + regionPath + " is kept, its queries could not be written to the history");
+            return;
+        }
+        Files.delete(regionPath);
     }
 
     @NotNull
-    private Path getRegionPath(final String path, final String regionName) {
-        return Paths.get(path + File.separator + regionName.toLowerCase() + "_region.json");
+    private Path getRegionPath(final Path path, final String regionName) {
+        return path.resolve(regionName.toLowerCase() + "_region.json");
+    }
+
+    private static class RegionFile {
+
+        private Map<String, RegionEntity<String>> entities;
     }
 
 }
\ No newline at end of file
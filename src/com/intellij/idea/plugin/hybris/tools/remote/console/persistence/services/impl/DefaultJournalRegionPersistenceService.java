@@ -0,0 +1,160 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for Intellij IDEA.
+ * Copyright (C) 2019 EPAM Systems <hybrisideaplugin@epam.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.impl;
+
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.HybrisConsoleRegionsCache;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.Region;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.RegionPersistenceService;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.Alarm;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Records the changes of the regions in a {@link QueryHistoryJournal}. Changes are queued and appended in the
+ * background once no further change came in for {@link #WRITE_DELAY_MILLIS}, the journal is compacted after a write
+ * when needed.
+ */
+public class DefaultJournalRegionPersistenceService implements RegionPersistenceService {
+
+    private static final Logger LOG = Logger.getInstance(DefaultJournalRegionPersistenceService.class);
+    private static final int WRITE_DELAY_MILLIS = 500;
+
+    private final HybrisConsoleRegionsCache cache;
+    private final Alarm writeAlarm;
+    private final Deque<QueryHistoryJournal.Record> pendingRecords = new ConcurrentLinkedDeque<>();
+    private volatile QueryHistoryJournal journal;
+
+    public DefaultJournalRegionPersistenceService(final Project project, final HybrisConsoleRegionsCache cache) {
+        this.cache = cache;
+        this.writeAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, project);
+    }
+
+    @Override
+    public void load(final Path storageDirectory) throws IOException {
+        final QueryHistoryJournal journal = new QueryHistoryJournal(storageDirectory.resolve(QueryHistoryJournal.FILE_NAME));
+        journal.replay(new QueryHistoryJournal.Replayer() {
+
+            @Override
+            public void onSave(final String regionName, final RegionEntity<?> entity) {
+                findOrCreate(regionName).put(entity);
+            }
+
+            @Override
+            public void onRemove(final String regionName, final String entityId) {
+                findOrCreate(regionName).remove(entityId);
+            }
+
+            @Override
+            public void onRemoveAll(final String regionName) {
+                findOrCreate(regionName).clear();
+            }
+
+            @Override
+            public void onTouch(final String regionName, final String entityId) {
+                findOrCreate(regionName).find(entityId);
+            }
+        });
+        this.journal = journal;
+
+        scheduleWrite();
+    }
+
+    @Override
+    public void recordSave(final String regionName, final RegionEntity<?> entity) {
+        record(QueryHistoryJournal.Record.save(regionName, entity));
+    }
+
+    @Override
+    public void recordRemove(final String regionName, final String entityId) {
+        record(QueryHistoryJournal.Record.remove(regionName, entityId));
+    }
+
+    @Override
+    public void recordRemoveAll(final String regionName) {
+        record(QueryHistoryJournal.Record.removeAll(regionName));
+    }
+
+    @Override
+    public void recordTouch(final String regionName, final String entityId) {
+        record(QueryHistoryJournal.Record.touch(regionName, entityId));
+    }
+
+    @Override
+    public synchronized boolean flush() {
+        final QueryHistoryJournal journal = this.journal;
+        if (journal == null) {
+            return false;
+        }
+        final List<QueryHistoryJournal.Record> records = new ArrayList<>();
+        QueryHistoryJournal.Record record;
+        while ((record = pendingRecords.poll()) != null) {
+            records.add(record);
+        }
+        try {
+            if (!records.isEmpty()) {
+                journal.append(records);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to write the console query history", e);
+            // keep them in front of the changes recorded in the meantime, so the next write appends them in order
+            for (int i = records.size() - 1; i >= 0; i--) {
+                pendingRecords.addFirst(records.get(i));
+            }
+            return false;
+        }
+        try {
+            if (journal.needsCompaction(countEntities())) {
+                journal.compact(cache.getRegions().values());
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to compact the console query history", e);
+        }
+        return true;
+    }
+
+    private void record(final QueryHistoryJournal.Record record) {
+        pendingRecords.add(record);
+        scheduleWrite();
+    }
+
+    private void scheduleWrite() {
+        if (writeAlarm.isDisposed()) {
+            return;
+        }
+        writeAlarm.cancelAllRequests();
+        writeAlarm.addRequest(this::flush, WRITE_DELAY_MILLIS);
+    }
+
+    private Region findOrCreate(final String regionName) {
+        return cache.getRegions().computeIfAbsent(regionName, Region::new);
+    }
+
+    private int countEntities() {
+        return cache.getRegions().values().stream().mapToInt(Region::size).sum();
+    }
+
+}
@@ -22,10 +22,10 @@ import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.Hy
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.Region;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.RegionEntityService;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.RegionPersistenceService;
 import com.intellij.util.Base64;
 
-import java.util.Collections;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,9 +34,11 @@ public class DefaultRegionEntityService implements RegionEntityService {
     private static final String SPLIT_SIGN = "_";
 
     private HybrisConsoleRegionsCache cache;
+    private RegionPersistenceService persistenceService;
 
-    public DefaultRegionEntityService(HybrisConsoleRegionsCache cache) {
+    public DefaultRegionEntityService(HybrisConsoleRegionsCache cache, RegionPersistenceService persistenceService) {
         this.cache = cache;
+        this.persistenceService = persistenceService;
     }
 
     @Override
@@ -44,31 +46,42 @@ public class DefaultRegionEntityService implements RegionEntityService {
         String uid = Base64.encode(regionName.getBytes()) + SPLIT_SIGN + UUID.randomUUID();
         RegionEntity<T> createdEntity = new RegionEntity<>(uid, entityName, entityBody);
 
-        getRegionByName(regionName).getEntities().put(uid, createdEntity);
+        List<RegionEntity<?>> evicted = getRegionByName(regionName).put(createdEntity);
+        persistenceService.recordSave(regionName, createdEntity);
+        evicted.forEach(it -> persistenceService.recordRemove(regionName, it.getId()));
         return createdEntity;
     }
 
     @Override
-    public Optional<RegionEntity> find(final String entityId) {
+    public Optional<RegionEntity<?>> find(final String entityId) {
         Region region = getRegionByEntityId(entityId);
-        Map<String, RegionEntity> entities = region.getEntities();
-        return Optional.ofNullable(entities.get(entityId));
+        Optional<RegionEntity<?>> entity = region.find(entityId);
+        entity.ifPresent(it -> persistenceService.recordTouch(region.getName(), entityId));
+        return entity;
     }
 
     @Override
     public void remove(final String entityId) {
         Region region = getRegionByEntityId(entityId);
-        region.getEntities().remove(entityId);
+        if (region.remove(entityId)) {
+            persistenceService.recordRemove(region.getName(), entityId);
+        }
     }
 
     @Override
-    public Map<String, RegionEntity> getAll(final String regionName) {
-        return Collections.unmodifiableMap(cache.findRegion(regionName).getEntities());
+    public List<RegionEntity<?>> getAll(final String regionName) {
+        return getRegionByName(regionName).getEntities();
+    }
+
+    @Override
+    public List<RegionEntity<?>> search(final String regionName, final String text) {
+        return getRegionByName(regionName).search(text);
     }
 
     @Override
     public void removeAll(final String regionName) {
-        cache.findRegion(regionName).getEntities().clear();
+        getRegionByName(regionName).clear();
+        persistenceService.recordRemoveAll(regionName);
     }
 
     private Region getRegionByEntityId(final String entityId) {
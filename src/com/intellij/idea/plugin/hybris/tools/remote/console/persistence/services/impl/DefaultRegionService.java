@@ -21,10 +21,8 @@ package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.service
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.HybrisConsoleRegionsCache;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.Region;
 import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.RegionService;
-import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
-import java.util.function.BiFunction;
 
 public class DefaultRegionService implements RegionService {
 
@@ -39,25 +37,6 @@ public class DefaultRegionService implements RegionService {
         return cache.getRegions().computeIfAbsent(regionName, Region::new);
     }
 
-    @Override
-    public void save(final Region regionFromFile) {
-        Map<String, Region> existingRegions = cache.getRegions();
-        final String regionName = regionFromFile.getName();
-        if (existingRegions.containsKey(regionName)) {
-            existingRegions.compute(regionName, getRegionWithEntitiesBiFunction(regionFromFile));
-        } else {
-            throw new IllegalArgumentException("UNKNOWN REGION: " + regionFromFile.getName());
-        }
-    }
-
-    @NotNull
-    private BiFunction<String, Region, Region> getRegionWithEntitiesBiFunction(final Region region) {
-        return (name, reg) -> {
-            reg.getEntities().putAll(region.getEntities());
-            return reg;
-        };
-    }
-
     @Override
     public void remove(final String name) {
         cache.getRegions().remove(name);
@@ -0,0 +1,190 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for Intellij IDEA.
+ * Copyright (C) 2019 EPAM Systems <hybrisideaplugin@epam.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.Region;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
+import com.intellij.openapi.diagnostic.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only journal of the changes to the console query regions, one JSON record per line. Replaying the journal
+ * restores the regions, once most of its records are obsolete it is compacted into the save records of the live
+ * entities.
+ * <p>
+ * The journal follows the size-bounded regions rather than keeping a history of its own: entities evicted from a
+ * region are journaled as removed and uses of an entity as touched, so a replay rebuilds the same entities in the
+ * same order, and a compaction, which writes the entities of the regions from the least to the most recently used
+ * one, drops nothing that a replay would still restore.
+ */
+class QueryHistoryJournal {
+
+    static final String FILE_NAME = "query_history.journal";
+
+    private static final Logger LOG = Logger.getInstance(QueryHistoryJournal.class);
+    private static final int MIN_COMPACTION_RECORDS = 256;
+
+    private final Gson gson = new Gson();
+    private final Path path;
+    private int recordCount;
+
+    QueryHistoryJournal(@NotNull final Path path) {
+        this.path = path;
+    }
+
+    interface Replayer {
+
+        void onSave(String regionName, RegionEntity<?> entity);
+
+        void onRemove(String regionName, String entityId);
+
+        void onRemoveAll(String regionName);
+
+        void onTouch(String regionName, String entityId);
+    }
+
+    synchronized void replay(@NotNull final Replayer replayer) throws IOException {
+        recordCount = 0;
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                final Record record;
+                try {
+                    record = gson.fromJson(line, Record.class);
+                } catch (JsonParseException e) {
+                    // most likely the last line of a write which was interrupted
+                    LOG.warn("Skipping malformed record of " + path, e);
+                    continue;
+                }
+                recordCount++;
+                if (Record.SAVE.equals(record.op)) {
+                    replayer.onSave(record.region, new RegionEntity<>(record.id, record.name, record.body));
+                } else if (Record.REMOVE.equals(record.op)) {
+                    replayer.onRemove(record.region, record.id);
+                } else if (Record.REMOVE_ALL.equals(record.op)) {
+                    replayer.onRemoveAll(record.region);
+                } else if (Record.TOUCH.equals(record.op)) {
+                    replayer.onTouch(record.region, record.id);
+                }
+            }
+        }
+    }
+
+    synchronized void append(@NotNull final List<Record> records) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(
+            path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND
+        )) {
+            for (final Record record : records) {
+                writer.write(gson.toJson(record));
+                writer.write('\n');
+            }
+        }
+        recordCount += records.size();
+    }
+
+    synchronized boolean needsCompaction(final int liveEntities) {
+        return recordCount >= MIN_COMPACTION_RECORDS && recordCount > 2 * liveEntities;
+    }
+
+    /**
+     * Rewrites the journal with the current entities of the regions, the file is replaced at once, so an
+     * interrupted compaction leaves the previous journal in place.
+     */
+    synchronized void compact(@NotNull final Collection<Region> regions) throws IOException {
+        final Path compacted = path.resolveSibling(FILE_NAME + ".tmp");
+        int count = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            for (final Region region : regions) {
+                for (final RegionEntity<?> entity : region.getEntities()) {
+                    writer.write(gson.toJson(Record.save(region.getName(), entity)));
+                    writer.write('\n');
+                    count++;
+                }
+            }
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        recordCount = count;
+    }
+
+    static class Record {
+
+        private static final String SAVE = "save";
+        private static final String REMOVE = "remove";
+        private static final String REMOVE_ALL = "removeAll";
+        private static final String TOUCH = "touch";
+
+        private String op;
+        private String region;
+        private String id;
+        private String name;
+        private String body;
+
+        static Record save(final String regionName, final RegionEntity<?> entity) {
+            final Record record = new Record();
+            record.op = SAVE;
+            record.region = regionName;
+            record.id = entity.getId();
+            record.name = entity.getName();
+            record.body = entity.getBody() == null ? null : entity.getBody().toString();
+            return record;
+        }
+
+        static Record remove(final String regionName, final String entityId) {
+            final Record record = new Record();
+            record.op = REMOVE;
+            record.region = regionName;
+            record.id = entityId;
+            return record;
+        }
+
+        static Record removeAll(final String regionName) {
+            final Record record = new Record();
+            record.op = REMOVE_ALL;
+            record.region = regionName;
+            return record;
+        }
+
+        static Record touch(final String regionName, final String entityId) {
+            final Record record = new Record();
+            record.op = TOUCH;
+            record.region = regionName;
+            record.id = entityId;
+            return record;
+        }
+    }
+}
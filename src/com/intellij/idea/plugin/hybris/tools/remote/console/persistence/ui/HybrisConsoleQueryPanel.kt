@@ -28,6 +28,8 @@ import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.ui.liste
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.ui.ComboBox
 import com.intellij.openapi.util.IconLoader
+import com.intellij.ui.DocumentAdapter
+import com.intellij.ui.SearchTextField
 import java.awt.Dimension
 import java.awt.event.KeyAdapter
 import java.awt.event.KeyEvent
@@ -35,6 +37,7 @@ import javax.swing.DefaultComboBoxModel
 import javax.swing.JButton
 import javax.swing.JPanel
 import javax.swing.border.EmptyBorder
+import javax.swing.event.DocumentEvent
 
 class HybrisConsoleQueryPanel(private val project: Project, private val console: HybrisConsole, region: String) : JPanel() {
 
@@ -48,11 +51,12 @@ class HybrisConsoleQueryPanel(private val project: Project, private val console:
 
     private var regionEntitiesComboBox = ComboBox<RegionEntity<*>>(emptyArray(), 200)
 
+    private val searchTextField = SearchTextField(false)
+
     private val queryNamePlaceholder = "Query Name (max length: 25)"
 
     private val queryNameTextField = HybrisConsoleQueryTextField(queryNamePlaceholder)
 
-    private val maxPossibleItemsNumber = this.region.maxNumberEntities
     private val maxQueryBodyLength = 300
     private val maxQueryNameLength = 25
     private val queryBodyNotificationTitle = "Query is too long"
@@ -66,16 +70,26 @@ class HybrisConsoleQueryPanel(private val project: Project, private val console:
 
     private fun addComponentsToPanel() {
         HybrisConsoleQueryPanelEventManager.getInstance(project).addListener(HybrisConsoleQueryPanelListener())
+        addSearchTextField()
         addComboBox()
         saveLastQuery()
         loadQueryBodyToConsole()
         removeQuery()
     }
 
+    private fun addSearchTextField() {
+        searchTextField.textEditor.emptyText.text = "Search Saved Queries"
+        searchTextField.preferredSize = Dimension(170, 25)
+        searchTextField.addDocumentListener(object : DocumentAdapter() {
+            override fun textChanged(e: DocumentEvent) = addRegionEntitiesToComboBox()
+        })
+        add(searchTextField, 0)
+    }
+
     private fun addComboBox() {
-        regionEntitiesComboBox = ComboBox(regionEntityService.getAll(this.region.name).values.toTypedArray(), 150)
+        regionEntitiesComboBox = ComboBox(regionEntityService.getAll(this.region.name).toTypedArray(), 150)
         regionEntitiesComboBox.renderer = RegionEntityCellRenderer()
-        add(regionEntitiesComboBox,0)
+        add(regionEntitiesComboBox, 1)
         regionEntitiesComboBox.addActionListener {
             run {
                 removeButton.isEnabled = regionEntitiesComboBox.selectedIndex != -1
@@ -87,9 +101,9 @@ class HybrisConsoleQueryPanel(private val project: Project, private val console:
     }
 
     private fun addRegionEntitiesToComboBox() {
-        if (regionEntitiesComboBox.itemCount == 0)
-            regionEntitiesComboBox.model = DefaultComboBoxModel<RegionEntity<*>>(regionEntityService.getAll(this.region.name).values.toTypedArray())
-
+        val entities = regionEntityService.search(this.region.name, searchTextField.text)
+        regionEntitiesComboBox.model = DefaultComboBoxModel<RegionEntity<*>>(entities.toTypedArray())
+        regionEntitiesComboBox.selectedIndex = -1
     }
 
     private fun saveLastQuery() {
@@ -129,11 +143,9 @@ class HybrisConsoleQueryPanel(private val project: Project, private val console:
     }
 
     private fun addQueryToComboBox() {
-        val savedEntity = regionEntityService.save(region.name, queryNameTextField.text, console.editorDocument.text)
-        regionEntitiesComboBox.addItem(savedEntity)
-        while (regionEntitiesComboBox.itemCount > maxPossibleItemsNumber) {
-            regionEntitiesComboBox.removeItemAt(0)
-        }
+        regionEntityService.save(region.name, queryNameTextField.text, console.editorDocument.text)
+        // the least recently used queries may have been evicted
+        addRegionEntitiesToComboBox()
         queryNameTextField.setPlaceholder(queryNamePlaceholder, console, saveButton)
         saveButton.isEnabled = false
     }
@@ -146,6 +158,8 @@ class HybrisConsoleQueryPanel(private val project: Project, private val console:
         loadButton.addActionListener {
             run {
                 val selectedEntity = this.regionEntitiesComboBox.selectedItem as RegionEntity<*>
+                // marks the query as recently used, so it is kept longer
+                regionEntityService.find(selectedEntity.id)
                 console.setInputText(selectedEntity.body as String)
             }
         }
@@ -0,0 +1,265 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.result;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultExporter;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionPlaces;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.ide.CopyPasteManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.util.io.FileUtilRt;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.JBUI;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableRowSorter;
+import java.awt.*;
+import java.awt.datatransfer.StringSelection;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message;
+
+/**
+ * Result of the last FlexibleSearch in a table which only renders the visible rows. Sorting by a column orders the
+ * rows already received, selected cells can be copied as tab separated values or saved as TSV or CSV.
+ */
+class FlexibleSearchResultPanel extends SimpleToolWindowPanel {
+
+    private static final Logger LOG = Logger.getInstance(FlexibleSearchResultPanel.class);
+    private static final int MAX_COLUMN_CHARS = 60;
+    private static final Comparator<Object> VALUE_COMPARATOR = Comparator.nullsFirst(
+        (left, right) -> StringUtil.naturalCompare(left.toString(), right.toString())
+    );
+
+    private final Project myProject;
+    private final FlexibleSearchResultTableModel myModel = new FlexibleSearchResultTableModel();
+    private final JBTable myTable = new JBTable(myModel);
+    private final JBLabel myStatus = new JBLabel();
+
+    FlexibleSearchResultPanel(@NotNull final Project project) {
+        super(true);
+        myProject = project;
+
+        myTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+        myTable.setCellSelectionEnabled(true);
+        myTable.setRowSorter(new TableRowSorter<FlexibleSearchResultTableModel>(myModel) {
+
+            @Override
+            public Comparator<?> getComparator(final int column) {
+                return VALUE_COMPARATOR;
+            }
+
+            @Override
+            protected boolean useToString(final int column) {
+                return false;
+            }
+        });
+        myTable.getEmptyText().setText(message("flexible.search.result.empty.text"));
+
+        final DefaultActionGroup actions = new DefaultActionGroup(new CopySelectionAction(), new ExportSelectionAction());
+        final ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar(ActionPlaces.UNKNOWN, actions, false);
+        toolbar.setTargetComponent(myTable);
+        setToolbar(toolbar.getComponent());
+
+        final JPanel content = new JPanel(new BorderLayout());
+        content.add(ScrollPaneFactory.createScrollPane(myTable), BorderLayout.CENTER);
+        myStatus.setBorder(JBUI.Borders.empty(2, 6));
+        content.add(myStatus, BorderLayout.SOUTH);
+        setContent(content);
+    }
+
+    void show(@NotNull final FlexibleSearchResult result) {
+        myModel.setResult(result);
+
+        // widths are known from parsing, no need to measure the rows
+        final int charWidth = myTable.getFontMetrics(myTable.getFont()).charWidth('m');
+        for (int column = 0; column < myTable.getColumnCount(); column++) {
+            final TableColumn tableColumn = myTable.getColumnModel().getColumn(column);
+            final int chars = Math.min(result.getColumnWidth(tableColumn.getModelIndex()), MAX_COLUMN_CHARS);
+            tableColumn.setPreferredWidth((chars + 2) * charWidth);
+        }
+
+        myStatus.setText(result.getSkippedRows() > 0
+            ? message("flexible.search.result.status.skipped", result.getRowCount(), result.getSkippedRows())
+            : message("flexible.search.result.status", result.getRowCount()));
+    }
+
+    /**
+     * Model indexes of the selected rows in the order they are shown, all rows if nothing is selected.
+     */
+    @NotNull
+    private int[] getSelectedRows() {
+        final int[] rows = myTable.getSelectedRowCount() > 0
+            ? myTable.getSelectedRows()
+            : IntStream.range(0, myTable.getRowCount()).toArray();
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = myTable.convertRowIndexToModel(rows[i]);
+        }
+        return rows;
+    }
+
+    @NotNull
+    private int[] getSelectedColumns() {
+        final int[] columns = myTable.getSelectedColumnCount() > 0 && myTable.getSelectedRowCount() > 0
+            ? myTable.getSelectedColumns()
+            : IntStream.range(0, myTable.getColumnCount()).toArray();
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = myTable.convertColumnIndexToModel(columns[i]);
+        }
+        return columns;
+    }
+
+    private static void write(
+        @NotNull final Writer out,
+        @NotNull final FlexibleSearchResultExporter.Format format,
+        @NotNull final FlexibleSearchResult result,
+        @NotNull final int[] rows,
+        @NotNull final int[] columns,
+        @NotNull final ProgressIndicator indicator
+    ) throws IOException {
+        final List<String> values = new ArrayList<>(columns.length);
+        for (int column : columns) {
+            values.add(result.getHeader(column));
+        }
+        format.writeRow(out, values);
+
+        for (int i = 0; i < rows.length; i++) {
+            if (i % FlexibleSearchResult.PAGE_SIZE == 0) {
+                indicator.checkCanceled();
+                indicator.setFraction((double) i / rows.length);
+            }
+            values.clear();
+            for (int column : columns) {
+                values.add(result.getValue(rows[i], column));
+            }
+            format.writeRow(out, values);
+        }
+    }
+
+    private class CopySelectionAction extends DumbAwareAction {
+
+        CopySelectionAction() {
+            super(
+                message("flexible.search.result.copy.text"),
+                message("flexible.search.result.copy.description"),
+                AllIcons.Actions.Copy
+            );
+        }
+
+        @Override
+        public void actionPerformed(@NotNull final AnActionEvent e) {
+            final StringWriter out = new StringWriter();
+            try {
+                write(out, FlexibleSearchResultExporter.Format.TSV, myModel.getResult(), getSelectedRows(), getSelectedColumns(), new EmptyProgressIndicator());
+            } catch (IOException ex) {
+                // a StringWriter does not throw
+                LOG.error(ex);
+            }
+            CopyPasteManager.getInstance().setContents(new StringSelection(out.toString()));
+        }
+
+        @Override
+        public void update(@NotNull final AnActionEvent e) {
+            e.getPresentation().setEnabled(myTable.getRowCount() > 0);
+        }
+    }
+
+    private class ExportSelectionAction extends DumbAwareAction {
+
+        ExportSelectionAction() {
+            super(
+                message("flexible.search.result.export.text"),
+                message("flexible.search.result.export.description"),
+                AllIcons.ToolbarDecorator.Export
+            );
+        }
+
+        @Override
+        public void actionPerformed(@NotNull final AnActionEvent e) {
+            final VirtualFileWrapper target = FileChooserFactory.getInstance().createSaveFileDialog(
+                new FileSaverDescriptor(
+                    message("flexible.search.result.export.title"),
+                    message("flexible.search.result.export.description"),
+                    FlexibleSearchResultExporter.Format.TSV.getExtension(),
+                    FlexibleSearchResultExporter.Format.CSV.getExtension()
+                ),
+                myProject
+            ).save(null, "flexibleSearchResult.tsv");
+            if (target == null) {
+                return;
+            }
+            final FlexibleSearchResultExporter.Format format = FlexibleSearchResultExporter.Format.byExtension(
+                FileUtilRt.getExtension(target.getFile().getName())
+            );
+            final FlexibleSearchResult result = myModel.getResult();
+            final int[] rows = getSelectedRows();
+            final int[] columns = getSelectedColumns();
+
+            ProgressManager.getInstance().run(new Task.Backgroundable(myProject, message("flexible.search.result.export.progress"), true) {
+
+                @Override
+                public void run(@NotNull final ProgressIndicator indicator) {
+                    try (Writer out = Files.newBufferedWriter(target.getFile().toPath(), StandardCharsets.UTF_8)) {
+                        write(out, format, result, rows, columns, indicator);
+                    } catch (IOException ex) {
+                        LOG.warn(ex.getMessage(), ex);
+                        ApplicationManager.getApplication().invokeLater(() -> Messages.showErrorDialog(
+                            myProject, ex.getMessage(), message("flexible.search.result.export.title")
+                        ));
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void update(@NotNull final AnActionEvent e) {
+            e.getPresentation().setEnabled(myTable.getRowCount() > 0);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.result;
+
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Table model reading cells straight from the pages of a {@link FlexibleSearchResult}. Nothing is copied, so a table
+ * only pays for the cells it actually paints.
+ */
+class FlexibleSearchResultTableModel extends AbstractTableModel {
+
+    private FlexibleSearchResult result = new FlexibleSearchResult();
+
+    @NotNull
+    FlexibleSearchResult getResult() {
+        return result;
+    }
+
+    void setResult(@NotNull final FlexibleSearchResult result) {
+        this.result = result;
+        fireTableStructureChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return result.getRowCount();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return result.getColumnCount();
+    }
+
+    @Override
+    public String getColumnName(final int column) {
+        final String header = result.getHeader(column);
+        return header == null ? super.getColumnName(column) : header;
+    }
+
+    @Override
+    public Class<?> getColumnClass(final int column) {
+        return String.class;
+    }
+
+    @Override
+    public Object getValueAt(final int row, final int column) {
+        return result.getValue(row, column);
+    }
+}
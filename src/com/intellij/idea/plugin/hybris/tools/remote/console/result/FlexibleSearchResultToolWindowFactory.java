@@ -0,0 +1,89 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.result;
+
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import com.intellij.ui.content.ContentManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+public class FlexibleSearchResultToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+    public static final String ID = "FlexibleSearch Result";
+
+    @Override
+    public void createToolWindowContent(@NotNull final Project project, @NotNull final ToolWindow toolWindow) {
+        final Content content = ContentFactory.SERVICE.getInstance().createContent(
+            new FlexibleSearchResultPanel(project), "", false
+        );
+        toolWindow.getContentManager().addContent(content);
+    }
+
+    @Override
+    public boolean isDoNotActivateOnStart() {
+        return true;
+    }
+
+    /**
+     * Must be called on the EDT.
+     */
+    public static void show(@NotNull final Project project, @NotNull final FlexibleSearchResult result) {
+        show(project, Collections.singletonList(Pair.create("", result)));
+    }
+
+    /**
+     * Shows every result in a tab of its own, e.g. the results of a batch. Must be called on the EDT.
+     */
+    public static void show(@NotNull final Project project, @NotNull final List<Pair<String, FlexibleSearchResult>> results) {
+        final ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow(ID);
+        if (toolWindow == null || results.isEmpty()) {
+            return;
+        }
+        toolWindow.activate(() -> {
+            final ContentManager contentManager = toolWindow.getContentManager();
+
+            for (int i = 0; i < results.size(); i++) {
+                Content content = contentManager.getContent(i);
+                if (content == null) {
+                    content = ContentFactory.SERVICE.getInstance().createContent(new FlexibleSearchResultPanel(project), "", false);
+                    contentManager.addContent(content);
+                }
+                content.setDisplayName(results.get(i).getFirst());
+                if (content.getComponent() instanceof FlexibleSearchResultPanel) {
+                    ((FlexibleSearchResultPanel) content.getComponent()).show(results.get(i).getSecond());
+                }
+            }
+            // tabs of a previous, larger batch
+            while (contentManager.getContentCount() > results.size()) {
+                contentManager.removeContent(contentManager.getContent(results.size()), true);
+            }
+            contentManager.setSelectedContent(contentManager.getContent(0));
+        }, false);
+    }
+}
@@ -70,6 +70,8 @@ class HybrisConsolePanel(val project: Project) : SimpleToolWindowPanel(true), Di
         toolbarActions.add(executeAction)
         toolbarActions.add(HybrisSuspendAction(hybrisTabs, actionHandler))
         toolbarActions.add(HybrisImpexValidateAction(hybrisTabs, validateHandler))
+        toolbarActions.add(HybrisFlexibleSearchExportAction(hybrisTabs))
+        toolbarActions.add(HybrisFlexibleSearchCompareAction(hybrisTabs))
 
         val actions = impexConsole.createConsoleActions()
         actions[5] = HybrisClearAllAction(hybrisTabs)
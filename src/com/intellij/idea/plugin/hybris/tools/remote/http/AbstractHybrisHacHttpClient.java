@@ -3,52 +3,36 @@ package com.intellij.idea.plugin.hybris.tools.remote.http;
 import com.intellij.idea.plugin.hybris.common.services.CommonIdeaService;
 import com.intellij.idea.plugin.hybris.settings.HybrisDeveloperSpecificProjectSettingsComponent;
 import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings;
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacSessionManager.HacSession;
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.config.Registry;
-import org.apache.http.config.RegistryBuilder;
-import org.apache.http.conn.HttpClientConnectionManager;
-import org.apache.http.conn.socket.ConnectionSocketFactory;
-import org.apache.http.conn.socket.PlainConnectionSocketFactory;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.message.BasicHttpResponse;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.message.BasicStatusLine;
-import org.apache.http.ssl.SSLContexts;
-import org.apache.http.ssl.TrustStrategy;
+import org.apache.http.util.EntityUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.jsoup.Connection;
-import org.jsoup.Connection.Method;
-import org.jsoup.Connection.Response;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
 
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import java.io.Closeable;
 import java.io.IOException;
 import java.net.ConnectException;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -58,39 +42,75 @@ import static org.apache.http.HttpHeaders.USER_AGENT;
 import static org.apache.http.HttpStatus.SC_FORBIDDEN;
 import static org.apache.http.HttpStatus.SC_MOVED_TEMPORARILY;
 import static org.apache.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
+import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
 import static org.apache.http.HttpVersion.HTTP_1_1;
 
-public abstract class AbstractHybrisHacHttpClient {
+public abstract class AbstractHybrisHacHttpClient implements Disposable {
     private static final Logger LOG = Logger.getInstance(AbstractHybrisHacHttpClient.class);
-    protected String sessionId;
+    private static final int MAX_REDIRECTS = 5;
+    private final HacHttpClientPool clientPool = new HacHttpClientPool();
+    private final HacSessionManager sessionManager = new HacSessionManager();
 
     public String login(Project project) {
-        HybrisRemoteConnectionSettings settings = HybrisDeveloperSpecificProjectSettingsComponent.getInstance(project).getActiveHybrisRemoteConnectionSettings(project);
-        return login(project, settings);
+        return login(project, getActiveSettings(project));
     }
 
     public String login(@NotNull Project project, @NotNull HybrisRemoteConnectionSettings settings) {
-        String hostHacURL = getHostHacURL(project);
-        sessionId = getSessionId(hostHacURL);
-        if (sessionId == null) {
-            return "Unable to obtain sessionId for "+hostHacURL;
+        final String hostHacURL = getHostHacURL(project);
+        final HacSession session = createSession(settings, hostHacURL);
+        sessionManager.putSession(hostHacURL, session);
+        return session.isValid() ? StringUtils.EMPTY : session.getErrorMessage();
+    }
+
+    @NotNull
+    private HacSession createSession(@NotNull HybrisRemoteConnectionSettings settings, @NotNull String hostHacURL) {
+        try (HacHttpClientPool.Lease lease = clientPool.acquire(settings)) {
+            return lease == null
+                ? HacSession.failed("Unable to create HttpClient")
+                : createSession(lease.getClient(), settings, hostHacURL);
+        }
+    }
+
+    @NotNull
+    private HacSession createSession(
+        @NotNull HttpClient client,
+        @NotNull HybrisRemoteConnectionSettings settings,
+        @NotNull String hostHacURL
+    ) {
+        final String anonymousSessionId = getSessionId(client, settings, hostHacURL);
+        if (anonymousSessionId == null) {
+            return HacSession.failed("Unable to obtain sessionId for "+hostHacURL);
+        }
+        final String loginCsrfToken = getCsrfToken(client, hostHacURL, anonymousSessionId);
+        if (loginCsrfToken == null) {
+            return HacSession.failed("Unable to obtain csrfToken for sessionId="+anonymousSessionId);
         }
-        final String csrfToken = getCsrfToken(hostHacURL, sessionId);
         List<BasicNameValuePair> params = new ArrayList<>();
         params.add(new BasicNameValuePair("j_username", settings.getHacLogin()));
         params.add(new BasicNameValuePair("j_password", settings.getHacPassword()));
-        params.add(new BasicNameValuePair("_csrf", csrfToken));
+        params.add(new BasicNameValuePair("_csrf", loginCsrfToken));
         String loginURL = hostHacURL + "/j_spring_security_check";
-        HttpResponse response = post(project, loginURL, params, false);
+        final HttpResponse response;
+        try {
+            response = execute(client, createPost(loginURL, params, anonymousSessionId, loginCsrfToken));
+        } catch (IOException e) {
+            LOG.warn(e.getMessage(), e);
+            return HacSession.failed(e.getMessage());
+        }
         if (response.getStatusLine().getStatusCode() == SC_MOVED_TEMPORARILY) {
             Header location = response.getFirstHeader("Location");
             if (location != null && location.getValue().contains("login_error")) {
-                return "Wrong username/password. Set your credentials in [y] tool window.";
+                return HacSession.failed("Wrong username/password. Set your credentials in [y] tool window.");
             }
         }
-        sessionId = CookieParser.getInstance().getSpecialCookie(response.getAllHeaders());
+        final String sessionId = CookieParser.getInstance().getSpecialCookie(response.getAllHeaders());
         if (sessionId != null) {
-            return StringUtils.EMPTY;
+            // the CSRF token belongs to the session, which is replaced on login
+            final String csrfToken = getCsrfToken(client, hostHacURL, sessionId);
+            if (csrfToken == null) {
+                return HacSession.failed("Unable to obtain csrfToken for sessionId="+sessionId);
+            }
+            return HacSession.of(sessionId, csrfToken);
         }
         int statusCode = response.getStatusLine().getStatusCode();
         StringBuffer sb = new StringBuffer();
@@ -107,58 +127,171 @@ public abstract class AbstractHybrisHacHttpClient {
             default:
                 sb.append(response.getStatusLine().getReasonPhrase());
         }
-        return sb.toString();
+        return HacSession.failed(sb.toString());
     }
 
     @NotNull
     public final HttpResponse post(@NotNull Project project, @NotNull String actionUrl, @NotNull List<BasicNameValuePair> params, boolean canReLoginIfNeeded) {
-        if (sessionId == null) {
-            String errorMessage = login(project);
-            if (StringUtils.isNotBlank(errorMessage)) {
-                return createErrorResponse(errorMessage);
+        return post(getActiveSettings(project), getHostHacURL(project), actionUrl, params, canReLoginIfNeeded);
+    }
+
+    /**
+     * Posts with the cached session of the HAC instance, logging in first if there is none. A session rejected
+     * by the server is dropped and, if allowed, the request is repeated once with a new one.
+     */
+    @NotNull
+    public final HttpResponse post(
+        @NotNull HybrisRemoteConnectionSettings settings,
+        @NotNull String hostHacURL,
+        @NotNull String actionUrl,
+        @NotNull List<BasicNameValuePair> params,
+        boolean canReLoginIfNeeded
+    ) {
+        final HacSession session = sessionManager.getSession(hostHacURL, () -> createSession(settings, hostHacURL));
+        if (!session.isValid()) {
+            return createErrorResponse(session.getErrorMessage());
+        }
+
+        HttpResponse response;
+        try (HacHttpClientPool.Lease lease = clientPool.acquire(settings)) {
+            if (lease == null) {
+                return createErrorResponse("Unable to create HttpClient");
+            }
+            response = execute(lease.getClient(), createPost(actionUrl, params, session.getSessionId(), session.getCsrfToken()));
+        } catch (IOException e) {
+            // an aborted request is expected to fail
+            if (!HacExecution.isCurrentCancelled()) {
+                LOG.warn(e.getMessage(), e);
             }
+            return createErrorResponse(e.getMessage());
         }
-        String csrfToken = getCsrfToken(getHostHacURL(project), sessionId);
-        if (csrfToken == null) {
-            this.sessionId = null;
+
+        if (isSessionRejected(response)) {
+            sessionManager.invalidate(hostHacURL, session);
             if (canReLoginIfNeeded) {
-                return post(project, actionUrl, params, false);
+                return post(settings, hostHacURL, actionUrl, params, false);
             }
-            return createErrorResponse("Unable to obtain csrfToken for sessionId="+sessionId);
         }
-        HttpClient client = createAllowAllClient(6000L);
-        if (client == null) {
-            return createErrorResponse("Unable to create HttpClient");
+        return response;
+    }
+
+    public final <T> T post(
+        @NotNull Project project,
+        @NotNull String actionUrl,
+        @NotNull List<BasicNameValuePair> params,
+        boolean canReLoginIfNeeded,
+        @NotNull ResponseHandler<? extends T> handler
+    ) throws IOException {
+        return post(getActiveSettings(project), getHostHacURL(project), actionUrl, params, canReLoginIfNeeded, handler);
+    }
+
+    /**
+     * Same as {@link #post(HybrisRemoteConnectionSettings, String, String, List, boolean)}, but the response body is
+     * not buffered: the handler reads it straight from the connection. If the handler does not read it to the end,
+     * e.g. because it was cancelled, the connection is closed instead of being returned to the pool.
+     */
+    public final <T> T post(
+        @NotNull HybrisRemoteConnectionSettings settings,
+        @NotNull String hostHacURL,
+        @NotNull String actionUrl,
+        @NotNull List<BasicNameValuePair> params,
+        boolean canReLoginIfNeeded,
+        @NotNull ResponseHandler<? extends T> handler
+    ) throws IOException {
+        final HacSession session = sessionManager.getSession(hostHacURL, () -> createSession(settings, hostHacURL));
+        if (!session.isValid()) {
+            return handler.handleResponse(createErrorResponse(session.getErrorMessage()));
         }
+
+        final HttpPost post = createPost(actionUrl, params, session.getSessionId(), session.getCsrfToken());
+        HacExecution.attach(post);
+        // the client stays leased until the handler has read the response
+        try (HacHttpClientPool.Lease lease = clientPool.acquire(settings)) {
+            if (lease == null) {
+                return handler.handleResponse(createErrorResponse("Unable to create HttpClient"));
+            }
+            final HttpResponse response = lease.getClient().execute(post);
+            try {
+                if (isSessionRejected(response)) {
+                    sessionManager.invalidate(hostHacURL, session);
+                    if (canReLoginIfNeeded) {
+                        EntityUtils.consume(response.getEntity());
+                        return post(settings, hostHacURL, actionUrl, params, false, handler);
+                    }
+                }
+                final T result = handler.handleResponse(response);
+                EntityUtils.consume(response.getEntity());
+                return result;
+            } finally {
+                if (response instanceof Closeable) {
+                    ((Closeable) response).close();
+                }
+            }
+        } finally {
+            HacExecution.detach(post);
+        }
+    }
+
+    @NotNull
+    public HacSessionManager getSessionManager() {
+        return sessionManager;
+    }
+
+    @NotNull
+    private static HttpPost createPost(
+        @NotNull String actionUrl,
+        @NotNull List<BasicNameValuePair> params,
+        @NotNull String sessionId,
+        @NotNull String csrfToken
+    ) throws IOException {
         HttpPost post = new HttpPost(actionUrl);
         post.setHeader("User-Agent", USER_AGENT);
         post.setHeader("X-CSRF-TOKEN", csrfToken);
         post.setHeader("Cookie", "JSESSIONID=" + sessionId);
+        post.setEntity(new UrlEncodedFormEntity(params, "utf-8"));
+        return post;
+    }
 
-        HttpResponse response;
-        try {
-            post.setEntity(new UrlEncodedFormEntity(params, "utf-8"));
-            response = client.execute(post);
-        } catch (IOException e) {
-            LOG.warn(e.getMessage(), e);
-            return createErrorResponse(e.getMessage());
+    private static boolean isSessionRejected(@NotNull HttpResponse response) {
+        final int statusCode = response.getStatusLine().getStatusCode();
+        if (statusCode == SC_UNAUTHORIZED || statusCode == SC_FORBIDDEN) {
+            return true;
         }
-
-        boolean needsLogin = response.getStatusLine().getStatusCode() == SC_FORBIDDEN;
-        if (response.getStatusLine().getStatusCode() == SC_MOVED_TEMPORARILY) {
+        if (statusCode == SC_MOVED_TEMPORARILY) {
             Header location = response.getFirstHeader("Location");
-            if (location != null && location.getValue().contains("login")) {
-                needsLogin = true;
-            }
+            return location != null && location.getValue().contains("login");
         }
+        return false;
+    }
 
-        if (needsLogin) {
-            this.sessionId = null;
-            if (canReLoginIfNeeded) {
-                return post(project, actionUrl, params, false);
+    /**
+     * Executes the request with a pooled client and buffers the response body, so that the connection goes
+     * back to the pool right away, even if the caller never reads the body. Cancelling the {@link HacExecution}
+     * of the current thread aborts the request.
+     */
+    @NotNull
+    protected HttpResponse execute(@NotNull final HttpClient client, @NotNull final HttpUriRequest request) throws IOException {
+        HacExecution.attach(request);
+        try {
+            final HttpResponse response = client.execute(request);
+            if (response.getEntity() != null) {
+                response.setEntity(new BufferedHttpEntity(response.getEntity()));
             }
+            return response;
+        } finally {
+            HacExecution.detach(request);
         }
-        return response;
+    }
+
+    @NotNull
+    protected static HybrisRemoteConnectionSettings getActiveSettings(@NotNull final Project project) {
+        return HybrisDeveloperSpecificProjectSettingsComponent.getInstance(project).getActiveHybrisRemoteConnectionSettings(project);
+    }
+
+    @Override
+    public void dispose() {
+        clientPool.dispose();
+        sessionManager.clear();
     }
 
     protected HttpResponse createErrorResponse(final String reasonPhrase) {
@@ -173,83 +306,46 @@ public abstract class AbstractHybrisHacHttpClient {
         return CommonIdeaService.getInstance().getHostHacUrl(project, settings);
     }
 
-    protected CloseableHttpClient createAllowAllClient(long timeout) {
-        SSLContext sslcontext = null;
+    @Nullable
+    protected String getSessionId(@NotNull HttpClient client, @NotNull HybrisRemoteConnectionSettings settings, @NotNull String hacURL) {
+        final RequestConfig config = HacHttpClientPool.createRequestConfig(settings).setRedirectsEnabled(false).build();
+        // redirects are followed by hand, the session cookie may be set by any response of the chain
+        String url = hacURL;
         try {
-            sslcontext = SSLContexts.custom().loadTrustMaterial(null, new TrustStrategy() {
-                @Override
-                public boolean isTrusted(X509Certificate[] chain, String authType) throws CertificateException {
-                    return true;
+            for (int redirect = 0; redirect <= MAX_REDIRECTS; redirect++) {
+                final HttpGet get = new HttpGet(url);
+                get.setConfig(config);
+                final HttpResponse response = execute(client, get);
+                final String sessionId = CookieParser.getInstance().getSpecialCookie(response.getAllHeaders());
+                final Header location = response.getFirstHeader("Location");
+                if (sessionId != null || location == null) {
+                    return sessionId;
                 }
-            }).build();
-        } catch (NoSuchAlgorithmException | KeyManagementException | KeyStoreException e) {
-            LOG.warn(e.getMessage(), e);
-            return null;
-        }
-        SSLConnectionSocketFactory sslConnectionFactory = new SSLConnectionSocketFactory(sslcontext, NoopHostnameVerifier.INSTANCE);
-
-        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
-            .register("http", PlainConnectionSocketFactory.getSocketFactory())
-            .register("https", sslConnectionFactory)
-            .build();
-
-        HttpClientConnectionManager ccm = new BasicHttpClientConnectionManager(registry);
-        HttpClientBuilder builder = HttpClients.custom();
-        builder.setConnectionManager(ccm);
-        RequestConfig config = RequestConfig.custom()
-                                            .setSocketTimeout((int)timeout)
-                                            .setConnectTimeout((int)timeout)
-                                            .build();
-        builder.setDefaultRequestConfig(config);
-        return builder.build();
-    }
-
-
-    protected String getSessionId(String hacURL) {
-        final Response res = getResponseForUrl(hacURL);
-        if (res == null) {
-            return null;
-        }
-        return res.cookie("JSESSIONID");
-    }
-
-    protected Response getResponseForUrl(String hacURL) {
-        try {
-            return connect(hacURL).method(Method.GET).execute();
+                url = URI.create(url).resolve(location.getValue()).toString();
+            }
         } catch (ConnectException ce) {
             return null;
-        } catch (NoSuchAlgorithmException | IOException | KeyManagementException e) {
+        } catch (IOException | IllegalArgumentException e) {
             LOG.warn(e.getMessage(), e);
-            return null;
         }
+        return null;
     }
 
-    protected String getCsrfToken(@NotNull String hacURL, @NotNull String sessionId) {
+    @Nullable
+    protected String getCsrfToken(@NotNull HttpClient client, @NotNull String hacURL, @NotNull String sessionId) {
+        final HttpGet get = new HttpGet(hacURL);
+        get.setHeader("Cookie", "JSESSIONID=" + sessionId);
         try {
-            final Document doc = connect(hacURL).cookie("JSESSIONID", sessionId).get();
+            final HttpResponse response = execute(client, get);
+            if (response.getEntity() == null) {
+                return null;
+            }
+            final Document doc = Jsoup.parse(response.getEntity().getContent(), StandardCharsets.UTF_8.name(), hacURL);
             final Elements csrfMetaElt = doc.select("meta[name=_csrf]");
-            return csrfMetaElt.attr("content");
-        } catch (IOException | NoSuchAlgorithmException | KeyManagementException e) {
+            return StringUtils.defaultIfBlank(csrfMetaElt.attr("content"), null);
+        } catch (IOException e) {
             LOG.warn(e.getMessage(), e);
         }
         return null;
     }
-
-    private Connection connect(@NotNull String url) throws NoSuchAlgorithmException, KeyManagementException {
-        TrustManager[] trustAllCerts = new TrustManager[]{new X509TrustManager() {
-            @Nullable
-            public X509Certificate[] getAcceptedIssuers() {
-                return null;
-            }
-
-            public void checkClientTrusted(@NotNull X509Certificate[] certs, @NotNull String authType) { }
-
-            public void checkServerTrusted(@NotNull X509Certificate[] certs, @NotNull String authType) { }
-        }};
-        SSLContext sc = SSLContext.getInstance("TLSv1");
-        sc.init(null, trustAllCerts, new SecureRandom());
-        HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-        HttpsURLConnection.setDefaultHostnameVerifier(new NoopHostnameVerifier());
-        return Jsoup.connect(url);
-    }
 }
@@ -0,0 +1,402 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultParser;
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult.HybrisHttpResultBuilder.createResult;
+
+/**
+ * Several console statements sent to HAC in a single request. The statements are wrapped into one Groovy script for
+ * {@code /console/scripting/execute}, which runs them one after another on the server and returns the result of
+ * each of them as JSON, so N statements cost one login-checked round-trip instead of N.
+ * <p>
+ * A failing statement does not stop the following ones. Groovy statements share the binding of the script, so a
+ * variable assigned by one statement can be read by the next one, just like in consecutive console executions.
+ * An SQL statement which returns no rows, such as an {@code UPDATE}, yields its update count as a single
+ * {@code Updated rows} column; whether it is committed depends on the commit mode of the script.
+ * <p>
+ * FlexibleSearch statements are not run with {@code FlexibleSearchService.search}. Like the FlexibleSearch console
+ * of HAC, the script has the service translate a query, so restrictions and type, attribute and localization
+ * resolution are the same, and then runs the SQL over JDBC on the data source of the current tenant. Every column
+ * is therefore returned as the raw database value instead of a model or a converted attribute value, results do not
+ * go through the FlexibleSearch query cache, and {@code maxRows} limits the JDBC statement rather than the count of
+ * the search.
+ */
+public final class HacBatch {
+
+    public enum Kind {
+        GROOVY,
+        FLEXIBLE_SEARCH,
+        SQL
+    }
+
+    public static final class Statement {
+
+        private final Kind kind;
+        private final String text;
+
+        public Statement(@NotNull final Kind kind, @NotNull final String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+
+        @NotNull
+        public Kind getKind() {
+            return kind;
+        }
+
+        @NotNull
+        public String getText() {
+            return text;
+        }
+    }
+
+    private static final String UPDATE_COUNT_HEADER = "Updated rows";
+
+    /**
+     * Separates Groovy statements: a line comment of at least three dashes, which leaves the whole input valid Groovy.
+     */
+    private static final Pattern GROOVY_SEPARATOR = Pattern.compile("^[ \\t]*//[ \\t]*-{3,}[ \\t]*$", Pattern.MULTILINE);
+
+    private static final String SCRIPT_HEAD = String.join(
+        "\n",
+        "import de.hybris.platform.core.PK",
+        "import de.hybris.platform.core.Registry",
+        "import de.hybris.platform.core.model.ItemModel",
+        "import de.hybris.platform.servicelayer.search.FlexibleSearchQuery",
+        "import groovy.json.JsonOutput",
+        "",
+        ""
+    );
+
+    private static final String SCRIPT_TAIL = String.join(
+        "\n",
+        "def results = []",
+        "for (statement in statements) {",
+        "    results << (statement[0] == 'GROOVY' ? runScript(statement[1]) : runQuery(statement[0], statement[1], maxRows))",
+        "}",
+        "JsonOutput.toJson(results)",
+        "",
+        "def runScript(String script) {",
+        "    def result = [outputText: '', executionResult: '', stacktraceText: '']",
+        "    def output = new StringWriter()",
+        "    def hadOut = binding.hasVariable('out')",
+        "    def originalOut = hadOut ? binding.getVariable('out') : null",
+        "    binding.setVariable('out', new PrintWriter(output, true))",
+        "    try {",
+        "        def value = new GroovyShell(this.class.classLoader, binding).evaluate(script)",
+        "        result.executionResult = value == null ? '' : String.valueOf(value)",
+        "    } catch (Throwable e) {",
+        "        def stacktrace = new StringWriter()",
+        "        e.printStackTrace(new PrintWriter(stacktrace, true))",
+        "        result.stacktraceText = stacktrace.toString()",
+        "    } finally {",
+        "        if (hadOut) binding.setVariable('out', originalOut) else binding.variables.remove('out')",
+        "    }",
+        "    result.outputText = output.toString()",
+        "    result",
+        "}",
+        "",
+        "def runQuery(String kind, String query, int maxRows) {",
+        "    def result = [headers: [], resultList: []]",
+        "    try {",
+        "        def sql = query",
+        "        def parameters = []",
+        "        if (kind == 'FLEXIBLE_SEARCH') {",
+        "            def translation = Registry.applicationContext.getBean('flexibleSearchService').translate(new FlexibleSearchQuery(query))",
+        "            sql = translation.getSQLQuery()",
+        "            parameters = translation.getSQLQueryParameters()",
+        "        }",
+        "        def connection = Registry.currentTenant.dataSource.connection",
+        "        try {",
+        "            def prepared = connection.prepareStatement(sql)",
+        "            try {",
+        "                prepared.maxRows = maxRows",
+        "                parameters.eachWithIndex { value, index -> prepared.setObject(index + 1, toJdbcValue(value)) }",
+        "                if (prepared.execute()) {",
+        "                    def rows = prepared.resultSet",
+        "                    def columns = rows.metaData.columnCount",
+        "                    result.headers = (0..<columns).collect { rows.metaData.getColumnLabel(it + 1) }",
+        "                    while (rows.next()) {",
+        "                        result.resultList << (0..<columns).collect { rows.getString(it + 1) }",
+        "                    }",
+        "                } else {",
+        "                    result.headers = ['" + UPDATE_COUNT_HEADER + "']",
+        "                    result.resultList << [String.valueOf(prepared.updateCount)]",
+        "                }",
+        "            } finally {",
+        "                prepared.close()",
+        "            }",
+        "        } finally {",
+        "            connection.close()",
+        "        }",
+        "    } catch (Throwable e) {",
+        "        result.exception = [message: e.message ?: e.class.name]",
+        "    }",
+        "    result",
+        "}",
+        "",
+        "def toJdbcValue(value) {",
+        "    value instanceof ItemModel ? value.pk.longValue : value instanceof PK ? value.longValue : value",
+        "}",
+        ""
+    );
+
+    private HacBatch() {
+    }
+
+    /**
+     * Splits the input of the Groovy console at separator lines such as {@code // ---}, blank parts are dropped.
+     */
+    @NotNull
+    public static List<String> splitScripts(@NotNull final String text) {
+        final List<String> scripts = new ArrayList<>();
+        for (String script : GROOVY_SEPARATOR.split(text)) {
+            if (StringUtils.isNotBlank(script)) {
+                scripts.add(script);
+            }
+        }
+        return scripts;
+    }
+
+    /**
+     * Splits the input of the FlexibleSearch console at semicolons outside of quoted literals and {@code --} line
+     * comments. Comments stay with the query they are in, parts without anything but blanks and comments are dropped.
+     */
+    @NotNull
+    public static List<String> splitQueries(@NotNull final String text) {
+        final List<String> queries = new ArrayList<>();
+        char quote = 0;
+        int start = 0;
+        boolean hasCode = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '-' && i + 1 < text.length() && text.charAt(i + 1) == '-') {
+                i = lineEnd(text, i) - 1;
+            } else if (c == ';') {
+                if (hasCode) {
+                    queries.add(text.substring(start, i).trim());
+                }
+                start = i + 1;
+                hasCode = false;
+            } else {
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                }
+                hasCode |= !Character.isWhitespace(c);
+            }
+        }
+        if (hasCode) {
+            queries.add(text.substring(start).trim());
+        }
+        return queries;
+    }
+
+    private static int lineEnd(@NotNull final String text, final int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == '\n' || text.charAt(i) == '\r') {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    /**
+     * @param maxRows rows fetched for each FlexibleSearch or SQL statement
+     */
+    @NotNull
+    public static String createScript(@NotNull final List<Statement> statements, final int maxRows) {
+        final StringBuilder script = new StringBuilder(SCRIPT_HEAD)
+            .append("def maxRows = ").append(maxRows).append('\n')
+            .append("def statements = [\n");
+
+        for (Statement statement : statements) {
+            script.append("    ['").append(statement.getKind().name()).append("', ");
+            appendLiteral(script, statement.getText());
+            script.append("],\n");
+        }
+        return script.append("]\n").append(SCRIPT_TAIL).toString();
+    }
+
+    private static void appendLiteral(@NotNull final StringBuilder script, @NotNull final String text) {
+        script.append('\'');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                    script.append("\\\\");
+                    break;
+                case '\'':
+                    script.append("\\'");
+                    break;
+                case '\n':
+                    script.append("\\n");
+                    break;
+                case '\r':
+                    script.append("\\r");
+                    break;
+                default:
+                    script.append(c);
+            }
+        }
+        script.append('\'');
+    }
+
+    /**
+     * Reads the answer of the scripting console to a script of {@link #createScript(List, int)}. The results are in
+     * the order of the statements, a script which failed as a whole yields only its error.
+     */
+    @NotNull
+    public static List<HybrisHttpResult> parseResults(
+        @NotNull final InputStream content,
+        @NotNull final List<Statement> statements,
+        final int maxRows
+    ) throws IOException {
+        String executionResult = null;
+        String stacktrace = null;
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            reader.setLenient(true);
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "executionResult":
+                        executionResult = readString(reader);
+                        break;
+                    case "stacktraceText":
+                        stacktrace = readString(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        if (StringUtils.isNotEmpty(stacktrace)) {
+            return Collections.singletonList(createResult().errorMessage(stacktrace).build());
+        }
+        if (StringUtils.isEmpty(executionResult)) {
+            return Collections.singletonList(createResult().errorMessage("No data in response").build());
+        }
+        return readStatementResults(executionResult, statements, maxRows);
+    }
+
+    @NotNull
+    private static List<HybrisHttpResult> readStatementResults(
+        @NotNull final String json,
+        @NotNull final List<Statement> statements,
+        final int maxRows
+    ) throws IOException {
+        final List<HybrisHttpResult> results = new ArrayList<>(statements.size());
+
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.setLenient(true);
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                if (results.size() >= statements.size()) {
+                    reader.skipValue();
+                } else if (statements.get(results.size()).getKind() == Kind.GROOVY) {
+                    results.add(readScriptResult(reader));
+                } else {
+                    results.add(readQueryResult(reader, maxRows));
+                }
+            }
+            reader.endArray();
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return results;
+    }
+
+    @NotNull
+    private static HybrisHttpResult readScriptResult(@NotNull final JsonReader reader) throws IOException {
+        final HybrisHttpResult.HybrisHttpResultBuilder resultBuilder = createResult();
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "outputText":
+                    resultBuilder.output(readString(reader));
+                    break;
+                case "executionResult":
+                    resultBuilder.result(readString(reader));
+                    break;
+                case "stacktraceText":
+                    resultBuilder.errorMessage(readString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return resultBuilder.build();
+    }
+
+    @NotNull
+    private static HybrisHttpResult readQueryResult(@NotNull final JsonReader reader, final int maxRows) throws IOException {
+        final FlexibleSearchResult result = FlexibleSearchResultParser.read(reader, maxRows);
+        if (result.hasException()) {
+            return createResult()
+                .errorMessage(StringUtils.defaultIfEmpty(result.getExceptionMessage(), "FlexibleSearch failed without a message"))
+                .build();
+        }
+        return createResult().flexibleSearchResult(result).build();
+    }
+
+    @Nullable
+    private static String readString(@NotNull final JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        if (reader.peek() != JsonToken.STRING) {
+            reader.skipValue();
+            return null;
+        }
+        return reader.nextString();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.util.ThrowableComputable;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A remote execution running in the background. Cancelling it aborts the HTTP request in flight, which closes its
+ * connection instead of waiting for the server to answer, and keeps the requests which were not sent yet from
+ * being sent at all.
+ * <p>
+ * The HAC client registers every request it sends with the execution of the current thread, so any blocking call
+ * of {@link HybrisHacHttpClient} becomes cancellable when run through {@link #submit(Executor, ThrowableComputable)}.
+ */
+public class HacExecution<T> extends CompletableFuture<T> {
+
+    private static final ThreadLocal<HacExecution<?>> CURRENT = new ThreadLocal<>();
+    private static final long AWAIT_STEP_MILLIS = 50;
+
+    private final AtomicReference<HttpUriRequest> request = new AtomicReference<>();
+
+    /**
+     * Runs the computation on the executor, a bounded executor limits how many executions run at the same time.
+     */
+    @NotNull
+    public static <T> HacExecution<T> submit(
+        @NotNull final Executor executor,
+        @NotNull final ThrowableComputable<? extends T, ? extends Exception> computation
+    ) {
+        final HacExecution<T> execution = new HacExecution<>();
+        try {
+            executor.execute(() -> {
+                if (execution.isDone()) {
+                    // cancelled while waiting in the queue
+                    return;
+                }
+                CURRENT.set(execution);
+                try {
+                    execution.complete(computation.compute());
+                } catch (Throwable e) {
+                    execution.completeExceptionally(e);
+                } finally {
+                    CURRENT.remove();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            execution.completeExceptionally(e);
+        }
+        return execution;
+    }
+
+    /**
+     * Waits for the result and cancels the execution as soon as the indicator is cancelled.
+     *
+     * @throws ProcessCanceledException if the indicator or the execution itself was cancelled
+     */
+    public T await(@NotNull final ProgressIndicator indicator) {
+        while (true) {
+            if (indicator.isCanceled()) {
+                cancel(true);
+            }
+            try {
+                return get(AWAIT_STEP_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // check the indicator again
+            } catch (CancellationException e) {
+                throw new ProcessCanceledException();
+            } catch (InterruptedException e) {
+                cancel(true);
+                Thread.currentThread().interrupt();
+                throw new ProcessCanceledException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        final boolean cancelled = super.cancel(mayInterruptIfRunning);
+        abort(request.getAndSet(null));
+        return cancelled;
+    }
+
+    /**
+     * Whether the execution of the current thread, if any, has been cancelled.
+     */
+    static boolean isCurrentCancelled() {
+        final HacExecution<?> execution = CURRENT.get();
+        return execution != null && execution.isCancelled();
+    }
+
+    /**
+     * Binds the request to the execution of the current thread, if any. A request of an execution which has already
+     * been cancelled is aborted right away, so that executing it fails without touching the network.
+     */
+    static void attach(@NotNull final HttpUriRequest request) {
+        final HacExecution<?> execution = CURRENT.get();
+        if (execution == null) {
+            return;
+        }
+        execution.request.set(request);
+        if (execution.isCancelled()) {
+            abort(execution.request.getAndSet(null));
+        }
+    }
+
+    static void detach(@NotNull final HttpUriRequest request) {
+        final HacExecution<?> execution = CURRENT.get();
+        if (execution != null) {
+            execution.request.compareAndSet(request, null);
+        }
+    }
+
+    private static void abort(@Nullable final HttpUriRequest request) {
+        if (request != null) {
+            request.abort();
+        }
+    }
+}
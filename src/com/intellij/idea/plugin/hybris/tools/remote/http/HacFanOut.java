@@ -0,0 +1,211 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings;
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult.HybrisHttpResultBuilder.createResult;
+
+/**
+ * Runs the same FlexibleSearch against several HAC connections at once, so that the whole run takes as long as the
+ * slowest connection instead of the sum of all of them.
+ * <p>
+ * Every connection has a timeout of its own. A connection which does not answer in time is cancelled, which aborts
+ * its request, and reported as timed out without holding back the results of the others. Cancelling the
+ * {@link HacExecution} the fan-out runs in cancels all connections.
+ */
+public class HacFanOut {
+
+    private static final long AWAIT_STEP_MILLIS = 50;
+
+    private final HybrisHacHttpClient client;
+    private final Executor executor;
+
+    /**
+     * @param executor runs the request of each connection, it should not limit them to fewer threads than connections
+     */
+    public HacFanOut(@NotNull final HybrisHacHttpClient client, @NotNull final Executor executor) {
+        this.client = client;
+        this.executor = executor;
+    }
+
+    /**
+     * @return the results in the order of the targets
+     */
+    @NotNull
+    public List<TargetResult> executeFlexibleSearch(
+        @NotNull final List<Target> targets,
+        final boolean isPlainSQL,
+        final String maxRows,
+        final String query,
+        final long timeoutMillis
+    ) {
+        final List<HacExecution<TargetResult>> executions = new ArrayList<>(targets.size());
+        for (Target target : targets) {
+            executions.add(HacExecution.submit(executor, () -> {
+                final long startedAt = System.nanoTime();
+                HybrisHttpResult result;
+                try {
+                    result = client.executeFlexibleSearch(
+                        target.getSettings(), target.getHostHacURL(), false, isPlainSQL, maxRows, query
+                    );
+                } catch (RuntimeException e) {
+                    result = createResult().errorMessage(String.valueOf(e.getMessage())).build();
+                }
+                return new TargetResult(target, result, System.nanoTime() - startedAt, false);
+            }));
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        final CompletableFuture<Void> all = CompletableFuture.allOf(executions.toArray(new CompletableFuture[0]));
+        while (!all.isDone()) {
+            if (HacExecution.isCurrentCancelled()) {
+                executions.forEach(execution -> execution.cancel(true));
+                throw new ProcessCanceledException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                // cancelling aborts the requests still in flight, their executions complete right away
+                executions.forEach(execution -> execution.cancel(true));
+                break;
+            }
+            try {
+                all.get(AWAIT_STEP_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                // check the cancellation and the deadline again
+            } catch (InterruptedException e) {
+                executions.forEach(execution -> execution.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ProcessCanceledException(e);
+            }
+        }
+
+        final List<TargetResult> results = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            results.add(getResult(targets.get(i), executions.get(i), timeoutMillis));
+        }
+        return results;
+    }
+
+    @NotNull
+    private static TargetResult getResult(
+        @NotNull final Target target,
+        @NotNull final HacExecution<TargetResult> execution,
+        final long timeoutMillis
+    ) {
+        if (execution.isCancelled()) {
+            return new TargetResult(
+                target,
+                createResult().errorMessage("No answer within " + timeoutMillis + " ms").build(),
+                TimeUnit.MILLISECONDS.toNanos(timeoutMillis),
+                true
+            );
+        }
+        try {
+            return execution.join();
+        } catch (RuntimeException e) {
+            // e.g. rejected by the executor, the request was never sent
+            final Throwable cause = e.getCause() == null ? e : e.getCause();
+            return new TargetResult(target, createResult().errorMessage(String.valueOf(cause.getMessage())).build(), 0, false);
+        }
+    }
+
+    /**
+     * A HAC connection to run the query on.
+     */
+    public static class Target {
+
+        private final String name;
+        private final HybrisRemoteConnectionSettings settings;
+        private final String hostHacURL;
+
+        public Target(
+            @NotNull final String name,
+            @NotNull final HybrisRemoteConnectionSettings settings,
+            @NotNull final String hostHacURL
+        ) {
+            this.name = name;
+            this.settings = settings;
+            this.hostHacURL = hostHacURL;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        @NotNull
+        public HybrisRemoteConnectionSettings getSettings() {
+            return settings;
+        }
+
+        @NotNull
+        public String getHostHacURL() {
+            return hostHacURL;
+        }
+    }
+
+    public static class TargetResult {
+
+        private final Target target;
+        private final HybrisHttpResult result;
+        private final long nanos;
+        private final boolean timedOut;
+
+        private TargetResult(
+            @NotNull final Target target,
+            @NotNull final HybrisHttpResult result,
+            final long nanos,
+            final boolean timedOut
+        ) {
+            this.target = target;
+            this.result = result;
+            this.nanos = nanos;
+            this.timedOut = timedOut;
+        }
+
+        @NotNull
+        public Target getTarget() {
+            return target;
+        }
+
+        @NotNull
+        public HybrisHttpResult getResult() {
+            return result;
+        }
+
+        public long getMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+    }
+}
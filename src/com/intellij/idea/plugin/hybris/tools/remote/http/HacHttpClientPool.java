@@ -0,0 +1,238 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContexts;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps one pooled keep-alive client per remote connection, so consecutive console executions reuse open
+ * TCP and TLS connections instead of handshaking for every request. All clients share a single trust-all
+ * {@link SSLContext}, which also lets new connections resume cached TLS sessions.
+ * <p>
+ * A client is replaced when the timeouts of its connection change and all clients are closed on dispose. Clients are
+ * handed out as {@link Lease}s: a replaced or disposed client is closed only once the requests still running on it
+ * have released it.
+ */
+public class HacHttpClientPool implements Disposable {
+
+    private static final Logger LOG = Logger.getInstance(HacHttpClientPool.class);
+
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 4;
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2_000;
+    private static final long MAX_IDLE_SECONDS = 60;
+
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+    private volatile boolean disposed;
+
+    /**
+     * Leases the client of the given connection, the lease has to be closed once the response is read.
+     *
+     * @return the lease or {@code null} if the pool is disposed or the SSL context could not be created
+     */
+    @Nullable
+    public Lease acquire(@NotNull final HybrisRemoteConnectionSettings settings) {
+        if (disposed) {
+            return null;
+        }
+        final SSLContext sslContext = TrustAllSslContextHolder.INSTANCE;
+        if (sslContext == null) {
+            return null;
+        }
+        final int connectTimeout = settings.getConnectTimeout();
+        final int socketTimeout = settings.getSocketTimeout();
+
+        // the lease is taken inside compute(), so the client cannot be retired between the lookup and the lease
+        final Lease[] lease = new Lease[1];
+        clients.compute(StringUtils.defaultString(settings.getUuid()), (uuid, current) -> {
+            PooledClient pooledClient = current;
+            if (current == null || current.connectTimeout != connectTimeout || current.socketTimeout != socketTimeout) {
+                if (current != null) {
+                    current.retire();
+                }
+                pooledClient = new PooledClient(createClient(sslContext, connectTimeout, socketTimeout), connectTimeout, socketTimeout);
+            }
+            lease[0] = pooledClient.lease();
+            return pooledClient;
+        });
+        return lease[0];
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        clients.values().forEach(PooledClient::retire);
+        clients.clear();
+    }
+
+    /**
+     * Request configuration with the timeouts of the connection, for requests which need to adjust the defaults.
+     */
+    @NotNull
+    public static RequestConfig.Builder createRequestConfig(@NotNull final HybrisRemoteConnectionSettings settings) {
+        return createRequestConfig(settings.getConnectTimeout(), settings.getSocketTimeout());
+    }
+
+    @NotNull
+    private static RequestConfig.Builder createRequestConfig(final int connectTimeout, final int socketTimeout) {
+        return RequestConfig.custom()
+                            .setConnectTimeout(connectTimeout)
+                            .setSocketTimeout(socketTimeout)
+                            .setConnectionRequestTimeout(connectTimeout);
+    }
+
+    @NotNull
+    private static CloseableHttpClient createClient(
+        @NotNull final SSLContext sslContext,
+        final int connectTimeout,
+        final int socketTimeout
+    ) {
+        final Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE))
+            .build();
+
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        connectionManager.setMaxTotal(MAX_CONNECTIONS_PER_ROUTE * 2);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+
+        // session cookies are sent explicitly per request, a client-wide cookie store would mix up the sessions
+        return HttpClients.custom()
+                          .setConnectionManager(connectionManager)
+                          .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                          .evictExpiredConnections()
+                          .evictIdleConnections(MAX_IDLE_SECONDS, TimeUnit.SECONDS)
+                          .disableCookieManagement()
+                          .setDefaultRequestConfig(createRequestConfig(connectTimeout, socketTimeout).build())
+                          .build();
+    }
+
+    /**
+     * A client in use by a request. Closing the lease does not close the client, it only releases it.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final PooledClient pooledClient;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(@NotNull final PooledClient pooledClient) {
+            this.pooledClient = pooledClient;
+        }
+
+        @NotNull
+        public CloseableHttpClient getClient() {
+            return pooledClient.client;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                pooledClient.release();
+            }
+        }
+    }
+
+    private static class PooledClient {
+
+        private final CloseableHttpClient client;
+        private final int connectTimeout;
+        private final int socketTimeout;
+        private int leases;
+        private boolean retired;
+
+        private PooledClient(@NotNull final CloseableHttpClient client, final int connectTimeout, final int socketTimeout) {
+            this.client = client;
+            this.connectTimeout = connectTimeout;
+            this.socketTimeout = socketTimeout;
+        }
+
+        @NotNull
+        private synchronized Lease lease() {
+            leases++;
+            return new Lease(this);
+        }
+
+        private synchronized void release() {
+            leases--;
+            if (retired && leases == 0) {
+                close();
+            }
+        }
+
+        /**
+         * No new leases are given out, the client is closed as soon as the last one is released.
+         */
+        private synchronized void retire() {
+            retired = true;
+            if (leases == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                client.close();
+            } catch (IOException e) {
+                LOG.warn(e.getMessage(), e);
+            }
+        }
+    }
+
+    private static class TrustAllSslContextHolder {
+
+        private static final SSLContext INSTANCE = create();
+
+        @Nullable
+        private static SSLContext create() {
+            try {
+                return SSLContexts.custom().loadTrustMaterial(null, (chain, authType) -> true).build();
+            } catch (NoSuchAlgorithmException | KeyManagementException | KeyStoreException e) {
+                LOG.warn(e.getMessage(), e);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the session cookie and the CSRF token of every HAC instance, so that console executions don't have to
+ * fetch the HAC page before each request. A session is only dropped when the server rejects it; concurrent
+ * executions for the same instance wait for a single login instead of starting their own.
+ */
+public class HacSessionManager {
+
+    private final Map<String, HacSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Returns the cached session of the instance or logs in with the given loader. Failed logins are not cached.
+     */
+    @NotNull
+    public HacSession getSession(@NotNull final String hacUrl, @NotNull final Supplier<HacSession> loader) {
+        final HacSession cached = sessions.get(hacUrl);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        synchronized (locks.computeIfAbsent(hacUrl, url -> new Object())) {
+            final HacSession loaded = sessions.get(hacUrl);
+            if (loaded != null) {
+                hits.incrementAndGet();
+                return loaded;
+            }
+            misses.incrementAndGet();
+            final HacSession session = loader.get();
+            if (session.isValid()) {
+                sessions.put(hacUrl, session);
+            }
+            return session;
+        }
+    }
+
+    /**
+     * Stores a session obtained outside of {@link #getSession(String, Supplier)}, e.g. by an explicit login.
+     */
+    public void putSession(@NotNull final String hacUrl, @NotNull final HacSession session) {
+        if (session.isValid()) {
+            sessions.put(hacUrl, session);
+        }
+    }
+
+    /**
+     * Drops the session rejected by the server. A newer session stored by a concurrent execution is kept.
+     */
+    public void invalidate(@NotNull final String hacUrl, @NotNull final HacSession session) {
+        if (sessions.remove(hacUrl, session)) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public void clear() {
+        sessions.clear();
+    }
+
+    /**
+     * Requests served with a cached session.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Requests which had to log in first.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Sessions dropped because the server answered with 401, 403 or a redirect to the login page.
+     */
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    public static class HacSession {
+
+        private final String sessionId;
+        private final String csrfToken;
+        private final String errorMessage;
+
+        private HacSession(@Nullable final String sessionId, @Nullable final String csrfToken, @Nullable final String errorMessage) {
+            this.sessionId = sessionId;
+            this.csrfToken = csrfToken;
+            this.errorMessage = errorMessage;
+        }
+
+        @NotNull
+        public static HacSession of(@NotNull final String sessionId, @NotNull final String csrfToken) {
+            return new HacSession(sessionId, csrfToken, null);
+        }
+
+        @NotNull
+        public static HacSession failed(@NotNull final String errorMessage) {
+            return new HacSession(null, null, errorMessage);
+        }
+
+        public boolean isValid() {
+            return sessionId != null && csrfToken != null;
+        }
+
+        @Nullable
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        @Nullable
+        public String getCsrfToken() {
+            return csrfToken;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
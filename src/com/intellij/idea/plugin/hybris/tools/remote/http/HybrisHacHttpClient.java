@@ -19,16 +19,24 @@
 package com.intellij.idea.plugin.hybris.tools.remote.http;
 
 import com.google.gson.Gson;
-import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.TableBuilder;
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultExporter;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultParser;
 import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult;
 import com.intellij.idea.plugin.hybris.tools.remote.http.solr.SolrHttpClient;
 import com.intellij.idea.plugin.hybris.tools.remote.http.solr.SolrQueryObject;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
+import org.apache.http.client.HttpResponseException;
 import org.apache.http.message.BasicNameValuePair;
 import org.jetbrains.annotations.NotNull;
 import org.jsoup.Jsoup;
@@ -36,8 +44,13 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +67,7 @@ import static org.jsoup.Jsoup.parse;
 public class HybrisHacHttpClient extends AbstractHybrisHacHttpClient {
 
     private static final Logger LOG = Logger.getInstance(HybrisHacHttpClient.class);
+    private static final String EXPORT_MAX_ROWS = String.valueOf(Integer.MAX_VALUE);
 
     public static HybrisHacHttpClient getInstance(@NotNull final Project project) {
         return project.getComponent(HybrisHacHttpClient.class);
@@ -61,7 +75,16 @@ public class HybrisHacHttpClient extends AbstractHybrisHacHttpClient {
 
     public @NotNull
     HybrisHttpResult validateImpex(final Project project, final Map<String, String> requestParams) {
-        final HttpResponse response = getHttpResponse(project, "/console/impex/import/validate", requestParams);
+        return validateImpex(getActiveSettings(project), getHostHacURL(project), requestParams);
+    }
+
+    public @NotNull
+    HybrisHttpResult validateImpex(
+        @NotNull final HybrisRemoteConnectionSettings settings,
+        @NotNull final String hostHacURL,
+        final Map<String, String> requestParams
+    ) {
+        final HttpResponse response = getHttpResponse(settings, hostHacURL, "/console/impex/import/validate", requestParams);
         HybrisHttpResult.HybrisHttpResultBuilder resultBuilder = createResult();
         resultBuilder = resultBuilder.httpCode(response.getStatusLine().getStatusCode());
         if (response.getStatusLine().getStatusCode() != SC_OK) {
@@ -93,13 +116,14 @@ public class HybrisHacHttpClient extends AbstractHybrisHacHttpClient {
     }
 
     private HttpResponse getHttpResponse(
-        final Project project,
+        final HybrisRemoteConnectionSettings settings,
+        final String hostHacURL,
         final String urlSuffix,
         Map<String, String> requestParams
     ) {
         final List<BasicNameValuePair> params = createParamsList(requestParams);
-        final String actionUrl = getHostHacURL(project) + urlSuffix;
-        return post(project, actionUrl, params, false);
+        final String actionUrl = hostHacURL + urlSuffix;
+        return post(settings, hostHacURL, actionUrl, params, true);
     }
 
     private List<BasicNameValuePair> createParamsList(Map<String, String> requestParams) {
@@ -109,8 +133,17 @@ public class HybrisHacHttpClient extends AbstractHybrisHacHttpClient {
     }
 
     public @NotNull
-    HybrisHttpResult importImpex(final Project project, final Map<String, String> settings) {
-        final HttpResponse response = getHttpResponse(project, "/console/impex/import", settings);
+    HybrisHttpResult importImpex(final Project project, final Map<String, String> requestParams) {
+        return importImpex(getActiveSettings(project), getHostHacURL(project), requestParams);
+    }
+
+    public @NotNull
+    HybrisHttpResult importImpex(
+        @NotNull final HybrisRemoteConnectionSettings settings,
+        @NotNull final String hostHacURL,
+        final Map<String, String> requestParams
+    ) {
+        final HttpResponse response = getHttpResponse(settings, hostHacURL, "/console/impex/import", requestParams);
         HybrisHttpResult.HybrisHttpResultBuilder resultBuilder = createResult();
         resultBuilder = resultBuilder.httpCode(response.getStatusLine().getStatusCode());
         if (response.getStatusLine().getStatusCode() != SC_OK) {
@@ -153,49 +186,128 @@ public class HybrisHacHttpClient extends AbstractHybrisHacHttpClient {
         final String maxRows,
         final String content
     ) {
-
-        final List<BasicNameValuePair> params = asList(
-            new BasicNameValuePair("scriptType", "flexibleSearch"),
-            new BasicNameValuePair("commit", BooleanUtils.toStringTrueFalse(shouldCommit)),
-            new BasicNameValuePair("flexibleSearchQuery", isPlainSQL ? "" : content),
-            new BasicNameValuePair("sqlQuery", isPlainSQL ? content : ""),
-            new BasicNameValuePair("maxCount", maxRows)
+        return executeFlexibleSearch(
+            getActiveSettings(project), getHostHacURL(project), shouldCommit, isPlainSQL, maxRows, content
         );
-        HybrisHttpResult.HybrisHttpResultBuilder resultBuilder = createResult();
-        final String actionUrl = getHostHacURL(project) + "/console/flexsearch/execute";
+    }
 
-        final HttpResponse response = post(project, actionUrl, params, true);
-        final StatusLine statusLine = response.getStatusLine();
-        resultBuilder = resultBuilder.httpCode(statusLine.getStatusCode());
-        if (statusLine.getStatusCode() != SC_OK || response.getEntity() == null) {
-            return resultBuilder.errorMessage("[" + statusLine.getStatusCode() + "] " +
-                                              statusLine.getReasonPhrase()).build();
-        }
-        final Document document;
+    public @NotNull
+    HybrisHttpResult executeFlexibleSearch(
+        @NotNull final HybrisRemoteConnectionSettings settings,
+        @NotNull final String hostHacURL,
+        final boolean shouldCommit,
+        final boolean isPlainSQL,
+        final String maxRows,
+        final String content
+    ) {
+
+        final List<BasicNameValuePair> params = createFlexibleSearchParams(shouldCommit, isPlainSQL, maxRows, content);
+        final String actionUrl = hostHacURL + "/console/flexsearch/execute";
+
+        // the result is parsed while it is received, the response body is never buffered
+        final FlexibleSearchResult result;
         try {
-            document = parse(response.getEntity().getContent(), StandardCharsets.UTF_8.name(), "");
+            result = post(settings, hostHacURL, actionUrl, params, true, response -> {
+                final StatusLine statusLine = response.getStatusLine();
+                if (statusLine.getStatusCode() != SC_OK || response.getEntity() == null) {
+                    throw new HttpResponseException(
+                        statusLine.getStatusCode(), "[" + statusLine.getStatusCode() + "] " + statusLine.getReasonPhrase()
+                    );
+                }
+                try (InputStream responseContent = response.getEntity().getContent()) {
+                    return FlexibleSearchResultParser.parse(responseContent, parseMaxRows(maxRows));
+                }
+            });
+        } catch (final HttpResponseException e) {
+            return createResult().errorMessage(e.getMessage()).httpCode(e.getStatusCode()).build();
         } catch (final IOException e) {
-            return resultBuilder.errorMessage(e.getMessage() + ' ' + actionUrl).httpCode(SC_BAD_REQUEST).build();
+            return createResult().errorMessage(e.getMessage() + ' ' + actionUrl).httpCode(SC_BAD_REQUEST).build();
         }
-        final Elements fsResultStatus = document.getElementsByTag("body");
-        if (fsResultStatus == null) {
-            return resultBuilder.errorMessage("No data in response").build();
-        }
-        final HashMap json = new Gson().fromJson(fsResultStatus.text(), HashMap.class);
-        if (json.get("exception") != null) {
+        if (result.hasException()) {
             return createResult()
-                .errorMessage(((Map<String, Object>) json.get("exception")).get("message").toString())
+                .errorMessage(StringUtils.defaultIfEmpty(result.getExceptionMessage(), "FlexibleSearch failed without a message"))
                 .build();
-        } else {
-            TableBuilder tableBuilder = new TableBuilder();
+        }
+        return createResult().httpCode(SC_OK).flexibleSearchResult(result).build();
+    }
 
-            final List<String> headers = (List<String>) json.get("headers");
-            final List<List<String>> resultList = (List<List<String>>) json.get("resultList");
+    /**
+     * Executes the query without a row limit and writes the rows to {@code target} while they are received, the
+     * result is never held in memory. A cancelled or failed export removes the partially written file.
+     */
+    public @NotNull
+    HybrisHttpResult exportFlexibleSearch(
+        final Project project,
+        final boolean isPlainSQL,
+        final String content,
+        @NotNull final File target,
+        @NotNull final FlexibleSearchResultExporter.Format format,
+        @NotNull final ProgressIndicator indicator
+    ) {
+        return exportFlexibleSearch(
+            getActiveSettings(project), getHostHacURL(project), isPlainSQL, content, target, format, indicator
+        );
+    }
+
+    public @NotNull
+    HybrisHttpResult exportFlexibleSearch(
+        @NotNull final HybrisRemoteConnectionSettings settings,
+        @NotNull final String hostHacURL,
+        final boolean isPlainSQL,
+        final String content,
+        @NotNull final File target,
+        @NotNull final FlexibleSearchResultExporter.Format format,
+        @NotNull final ProgressIndicator indicator
+    ) {
+        final List<BasicNameValuePair> params = createFlexibleSearchParams(false, isPlainSQL, EXPORT_MAX_ROWS, content);
+        final String actionUrl = hostHacURL + "/console/flexsearch/execute";
 
-            tableBuilder.addRow(headers.toArray(new String[]{}));
-            resultList.forEach(row -> tableBuilder.addRow(row.toArray(new String[]{})));
+        try {
+            final int rows = post(settings, hostHacURL, actionUrl, params, true, response -> {
+                final StatusLine statusLine = response.getStatusLine();
+                if (statusLine.getStatusCode() != SC_OK || response.getEntity() == null) {
+                    throw new HttpResponseException(
+                        statusLine.getStatusCode(), "[" + statusLine.getStatusCode() + "] " + statusLine.getReasonPhrase()
+                    );
+                }
+                final HttpEntity entity = response.getEntity();
+                try (Writer out = Files.newBufferedWriter(target.toPath(), StandardCharsets.UTF_8)) {
+                    return FlexibleSearchResultExporter.export(entity.getContent(), entity.getContentLength(), out, format, indicator);
+                } catch (IOException | RuntimeException e) {
+                    FileUtil.delete(target);
+                    throw e;
+                }
+            });
+            return createResult().output(String.format("%,d rows written to %s%n", rows, target.getPath())).build();
+        } catch (final HttpResponseException e) {
+            return createResult().errorMessage(e.getMessage()).httpCode(e.getStatusCode()).build();
+        } catch (final FlexibleSearchResultExporter.FlexibleSearchExportException e) {
+            return createResult().errorMessage(e.getMessage()).build();
+        } catch (final IOException e) {
+            return createResult().errorMessage(e.getMessage() + ' ' + actionUrl).httpCode(SC_BAD_REQUEST).build();
+        }
+    }
+
+    private static List<BasicNameValuePair> createFlexibleSearchParams(
+        final boolean shouldCommit,
+        final boolean isPlainSQL,
+        final String maxRows,
+        final String content
+    ) {
+        return asList(
+            new BasicNameValuePair("scriptType", "flexibleSearch"),
+            new BasicNameValuePair("commit", BooleanUtils.toStringTrueFalse(shouldCommit)),
+            new BasicNameValuePair("flexibleSearchQuery", isPlainSQL ? "" : content),
+            new BasicNameValuePair("sqlQuery", isPlainSQL ? content : ""),
+            new BasicNameValuePair("maxCount", maxRows)
+        );
+    }
 
-            return resultBuilder.output(tableBuilder.toString()).build();
+    private static int parseMaxRows(final String maxRows) {
+        try {
+            return Integer.parseInt(maxRows);
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
         }
     }
 
@@ -203,6 +315,16 @@ public class HybrisHacHttpClient extends AbstractHybrisHacHttpClient {
     HybrisHttpResult executeGroovyScript(
         final Project project, final String content, final boolean isCommitMode
     ) {
+        return executeGroovyScript(getActiveSettings(project), getHostHacURL(project), content, isCommitMode);
+    }
+
+    public @NotNull
+    HybrisHttpResult executeGroovyScript(
+        @NotNull final HybrisRemoteConnectionSettings settings,
+        @NotNull final String hostHacURL,
+        final String content,
+        final boolean isCommitMode
+    ) {
 
         final List<BasicNameValuePair> params = asList(
             new BasicNameValuePair("scriptType", "groovy"),
@@ -210,9 +332,9 @@ public class HybrisHacHttpClient extends AbstractHybrisHacHttpClient {
             new BasicNameValuePair("script", content)
         );
         HybrisHttpResult.HybrisHttpResultBuilder resultBuilder = createResult();
-        final String actionUrl = getHostHacURL(project) + "/console/scripting/execute";
+        final String actionUrl = hostHacURL + "/console/scripting/execute";
 
-        final HttpResponse response = post(project, actionUrl, params, true);
+        final HttpResponse response = post(settings, hostHacURL, actionUrl, params, true);
         final StatusLine statusLine = response.getStatusLine();
         resultBuilder = resultBuilder.httpCode(statusLine.getStatusCode());
         if (statusLine.getStatusCode() != SC_OK || response.getEntity() == null) {
@@ -245,6 +367,51 @@ public class HybrisHacHttpClient extends AbstractHybrisHacHttpClient {
         }
     }
 
+    /**
+     * Runs the statements one after another in a single request to the scripting console, see {@link HacBatch}.
+     * The results are in the order of the statements, a request which failed as a whole yields only its error.
+     *
+     * @param maxRows rows fetched for each FlexibleSearch or SQL statement
+     */
+    public @NotNull
+    List<HybrisHttpResult> executeBatch(
+        final Project project, final List<HacBatch.Statement> statements, final boolean isCommitMode, final int maxRows
+    ) {
+        return executeBatch(getActiveSettings(project), getHostHacURL(project), statements, isCommitMode, maxRows);
+    }
+
+    public @NotNull
+    List<HybrisHttpResult> executeBatch(
+        @NotNull final HybrisRemoteConnectionSettings settings,
+        @NotNull final String hostHacURL,
+        @NotNull final List<HacBatch.Statement> statements,
+        final boolean isCommitMode,
+        final int maxRows
+    ) {
+        final List<BasicNameValuePair> params = asList(
+            new BasicNameValuePair("scriptType", "groovy"),
+            new BasicNameValuePair("commit", String.valueOf(isCommitMode)),
+            new BasicNameValuePair("script", HacBatch.createScript(statements, maxRows))
+        );
+        final String actionUrl = hostHacURL + "/console/scripting/execute";
+
+        final HttpResponse response = post(settings, hostHacURL, actionUrl, params, true);
+        final StatusLine statusLine = response.getStatusLine();
+        if (statusLine.getStatusCode() != SC_OK || response.getEntity() == null) {
+            return Collections.singletonList(createResult()
+                .httpCode(statusLine.getStatusCode())
+                .errorMessage("[" + statusLine.getStatusCode() + "] " + statusLine.getReasonPhrase())
+                .build());
+        }
+        try (InputStream responseContent = response.getEntity().getContent()) {
+            return HacBatch.parseResults(responseContent, statements, maxRows);
+        } catch (final IOException e) {
+            return Collections.singletonList(
+                createResult().errorMessage(e.getMessage() + ' ' + actionUrl).httpCode(SC_BAD_REQUEST).build()
+            );
+        }
+    }
+
     @NotNull
     public HybrisHttpResult executeSolrSearch(final Project project, final Optional<SolrQueryObject> queryObject) {
         return queryObject.map(query -> SolrHttpClient.getInstance(project).executeSolrQuery(project, query))
@@ -0,0 +1,205 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a FlexibleSearch executed through HAC, stored column by column in fixed-size pages, so that no copy of
+ * the whole result is ever made. Column widths are tracked while rows are added, which lets any page be rendered
+ * as text on its own, as soon as it is filled.
+ */
+public class FlexibleSearchResult {
+
+    public static final int PAGE_SIZE = 512;
+
+    private final List<String> headers = new ArrayList<>();
+    private final List<Column> columns = new ArrayList<>();
+    private int rowCount;
+    private int skippedRows;
+    private String exceptionMessage;
+
+    @NotNull
+    public List<String> getHeaders() {
+        return Collections.unmodifiableList(headers);
+    }
+
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Rows which were received after the row limit had been reached and were counted, but not kept.
+     */
+    public int getSkippedRows() {
+        return skippedRows;
+    }
+
+    public int getPageCount() {
+        return (rowCount + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    @Nullable
+    public String getHeader(final int column) {
+        return column < headers.size() ? headers.get(column) : null;
+    }
+
+    @Nullable
+    public String getValue(final int row, final int column) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+        return columns.get(column).get(row);
+    }
+
+    public int getColumnWidth(final int column) {
+        return columns.get(column).width;
+    }
+
+    @Nullable
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    public boolean hasException() {
+        return exceptionMessage != null;
+    }
+
+    void setHeaders(@NotNull final List<String> headers) {
+        this.headers.clear();
+        this.headers.addAll(headers);
+
+        for (int column = 0; column < headers.size(); column++) {
+            ensureColumn(column).updateWidth(headers.get(column));
+        }
+    }
+
+    void setExceptionMessage(@Nullable final String exceptionMessage) {
+        this.exceptionMessage = exceptionMessage;
+    }
+
+    void addRow(@NotNull final List<String> values) {
+        for (int column = 0; column < values.size(); column++) {
+            ensureColumn(column);
+        }
+        for (int column = 0; column < columns.size(); column++) {
+            columns.get(column).set(rowCount, column < values.size() ? values.get(column) : null);
+        }
+        rowCount++;
+    }
+
+    void skipRow() {
+        skippedRows++;
+    }
+
+    /**
+     * Appends the header line in the same layout as {@link #renderRows(StringBuilder, int, int)}.
+     */
+    public void renderHeader(@NotNull final StringBuilder out) {
+        for (int column = 0; column < columns.size(); column++) {
+            renderCell(out, getHeader(column), column);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Appends rows {@code [fromRow, toRow)} as text, each cell padded to the width of its column.
+     */
+    public void renderRows(@NotNull final StringBuilder out, final int fromRow, final int toRow) {
+        for (int row = fromRow; row < Math.min(toRow, rowCount); row++) {
+            for (int column = 0; column < columns.size(); column++) {
+                renderCell(out, columns.get(column).get(row), column);
+            }
+            out.append('\n');
+        }
+    }
+
+    @NotNull
+    public String renderPage(final int page) {
+        final StringBuilder out = new StringBuilder();
+        if (page == 0) {
+            renderHeader(out);
+        }
+        renderRows(out, page * PAGE_SIZE, (page + 1) * PAGE_SIZE);
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder out = new StringBuilder();
+        renderHeader(out);
+        renderRows(out, 0, rowCount);
+        return out.toString();
+    }
+
+    private void renderCell(@NotNull final StringBuilder out, @Nullable final String value, final int column) {
+        final String text = StringUtils.defaultString(value);
+        out.append(text);
+
+        for (int pad = text.length(); pad < columns.get(column).width; pad++) {
+            out.append(' ');
+        }
+        out.append("| ");
+    }
+
+    @NotNull
+    private Column ensureColumn(final int column) {
+        while (columns.size() <= column) {
+            columns.add(new Column());
+        }
+        return columns.get(column);
+    }
+
+    private static class Column {
+
+        private final List<String[]> pages = new ArrayList<>();
+        private int width;
+
+        @Nullable
+        private String get(final int row) {
+            final int page = row / PAGE_SIZE;
+            // a column which appeared in a later row has no pages for the rows before it
+            return page < pages.size() ? pages.get(page)[row % PAGE_SIZE] : null;
+        }
+
+        private void set(final int row, @Nullable final String value) {
+            final int page = row / PAGE_SIZE;
+
+            while (pages.size() <= page) {
+                pages.add(new String[PAGE_SIZE]);
+            }
+            pages.get(page)[row % PAGE_SIZE] = value;
+            updateWidth(value);
+        }
+
+        private void updateWidth(@Nullable final String value) {
+            width = Math.max(width, StringUtils.length(value));
+        }
+    }
+}
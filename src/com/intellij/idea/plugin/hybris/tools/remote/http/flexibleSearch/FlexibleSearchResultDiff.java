@@ -0,0 +1,218 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Row-level comparison of the results of one query on several connections. Rows are matched by their PK when every
+ * result has a PK column, otherwise by all of their values. Every variant of a row becomes a row of the comparison:
+ * <ul>
+ * <li>{@link #SAME} - all connections have the row with the same values</li>
+ * <li>{@link #CHANGED} - all connections have the row, but not with the same values</li>
+ * <li>{@link #MISSING} - some connections do not have the row</li>
+ * </ul>
+ * The comparison is a {@link FlexibleSearchResult} itself, with the status, the connections having the variant and
+ * the values over the columns of all results, so it is shown, sorted and exported like any other result. Differences
+ * come first, in the order the rows were received.
+ */
+public final class FlexibleSearchResultDiff {
+
+    public static final String SAME = "same";
+    public static final String CHANGED = "changed";
+    public static final String MISSING = "missing";
+
+    public static final String STATUS_HEADER = "Diff";
+    public static final String CONNECTIONS_HEADER = "Connections";
+
+    private static final String PK_HEADER = "PK";
+
+    private final FlexibleSearchResult result;
+    private final int sameRows;
+    private final int changedRows;
+    private final int missingRows;
+
+    private FlexibleSearchResultDiff(
+        @NotNull final FlexibleSearchResult result,
+        final int sameRows,
+        final int changedRows,
+        final int missingRows
+    ) {
+        this.result = result;
+        this.sameRows = sameRows;
+        this.changedRows = changedRows;
+        this.missingRows = missingRows;
+    }
+
+    /**
+     * @param names   the connections, in the order of the results
+     * @param results the results of the same query on each connection
+     */
+    @NotNull
+    public static FlexibleSearchResultDiff compare(
+        @NotNull final List<String> names,
+        @NotNull final List<FlexibleSearchResult> results
+    ) {
+        // columns are matched case-insensitively, the first spelling of a column is shown
+        final List<List<String>> resultKeys = new ArrayList<>(results.size());
+        final List<String> keys = new ArrayList<>();
+        final List<String> headers = new ArrayList<>();
+        for (FlexibleSearchResult result : results) {
+            final List<String> resultHeaderKeys = new ArrayList<>(result.getHeaders().size());
+            for (String header : result.getHeaders()) {
+                final String key = normalize(header);
+                resultHeaderKeys.add(key);
+                if (!keys.contains(key)) {
+                    keys.add(key);
+                    headers.add(header);
+                }
+            }
+            resultKeys.add(resultHeaderKeys);
+        }
+        final String pkKey = normalize(PK_HEADER);
+        final int keyColumn = resultKeys.stream().allMatch(it -> it.contains(pkKey))
+            ? keys.indexOf(pkKey)
+            : -1;
+
+        // key of a row -> its variants -> number of rows of each connection
+        final Map<List<String>, Map<List<String>, int[]>> rows = new LinkedHashMap<>();
+        for (int target = 0; target < results.size(); target++) {
+            final FlexibleSearchResult result = results.get(target);
+            final int[] columns = new int[keys.size()];
+            for (int column = 0; column < columns.length; column++) {
+                columns[column] = resultKeys.get(target).indexOf(keys.get(column));
+            }
+
+            for (int row = 0; row < result.getRowCount(); row++) {
+                final String[] values = new String[columns.length];
+                for (int column = 0; column < columns.length; column++) {
+                    values[column] = columns[column] < 0 ? null : result.getValue(row, columns[column]);
+                }
+                final List<String> variant = Arrays.asList(values);
+                final List<String> key = keyColumn < 0 ? variant : Arrays.asList(values[keyColumn]);
+                rows.computeIfAbsent(key, it -> new LinkedHashMap<>())
+                    .computeIfAbsent(variant, it -> new int[results.size()])[target]++;
+            }
+        }
+
+        final List<String> diffHeaders = new ArrayList<>(headers.size() + 2);
+        diffHeaders.add(STATUS_HEADER);
+        diffHeaders.add(CONNECTIONS_HEADER);
+        diffHeaders.addAll(headers);
+
+        // differences first
+        final Map<String, List<List<String>>> rowsByStatus = new LinkedHashMap<>();
+        rowsByStatus.put(CHANGED, new ArrayList<>());
+        rowsByStatus.put(MISSING, new ArrayList<>());
+        rowsByStatus.put(SAME, new ArrayList<>());
+
+        for (Map<List<String>, int[]> variants : rows.values()) {
+            final int[] keyCounts = new int[results.size()];
+            for (int[] counts : variants.values()) {
+                for (int target = 0; target < counts.length; target++) {
+                    keyCounts[target] += counts[target];
+                }
+            }
+            final boolean everywhere = Arrays.stream(keyCounts).allMatch(count -> count > 0 && count == keyCounts[0]);
+            final String status = !everywhere ? MISSING : variants.size() > 1 ? CHANGED : SAME;
+
+            for (Map.Entry<List<String>, int[]> variant : variants.entrySet()) {
+                rowsByStatus.get(status).add(createRow(status, describeConnections(names, variant.getValue()), variant.getKey()));
+            }
+        }
+
+        final FlexibleSearchResult diff = new FlexibleSearchResult();
+        diff.setHeaders(diffHeaders);
+        rowsByStatus.values().forEach(statusRows -> statusRows.forEach(diff::addRow));
+        return new FlexibleSearchResultDiff(
+            diff, rowsByStatus.get(SAME).size(), rowsByStatus.get(CHANGED).size(), rowsByStatus.get(MISSING).size()
+        );
+    }
+
+    @NotNull
+    private static String normalize(@NotNull final String header) {
+        return header.toLowerCase(Locale.ROOT);
+    }
+
+    @NotNull
+    private static List<String> createRow(
+        @NotNull final String status,
+        @NotNull final String connections,
+        @NotNull final List<String> values
+    ) {
+        final List<String> row = new ArrayList<>(values.size() + 2);
+        row.add(status);
+        row.add(connections);
+        row.addAll(values);
+        return row;
+    }
+
+    /**
+     * Names of the connections having the variant, followed by the number of rows where it is more than one.
+     */
+    @NotNull
+    private static String describeConnections(@NotNull final List<String> names, @NotNull final int[] counts) {
+        final StringBuilder connections = new StringBuilder();
+        for (int target = 0; target < counts.length; target++) {
+            if (counts[target] == 0) {
+                continue;
+            }
+            if (connections.length() > 0) {
+                connections.append(", ");
+            }
+            connections.append(Objects.toString(names.get(target), ""));
+            if (counts[target] > 1) {
+                connections.append(" (").append(counts[target]).append(')');
+            }
+        }
+        return connections.toString();
+    }
+
+    /**
+     * The comparison, see the class description for its columns.
+     */
+    @NotNull
+    public FlexibleSearchResult getResult() {
+        return result;
+    }
+
+    public int getSameRows() {
+        return sameRows;
+    }
+
+    public int getChangedRows() {
+        return changedRows;
+    }
+
+    public int getMissingRows() {
+        return missingRows;
+    }
+
+    public boolean hasDifferences() {
+        return changedRows > 0 || missingRows > 0;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes the rows of a FlexibleSearch answer of HAC to a file while the answer is being read, so that exports of
+ * any size take the same, constant amount of memory.
+ */
+public final class FlexibleSearchResultExporter {
+
+    private static final int PROGRESS_ROWS = 1_000;
+
+    public enum Format {
+        CSV(',', "csv") {
+            @Override
+            void writeValue(@NotNull final Writer out, @NotNull final String value) throws IOException {
+                if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                    out.write(value);
+                    return;
+                }
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            }
+        },
+        TSV('\t', "tsv") {
+            @Override
+            void writeValue(@NotNull final Writer out, @NotNull final String value) throws IOException {
+                // there is no quoting in TSV, tabs and line breaks would split the cell
+                out.write(value.replace('\t', ' ').replace('\r', ' ').replace('\n', ' '));
+            }
+        };
+
+        private final char separator;
+        private final String extension;
+
+        Format(final char separator, @NotNull final String extension) {
+            this.separator = separator;
+            this.extension = extension;
+        }
+
+        @NotNull
+        public String getExtension() {
+            return extension;
+        }
+
+        @NotNull
+        public static Format byExtension(@Nullable final String extension) {
+            return CSV.extension.equalsIgnoreCase(extension) ? CSV : TSV;
+        }
+
+        /**
+         * Writes one line, {@code null} values are written as empty cells.
+         */
+        public void writeRow(@NotNull final Writer out, @NotNull final List<String> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(separator);
+                }
+                if (values.get(i) != null) {
+                    writeValue(out, values.get(i));
+                }
+            }
+            out.write('\n');
+        }
+
+        abstract void writeValue(@NotNull Writer out, @NotNull String value) throws IOException;
+    }
+
+    private FlexibleSearchResultExporter() {
+    }
+
+    /**
+     * Reads the answer from {@code content} and writes the header line and the rows to {@code out}.
+     *
+     * @param contentLength length of the answer in bytes, used for the progress fraction, negative if not known
+     * @return the number of rows written
+     * @throws FlexibleSearchExportException if the answer reports an exception instead of rows
+     */
+    public static int export(
+        @NotNull final InputStream content,
+        final long contentLength,
+        @NotNull final Writer out,
+        @NotNull final Format format,
+        @NotNull final ProgressIndicator indicator
+    ) throws IOException {
+        final CountingInputStream countingContent = new CountingInputStream(content);
+        indicator.setIndeterminate(contentLength <= 0);
+        final int[] rows = {0};
+        final String[] exception = {null};
+
+        FlexibleSearchResultParser.parse(countingContent, new FlexibleSearchResultParser.Handler() {
+
+            @Override
+            public void onHeaders(@NotNull final List<String> headers) throws IOException {
+                format.writeRow(out, headers);
+            }
+
+            @Override
+            public void onRow(@NotNull final List<String> values) throws IOException {
+                format.writeRow(out, values);
+
+                if (++rows[0] % PROGRESS_ROWS == 0) {
+                    indicator.checkCanceled();
+                    if (contentLength > 0) {
+                        indicator.setFraction((double) countingContent.count / contentLength);
+                    }
+                    indicator.setText2(String.format("%,d rows", rows[0]));
+                }
+            }
+
+            @Override
+            public void onException(@NotNull final String message) {
+                exception[0] = message;
+            }
+        });
+        if (exception[0] != null) {
+            throw new FlexibleSearchExportException(exception[0]);
+        }
+        return rows[0];
+    }
+
+    public static class FlexibleSearchExportException extends IOException {
+
+        public FlexibleSearchExportException(final String message) {
+            super(message);
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(@NotNull final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            if (read >= 0) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(@NotNull final byte[] buffer, final int offset, final int length) throws IOException {
+            final int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
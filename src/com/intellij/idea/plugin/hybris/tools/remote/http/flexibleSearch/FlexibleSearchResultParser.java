@@ -0,0 +1,221 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the JSON answer of {@code /console/flexsearch/execute} token by token, without building a tree of the whole
+ * response first. Rows are handed over one by one, either to a {@link FlexibleSearchResult} or to any other
+ * {@link Handler}, e.g. one writing them to a file.
+ */
+public final class FlexibleSearchResultParser {
+
+    public interface Handler {
+
+        void onHeaders(@NotNull List<String> headers) throws IOException;
+
+        /**
+         * @return {@code false} to skip the values of the next row, it is then only reported by {@link #onSkippedRow()}
+         */
+        default boolean acceptsRows() {
+            return true;
+        }
+
+        void onRow(@NotNull List<String> values) throws IOException;
+
+        default void onSkippedRow() {
+        }
+
+        void onException(@NotNull String message);
+    }
+
+    private FlexibleSearchResultParser() {
+    }
+
+    /**
+     * @param maxRows rows above this limit are counted, but not kept
+     */
+    @NotNull
+    public static FlexibleSearchResult parse(@NotNull final InputStream content, final int maxRows) throws IOException {
+        try (JsonReader reader = createReader(content)) {
+            return read(reader, maxRows);
+        }
+    }
+
+    /**
+     * Reads one result object at the position of the reader, e.g. from a larger document holding several results.
+     *
+     * @param maxRows rows above this limit are counted, but not kept
+     */
+    @NotNull
+    public static FlexibleSearchResult read(@NotNull final JsonReader reader, final int maxRows) throws IOException {
+        final FlexibleSearchResult result = new FlexibleSearchResult();
+
+        read(reader, new Handler() {
+
+            @Override
+            public void onHeaders(@NotNull final List<String> headers) {
+                result.setHeaders(headers);
+            }
+
+            @Override
+            public boolean acceptsRows() {
+                return result.getRowCount() < maxRows;
+            }
+
+            @Override
+            public void onRow(@NotNull final List<String> values) {
+                result.addRow(values);
+            }
+
+            @Override
+            public void onSkippedRow() {
+                result.skipRow();
+            }
+
+            @Override
+            public void onException(@NotNull final String message) {
+                result.setExceptionMessage(message);
+            }
+        });
+        return result;
+    }
+
+    public static void parse(@NotNull final InputStream content, @NotNull final Handler handler) throws IOException {
+        try (JsonReader reader = createReader(content)) {
+            read(reader, handler);
+        }
+    }
+
+    @NotNull
+    private static JsonReader createReader(@NotNull final InputStream content) {
+        final JsonReader reader = new JsonReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        return reader;
+    }
+
+    private static void read(@NotNull final JsonReader reader, @NotNull final Handler handler) throws IOException {
+        try {
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "headers":
+                        if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                            handler.onHeaders(readValues(reader));
+                        } else {
+                            reader.skipValue();
+                        }
+                        break;
+                    case "resultList":
+                        if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                            readRows(reader, handler);
+                        } else {
+                            reader.skipValue();
+                        }
+                        break;
+                    case "exception":
+                        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                            handler.onException(readExceptionMessage(reader));
+                        } else {
+                            reader.skipValue();
+                        }
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IllegalStateException e) {
+            // thrown by the reader on an unexpected token, the caller reports it as any other unreadable response
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static void readRows(@NotNull final JsonReader reader, @NotNull final Handler handler) throws IOException {
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            if (handler.acceptsRows() && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                handler.onRow(readValues(reader));
+            } else {
+                reader.skipValue();
+                handler.onSkippedRow();
+            }
+        }
+        reader.endArray();
+    }
+
+    @NotNull
+    private static List<String> readValues(@NotNull final JsonReader reader) throws IOException {
+        final List<String> values = new ArrayList<>();
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            values.add(readValue(reader));
+        }
+        reader.endArray();
+        return values;
+    }
+
+    @Nullable
+    private static String readValue(@NotNull final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case NULL:
+                reader.nextNull();
+                return null;
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    @Nullable
+    private static String readExceptionMessage(@NotNull final JsonReader reader) throws IOException {
+        String message = null;
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            if ("message".equals(reader.nextName())) {
+                message = readValue(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        // an exception without a message still has to be reported as one
+        return message == null ? "" : message;
+    }
+}
@@ -18,6 +18,8 @@
 
 package com.intellij.idea.plugin.hybris.tools.remote.http.impex;
 
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+
 import static com.intellij.openapi.util.text.StringUtil.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.http.HttpStatus.SC_OK;
@@ -34,6 +36,7 @@ public class HybrisHttpResult {
     private String output;
     private String result;
     private int statusCode;
+    private FlexibleSearchResult flexibleSearchResult;
 
 
     private HybrisHttpResult() {
@@ -63,6 +66,10 @@ public class HybrisHttpResult {
         return result;
     }
 
+    public FlexibleSearchResult getFlexibleSearchResult() {
+        return flexibleSearchResult;
+    }
+
     static public class HybrisHttpResultBuilder {
 
         private boolean hasError = false;
@@ -72,6 +79,7 @@ public class HybrisHttpResult {
         private String output= EMPTY;
         private String result= EMPTY;
         private int statusCode = SC_OK;
+        private FlexibleSearchResult flexibleSearchResult;
 
         private HybrisHttpResultBuilder() {
         }
@@ -111,6 +119,11 @@ public class HybrisHttpResult {
             return this;
         }
 
+        public HybrisHttpResultBuilder flexibleSearchResult(final FlexibleSearchResult flexibleSearchResult) {
+            this.flexibleSearchResult = flexibleSearchResult;
+            return this;
+        }
+
 
         public HybrisHttpResult build() {
             final HybrisHttpResult httpResult = new HybrisHttpResult();
@@ -120,6 +133,7 @@ public class HybrisHttpResult {
             httpResult.output = this.output;
             httpResult.result = this.result;
             httpResult.statusCode = this.statusCode;
+            httpResult.flexibleSearchResult = this.flexibleSearchResult;
 
             return httpResult;
         }
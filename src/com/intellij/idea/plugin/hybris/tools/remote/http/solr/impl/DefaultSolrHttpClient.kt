@@ -24,6 +24,7 @@ import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
 import com.intellij.idea.plugin.hybris.tools.remote.http.solr.SolrCoreData
 import com.intellij.idea.plugin.hybris.tools.remote.http.solr.SolrHttpClient
 import com.intellij.idea.plugin.hybris.tools.remote.http.solr.SolrQueryObject
+import com.intellij.openapi.Disposable
 import com.intellij.openapi.project.Project
 import com.intellij.util.castSafelyTo
 import com.intellij.util.containers.mapSmartNotNull
@@ -31,7 +32,6 @@ import org.apache.http.HttpStatus
 import org.apache.solr.client.solrj.SolrQuery
 import org.apache.solr.client.solrj.SolrRequest
 import org.apache.solr.client.solrj.SolrServerException
-import org.apache.solr.client.solrj.impl.HttpSolrClient
 import org.apache.solr.client.solrj.impl.NoOpResponseParser
 import org.apache.solr.client.solrj.request.CoreAdminRequest
 import org.apache.solr.client.solrj.request.QueryRequest
@@ -39,7 +39,9 @@ import org.apache.solr.client.solrj.response.CoreAdminResponse
 import org.apache.solr.common.params.CoreAdminParams
 import org.apache.solr.common.util.NamedList
 
-class DefaultSolrHttpClient : SolrHttpClient {
+class DefaultSolrHttpClient : SolrHttpClient, Disposable {
+
+    private val clientPool = SolrHttpClientPool()
 
     override fun coresData(project: Project): Array<SolrCoreData> {
         return coresData(project, solrConnectionSettings(project))
@@ -51,7 +53,7 @@ class DefaultSolrHttpClient : SolrHttpClient {
                     setAction(CoreAdminParams.CoreAdminAction.STATUS)
                     setBasicAuthCredentials(solrConnectionSettings.adminLogin, solrConnectionSettings.adminPassword)
                 }
-                .runCatching { process(buildHttpSolrClient(solrConnectionSettings.generatedURL)) }
+                .runCatching { process(clientPool.getClient(solrConnectionSettings)) }
                 .map { parseCoreResponse(it) }
                 .getOrElse {
                     when (it) {
@@ -75,10 +77,6 @@ class DefaultSolrHttpClient : SolrHttpClient {
         return coresData(project, solrConnectionSettings).map { data -> data.core }.toTypedArray()
     }
 
-    private fun buildHttpSolrClient(url: String): HttpSolrClient {
-        return HttpSolrClient.Builder(url).build()
-    }
-
     override fun executeSolrQuery(project: Project,
                                   queryObject: SolrQueryObject): HybrisHttpResult {
         return executeSolrQuery(project, solrConnectionSettings(project), queryObject)
@@ -97,8 +95,7 @@ class DefaultSolrHttpClient : SolrHttpClient {
     }
 
     private fun executeSolrRequest(solrConnectionSettings: HybrisRemoteConnectionSettings, queryObject: SolrQueryObject, queryRequest: QueryRequest): HybrisHttpResult {
-        return buildHttpSolrClient("${solrConnectionSettings.generatedURL}/${queryObject.core}")
-                .runCatching { request(queryRequest) }
+        return runCatching { clientPool.getClient(solrConnectionSettings).request(queryRequest, queryObject.core) }
                 .map { resultBuilder().output(it["response"] as String?).build() }
                 .getOrElse { resultBuilder().errorMessage(it.message).httpCode(HttpStatus.SC_BAD_GATEWAY).build() }
     }
@@ -127,4 +124,8 @@ class DefaultSolrHttpClient : SolrHttpClient {
     private fun solrConnectionSettings(project: Project): HybrisRemoteConnectionSettings {
         return HybrisDeveloperSpecificProjectSettingsComponent.getInstance(project).getActiveSolrConnectionSettings(project)
     }
+
+    override fun dispose() {
+        clientPool.dispose()
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for Intellij IDEA.
+ * Copyright (C) 2019 EPAM Systems <hybrisideaplugin@epam.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.solr.impl
+
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.diagnostic.Logger
+import org.apache.http.client.config.RequestConfig
+import org.apache.http.impl.client.CloseableHttpClient
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy
+import org.apache.http.impl.client.HttpClients
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager
+import org.apache.solr.client.solrj.impl.HttpSolrClient
+import java.io.Closeable
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * Keeps one [HttpSolrClient] per Solr connection on top of a pooled keep-alive HttpClient, so consecutive requests
+ * reuse open connections instead of opening and leaking a new one each time. The client is bound to the Solr root
+ * URL, requests to a core pass the core as collection.
+ *
+ * A client is replaced when the URL or the timeouts of its connection change and all clients are closed on dispose.
+ */
+class SolrHttpClientPool : Disposable {
+
+    private val clients = ConcurrentHashMap<String, PooledClient>()
+
+    @Volatile
+    private var disposed = false
+
+    fun getClient(settings: HybrisRemoteConnectionSettings): HttpSolrClient {
+        check(!disposed) { "Solr client pool is disposed" }
+
+        val url = settings.generatedURL
+        val connectTimeout = settings.connectTimeout
+        val socketTimeout = settings.socketTimeout
+
+        return clients.compute(settings.uuid.orEmpty()) { _, current ->
+            if (current != null && current.url == url && current.connectTimeout == connectTimeout && current.socketTimeout == socketTimeout) {
+                current
+            } else {
+                current?.close()
+                PooledClient(url, connectTimeout, socketTimeout)
+            }
+        }!!.solrClient
+    }
+
+    override fun dispose() {
+        disposed = true
+        clients.values.forEach { it.close() }
+        clients.clear()
+    }
+
+    private class PooledClient(val url: String, val connectTimeout: Int, val socketTimeout: Int) {
+
+        private val httpClient: CloseableHttpClient = createHttpClient(connectTimeout, socketTimeout)
+
+        // an external HttpClient is not closed by HttpSolrClient, the pooled one is closed together with it
+        val solrClient: HttpSolrClient = HttpSolrClient.Builder(url)
+                .withHttpClient(httpClient)
+                .withConnectionTimeout(connectTimeout)
+                .withSocketTimeout(socketTimeout)
+                .build()
+
+        // each one is closed on its own, a failing Solr client must not leak the connection manager
+        fun close() {
+            closeQuietly(solrClient)
+            closeQuietly(httpClient)
+        }
+
+        private fun closeQuietly(closeable: Closeable) {
+            try {
+                closeable.close()
+            } catch (e: IOException) {
+                LOG.warn(e.message, e)
+            } catch (e: RuntimeException) {
+                LOG.warn(e.message, e)
+            }
+        }
+    }
+
+    companion object {
+        private val LOG = Logger.getInstance(SolrHttpClientPool::class.java)
+
+        private const val MAX_CONNECTIONS_PER_ROUTE = 4
+        private const val VALIDATE_AFTER_INACTIVITY_MILLIS = 2_000
+        private const val MAX_IDLE_SECONDS = 60L
+
+        private fun createHttpClient(connectTimeout: Int, socketTimeout: Int): CloseableHttpClient {
+            val connectionManager = PoolingHttpClientConnectionManager().apply {
+                defaultMaxPerRoute = MAX_CONNECTIONS_PER_ROUTE
+                maxTotal = MAX_CONNECTIONS_PER_ROUTE * 2
+                validateAfterInactivity = VALIDATE_AFTER_INACTIVITY_MILLIS
+            }
+            return HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                    .evictExpiredConnections()
+                    .evictIdleConnections(MAX_IDLE_SECONDS, TimeUnit.SECONDS)
+                    .disableCookieManagement()
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectTimeout(connectTimeout)
+                            .setSocketTimeout(socketTimeout)
+                            .setConnectionRequestTimeout(connectTimeout)
+                            .build())
+                    .build()
+        }
+    }
+}
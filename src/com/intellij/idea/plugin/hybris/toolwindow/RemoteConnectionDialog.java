@@ -10,6 +10,7 @@ import com.intellij.idea.plugin.hybris.toolwindow.document.listener.SimpleDocume
 import com.intellij.notification.NotificationType;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,6 +38,10 @@ public class RemoteConnectionDialog extends DialogWrapper {
     private JLabel hacWebrootLabel;
     private JTextField hacWebrootTextField;
     private JTextField displayNameTextField;
+    private JLabel connectTimeoutLabel;
+    private JTextField connectTimeoutTextField;
+    private JLabel socketTimeoutLabel;
+    private JTextField socketTimeoutTextField;
     private Project myProject;
     private HybrisRemoteConnectionSettings mySettings;
 
@@ -53,6 +58,10 @@ public class RemoteConnectionDialog extends DialogWrapper {
         projectIpTextField.setText(mySettings.getHostIP());
         projectPortTextField.setText(mySettings.getPort());
         ((PlainDocument)projectPortTextField.getDocument()).setDocumentFilter(new UnsignedIntegerDocumentFilter());
+        connectTimeoutTextField.setText(String.valueOf(mySettings.getConnectTimeout()));
+        ((PlainDocument)connectTimeoutTextField.getDocument()).setDocumentFilter(new UnsignedIntegerDocumentFilter());
+        socketTimeoutTextField.setText(String.valueOf(mySettings.getSocketTimeout()));
+        ((PlainDocument)socketTimeoutTextField.getDocument()).setDocumentFilter(new UnsignedIntegerDocumentFilter());
         hacWebrootTextField.setText(mySettings.getHacWebroot());
         loginTextField.setText(mySettings.getHacLogin());
         passwordField.setText(mySettings.getHacPassword());
@@ -76,6 +85,8 @@ public class RemoteConnectionDialog extends DialogWrapper {
         hacWebrootTextField.addActionListener(action->saveSettings());
         loginTextField.addActionListener(action->saveSettings());
         passwordField.addActionListener(action->saveSettings());
+        connectTimeoutTextField.getDocument().addDocumentListener(saveSettingsDocumentListener);
+        socketTimeoutTextField.getDocument().addDocumentListener(saveSettingsDocumentListener);
         testConnectionButton.addActionListener(action->testConnection());
     }
 
@@ -108,6 +119,12 @@ public class RemoteConnectionDialog extends DialogWrapper {
         mySettings.setHacWebroot(hacWebrootTextField.getText());
         mySettings.setHacLogin(loginTextField.getText());
         mySettings.setHacPassword(new String(passwordField.getPassword()));
+        mySettings.setConnectTimeout(NumberUtils.toInt(
+            connectTimeoutTextField.getText(), HybrisRemoteConnectionSettings.DEFAULT_TIMEOUT_MILLIS
+        ));
+        mySettings.setSocketTimeout(NumberUtils.toInt(
+            socketTimeoutTextField.getText(), HybrisRemoteConnectionSettings.DEFAULT_TIMEOUT_MILLIS
+        ));
         final String previewUrl = CommonIdeaService.getInstance().getHostHacUrl(myProject, mySettings);
         projectUrlPreviewValueLabel.setText(previewUrl);
         mySettings.setGeneratedURL(previewUrl);
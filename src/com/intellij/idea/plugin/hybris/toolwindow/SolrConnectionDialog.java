@@ -11,6 +11,7 @@ import com.intellij.notification.NotificationType;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,6 +41,10 @@ public class SolrConnectionDialog extends DialogWrapper {
     private JTextField loginTextField;
     private JTextField solrIpTextField;
     private JLabel projectIpLabel;
+    private JLabel connectTimeoutLabel;
+    private JTextField connectTimeoutTextField;
+    private JLabel socketTimeoutLabel;
+    private JTextField socketTimeoutTextField;
     private Project myProject;
     private HybrisRemoteConnectionSettings mySettings;
 
@@ -56,6 +61,10 @@ public class SolrConnectionDialog extends DialogWrapper {
         solrIpTextField.setText(mySettings.getHostIP());
         solrPortTextField.setText(mySettings.getPort());
         ((PlainDocument) solrPortTextField.getDocument()).setDocumentFilter(new UnsignedIntegerDocumentFilter());
+        connectTimeoutTextField.setText(String.valueOf(mySettings.getConnectTimeout()));
+        ((PlainDocument) connectTimeoutTextField.getDocument()).setDocumentFilter(new UnsignedIntegerDocumentFilter());
+        socketTimeoutTextField.setText(String.valueOf(mySettings.getSocketTimeout()));
+        ((PlainDocument) socketTimeoutTextField.getDocument()).setDocumentFilter(new UnsignedIntegerDocumentFilter());
 
         solrWebrootTextField.setText(mySettings.getSolrWebroot());
         loginTextField.setText(mySettings.getAdminLogin());
@@ -80,6 +89,8 @@ public class SolrConnectionDialog extends DialogWrapper {
         solrWebrootTextField.addActionListener(action->saveSettings());
         loginTextField.addActionListener(action->saveSettings());
         passwordField.addActionListener(action->saveSettings());
+        connectTimeoutTextField.getDocument().addDocumentListener(saveSettingsDocumentListener);
+        socketTimeoutTextField.getDocument().addDocumentListener(saveSettingsDocumentListener);
         testConnectionButton.addActionListener(action->testConnection());
     }
 
@@ -110,6 +121,12 @@ public class SolrConnectionDialog extends DialogWrapper {
         mySettings.setSolrWebroot(solrWebrootTextField.getText());
         mySettings.setAdminLogin(loginTextField.getText());
         mySettings.setAdminPassword(new String(passwordField.getPassword()));
+        mySettings.setConnectTimeout(NumberUtils.toInt(
+            connectTimeoutTextField.getText(), HybrisRemoteConnectionSettings.DEFAULT_TIMEOUT_MILLIS
+        ));
+        mySettings.setSocketTimeout(NumberUtils.toInt(
+            socketTimeoutTextField.getText(), HybrisRemoteConnectionSettings.DEFAULT_TIMEOUT_MILLIS
+        ));
         final String previewUrl = CommonIdeaService.getInstance().getHostSolrUrl(myProject, mySettings);
         projectUrlPreviewValueLabel.setText(previewUrl);
         mySettings.setGeneratedURL(previewUrl);
@@ -20,20 +20,28 @@ package com.intellij.idea.plugin.hybris.type.system.editor;
 
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons;
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyHeaderParameterName;
+import com.intellij.idea.plugin.hybris.impex.psi.stubs.index.ImpexHeaderParameterNameIndex;
+import com.intellij.idea.plugin.hybris.impex.search.ImpexTypeSystemSearcher;
 import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaClass;
 import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel;
 import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModelAccess;
+import com.intellij.idea.plugin.hybris.type.system.model.Attribute;
 import com.intellij.idea.plugin.hybris.type.system.model.ItemType;
 import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.lang.annotation.Annotator;
 import com.intellij.openapi.editor.markup.GutterIconRenderer;
+import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlAttributeValue;
 import com.intellij.psi.xml.XmlElement;
 import com.intellij.psi.xml.XmlTag;
+import com.intellij.util.CommonProcessors;
 import com.intellij.util.xml.DomElement;
 import com.intellij.util.xml.DomManager;
 import com.intellij.util.xml.GenericAttributeValue;
@@ -43,6 +51,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -99,9 +108,37 @@ public class TypeSystemGutterAnnotator implements Annotator {
                     .setTooltipText("Has subtypes")
                     .install(annotationHolder, psiElement);
             }
+        } else if (dom instanceof Attribute) {
+            final XmlAttributeValue qualifierValue = (XmlAttributeValue) psiElement;
+            final Set<String> keys = ImpexTypeSystemSearcher.getImpexIndexKeys(qualifierValue);
+
+            if (!keys.isEmpty() && ImpexHeaderParameterNameIndex.hasOccurrences(
+                keys, psiElement.getProject(), GlobalSearchScope.projectScope(psiElement.getProject())
+            )) {
+                NavigationGutterIconBuilder
+                    .create(HybrisIcons.IMPEX_FILE)
+                    .setTargets(NotNullLazyValue.createValue(() -> findImpexHeaderAttributes(qualifierValue, keys)))
+                    .setTooltipText("Used in ImpEx")
+                    .setAlignment(GutterIconRenderer.Alignment.RIGHT)
+                    .install(annotationHolder, psiElement);
+            }
         }
     }
 
+    @NotNull
+    private static Collection<ImpexAnyHeaderParameterName> findImpexHeaderAttributes(
+        @NotNull final XmlAttributeValue qualifierValue,
+        @NotNull final Set<String> keys
+    ) {
+        final CommonProcessors.CollectProcessor<ImpexAnyHeaderParameterName> processor =
+            new CommonProcessors.CollectProcessor<>();
+
+        ImpexHeaderParameterNameIndex.process(
+            keys, qualifierValue.getProject(), GlobalSearchScope.projectScope(qualifierValue.getProject()), processor
+        );
+        return processor.getResults();
+    }
+
     @NotNull
     private static Collection<XmlAttributeValue> findAlternativeDoms(@NotNull final ItemType source) {
         final String code = source.getCode().getStringValue();
@@ -39,13 +39,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.intellij.idea.plugin.hybris.common.utils.CollectionUtils.emptyCollectionIfNull;
-
 /**
  * Created by Martin Zdarsky-Jones (martin.zdarsky@hybris.com) on 15/06/2016.
  */
@@ -265,11 +261,11 @@ class TSMetaModelImpl implements TSMetaModel {
     @Nullable
     @Override
     public List<TSMetaReference> findRelationByName(@NotNull final String name) {
-        return emptyCollectionIfNull(getReferencesBySourceTypeName().values()).stream()
-                                           .filter(Objects::nonNull)
-                                           .map(TSMetaReference.ReferenceEnd::getOwningReference)
-                                           .filter(ref -> ref.getName().equals(name))
-                                           .collect(Collectors.toList());
+        final TSMetaReferenceImpl relation = getRelations().get(name);
+
+        return relation != null && name.equals(relation.getName())
+            ? Collections.singletonList(relation)
+            : Collections.emptyList();
     }
 
     @NotNull
@@ -0,0 +1,200 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.common;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.ParserDefinition;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.lexer.Lexer;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.IntFunction;
+
+/**
+ * Lexes and parses generated inputs of growing size with a plugin language and checks that throughput stays above
+ * a floor and that the time per character does not grow with the input size, i.e. that scaling stays linear.
+ * <p>
+ * Wall-clock checks are noisy on shared machines, so the throughput floors go through the platform performance test
+ * support, which scales the budget to the machine and retries, and the scaling check compares warmed-up best-of
+ * rounds with a wide tolerance and is repeated before it fails.
+ */
+public abstract class ParserPerformanceTestCase extends BasePlatformTestCase {
+
+    /**
+     * Largest allowed growth of nanoseconds per character between the smallest and the largest input, superlinear
+     * lexing or parsing grows far beyond it between inputs which differ by a factor of 64.
+     */
+    private static final double SCALING_TOLERANCE = 3.0;
+    private static final int SCALING_ATTEMPTS = 3;
+    private static final int TIMING_ATTEMPTS = 5;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 5;
+
+    protected static void assertLinearThroughput(
+        @NotNull final ParserDefinition parserDefinition,
+        @NotNull final IntFunction<CharSequence> inputGenerator,
+        @NotNull final int[] sizes,
+        final long minTokensPerSecond,
+        final long minNodesPerSecond
+    ) {
+        final CharSequence smallestText = inputGenerator.apply(sizes[0]);
+        final CharSequence largestText = inputGenerator.apply(sizes[sizes.length - 1]);
+
+        assertThroughput(parserDefinition, largestText, minTokensPerSecond, minNodesPerSecond);
+        assertLinearScaling(parserDefinition, smallestText, largestText);
+    }
+
+    private static void assertThroughput(
+        @NotNull final ParserDefinition parserDefinition,
+        @NotNull final CharSequence text,
+        final long minTokensPerSecond,
+        final long minNodesPerSecond
+    ) {
+        final int tokens = lex(parserDefinition, text);
+        final int nodes = parse(parserDefinition, text);
+
+        PlatformTestUtil.startPerformanceTest(
+            String.format("lexing %,d tokens at %,d tokens/s", tokens, minTokensPerSecond),
+            toMillis(tokens, minTokensPerSecond),
+            () -> lex(parserDefinition, text)
+        ).attempts(TIMING_ATTEMPTS).assertTiming();
+
+        PlatformTestUtil.startPerformanceTest(
+            String.format("parsing %,d nodes at %,d nodes/s", nodes, minNodesPerSecond),
+            toMillis(nodes, minNodesPerSecond),
+            () -> parse(parserDefinition, text)
+        ).attempts(TIMING_ATTEMPTS).assertTiming();
+    }
+
+    /**
+     * Every input is measured several times after unmeasured warm-up runs and the fastest round wins, a growth above
+     * the tolerance is measured again before the check fails.
+     */
+    private static void assertLinearScaling(
+        @NotNull final ParserDefinition parserDefinition,
+        @NotNull final CharSequence smallestText,
+        @NotNull final CharSequence largestText
+    ) {
+        double lexGrowth = Double.MAX_VALUE;
+        double parseGrowth = Double.MAX_VALUE;
+
+        for (int attempt = 0; attempt < SCALING_ATTEMPTS; attempt++) {
+            final Sample smallest = measure(parserDefinition, smallestText);
+            final Sample largest = measure(parserDefinition, largestText);
+
+            lexGrowth = Math.min(lexGrowth, largest.getLexNanosPerChar() / smallest.getLexNanosPerChar());
+            parseGrowth = Math.min(parseGrowth, largest.getParseNanosPerChar() / smallest.getParseNanosPerChar());
+
+            if (lexGrowth <= SCALING_TOLERANCE && parseGrowth <= SCALING_TOLERANCE) {
+                return;
+            }
+        }
+        assertTrue(String.format("lexer scales superlinearly: ns/char grew %.2fx", lexGrowth), lexGrowth <= SCALING_TOLERANCE);
+        assertTrue(String.format("parser scales superlinearly: ns/char grew %.2fx", parseGrowth), parseGrowth <= SCALING_TOLERANCE);
+    }
+
+    private static int toMillis(final int count, final long perSecond) {
+        return (int) Math.max(1, count * 1_000L / perSecond);
+    }
+
+    @NotNull
+    private static Sample measure(@NotNull final ParserDefinition parserDefinition, @NotNull final CharSequence text) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            lex(parserDefinition, text);
+            parse(parserDefinition, text);
+        }
+        long lexNanos = Long.MAX_VALUE;
+        long parseNanos = Long.MAX_VALUE;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            lex(parserDefinition, text);
+            lexNanos = Math.min(lexNanos, System.nanoTime() - startedAt);
+
+            startedAt = System.nanoTime();
+            parse(parserDefinition, text);
+            parseNanos = Math.min(parseNanos, System.nanoTime() - startedAt);
+        }
+        return new Sample(text.length(), lexNanos, parseNanos);
+    }
+
+    private static int lex(@NotNull final ParserDefinition parserDefinition, @NotNull final CharSequence text) {
+        final Lexer lexer = parserDefinition.createLexer(null);
+        lexer.start(text);
+
+        int tokens = 0;
+        while (lexer.getTokenType() != null) {
+            tokens++;
+            lexer.advance();
+        }
+        return tokens;
+    }
+
+    private static int parse(@NotNull final ParserDefinition parserDefinition, @NotNull final CharSequence text) {
+        final PsiBuilder builder = PsiBuilderFactory.getInstance().createBuilder(
+            parserDefinition,
+            parserDefinition.createLexer(null),
+            text
+        );
+        final ASTNode root = parserDefinition.createParser(null).parse(parserDefinition.getFileNodeType(), builder);
+        return countNodes(root);
+    }
+
+    private static int countNodes(@NotNull final ASTNode root) {
+        final Deque<ASTNode> stack = new ArrayDeque<>();
+        stack.push(root);
+
+        int nodes = 0;
+        while (!stack.isEmpty()) {
+            final ASTNode node = stack.pop();
+            nodes++;
+
+            for (ASTNode child = node.getFirstChildNode(); child != null; child = child.getTreeNext()) {
+                stack.push(child);
+            }
+        }
+        return nodes;
+    }
+
+    private static final class Sample {
+
+        private final int chars;
+        private final long lexNanos;
+        private final long parseNanos;
+
+        private Sample(final int chars, final long lexNanos, final long parseNanos) {
+            this.chars = chars;
+            this.lexNanos = Math.max(1, lexNanos);
+            this.parseNanos = Math.max(1, parseNanos);
+        }
+
+        private double getLexNanosPerChar() {
+            return (double) lexNanos / Math.max(1, chars);
+        }
+
+        private double getParseNanosPerChar() {
+            return (double) parseNanos / Math.max(1, chars);
+        }
+    }
+}
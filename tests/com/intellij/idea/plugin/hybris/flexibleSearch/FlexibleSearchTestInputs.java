@@ -0,0 +1,65 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates synthetic FlexibleSearch queries which grow linearly with the requested size.
+ */
+public final class FlexibleSearchTestInputs {
+
+    private FlexibleSearchTestInputs() {
+    }
+
+    /**
+     * @param statements number of generated statements, each one contains a join and a subquery
+     */
+    @NotNull
+    public static CharSequence statements(final int statements) {
+        final StringBuilder text = new StringBuilder(statements * 320);
+
+        for (int i = 0; i < statements; i++) {
+            text.append("SELECT {p.pk}, {p.code}, {cv.version} FROM {Product AS p JOIN CatalogVersion AS cv ON {p.catalogVersion} = {cv.pk}}\n")
+                .append("WHERE {p.code} LIKE 'product").append(i).append("%' AND {cv.version} = ?version")
+                .append(" AND {p.pk} IN ({{ SELECT {c.pk} FROM {Category AS c} WHERE {c.code} = 'category").append(i % 17).append("' }})\n")
+                .append("ORDER BY {p.code} ASC;\n");
+        }
+        return text;
+    }
+
+    /**
+     * @param joins number of joined tables, every column in the select list and the where clause refers to its own alias
+     */
+    @NotNull
+    public static CharSequence joins(final int joins) {
+        final String[] types = {"Product", "Category", "CatalogVersion", "Catalog", "Media", "MediaContainer", "User", "Address"};
+        final StringBuilder select = new StringBuilder("SELECT {t0.pk}");
+        final StringBuilder from = new StringBuilder("FROM {").append(types[0]).append(" AS t0");
+        final StringBuilder where = new StringBuilder("WHERE {t0.code} IS NOT NULL");
+
+        for (int i = 1; i <= joins; i++) {
+            select.append(", {t").append(i).append(".pk}");
+            from.append("\n    LEFT JOIN ").append(types[i % types.length]).append(" AS t").append(i)
+                .append(" ON {t").append(i).append(".pk} = {t").append(i - 1).append(".pk}");
+            where.append("\n    AND {t").append(i).append(".modifiedtime} IS NOT NULL");
+        }
+        return select.append('\n').append(from).append("}\n").append(where).append('\n');
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.injection;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link FlexibleSearchInjector} over every string literal of a large generated Java class, the way highlighting
+ * does, and checks the time spent per literal and that only the arguments of {@code FlexibleSearchService.search}
+ * get FlexibleSearch injected.
+ */
+public class FlexibleSearchInjectorPerformanceTest extends BasePlatformTestCase {
+
+    private static final int METHODS = 2_000;
+    private static final int SEARCH_CALL_EVERY = 10;
+    private static final long MAX_NANOS_PER_LITERAL = 20_000;
+
+    public void testLiteralsOutsideSearchCallsAreSkippedCheaply() {
+        myFixture.addFileToProject(
+            "de/hybris/platform/servicelayer/search/FlexibleSearchService.java",
+            "package de.hybris.platform.servicelayer.search;\n" +
+            "public interface FlexibleSearchService {\n" +
+            "    Object search(String query);\n" +
+            "}"
+        );
+        final PsiFile file = myFixture.configureByText("FlexibleSearchInjection.java", generateJavaClass(METHODS));
+        final Collection<PsiLiteralExpression> literals = PsiTreeUtil.findChildrenOfType(file, PsiLiteralExpression.class);
+        final FlexibleSearchInjector injector = new FlexibleSearchInjector();
+        final AtomicInteger injected = new AtomicInteger();
+
+        final long startedAt = System.nanoTime();
+        literals.forEach(literal -> injector.getLanguagesToInject(
+            literal, (language, rangeInsideHost, prefix, suffix) -> injected.incrementAndGet()
+        ));
+        final long nanosPerLiteral = (System.nanoTime() - startedAt) / Math.max(1, literals.size());
+
+        assertEquals(METHODS / SEARCH_CALL_EVERY, injected.get());
+        assertTrue(
+            String.format("injector spends %,d ns per literal, budget is %,d ns", nanosPerLiteral, MAX_NANOS_PER_LITERAL),
+            nanosPerLiteral <= MAX_NANOS_PER_LITERAL
+        );
+    }
+
+    @NotNull
+    private static String generateJavaClass(final int methods) {
+        final StringBuilder text = new StringBuilder(methods * 512)
+            .append("import de.hybris.platform.servicelayer.search.FlexibleSearchService;\n")
+            .append("import java.util.Map;\n\n")
+            .append("public class FlexibleSearchInjection {\n")
+            .append("    private FlexibleSearchService flexibleSearchService;\n")
+            .append("    private Map<String, String> values;\n")
+            .append("    private StringBuilder log;\n\n");
+
+        for (int i = 0; i < methods; i++) {
+            text.append("    public void method").append(i).append("() {\n")
+                .append("        log.append(\"processing item ").append(i).append("\");\n")
+                .append("        values.put(\"key").append(i).append("\", \"value").append(i).append("\");\n")
+                .append("        values.get(\"select").append(i).append("\");\n")
+                .append("        String message = \"item \" + \"").append(i).append("\" + \" done\";\n");
+
+            if (i % SEARCH_CALL_EVERY == 0) {
+                text.append("        flexibleSearchService.search(\"SELECT {pk} FROM {Product} WHERE {code} = 'p")
+                    .append(i).append("'\");\n");
+            }
+            text.append("    }\n\n");
+        }
+        return text.append("}\n").toString();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql;
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchQuerySpecification;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel;
+import com.intellij.idea.plugin.hybris.type.system.meta.impl.TSMetaModelBuilder;
+import com.intellij.openapi.util.io.StreamUtil;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Translates FlexibleSearch statements against the type model of {@code translator-items.xml}: Product is deployed
+ * into Products, its subtype VariantProduct inherits the table and ApparelProduct has its own one, Keyword has its
+ * own table and Note none, so it lands in genericitems.
+ */
+public class FlexibleSearchSqlTranslatorTest extends BasePlatformTestCase {
+
+    private static final String ITEMS_XML = "translator-items.xml";
+
+    private TSMetaModel metaModel;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        final PsiFile itemsXml = myFixture.addFileToProject(ITEMS_XML, loadFixture());
+        metaModel = new TSMetaModelBuilder(getProject()).buildModelForFile(itemsXml);
+    }
+
+    public void testTypesAreReadFromTheirDeploymentTables() {
+        final FlexibleSearchSqlTranslation keywords = translate("SELECT {pk}, {keyword} FROM {Keyword}");
+
+        assertEquals(
+            "SELECT item_t0.PK, item_t0.p_keyword FROM Keywords item_t0 WHERE item_t0.TypePkString IN (?typePk.Keyword)",
+            keywords.getSql()
+        );
+        assertEquals(Collections.singletonMap("Keyword", "602"), table(keywords, "Keywords").getTypeCodes());
+        assertEmpty(keywords.getWarnings());
+
+        assertContains(translate("SELECT {pk} FROM {VariantProduct!}"), "FROM Products item_t0 WHERE item_t0.TypePkString IN (?typePk.VariantProduct)");
+        assertContains(translate("SELECT {pk} FROM {Note}"), "FROM genericitems item_t0 WHERE item_t0.TypePkString IN (?typePk.Note)");
+        assertContains(translate("SELECT {r.source} FROM {Product2Keyword AS r}"), "SELECT r.SourcePK FROM Prod2KeywordRel r WHERE r.TypePkString IN (?typePk.Product2Keyword)");
+    }
+
+    public void testSubtypesInOtherTablesAreReadThroughUnionAll() {
+        final FlexibleSearchSqlTranslation translation = translate("SELECT {p.pk}, {p.code} FROM {Product AS p} WHERE {p.code} = 'x'");
+
+        assertContains(
+            translation,
+            "FROM (SELECT p.PK, p.p_code FROM Products p WHERE p.TypePkString IN (?typePk.Product, ?typePk.VariantProduct)"
+            + " UNION ALL SELECT p.PK, p.p_code FROM ApparelProducts p WHERE p.TypePkString IN (?typePk.ApparelProduct)) p"
+            + " WHERE p.p_code = 'x'"
+        );
+        assertEquals(Arrays.asList("Products", "ApparelProducts"), tableNames(translation));
+
+        final FlexibleSearchSqlTranslation.TouchedTable products = table(translation, "Products");
+        assertEquals(Arrays.asList("Product", "VariantProduct"), Arrays.asList(products.getTypeCodes().keySet().toArray()));
+        assertTrue(products.isSubtypeScan());
+        assertEquals(Collections.singleton("p_code"), products.getPredicateColumns());
+        assertEquals(Collections.singleton("p_code"), table(translation, "ApparelProducts").getPredicateColumns());
+        assertEmpty(translation.getWarnings());
+    }
+
+    public void testExactTypeIsNotUnited() {
+        final FlexibleSearchSqlTranslation translation = translate("SELECT {p.pk} FROM {Product! AS p}");
+
+        assertContains(translation, "FROM Products p WHERE p.TypePkString IN (?typePk.Product)");
+        assertFalse(translation.getSql(), translation.getSql().contains("UNION ALL"));
+        assertEquals(Collections.singletonList("Products"), tableNames(translation));
+    }
+
+    public void testTypePkFiltersOfJoinedTablesGoIntoTheirJoinCondition() {
+        final FlexibleSearchSqlTranslation translation = translate(
+            "SELECT {k.pk} FROM {Keyword AS k LEFT JOIN Note AS n ON {n.pk} = {k.pk}}"
+        );
+
+        assertContains(translation, "LEFT JOIN genericitems n ON (n.PK = k.PK) AND n.TypePkString IN (?typePk.Note)");
+        assertTrue(translation.getSql(), translation.getSql().endsWith(" WHERE k.TypePkString IN (?typePk.Keyword)"));
+        assertEmpty(translation.getWarnings());
+    }
+
+    public void testLocalizedColumnsJoinTheLocalizedTable() {
+        final FlexibleSearchSqlTranslation translation = translate("SELECT {n.text[en]}, {n.text} FROM {Note AS n}");
+
+        assertContains(translation, "SELECT nlp_en.p_text, nlp.p_text FROM genericitems n");
+        assertContains(translation, "LEFT JOIN genericitemslp nlp_en ON nlp_en.ITEMPK = n.PK AND nlp_en.LANGPK = ?language.en");
+        assertContains(translation, "LEFT JOIN genericitemslp nlp ON nlp.ITEMPK = n.PK AND nlp.LANGPK = ?session.language");
+        assertEquals(Arrays.asList("genericitems", "genericitemslp"), tableNames(translation));
+    }
+
+    public void testLocalizedColumnsOfUnitedTypesAreLabelled() {
+        final FlexibleSearchSqlTranslation translation = translate("SELECT {p.name[de]} FROM {Product AS p}");
+
+        assertContains(translation, "SELECT p.plp_de_p_name FROM (SELECT plp_de.p_name AS plp_de_p_name FROM Products p LEFT JOIN Productslp plp_de");
+        assertContains(translation, "SELECT plp_de.p_name AS plp_de_p_name FROM ApparelProducts p LEFT JOIN ApparelProductslp plp_de");
+    }
+
+    public void testUnresolvedTypesAndAttributesAreKeptAndReported() {
+        final FlexibleSearchSqlTranslation unknownType = translate("SELECT {u.foo} FROM {Unknown AS u}");
+        assertEquals("SELECT u.foo FROM Unknown u", unknownType.getSql());
+        assertEquals(Collections.singletonList("Unknown type Unknown, its name is used as the table name"), unknownType.getWarnings());
+
+        final FlexibleSearchSqlTranslation unknownAttribute = translate("SELECT {k.missing} FROM {Keyword AS k}");
+        assertContains(unknownAttribute, "SELECT k.missing FROM Keywords k");
+        assertEquals(Collections.singletonList("Unknown attribute Keyword.missing"), unknownAttribute.getWarnings());
+
+        final FlexibleSearchSqlTranslation dynamicAttribute = translate("SELECT {p.summary} FROM {Product! AS p}");
+        assertEquals(Collections.singletonList("Product.summary is a dynamic attribute and has no column"), dynamicAttribute.getWarnings());
+
+        final FlexibleSearchSqlTranslation relationCollection = translate("SELECT {k.products} FROM {Keyword AS k}");
+        assertEquals(
+            Collections.singletonList("Keyword.products is a relation collection and has no column, join the relation type instead"),
+            relationCollection.getWarnings()
+        );
+    }
+
+    @NotNull
+    private FlexibleSearchSqlTranslation translate(@NotNull final String statement) {
+        final PsiFile file = myFixture.configureByText("statement.fxs", statement);
+        final FlexibleSearchQuerySpecification query = PsiTreeUtil.findChildOfType(file, FlexibleSearchQuerySpecification.class);
+        assertNotNull(statement, query);
+
+        final FlexibleSearchSqlTranslation translation = new FlexibleSearchSqlTranslator(metaModel).translate(query);
+        return new FlexibleSearchSqlTranslation(
+            translation.getSql().replaceAll("\\s+", " "), translation.getTouchedTables(), translation.getWarnings()
+        );
+    }
+
+    private static void assertContains(@NotNull final FlexibleSearchSqlTranslation translation, @NotNull final String sql) {
+        assertTrue(translation.getSql(), translation.getSql().contains(sql));
+    }
+
+    @NotNull
+    private static List<String> tableNames(@NotNull final FlexibleSearchSqlTranslation translation) {
+        return translation.getTouchedTables().stream()
+                          .map(FlexibleSearchSqlTranslation.TouchedTable::getTable)
+                          .collect(Collectors.toList());
+    }
+
+    @NotNull
+    private static FlexibleSearchSqlTranslation.TouchedTable table(
+        @NotNull final FlexibleSearchSqlTranslation translation,
+        @NotNull final String name
+    ) {
+        final Map<String, FlexibleSearchSqlTranslation.TouchedTable> tables = new LinkedHashMap<>();
+        translation.getTouchedTables().forEach(table -> tables.put(table.getTable(), table));
+        assertTrue(tables.keySet().toString(), tables.containsKey(name));
+        return tables.get(name);
+    }
+
+    @NotNull
+    private String loadFixture() throws IOException {
+        try (InputStream stream = getClass().getResourceAsStream(ITEMS_XML)) {
+            assertNotNull(ITEMS_XML, stream);
+            return StreamUtil.readText(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes;
+import com.intellij.lexer.RestartableLexer;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Replays single-character edits on a large generated ImpEx file the same way the editor highlighter does:
+ * lexing restarts at the closest preceding restartable token and stops at the first token after the edit which
+ * matches the old token stream again. Checks how many characters had to be re-lexed per edit.
+ * <p>
+ * An inserted {@code "} is measured on its own: it may open a double quoted value, which may span lines, and must
+ * still not change the quoted values of the following lines.
+ */
+public class ImpexLexerRelexTest extends UsefulTestCase {
+
+    private static final int LINES = 100_000;
+    private static final int EDITS = 500;
+    private static final char[] INSERTED = {'x', ';', ' '};
+    private static final char QUOTE = '"';
+
+    /**
+     * Largest allowed average of re-lexed characters per edit, measured in average line lengths.
+     */
+    private static final int MAX_RELEXED_LINES = 3;
+
+    public void testRelexAfterSingleCharacterEdit() {
+        final CharSequence text = ImpexTestInputs.impex(LINES);
+        final RestartableLexer lexer = new ImpexLexerAdapter();
+        final Tokens tokens = Tokens.lex(lexer, text);
+        final Random random = new Random(LINES);
+
+        long relexedTotal = 0;
+        for (int i = 0; i < EDITS; i++) {
+            final int offset = random.nextInt(text.length());
+
+            relexedTotal += relex(lexer, tokens, insert(text, offset, INSERTED[i % INSERTED.length]), offset).length;
+        }
+        final double averageLineLength = (double) text.length() / LINES;
+        final double relexedAverage = (double) relexedTotal / EDITS;
+
+        assertTrue(
+            String.format(
+                "%.0f characters re-lexed per edit on average, more than %d lines of %.0f characters",
+                relexedAverage, MAX_RELEXED_LINES, averageLineLength
+            ),
+            relexedAverage <= MAX_RELEXED_LINES * averageLineLength
+        );
+    }
+
+    /**
+     * Worst case: an inserted quote may open a quoted value, lexing still has to restart at most one line before the
+     * edit and stop within a few lines after it instead of at the end of the file.
+     */
+    public void testRelexAfterInsertedQuote() {
+        final CharSequence text = ImpexTestInputs.impex(LINES);
+        final RestartableLexer lexer = new ImpexLexerAdapter();
+        final Tokens tokens = Tokens.lex(lexer, text);
+        final Random random = new Random(LINES);
+
+        int relexedMax = 0;
+        for (int i = 0; i < EDITS / 10; i++) {
+            final int offset = random.nextInt(text.length());
+            final Relexed relexed = relex(lexer, tokens, insert(text, offset, QUOTE), offset);
+            final int previousLineStart = lineStart(text, lineStart(text, offset) - 1);
+
+            assertTrue(
+                String.format("lexing restarted at %d for a quote inserted at %d", relexed.restartOffset, offset),
+                relexed.restartOffset >= previousLineStart
+            );
+            assertTrue(relexed.restartOffset + relexed.length <= text.length() + 1);
+            relexedMax = Math.max(relexedMax, relexed.length);
+        }
+        final double averageLineLength = (double) text.length() / LINES;
+
+        assertTrue(
+            String.format(
+                "%d characters re-lexed after an inserted quote, more than %d lines of %.0f characters",
+                relexedMax, MAX_RELEXED_LINES, averageLineLength
+            ),
+            relexedMax <= MAX_RELEXED_LINES * averageLineLength
+        );
+    }
+
+    public void testQuotedValueHasToEndItsField() {
+        final RestartableLexer lexer = new ImpexLexerAdapter();
+
+        assertEquals(
+            Arrays.asList(
+                ImpexTypes.FIELD_VALUE_SEPARATOR, ImpexTypes.DOUBLE_STRING, ImpexTypes.FIELD_VALUE_SEPARATOR,
+                TokenType.WHITE_SPACE, ImpexTypes.FIELD_VALUE, ImpexTypes.FIELD_VALUE, ImpexTypes.CRLF
+            ),
+            tokenTypes(lexer, ";\"multi\nline\"; \"x\n")
+        );
+        assertEquals(
+            Arrays.asList(
+                ImpexTypes.FIELD_VALUE_SEPARATOR, ImpexTypes.FIELD_VALUE, ImpexTypes.FIELD_VALUE, ImpexTypes.CRLF,
+                ImpexTypes.FIELD_VALUE_SEPARATOR, ImpexTypes.DOUBLE_STRING, ImpexTypes.CRLF
+            ),
+            tokenTypes(lexer, ";\"x\n;\"y\"\n")
+        );
+    }
+
+    @NotNull
+    private static List<IElementType> tokenTypes(
+        @NotNull final RestartableLexer lexer,
+        @NotNull final CharSequence text
+    ) {
+        final List<IElementType> types = new ArrayList<>();
+        lexer.start(text, 0, text.length(), lexer.getStartState());
+
+        while (lexer.getTokenType() != null) {
+            types.add(lexer.getTokenType());
+            lexer.advance();
+        }
+        return types;
+    }
+
+    @NotNull
+    private static CharSequence insert(@NotNull final CharSequence text, final int offset, final char inserted) {
+        return new StringBuilder(text.length() + 1)
+            .append(text, 0, offset)
+            .append(inserted)
+            .append(text, offset, text.length());
+    }
+
+    private static int lineStart(@NotNull final CharSequence text, final int offset) {
+        int start = Math.max(0, offset);
+        while (start > 0 && text.charAt(start - 1) != '\n') {
+            start--;
+        }
+        return start;
+    }
+
+    @NotNull
+    private static Relexed relex(
+        @NotNull final RestartableLexer lexer,
+        @NotNull final Tokens old,
+        @NotNull final CharSequence edited,
+        final int editOffset
+    ) {
+        int restartIndex = Math.max(0, old.indexOf(editOffset) - 1);
+        while (restartIndex > 0 && !lexer.isRestartableState(old.states[restartIndex])) {
+            restartIndex--;
+        }
+        final int restartOffset = old.starts[restartIndex];
+        lexer.start(edited, restartOffset, edited.length(), lexer.getStartState());
+
+        while (lexer.getTokenType() != null) {
+            final int start = lexer.getTokenStart();
+
+            if (start > editOffset && lexer.isRestartableState(lexer.getState())) {
+                final int oldIndex = Arrays.binarySearch(old.starts, 0, old.size, start - 1);
+
+                if (oldIndex >= 0 && old.types[oldIndex] == lexer.getTokenType() && old.states[oldIndex] == lexer.getState()) {
+                    return new Relexed(restartOffset, start - restartOffset);
+                }
+            }
+            lexer.advance();
+        }
+        return new Relexed(restartOffset, edited.length() - restartOffset);
+    }
+
+    private static final class Relexed {
+
+        private final int restartOffset;
+        private final int length;
+
+        private Relexed(final int restartOffset, final int length) {
+            this.restartOffset = restartOffset;
+            this.length = length;
+        }
+    }
+
+    private static final class Tokens {
+
+        private int[] starts = new int[1024];
+        private int[] states = new int[1024];
+        private IElementType[] types = new IElementType[1024];
+        private int size;
+
+        @NotNull
+        private static Tokens lex(@NotNull final RestartableLexer lexer, @NotNull final CharSequence text) {
+            final Tokens tokens = new Tokens();
+            lexer.start(text, 0, text.length(), lexer.getStartState());
+
+            while (lexer.getTokenType() != null) {
+                tokens.add(lexer.getTokenStart(), lexer.getState(), lexer.getTokenType());
+                lexer.advance();
+            }
+            return tokens;
+        }
+
+        private void add(final int start, final int state, @NotNull final IElementType type) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                states = Arrays.copyOf(states, size * 2);
+                types = Arrays.copyOf(types, size * 2);
+            }
+            starts[size] = start;
+            states[size] = state;
+            types[size] = type;
+            size++;
+        }
+
+        /**
+         * Index of the token which contains the given offset.
+         */
+        private int indexOf(final int offset) {
+            final int index = Arrays.binarySearch(starts, 0, size, offset);
+            return index >= 0 ? index : Math.max(0, -index - 2);
+        }
+    }
+}
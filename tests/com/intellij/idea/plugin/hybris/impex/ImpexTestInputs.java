@@ -0,0 +1,64 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates synthetic ImpEx files which grow linearly with the requested size.
+ */
+public final class ImpexTestInputs {
+
+    private static final int ROWS_PER_TABLE = 50;
+
+    private ImpexTestInputs() {
+    }
+
+    /**
+     * @param lines approximate number of lines in the generated file
+     */
+    @NotNull
+    public static CharSequence impex(final int lines) {
+        final StringBuilder text = new StringBuilder(lines * 64)
+            .append("# generated ImpEx test input\n")
+            .append("$catalog = Default\n")
+            .append("$catalogVersion = catalogversion(catalog(id[default = $catalog]), version[default = 'Staged'])[unique = true, default = $catalog:Staged]\n")
+            .append("$lang = en\n\n");
+
+        int line = 0;
+        int table = 0;
+
+        while (line < lines) {
+            text.append("INSERT_UPDATE Product; code[unique = true]; name[lang = $lang]; description[lang = $lang]; ")
+                .append("$catalogVersion; approvalStatus(code); supercategories(code, $catalogVersion)[mode = append]\n");
+            line++;
+
+            for (int row = 0; row < ROWS_PER_TABLE && line < lines; row++, line++) {
+                final int id = table * ROWS_PER_TABLE + row;
+                text.append("; product").append(id)
+                    .append("; Product ").append(id)
+                    .append("; \"Description of product ").append(id).append(" with ; and \"\"quotes\"\"\"")
+                    .append("; ; approved; category").append(id % 17).append(", category").append(id % 31).append('\n');
+            }
+            text.append('\n');
+            table++;
+        }
+        return text;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting;
+
+import com.intellij.application.options.CodeStyle;
+import com.intellij.idea.plugin.hybris.impex.ImpexTestInputs;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reformats a large ImpEx file after a one-cell edit, once as a whole and once only the table of the edited cell,
+ * with both alignment strategies. Reformatting the table must only build and align that table, so it has to be a
+ * fraction of the full reformat and leave the file exactly as the full reformat would.
+ */
+public class ImpexFormatterPerformanceTest extends BasePlatformTestCase {
+
+    private static final int LINES = 20_000;
+    private static final int ROUNDS = 3;
+    private static final int MIN_SPEEDUP = 10;
+    private static final String EDITED_CELL = "product5000";
+    private static final String TABLE_START = "INSERT_UPDATE";
+    private static final String TABLE_END = "\n\n";
+
+    public void testColumnsAlignmentReformatsOnlyEditedTable() {
+        assertSingleTableReformat(false);
+    }
+
+    public void testTableAlignmentReformatsOnlyEditedTable() {
+        assertSingleTableReformat(true);
+    }
+
+    private void assertSingleTableReformat(final boolean tablify) {
+        final ImpexCodeStyleSettings settings = CodeStyle.getSettings(getProject()).getCustomSettings(ImpexCodeStyleSettings.class);
+        final boolean initialTablify = settings.TABLIFY;
+        settings.TABLIFY = tablify;
+        try {
+            final PsiFile file = myFixture.configureByText("products.impex", ImpexTestInputs.impex(LINES).toString());
+            final Document document = myFixture.getEditor().getDocument();
+            reformat(file, file.getTextRange());
+
+            editCell(document);
+            long tableNanos = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                tableNanos = Math.min(tableNanos, reformat(file, getEditedTable(document)));
+            }
+            final String tableFormatted = document.getText();
+
+            long fileNanos = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                fileNanos = Math.min(fileNanos, reformat(file, file.getTextRange()));
+            }
+
+            assertEquals("reformatting the edited table differs from reformatting the file", document.getText(), tableFormatted);
+            assertTrue(
+                String.format(
+                    "reformatting the edited table took %,d us, expected at most 1/%d of the %,d us of the whole file",
+                    tableNanos / 1_000, MIN_SPEEDUP, fileNanos / 1_000
+                ),
+                tableNanos * MIN_SPEEDUP <= fileNanos
+            );
+        } finally {
+            settings.TABLIFY = initialTablify;
+        }
+    }
+
+    /**
+     * Makes the first cell of a row in the middle of the file wider than the others of its column, so that the
+     * whole table has to be aligned again.
+     */
+    private void editCell(@NotNull final Document document) {
+        final int offset = document.getText().indexOf(EDITED_CELL);
+        assertTrue(offset >= 0);
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            document.insertString(offset + EDITED_CELL.length(), "-with-a-much-longer-code");
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+    }
+
+    /**
+     * @return range of the table of the edited cell, from its header to its last row
+     */
+    @NotNull
+    private static TextRange getEditedTable(@NotNull final Document document) {
+        final String text = document.getText();
+        final int offset = text.indexOf(EDITED_CELL);
+        return new TextRange(text.lastIndexOf(TABLE_START, offset), text.indexOf(TABLE_END, offset));
+    }
+
+    private long reformat(@NotNull final PsiFile file, @NotNull final TextRange range) {
+        final long startedAt = System.nanoTime();
+        WriteCommandAction.runWriteCommandAction(
+            getProject(),
+            () -> CodeStyleManager.getInstance(getProject()).reformatRange(file, range.getStartOffset(), range.getEndOffset())
+        );
+        return System.nanoTime() - startedAt;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.injection;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Feeds multi-megabyte adversarial ImpEx string values to the XML detector of the ImpEx XML injection and checks
+ * that each of them is processed within a strict time budget and with the expected outcome.
+ */
+public class XmlFragmentDetectorTest extends UsefulTestCase {
+
+    private static final int SIZE = 4 * 1024 * 1024;
+    private static final long BUDGET_MILLIS = 250;
+
+    // the check which was used by the ImpEx XML injection before the detector
+    private static final Pattern OLD_XML_PATTERN = Pattern.compile("<(\\S+?)(.*?)>(.*?)</\\1>");
+
+    public void testFragments() {
+        assertTrue(XmlFragmentDetector.containsXmlFragment("<p>text</p>"));
+        assertTrue(XmlFragmentDetector.containsXmlFragment("before <a href=\"x\">link</a> after"));
+        assertFalse(XmlFragmentDetector.containsXmlFragment("a < b and c > d"));
+    }
+
+    public void testSameOutcomeAsOldPattern() {
+        for (final String value : new String[]{
+            "<p>text</p>",
+            "before <a href=\"x\">link</a> after",
+            "<root><item/></root>",
+            "<x:y a='1'>v</x:y>",
+            "<b>bold</b><i>x",
+            "if a<b && b>c then </b>",
+            "a < b and c > d",
+            "<p>line\n</p>",
+            "</p><p>",
+            "<p>text</q>"
+        }) {
+            assertEquals(value, OLD_XML_PATTERN.matcher(value).find(), XmlFragmentDetector.containsXmlFragment(value));
+        }
+    }
+
+    /**
+     * The lazy {@code \S+?} of the old pattern also matched a part of the opening tag name or a name with '/' in it.
+     * Neither is an XML element, so the detector intentionally does not report them.
+     */
+    public void testIntentionalDifferencesFromOldPattern() {
+        for (final String value : new String[]{"<ab>x</a>", "<a/b>x</a/b>"}) {
+            assertTrue(value, OLD_XML_PATTERN.matcher(value).find());
+            assertFalse(value, XmlFragmentDetector.containsXmlFragment(value));
+        }
+    }
+
+    public void testUnterminatedOpenTag() {
+        assertDetected(false, "<a" + StringUtil.repeat(" x", SIZE / 2));
+    }
+
+    public void testOpenTagsWithoutClosing() {
+        assertDetected(false, StringUtil.repeat("<b>", SIZE / 3));
+    }
+
+    public void testMismatchedPairs() {
+        assertDetected(false, StringUtil.repeat("<t1>v</t2>", SIZE / 10));
+    }
+
+    public void testHugeTagName() {
+        assertDetected(false, '<' + StringUtil.repeat("a", SIZE) + "></b>");
+    }
+
+    public void testFragmentAfterNoise() {
+        assertDetected(true, StringUtil.repeat("<x ", SIZE / 3) + "<p>text</p>");
+    }
+
+    private static void assertDetected(final boolean expected, @NotNull final CharSequence value) {
+        final long startedAt = System.nanoTime();
+        final boolean detected = XmlFragmentDetector.containsXmlFragment(value);
+        final long millis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertEquals(expected, detected);
+        assertTrue(String.format("took %d ms, budget is %d ms", millis, BUDGET_MILLIS), millis <= BUDGET_MILLIS);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.references;
+
+import com.intellij.idea.plugin.hybris.impex.ImpexTestInputs;
+import com.intellij.idea.plugin.hybris.psi.references.TypeSystemReferenceBase;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaClass;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModel;
+import com.intellij.idea.plugin.hybris.type.system.meta.TSMetaModelAccess;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiReference;
+import com.intellij.testFramework.ServiceContainerUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Counts the lookups ImpEx header type and attribute references make in the type system model during repeated
+ * highlighting passes over a file with many headers. Only the first pass may look anything up, the following ones
+ * have to be answered from the resolve cache until PSI changes.
+ */
+public class TypeSystemReferenceCachingTest extends BasePlatformTestCase {
+
+    private static final int LINES = 1_000;
+    private static final int PASSES = 3;
+    /**
+     * A type reference looks up its class, an attribute reference its class, properties and relation ends.
+     */
+    private static final int MAX_LOOKUPS_PER_REFERENCE = 3;
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        final TSMetaModel metaModel = countingProxy(TSMetaModel.class);
+
+        ServiceContainerUtil.replaceService(getProject(), TSMetaModelAccess.class, new TSMetaModelAccess() {
+
+            @Override
+            public TSMetaModel getTypeSystemMeta() {
+                return metaModel;
+            }
+
+            @Override
+            public TSMetaModel getTypeSystemMeta(@Nullable final PsiFile contextFile) {
+                return metaModel;
+            }
+
+            @Override
+            public TSMetaModel getExternalTypeSystemMeta(@NotNull final PsiFile contextFile) {
+                return metaModel;
+            }
+        }, getTestRootDisposable());
+    }
+
+    public void testOnlyFirstPassLooksUpModel() {
+        final List<TypeSystemReferenceBase<?>> references = collectReferences(
+            myFixture.configureByText("products.impex", ImpexTestInputs.impex(LINES).toString())
+        );
+        assertFalse(references.isEmpty());
+
+        resolve(references);
+        final int firstPassLookups = lookups.getAndSet(0);
+
+        assertTrue(firstPassLookups > 0);
+        assertTrue(
+            String.format("%,d lookups for %,d references", firstPassLookups, references.size()),
+            firstPassLookups <= references.size() * MAX_LOOKUPS_PER_REFERENCE
+        );
+        for (int pass = 2; pass <= PASSES; pass++) {
+            resolve(references);
+            assertEquals("model lookups in highlighting pass " + pass, 0, lookups.getAndSet(0));
+        }
+    }
+
+    public void testPsiChangeDropsCachedResults() {
+        final PsiFile file = myFixture.configureByText("products.impex", ImpexTestInputs.impex(LINES).toString());
+        resolve(collectReferences(file));
+        final int firstPassLookups = lookups.getAndSet(0);
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            final Document document = myFixture.getEditor().getDocument();
+            document.insertString(document.getTextLength(), "\n");
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+        resolve(collectReferences(file));
+
+        assertEquals(firstPassLookups, lookups.get());
+    }
+
+    private static void resolve(@NotNull final List<TypeSystemReferenceBase<?>> references) {
+        references.forEach(reference -> reference.multiResolve(false));
+    }
+
+    @NotNull
+    private static List<TypeSystemReferenceBase<?>> collectReferences(@NotNull final PsiFile file) {
+        final List<TypeSystemReferenceBase<?>> references = new ArrayList<>();
+
+        file.accept(new PsiRecursiveElementWalkingVisitor() {
+
+            @Override
+            public void visitElement(@NotNull final PsiElement element) {
+                for (PsiReference reference : element.getReferences()) {
+                    if (reference instanceof TypeSystemReferenceBase) {
+                        references.add((TypeSystemReferenceBase<?>) reference);
+                    }
+                }
+                super.visitElement(element);
+            }
+        });
+        return references;
+    }
+
+    /**
+     * Model or class, which counts every call. Every item type exists, but has neither properties nor relations.
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private <T> T countingProxy(@NotNull final Class<T> type) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(this, args);
+            }
+            lookups.incrementAndGet();
+            return emptyResult(method);
+        });
+    }
+
+    @Nullable
+    private Object emptyResult(@NotNull final Method method) {
+        final Class<?> returnType = method.getReturnType();
+
+        if (returnType == TSMetaClass.class) {
+            return countingProxy(TSMetaClass.class);
+        }
+        if (returnType == Stream.class) {
+            return Stream.empty();
+        }
+        if (Collection.class.isAssignableFrom(returnType) && !"findRelationByName".equals(method.getName())) {
+            return Collections.emptyList();
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.stubs.index;
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyHeaderParameterName;
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderTypeName;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.intellij.util.CommonProcessors;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class ImpexHeaderParameterNameIndexTest extends BasePlatformTestCase {
+
+    private static final String IMPEX = "INSERT_UPDATE Product;code[unique=true];catalogVersion(catalog(id),version)\n"
+                                        + ";product1;Default:Staged\n"
+                                        + "\n"
+                                        + "UPDATE PRODUCT;Code[unique=true];name[lang=en]\n"
+                                        + ";product1;Product 1\n";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.configureByText("products.impex", IMPEX);
+    }
+
+    public void testTopLevelAttributesAreIndexedByTypeAndName() {
+        assertEquals(2, findParameters("Product", "code").size());
+        assertEquals(1, findParameters("Product", "catalogVersion").size());
+        assertEquals(1, findParameters("product", "NAME").size());
+    }
+
+    public void testNestedParametersAreNotIndexed() {
+        assertEmpty(findParameters("Product", "catalog"));
+        assertEmpty(findParameters("Product", "id"));
+        assertEmpty(findParameters("Catalog", "id"));
+    }
+
+    public void testHeaderTypesAreIndexedCaseInsensitive() {
+        final CommonProcessors.CollectProcessor<ImpexHeaderTypeName> processor = new CommonProcessors.CollectProcessor<>();
+
+        ImpexHeaderTypeNameIndex.process("product", getProject(), GlobalSearchScope.projectScope(getProject()), processor);
+
+        assertEquals(2, processor.getResults().size());
+    }
+
+    public void testModifiersAreIndexedByName() {
+        final GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+
+        assertEquals(2, ImpexModifierNameIndex.find("unique", getProject(), scope).size());
+        assertEquals(1, ImpexModifierNameIndex.find("lang", getProject(), scope).size());
+        assertEmpty(ImpexModifierNameIndex.find("mode", getProject(), scope));
+    }
+
+    @NotNull
+    private Collection<ImpexAnyHeaderParameterName> findParameters(
+        @NotNull final String typeCode,
+        @NotNull final String attributeName
+    ) {
+        final CommonProcessors.CollectProcessor<ImpexAnyHeaderParameterName> processor =
+            new CommonProcessors.CollectProcessor<>();
+        final List<String> keys = Collections.singletonList(ImpexHeaderParameterNameIndex.key(typeCode, attributeName));
+
+        ImpexHeaderParameterNameIndex.process(keys, getProject(), GlobalSearchScope.projectScope(getProject()), processor);
+        return processor.getResults();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console;
+
+import com.intellij.execution.ui.ConsoleViewContentType;
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils;
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult;
+import com.intellij.openapi.fileTypes.PlainTextLanguage;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Prints outputs into a console through a sink with a small size limit and checks what ends up in the console and
+ * in the file with the full output.
+ */
+public class HybrisConsoleOutputSinkTest extends BasePlatformTestCase {
+
+    private static final int SIZE_LIMIT = 1_000;
+
+    private HybrisConsole console;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        console = new HybrisConsole(getProject(), "Output Sink Test", PlainTextLanguage.INSTANCE) {
+
+            @NotNull
+            @Override
+            public HybrisHttpResult execute(@NotNull final String query) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        Disposer.register(getTestRootDisposable(), console);
+    }
+
+    public void testOutputIsPrintedInChunks() {
+        // a surrogate pair right at the chunk boundary must not be split
+        final String text = StringUtils.repeat('a', HybrisConsoleOutputSink.CHUNK_SIZE - 1) + "😀"
+                            + StringUtils.repeat('b', HybrisConsoleOutputSink.CHUNK_SIZE * 2);
+        final HybrisConsoleOutputSink sink = new HybrisConsoleOutputSink(console, null, text.length());
+
+        assertTrue(sink.fits(text));
+        sink.print(text, ConsoleViewContentType.NORMAL_OUTPUT);
+
+        assertEquals(text, consoleText());
+        assertNull(sink.getFullOutputFile());
+    }
+
+    public void testOutputBeyondLimitIsTruncatedAndSpilledToFile() throws IOException {
+        final HybrisConsoleOutputSink sink = new HybrisConsoleOutputSink(console, null, SIZE_LIMIT);
+        final String head = StringUtils.repeat('a', SIZE_LIMIT / 2);
+        final String text = StringUtils.repeat('b', SIZE_LIMIT);
+
+        sink.print(head, ConsoleViewContentType.NORMAL_OUTPUT);
+        assertFalse(sink.fits(text));
+        sink.print(text, ConsoleViewContentType.NORMAL_OUTPUT);
+
+        final int remaining = SIZE_LIMIT - head.length();
+        final String output = consoleText();
+        assertTrue(output, output.startsWith(head + text.substring(0, remaining) + '\n'));
+        assertTrue(output, output.contains(HybrisI18NBundleUtils.message("hybris.console.output.truncated", text.length() - remaining)));
+        assertTrue(output, output.contains(HybrisI18NBundleUtils.message("hybris.console.output.show.full")));
+
+        final File file = sink.getFullOutputFile();
+        assertNotNull(file);
+        assertEquals(text, FileUtil.loadFile(file));
+
+        // the limit is used up, further outputs are only kept in a file
+        sink.print("z", ConsoleViewContentType.NORMAL_OUTPUT);
+        assertFalse(consoleText().contains("z"));
+        assertEquals("z", FileUtil.loadFile(sink.getFullOutputFile()));
+    }
+
+    @NotNull
+    private String consoleText() {
+        console.flushDeferredText();
+        return console.getHistoryViewer().getDocument().getText();
+    }
+}
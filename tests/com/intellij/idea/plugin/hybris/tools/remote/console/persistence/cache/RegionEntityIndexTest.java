@@ -0,0 +1,82 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache;
+
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
+import com.intellij.testFramework.UsefulTestCase;
+import com.intellij.util.containers.ContainerUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Searches the entities of a region through its inverted index of words.
+ */
+public class RegionEntityIndexTest extends UsefulTestCase {
+
+    private final RegionEntityIndex index = new RegionEntityIndex();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        index.add(new RegionEntity<>("products", "Online products", "SELECT {pk} FROM {Product} WHERE {catalogVersion} = ?cv"));
+        index.add(new RegionEntity<>("categories", "Categories", "SELECT {pk} FROM {Category}"));
+        index.add(new RegionEntity<>("users", "Customers", "SELECT {pk}, {uid} FROM {Customer}"));
+    }
+
+    public void testTokenizeLowerCasesWordsOnce() {
+        assertEquals(
+            Arrays.asList("select", "pk", "from", "product", "where", "code", "x1", "and"),
+            ContainerUtil.newArrayList(RegionEntityIndex.tokenize("SELECT {pk} FROM {Product} WHERE {code}='X1' AND {pk}"))
+        );
+    }
+
+    public void testAllWordsHaveToMatch() {
+        assertEquals(ContainerUtil.newHashSet("products", "categories", "users"), index.search("select from"));
+        assertEquals(Collections.singleton("products"), index.search("SELECT product"));
+        assertEmpty(index.search("category customer"));
+    }
+
+    public void testOnlyLastWordMatchesAsPrefix() {
+        assertEquals(ContainerUtil.newHashSet("products", "categories"), index.search("cat"));
+        assertEquals(Collections.singleton("products"), index.search("catalogv"));
+        assertEmpty(index.search("cat pk"));
+        assertEquals(Collections.singleton("users"), index.search("pk cust"));
+    }
+
+    public void testNamesAreSearchedToo() {
+        assertEquals(Collections.singleton("products"), index.search("online"));
+    }
+
+    public void testTextWithoutWordsMatchesAll() {
+        assertEquals(ContainerUtil.newHashSet("products", "categories", "users"), index.search(" {} "));
+    }
+
+    public void testRemovedAndReplacedEntitiesAreForgotten() {
+        index.remove("categories");
+        assertEmpty(index.search("category"));
+
+        index.add(new RegionEntity<>("users", "Employees", "SELECT {pk} FROM {Employee}"));
+        assertEmpty(index.search("customer"));
+        assertEquals(Collections.singleton("users"), index.search("employee"));
+
+        index.clear();
+        assertEmpty(index.search(""));
+    }
+}
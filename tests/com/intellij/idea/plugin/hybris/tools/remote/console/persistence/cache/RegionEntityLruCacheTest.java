@@ -0,0 +1,108 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache;
+
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fills a region cache beyond its size in bytes and checks which entities it keeps.
+ */
+public class RegionEntityLruCacheTest extends UsefulTestCase {
+
+    private static final int BODY_LENGTH = 200;
+
+    public void testLeastRecentlyUsedEntitiesAreEvictedAboveSize() {
+        final RegionEntityLruCache cache = new RegionEntityLruCache(3 * sizeOf(entity("a")) + 10);
+
+        assertEmpty(cache.put(entity("a")));
+        assertEmpty(cache.put(entity("b")));
+        assertEmpty(cache.put(entity("c")));
+        assertEquals(3 * sizeOf(entity("a")), cache.getSizeInBytes());
+
+        assertEquals(Arrays.asList("a"), ids(cache.put(entity("d"))));
+        assertEquals(Arrays.asList("b", "c", "d"), ids(cache.values()));
+    }
+
+    public void testGetMakesEntityMostRecentlyUsed() {
+        final RegionEntityLruCache cache = new RegionEntityLruCache(3 * sizeOf(entity("a")));
+        cache.put(entity("a"));
+        cache.put(entity("b"));
+        cache.put(entity("c"));
+
+        assertEquals("a", cache.get("a").getId());
+        assertEquals(Arrays.asList("b"), ids(cache.put(entity("d"))));
+        assertEquals(Arrays.asList("c", "a", "d"), ids(cache.values()));
+    }
+
+    public void testReplacedEntityIsCountedOnce() {
+        final RegionEntityLruCache cache = new RegionEntityLruCache(10 * sizeOf(entity("a")));
+        cache.put(entity("a"));
+        cache.put(new RegionEntity<>("a", "a", "short"));
+
+        assertEquals(1, cache.size());
+        assertEquals(sizeOf(new RegionEntity<>("a", "a", "short")), cache.getSizeInBytes());
+    }
+
+    public void testEntityLargerThanLimitIsKeptAlone() {
+        final RegionEntityLruCache cache = new RegionEntityLruCache(sizeOf(entity("a")));
+        cache.put(entity("a"));
+
+        final RegionEntity<String> large = new RegionEntity<>("large", "large", StringUtil.repeat("x", 10 * BODY_LENGTH));
+        assertEquals(Arrays.asList("a"), ids(cache.put(large)));
+        assertEquals(Arrays.asList("large"), ids(cache.values()));
+        assertTrue(cache.getSizeInBytes() > cache.getMaxSizeInBytes());
+    }
+
+    public void testRemoveAndClearReleaseSize() {
+        final RegionEntityLruCache cache = new RegionEntityLruCache(10 * sizeOf(entity("a")));
+        cache.put(entity("a"));
+        cache.put(entity("b"));
+
+        assertEquals("a", cache.remove("a").getId());
+        assertNull(cache.remove("a"));
+        assertEquals(sizeOf(entity("b")), cache.getSizeInBytes());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @NotNull
+    private static RegionEntity<String> entity(@NotNull final String id) {
+        return new RegionEntity<>(id, id, StringUtil.repeat("x", BODY_LENGTH));
+    }
+
+    private static long sizeOf(@NotNull final RegionEntity<String> entity) {
+        final RegionEntityLruCache cache = new RegionEntityLruCache(Long.MAX_VALUE);
+        cache.put(entity);
+        return cache.getSizeInBytes();
+    }
+
+    @NotNull
+    private static List<String> ids(@NotNull final List<RegionEntity<?>> entities) {
+        return entities.stream().map(RegionEntity::getId).collect(Collectors.toList());
+    }
+}
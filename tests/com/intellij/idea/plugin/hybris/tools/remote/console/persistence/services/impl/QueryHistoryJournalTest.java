@@ -0,0 +1,199 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.persistence.services.impl;
+
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.cache.HybrisConsoleRegionsCache;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.Region;
+import com.intellij.idea.plugin.hybris.tools.remote.console.persistence.pojo.RegionEntity;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Changes the console query regions through the entity service, writes them to the journal and replays the journal
+ * into fresh regions, which have to come out with the same entities in the same order.
+ */
+public class QueryHistoryJournalTest extends BasePlatformTestCase {
+
+    private static final String REGION = "FLEXIBLE_SEARCH";
+    private static final String BODY = StringUtil.repeat("x", 200);
+    /**
+     * Room for two entities with the body above.
+     */
+    private static final long SMALL_REGION_BYTES = 1_300;
+
+    private Path storageDirectory;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        storageDirectory = FileUtil.createTempDirectory("query-history", null).toPath();
+    }
+
+    public void testSavesRemovesAndUsesAreReplayed() throws IOException {
+        final History history = new History(Long.MAX_VALUE);
+        final String a = history.save("a");
+        final String b = history.save("b");
+        final String c = history.save("c");
+
+        history.entities.remove(b);
+        history.entities.find(a);
+        assertEquals(Arrays.asList(c, a), history.ids());
+
+        assertEquals(history.ids(), history.reload().ids());
+    }
+
+    public void testRemoveAllIsReplayed() throws IOException {
+        final History history = new History(Long.MAX_VALUE);
+        history.save("a");
+        history.entities.removeAll(REGION);
+        final String b = history.save("b");
+
+        assertEquals(Arrays.asList(b), history.reload().ids());
+    }
+
+    public void testEvictionsFollowUsesAfterReplay() throws IOException {
+        final History history = new History(SMALL_REGION_BYTES);
+        final String q0 = history.save("q0");
+        history.save("q1");
+        history.entities.find(q0);
+        final String q2 = history.save("q2");
+
+        // q1 was the least recently used entity, not q0, which was saved first
+        assertEquals(Arrays.asList(q0, q2), history.ids());
+        assertEquals(history.ids(), history.reload().ids());
+    }
+
+    public void testCompactionKeepsEntitiesOfRegionsInOrder() throws IOException {
+        final History history = new History(SMALL_REGION_BYTES);
+        for (int i = 0; i < 300; i++) {
+            history.save("q" + i);
+        }
+        history.entities.find(history.ids().get(0));
+        assertTrue(history.persistence.flush());
+
+        assertEquals(2, Files.readAllLines(journalPath(), StandardCharsets.UTF_8).size());
+        assertEquals(history.ids(), history.reload().ids());
+    }
+
+    public void testMalformedRecordIsSkipped() throws IOException {
+        Files.write(journalPath(), Arrays.asList(
+            "{\"op\":\"save\",\"region\":\"R\",\"id\":\"1\",\"name\":\"one\",\"body\":\"SELECT 1\"}",
+            "{\"op\":\"save\",\"region\":\"R\",\"id\":\"2\",\"na",
+            "",
+            "{\"op\":\"touch\",\"region\":\"R\",\"id\":\"1\"}",
+            "{\"op\":\"remove\",\"region\":\"R\",\"id\":\"3\"}",
+            "{\"op\":\"removeAll\",\"region\":\"S\"}"
+        ), StandardCharsets.UTF_8);
+        final List<String> events = new ArrayList<>();
+
+        new QueryHistoryJournal(journalPath()).replay(new QueryHistoryJournal.Replayer() {
+
+            @Override
+            public void onSave(final String regionName, final RegionEntity<?> entity) {
+                events.add("save " + regionName + ' ' + entity.getId() + ' ' + entity.getName() + ' ' + entity.getBody());
+            }
+
+            @Override
+            public void onRemove(final String regionName, final String entityId) {
+                events.add("remove " + regionName + ' ' + entityId);
+            }
+
+            @Override
+            public void onRemoveAll(final String regionName) {
+                events.add("removeAll " + regionName);
+            }
+
+            @Override
+            public void onTouch(final String regionName, final String entityId) {
+                events.add("touch " + regionName + ' ' + entityId);
+            }
+        });
+
+        assertEquals(Arrays.asList("save R 1 one SELECT 1", "touch R 1", "remove R 3", "removeAll S"), events);
+    }
+
+    @NotNull
+    private Path journalPath() {
+        return storageDirectory.resolve(QueryHistoryJournal.FILE_NAME);
+    }
+
+    /**
+     * Regions loaded from the journal of the test together with the services changing them.
+     */
+    private final class History {
+
+        private final long regionBytes;
+        private final Map<String, Region> regions = new ConcurrentHashMap<>();
+        private final DefaultJournalRegionPersistenceService persistence;
+        private final DefaultRegionEntityService entities;
+
+        private History(final long regionBytes) throws IOException {
+            this.regionBytes = regionBytes;
+            regions.put(REGION, new Region(REGION, regionBytes));
+
+            final HybrisConsoleRegionsCache cache = new HybrisConsoleRegionsCache() {
+
+                @Override
+                public Map<String, Region> getRegions() {
+                    return regions;
+                }
+
+                @Override
+                public Region findRegion(final String regionName) {
+                    return regions.get(regionName);
+                }
+            };
+            persistence = new DefaultJournalRegionPersistenceService(getProject(), cache);
+            persistence.load(storageDirectory);
+            entities = new DefaultRegionEntityService(cache, persistence);
+        }
+
+        @NotNull
+        private String save(@NotNull final String name) {
+            return entities.save(REGION, name, BODY).getId();
+        }
+
+        @NotNull
+        private List<String> ids() {
+            return regions.get(REGION).getEntities().stream().map(RegionEntity::getId).collect(Collectors.toList());
+        }
+
+        /**
+         * Writes the pending changes and loads the journal into new regions of the same size.
+         */
+        @NotNull
+        private History reload() throws IOException {
+            assertTrue(persistence.flush());
+            return new History(regionBytes);
+        }
+    }
+}
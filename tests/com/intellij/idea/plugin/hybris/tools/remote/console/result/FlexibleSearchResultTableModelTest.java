@@ -0,0 +1,154 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.console.result;
+
+import com.google.gson.Gson;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultParser;
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.event.TableModelEvent;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult.PAGE_SIZE;
+
+/**
+ * Reads results of several pages through the table model of the FlexibleSearch result tool window.
+ */
+public class FlexibleSearchResultTableModelTest extends UsefulTestCase {
+
+    private static final int ROWS = 2 * PAGE_SIZE + 3;
+
+    public void testCellsAcrossPageBoundaries() throws IOException {
+        final FlexibleSearchResultTableModel model = new FlexibleSearchResultTableModel();
+        model.setResult(parse(rows(ROWS, 2, -1), Integer.MAX_VALUE));
+
+        assertEquals(ROWS, model.getRowCount());
+        assertEquals(2, model.getColumnCount());
+        assertEquals("PK", model.getColumnName(0));
+        assertEquals("code", model.getColumnName(1));
+        assertEquals(3, model.getResult().getPageCount());
+
+        for (int row : new int[]{0, PAGE_SIZE - 1, PAGE_SIZE, 2 * PAGE_SIZE - 1, 2 * PAGE_SIZE, ROWS - 1}) {
+            assertEquals(cell(row, 0), model.getValueAt(row, 0));
+            assertEquals(cell(row, 1), model.getValueAt(row, 1));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> model.getValueAt(ROWS, 0));
+    }
+
+    public void testColumnAppearingOnLaterPage() throws IOException {
+        final int extraRow = PAGE_SIZE + 10;
+        final FlexibleSearchResultTableModel model = new FlexibleSearchResultTableModel();
+        model.setResult(parse(rows(ROWS, 2, extraRow), Integer.MAX_VALUE));
+
+        assertEquals(3, model.getColumnCount());
+        assertEquals("C", model.getColumnName(2));
+        assertNull(model.getValueAt(0, 2));
+        assertNull(model.getValueAt(extraRow - 1, 2));
+        assertEquals(cell(extraRow, 2), model.getValueAt(extraRow, 2));
+        assertNull(model.getValueAt(ROWS - 1, 2));
+    }
+
+    public void testRowsAboveLimitAreCountedButNotKept() throws IOException {
+        final int maxRows = PAGE_SIZE + 1;
+        final FlexibleSearchResult result = parse(rows(ROWS, 2, -1), maxRows);
+
+        assertEquals(maxRows, result.getRowCount());
+        assertEquals(ROWS - maxRows, result.getSkippedRows());
+        assertEquals(2, result.getPageCount());
+
+        final FlexibleSearchResultTableModel model = new FlexibleSearchResultTableModel();
+        model.setResult(result);
+        assertEquals(maxRows, model.getRowCount());
+        assertEquals(cell(maxRows - 1, 1), model.getValueAt(maxRows - 1, 1));
+    }
+
+    public void testPagesRenderTheirOwnRows() throws IOException {
+        final FlexibleSearchResult result = parse(rows(ROWS, 2, -1), Integer.MAX_VALUE);
+
+        final String[] firstPage = result.renderPage(0).split("\n");
+        assertEquals(PAGE_SIZE + 1, firstPage.length);
+        assertEquals("PK", firstCell(firstPage[0]));
+        assertEquals(cell(PAGE_SIZE - 1, 0), firstCell(firstPage[PAGE_SIZE]));
+
+        final String[] lastPage = result.renderPage(2).split("\n");
+        assertEquals(ROWS - 2 * PAGE_SIZE, lastPage.length);
+        assertEquals(cell(2 * PAGE_SIZE, 0), firstCell(lastPage[0]));
+        assertEquals("", result.renderPage(3));
+    }
+
+    public void testNewResultChangesStructure() throws IOException {
+        final FlexibleSearchResultTableModel model = new FlexibleSearchResultTableModel();
+        final List<TableModelEvent> events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+
+        assertEquals(0, model.getRowCount());
+        assertEquals(0, model.getColumnCount());
+
+        model.setResult(parse(rows(3, 1, -1), Integer.MAX_VALUE));
+
+        assertEquals(1, events.size());
+        assertEquals(TableModelEvent.HEADER_ROW, events.get(0).getFirstRow());
+        assertEquals(3, model.getRowCount());
+        assertEquals(1, model.getColumnCount());
+    }
+
+    /**
+     * @param extraRow row which has one more value than the headers, none if negative
+     */
+    @NotNull
+    private static Map<String, Object> rows(final int rows, final int columns, final int extraRow) {
+        final List<List<String>> resultList = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            final List<String> values = new ArrayList<>();
+            for (int column = 0; column < (row == extraRow ? columns + 1 : columns); column++) {
+                values.add(cell(row, column));
+            }
+            resultList.add(values);
+        }
+        final Map<String, Object> json = new HashMap<>();
+        json.put("headers", Arrays.asList("PK", "code").subList(0, columns));
+        json.put("resultList", resultList);
+        return json;
+    }
+
+    @NotNull
+    private static String firstCell(@NotNull final String line) {
+        return line.substring(0, line.indexOf('|')).trim();
+    }
+
+    @NotNull
+    private static String cell(final int row, final int column) {
+        return "r" + row + "c" + column;
+    }
+
+    @NotNull
+    private static FlexibleSearchResult parse(@NotNull final Map<String, Object> json, final int maxRows) throws IOException {
+        final byte[] content = new Gson().toJson(json).getBytes(StandardCharsets.UTF_8);
+        return FlexibleSearchResultParser.parse(new ByteArrayInputStream(content), maxRows);
+    }
+}
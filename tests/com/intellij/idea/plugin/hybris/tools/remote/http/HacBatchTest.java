@@ -0,0 +1,234 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.google.gson.Gson;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult;
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.intellij.idea.plugin.hybris.tools.remote.http.HacBatch.Kind.FLEXIBLE_SEARCH;
+import static com.intellij.idea.plugin.hybris.tools.remote.http.HacBatch.Kind.GROOVY;
+import static com.intellij.idea.plugin.hybris.tools.remote.http.HacBatch.Kind.SQL;
+
+/**
+ * Splits console inputs into statements, wraps them into a batch script and reads the answer of the scripting
+ * console back, without a running HAC.
+ */
+public class HacBatchTest extends UsefulTestCase {
+
+    private static final String STATEMENTS_START = "def statements = [\n";
+
+    public void testSplitQueries() {
+        assertEquals(
+            Arrays.asList("SELECT {pk} FROM {Product}", "SELECT {pk} FROM {Category}"),
+            HacBatch.splitQueries("SELECT {pk} FROM {Product};\n\n  SELECT {pk} FROM {Category};  ;\n")
+        );
+    }
+
+    public void testSplitQueriesKeepsSemicolonsInLiterals() {
+        assertEquals(
+            Arrays.asList(
+                "SELECT {pk} FROM {Product} WHERE {code} = 'a;b'",
+                "SELECT {pk} FROM {Product} WHERE {name} = \"c;'d\" AND {code} = 'it''s;'",
+                "SELECT {pk} FROM {Product} WHERE {code} = 'back\\slash;'"
+            ),
+            HacBatch.splitQueries(
+                "SELECT {pk} FROM {Product} WHERE {code} = 'a;b';"
+                + "SELECT {pk} FROM {Product} WHERE {name} = \"c;'d\" AND {code} = 'it''s;';"
+                + "SELECT {pk} FROM {Product} WHERE {code} = 'back\\slash;'"
+            )
+        );
+    }
+
+    public void testSplitQueriesIgnoresComments() {
+        assertEquals(
+            Arrays.asList(
+                "-- products; don't forget the variants\nSELECT {pk} FROM {Product}",
+                "SELECT {pk} FROM {Category} -- 'roots';\nWHERE {code} = 'x'"
+            ),
+            HacBatch.splitQueries(
+                "-- only a comment;\n;"
+                + "-- products; don't forget the variants\nSELECT {pk} FROM {Product};\n"
+                + "SELECT {pk} FROM {Category} -- 'roots';\nWHERE {code} = 'x';\n"
+                + "-- trailing comment"
+            )
+        );
+    }
+
+    public void testSplitScripts() {
+        assertEquals(
+            Arrays.asList("def a = 1\n", "\nprintln a // not a separator: ---\n", "\n'// ---'\n"),
+            HacBatch.splitScripts("def a = 1\n// ---\nprintln a // not a separator: ---\n  //-----  \n'// ---'\n// ---\n  \n")
+        );
+    }
+
+    public void testScriptLiteralsKeepStatementsVerbatim() {
+        final List<HacBatch.Statement> statements = Arrays.asList(
+            new HacBatch.Statement(GROOVY, "println 'it\\'s'\r\nprintln \"${1 + 1}\" // comment"),
+            new HacBatch.Statement(FLEXIBLE_SEARCH, "SELECT {pk} FROM {Product} WHERE {code} = 'a\\\\b''c'"),
+            new HacBatch.Statement(SQL, "UPDATE products SET p_code = '\\'' -- ']\n")
+        );
+
+        final String script = HacBatch.createScript(statements, 42);
+
+        assertTrue(script, script.contains("\ndef maxRows = 42\n"));
+        assertEquals(statements.size(), readStatementLiterals(script).size());
+        for (int i = 0; i < statements.size(); i++) {
+            final String[] literal = readStatementLiterals(script).get(i);
+            assertEquals(statements.get(i).getKind().name(), literal[0]);
+            assertEquals(statements.get(i).getText(), literal[1]);
+        }
+    }
+
+    /**
+     * FlexibleSearch statements are translated by the FlexibleSearchService, but run over JDBC like in the
+     * FlexibleSearch console of HAC, so the rows hold raw column values. SQL statements are not translated.
+     */
+    public void testFlexibleSearchIsTranslatedAndRunOverJdbc() {
+        final String script = HacBatch.createScript(Collections.singletonList(new HacBatch.Statement(FLEXIBLE_SEARCH, "SELECT {pk} FROM {Product}")), 10);
+
+        assertTrue(script, script.contains("if (kind == 'FLEXIBLE_SEARCH') {"));
+        assertTrue(script, script.contains("getBean('flexibleSearchService').translate(new FlexibleSearchQuery(query))"));
+        assertTrue(script, script.contains("Registry.currentTenant.dataSource.connection"));
+        assertTrue(script, script.contains("prepared.maxRows = maxRows"));
+        assertFalse(script, script.contains(".search("));
+    }
+
+    public void testParseResults() throws IOException {
+        final List<HacBatch.Statement> statements = Arrays.asList(
+            new HacBatch.Statement(GROOVY, "println 'x'; 1"),
+            new HacBatch.Statement(FLEXIBLE_SEARCH, "SELECT {pk}, {code} FROM {Product}"),
+            new HacBatch.Statement(SQL, "UPDATE products SET p_code = p_code"),
+            new HacBatch.Statement(FLEXIBLE_SEARCH, "SELECT {unknown} FROM {Product}")
+        );
+        final List<Object> statementResults = Arrays.asList(
+            map("outputText", "x\n", "executionResult", "1", "stacktraceText", ""),
+            map("headers", Arrays.asList("PK", "code"), "resultList", Arrays.asList(Arrays.asList("1", "a;b"), Arrays.asList("2", "c'd"), Arrays.asList("3", null))),
+            map("headers", Collections.singletonList("Updated rows"), "resultList", Collections.singletonList(Collections.singletonList("7"))),
+            map("headers", Collections.emptyList(), "resultList", Collections.emptyList(), "exception", map("message", "unknown field")),
+            map("outputText", "result of no statement")
+        );
+
+        final List<HybrisHttpResult> results = HacBatch.parseResults(
+            response(map("executionResult", new Gson().toJson(statementResults), "stacktraceText", "")), statements, 2
+        );
+
+        assertEquals(statements.size(), results.size());
+        assertEquals("x\n", results.get(0).getOutput());
+        assertEquals("1", results.get(0).getResult());
+        assertFalse(results.get(0).hasError());
+
+        final FlexibleSearchResult products = results.get(1).getFlexibleSearchResult();
+        assertEquals(Arrays.asList("PK", "code"), products.getHeaders());
+        assertEquals(2, products.getRowCount());
+        assertEquals(1, products.getSkippedRows());
+        assertEquals("a;b", products.getValue(0, 1));
+        assertEquals("c'd", products.getValue(1, 1));
+
+        assertEquals("7", results.get(2).getFlexibleSearchResult().getValue(0, 0));
+
+        assertTrue(results.get(3).hasError());
+        assertEquals("unknown field", results.get(3).getErrorMessage());
+    }
+
+    public void testParseFailedScript() throws IOException {
+        final List<HacBatch.Statement> statements = Collections.singletonList(new HacBatch.Statement(GROOVY, "x"));
+
+        final List<HybrisHttpResult> failed = HacBatch.parseResults(
+            response(map("executionResult", "", "stacktraceText", "groovy.lang.MissingPropertyException")), statements, 10
+        );
+        assertEquals(1, failed.size());
+        assertEquals("groovy.lang.MissingPropertyException", failed.get(0).getErrorMessage());
+
+        final List<HybrisHttpResult> empty = HacBatch.parseResults(response(map("outputText", "")), statements, 10);
+        assertEquals(1, empty.size());
+        assertEquals("No data in response", empty.get(0).getErrorMessage());
+    }
+
+    public void testParseMalformedResponse() {
+        assertThrows(IOException.class, () -> HacBatch.parseResults(
+            new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), Collections.emptyList(), 10
+        ));
+    }
+
+    /**
+     * Reads the kind and text of every statement back from the script, the way Groovy reads single-quoted strings.
+     */
+    @NotNull
+    private static List<String[]> readStatementLiterals(@NotNull final String script) {
+        final int start = script.indexOf(STATEMENTS_START) + STATEMENTS_START.length();
+        final String block = script.substring(start, script.indexOf("\n]\n", start - 1) + 1);
+        final List<String[]> literals = new ArrayList<>();
+
+        for (String line : block.split("\n")) {
+            final int[] offset = {line.indexOf('[') + 1};
+            final String kind = readLiteral(line, offset);
+            assertEquals(", ", line.substring(offset[0], offset[0] + 2));
+            offset[0] += 2;
+            final String text = readLiteral(line, offset);
+            assertEquals("],", line.substring(offset[0]));
+            literals.add(new String[]{kind, text});
+        }
+        return literals;
+    }
+
+    @NotNull
+    private static String readLiteral(@NotNull final String line, @NotNull final int[] offset) {
+        assertEquals('\'', line.charAt(offset[0]));
+        final StringBuilder value = new StringBuilder();
+        int i = offset[0] + 1;
+
+        for (char c = line.charAt(i); c != '\''; c = line.charAt(++i)) {
+            if (c == '\\') {
+                final char escaped = line.charAt(++i);
+                value.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                value.append(c);
+            }
+        }
+        offset[0] = i + 1;
+        return value.toString();
+    }
+
+    @NotNull
+    private static ByteArrayInputStream response(@NotNull final Map<String, Object> json) {
+        return new ByteArrayInputStream(new Gson().toJson(json).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @NotNull
+    private static Map<String, Object> map(@NotNull final Object... keysAndValues) {
+        final Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import org.apache.http.message.BasicNameValuePair;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs executions the way two consoles do, each on its own executor limited to one execution at a time, against a
+ * local {@link HacStandInServer} which answers one query slowly.
+ */
+public class HacExecutionTest extends HacStandInTestCase {
+
+    private static final int SLOW_QUERY_MILLIS = 3_000;
+    private static final long FAST_BUDGET_MILLIS = 1_000;
+    private static final long CANCEL_BUDGET_MILLIS = 500;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private ExecutorService slowConsole;
+    private ExecutorService otherConsole;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        slowConsole = Executors.newSingleThreadExecutor();
+        otherConsole = Executors.newSingleThreadExecutor();
+        server.setSlowQueryMillis(SLOW_QUERY_MILLIS);
+        // log in up front, so that only the queries are measured
+        execute("SELECT {pk} FROM {Product}");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            if (slowConsole != null) {
+                slowConsole.shutdownNow();
+            }
+            if (otherConsole != null) {
+                otherConsole.shutdownNow();
+            }
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testSlowQueryDoesNotBlockOtherConsole() throws Exception {
+        final HacExecution<Integer> slow = HacExecution.submit(
+            slowConsole, () -> execute(HacStandInServer.SLOW_QUERY_MARKER + " SELECT {pk} FROM {Product}")
+        );
+        final HacExecution<Integer> queued = HacExecution.submit(slowConsole, () -> execute("SELECT {pk} FROM {Catalog}"));
+
+        final long startedAt = System.nanoTime();
+        final int otherStatus = HacExecution.submit(otherConsole, () -> execute("SELECT {pk} FROM {Order}"))
+                                            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        final long otherMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertEquals(200, otherStatus);
+        assertTrue(
+            String.format("the other console waited %,d ms for its answer while a slow query was running", otherMillis),
+            otherMillis <= FAST_BUDGET_MILLIS
+        );
+        assertFalse("the second execution of a console did not wait for the first one", queued.isDone());
+
+        slow.cancel(true);
+        queued.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public void testCancellingAbortsRequestAndFreesConsole() throws Exception {
+        final HacExecution<Integer> slow = HacExecution.submit(
+            slowConsole, () -> execute(HacStandInServer.SLOW_QUERY_MARKER + " SELECT {pk} FROM {Product}")
+        );
+        final HacExecution<Integer> queued = HacExecution.submit(slowConsole, () -> execute("SELECT {pk} FROM {Catalog}"));
+
+        final long startedAt = System.nanoTime();
+        slow.cancel(true);
+        final int queuedStatus = queued.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        final long cancelMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertTrue("the slow query was not cancelled", slow.isCancelled());
+        assertEquals(200, queuedStatus);
+        assertTrue(
+            String.format("the console was freed %,d ms after cancelling, expected within %,d ms", cancelMillis, CANCEL_BUDGET_MILLIS),
+            cancelMillis <= CANCEL_BUDGET_MILLIS
+        );
+    }
+
+    private int execute(@NotNull final String query) {
+        return client.post(
+            settings,
+            server.getHacUrl(),
+            server.getHacUrl() + "/console/flexsearch/execute",
+            Collections.singletonList(new BasicNameValuePair("flexibleSearchQuery", query)),
+            true
+        ).getStatusLine().getStatusCode();
+    }
+}
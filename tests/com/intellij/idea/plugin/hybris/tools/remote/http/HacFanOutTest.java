@@ -0,0 +1,140 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResultDiff;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one query through {@link HacFanOut} on three local {@link HacStandInServer}s with different latencies, the
+ * last of which answers with different rows.
+ */
+public class HacFanOutTest extends HacStandInTestCase {
+
+    private static final int[] LATENCY_MILLIS = {100, 200, 300};
+    private static final int DIFFERENT_ROWS = 50;
+    private static final long TIMEOUT_MILLIS = 5_000;
+    private static final long SHORT_TIMEOUT_MILLIS = 500;
+    private static final int SLOW_SERVER_MILLIS = 3_000;
+    private static final double MAX_SHARE_OF_SUM = 0.8;
+    private static final String QUERY = "SELECT {pk} FROM {Product}";
+
+    private final List<HacStandInServer> servers = new ArrayList<>();
+    private final List<HacFanOut.Target> targets = new ArrayList<>();
+    private ExecutorService executor;
+    private HacFanOut fanOut;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        servers.add(server);
+        while (servers.size() < LATENCY_MILLIS.length) {
+            servers.add(HacStandInServer.start());
+        }
+        for (int i = 0; i < servers.size(); i++) {
+            targets.add(new HacFanOut.Target(
+                "node-" + i, HacStandInServer.createSettings(getName() + '-' + i), servers.get(i).getHacUrl()
+            ));
+        }
+        servers.get(servers.size() - 1).setFlexibleSearchRows(DIFFERENT_ROWS);
+
+        executor = Executors.newCachedThreadPool();
+        fanOut = new HacFanOut(client, executor);
+        // log in up front, so that only the queries are measured
+        fanOut.executeFlexibleSearch(targets, false, "100", QUERY, TIMEOUT_MILLIS);
+        for (int i = 0; i < servers.size(); i++) {
+            servers.get(i).setLatencyMillis(LATENCY_MILLIS[i]);
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            // the first server is closed by the super class
+            servers.stream().skip(1).forEach(HacStandInServer::close);
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testConnectionsAreQueriedInParallel() {
+        final long startedAt = System.nanoTime();
+        final List<HacFanOut.TargetResult> results = fanOut.executeFlexibleSearch(targets, false, "100", QUERY, TIMEOUT_MILLIS);
+        final long fanOutMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        final long sumMillis = results.stream().mapToLong(HacFanOut.TargetResult::getMillis).sum();
+
+        for (HacFanOut.TargetResult result : results) {
+            assertNotNull(result.getResult().getErrorMessage(), result.getResult().getFlexibleSearchResult());
+        }
+        assertTrue(
+            String.format("fan-out took %,d ms, the connections took %,d ms one after another", fanOutMillis, sumMillis),
+            fanOutMillis <= sumMillis * MAX_SHARE_OF_SUM
+        );
+    }
+
+    public void testComparisonFindsDifferentRows() {
+        final List<HacFanOut.TargetResult> results = fanOut.executeFlexibleSearch(targets, false, "100", QUERY, TIMEOUT_MILLIS);
+        final List<String> names = new ArrayList<>();
+        final List<FlexibleSearchResult> rows = new ArrayList<>();
+        for (HacFanOut.TargetResult result : results) {
+            names.add(result.getTarget().getName());
+            rows.add(result.getResult().getFlexibleSearchResult());
+        }
+
+        final FlexibleSearchResultDiff diff = FlexibleSearchResultDiff.compare(names, rows);
+
+        // the first row of the last server has the PK of the row of the others
+        assertEquals(2, diff.getChangedRows());
+        assertEquals(DIFFERENT_ROWS - 1, diff.getMissingRows());
+        assertEquals(0, diff.getSameRows());
+    }
+
+    public void testTimeoutMarksOnlySlowConnection() {
+        servers.get(servers.size() - 1).setLatencyMillis(SLOW_SERVER_MILLIS);
+
+        final long startedAt = System.nanoTime();
+        final List<HacFanOut.TargetResult> results = fanOut.executeFlexibleSearch(targets, false, "100", QUERY, SHORT_TIMEOUT_MILLIS);
+        final long fanOutMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        for (HacFanOut.TargetResult result : results) {
+            final boolean slow = result == results.get(results.size() - 1);
+            assertEquals(describe(result), slow, result.isTimedOut());
+            assertEquals(describe(result), slow, result.getResult().hasError());
+        }
+        assertTrue(
+            String.format("fan-out with a timeout of %d ms took %,d ms", SHORT_TIMEOUT_MILLIS, fanOutMillis),
+            fanOutMillis <= SLOW_SERVER_MILLIS / 2
+        );
+    }
+
+    @NotNull
+    private static String describe(@NotNull final HacFanOut.TargetResult result) {
+        return result.getTarget().getName() + ": " + result.getResult().getErrorMessage();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings;
+import com.intellij.testFramework.UsefulTestCase;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.ssl.SSLContexts;
+import org.apache.http.util.EntityUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * Sends FlexibleSearch executions to a local {@link HacStandInServer} over HTTPS, once with a new client and
+ * TLS context per request, the way the HAC client used to work, and once with the client of
+ * {@link HacHttpClientPool}, and compares the request rates.
+ */
+public class HacHttpClientPoolTest extends UsefulTestCase {
+
+    private static final int REQUESTS = 500;
+    private static final int WARMUP_REQUESTS = 20;
+    private static final double MIN_SPEEDUP = 2;
+
+    private final HacHttpClientPool pool = new HacHttpClientPool();
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            pool.dispose();
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testClientIsReusedUntilTimeoutsChange() {
+        final HybrisRemoteConnectionSettings settings = HacStandInServer.createSettings("hac-http-client-pool-test");
+        final CloseableHttpClient client = getClient(settings);
+
+        assertSame(client, getClient(settings));
+
+        settings.setSocketTimeout(settings.getSocketTimeout() + 1_000);
+        assertNotSame(client, getClient(settings));
+
+        pool.dispose();
+        assertNull(pool.acquire(settings));
+    }
+
+    public void testReplacedClientServesLeasedRequestsUntilReleased() throws IOException {
+        try (HacStandInServer server = HacStandInServer.start()) {
+            final String url = server.getHacUrl() + "/console/flexsearch/execute";
+            final String sessionId = server.openSession();
+            final HybrisRemoteConnectionSettings settings = HacStandInServer.createSettings("hac-http-client-pool-test");
+            final HacHttpClientPool.Lease inFlight = pool.acquire(settings);
+            assertNotNull(inFlight);
+
+            settings.setSocketTimeout(settings.getSocketTimeout() + 1_000);
+            try (HacHttpClientPool.Lease replacement = pool.acquire(settings)) {
+                assertNotNull(replacement);
+                assertNotSame(inFlight.getClient(), replacement.getClient());
+
+                // the request started before the settings changed still completes on the replaced client
+                execute(inFlight.getClient(), url, sessionId);
+                inFlight.close();
+                assertThrows(IllegalStateException.class, () -> execute(inFlight.getClient(), url, sessionId));
+
+                execute(replacement.getClient(), url, sessionId);
+            }
+        }
+    }
+
+    public void testPooledClientIsFasterThanClientPerRequest() throws IOException {
+        try (HacStandInServer server = HacStandInServer.start()) {
+            final String url = server.getHacUrl() + "/console/flexsearch/execute";
+            final String sessionId = server.openSession();
+            final HttpClient pooledClient = getClient(HacStandInServer.createSettings("hac-http-client-pool-test"));
+
+            measure(WARMUP_REQUESTS, url, sessionId, null);
+            final long unpooledNanos = measure(REQUESTS, url, sessionId, null);
+            measure(WARMUP_REQUESTS, url, sessionId, pooledClient);
+            final long pooledNanos = measure(REQUESTS, url, sessionId, pooledClient);
+
+            final double speedup = (double) unpooledNanos / Math.max(1, pooledNanos);
+            assertTrue(
+                String.format("pooled client is %.1fx faster than a client per request, expected at least %.1fx", speedup, MIN_SPEEDUP),
+                speedup >= MIN_SPEEDUP
+            );
+        }
+    }
+
+    @NotNull
+    private CloseableHttpClient getClient(@NotNull final HybrisRemoteConnectionSettings settings) {
+        try (HacHttpClientPool.Lease lease = pool.acquire(settings)) {
+            assertNotNull(lease);
+            return lease.getClient();
+        }
+    }
+
+    /**
+     * @param pooledClient client to reuse, {@code null} to create a new one for every request
+     */
+    private static long measure(
+        final int count,
+        @NotNull final String url,
+        @NotNull final String sessionId,
+        @Nullable final HttpClient pooledClient
+    ) throws IOException {
+        final long startedAt = System.nanoTime();
+
+        for (int i = 0; i < count; i++) {
+            if (pooledClient == null) {
+                try (CloseableHttpClient client = createClientPerRequest()) {
+                    execute(client, url, sessionId);
+                }
+            } else {
+                execute(pooledClient, url, sessionId);
+            }
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private static void execute(
+        @NotNull final HttpClient client,
+        @NotNull final String url,
+        @NotNull final String sessionId
+    ) throws IOException {
+        final HttpPost post = new HttpPost(url);
+        post.setHeader("X-CSRF-TOKEN", HacStandInServer.getCsrfToken(sessionId));
+        post.setHeader("Cookie", "JSESSIONID=" + sessionId);
+        post.setEntity(new UrlEncodedFormEntity(Arrays.asList(
+            new BasicNameValuePair("flexibleSearchQuery", "SELECT {pk} FROM {Product}"),
+            new BasicNameValuePair("maxCount", "200")
+        ), "utf-8"));
+
+        final HttpResponse response = client.execute(post);
+        assertEquals(200, response.getStatusLine().getStatusCode());
+        EntityUtils.consume(response.getEntity());
+    }
+
+    @NotNull
+    private static CloseableHttpClient createClientPerRequest() throws IOException {
+        try {
+            final SSLConnectionSocketFactory sslConnectionFactory = new SSLConnectionSocketFactory(
+                SSLContexts.custom().loadTrustMaterial(null, (chain, authType) -> true).build(),
+                NoopHostnameVerifier.INSTANCE
+            );
+            return HttpClients.custom()
+                              .setConnectionManager(new BasicHttpClientConnectionManager(
+                                  RegistryBuilder.<ConnectionSocketFactory>create()
+                                      .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                                      .register("https", sslConnectionFactory)
+                                      .build()
+                              ))
+                              .setDefaultRequestConfig(RequestConfig.custom()
+                                                                    .setConnectTimeout(HybrisRemoteConnectionSettings.DEFAULT_TIMEOUT_MILLIS)
+                                                                    .setSocketTimeout(HybrisRemoteConnectionSettings.DEFAULT_TIMEOUT_MILLIS)
+                                                                    .build())
+                              .build();
+        } catch (GeneralSecurityException e) {
+            throw new IOException(e);
+        }
+    }
+}
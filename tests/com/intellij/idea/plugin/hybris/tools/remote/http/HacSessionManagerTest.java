@@ -0,0 +1,84 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import org.apache.http.message.BasicNameValuePair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Runs FlexibleSearch executions through {@link HybrisHacHttpClient} against a local {@link HacStandInServer} and
+ * checks that the session and the CSRF token are fetched once instead of before every request, and that concurrent
+ * executions share a single re-login after the server dropped all sessions.
+ */
+public class HacSessionManagerTest extends HacStandInTestCase {
+
+    private static final int EXECUTIONS = 500;
+    private static final int THREADS = 8;
+
+    // GET for the session, GET for the login CSRF token, the login itself and GET for the CSRF token of the new session
+    private static final int LOGIN_REQUESTS = 4;
+
+    public void testSequentialExecutionsShareOneSession() {
+        for (int i = 0; i < EXECUTIONS; i++) {
+            assertEquals(SC_OK, execute());
+        }
+        assertTrue(
+            String.format("%,d executions took %,d requests", EXECUTIONS, server.getRequests()),
+            server.getRequests() <= EXECUTIONS + LOGIN_REQUESTS
+        );
+        assertEquals(1, client.getSessionManager().getMisses());
+    }
+
+    public void testConcurrentExecutionsShareOneRelogin() throws Exception {
+        assertEquals(SC_OK, execute());
+        server.expireSessions();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < EXECUTIONS; i++) {
+                statuses.add(executor.submit(this::execute));
+            }
+            for (Future<Integer> status : statuses) {
+                assertEquals(SC_OK, status.get().intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals("logged in once at start and once after the sessions expired", 2, client.getSessionManager().getMisses());
+    }
+
+    private int execute() {
+        return client.post(
+            settings,
+            server.getHacUrl(),
+            server.getHacUrl() + "/console/flexsearch/execute",
+            Collections.singletonList(new BasicNameValuePair("flexibleSearchQuery", "SELECT {pk} FROM {Product}")),
+            true
+        ).getStatusLine().getStatusCode();
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTPS server which answers like the hybris administration console: every page carries the CSRF token of
+ * the session, the login replaces the session cookie, POSTs without a matching token are rejected with 403 and
+ * the console endpoints redirect to the login page unless the session is logged in. Otherwise FlexibleSearch and
+ * Groovy scripting answer with JSON, ImpEx import and validation with the result elements of their HTML pages.
+ * <p>
+ * Requests containing {@link #FAILURE_MARKER} are answered with the failure of the endpoint. Every console request
+ * can be delayed by a latency, the FlexibleSearch endpoint can stream a generated result of any size or answer
+ * single queries slowly, and Groovy scripts can print an output of any size. It lets the tests check and measure
+ * the HAC client without a running hybris server.
+ * <p>
+ * The certificate is self-signed for {@code localhost} and read from {@value #KEYSTORE} next to this class.
+ */
+public class HacStandInServer implements AutoCloseable {
+
+    public static final String WEBROOT = "/hac";
+    /**
+     * FlexibleSearch queries containing this comment are answered only after the delay set by {@link #setSlowQueryMillis(int)}.
+     */
+    public static final String SLOW_QUERY_MARKER = "/*slow*/";
+    /**
+     * Requests containing this comment are answered with the failure of the endpoint, e.g. an ImpEx import error.
+     */
+    public static final String FAILURE_MARKER = "/*fail*/";
+    public static final String FAILURE_MESSAGE = "stand-in failure";
+
+    private static final String KEYSTORE = "hac-stand-in.p12";
+    private static final String KEYSTORE_PASSWORD = "stand-in";
+    private static final String SESSION_COOKIE = "JSESSIONID=";
+    private static final String FLEXIBLE_SEARCH_RESULT = "{\"headers\":[\"PK\",\"code\"],"
+                                                         + "\"resultList\":[[\"8796093054977\",\"stand-in\"]],"
+                                                         + "\"exception\":null}";
+    private static final String[] FLEXIBLE_SEARCH_HEADERS = {
+        "PK", "code", "name", "catalogVersion", "approvalStatus", "creationtime"
+    };
+    private static final String FLEXIBLE_SEARCH_FAILURE = "{\"headers\":[],\"resultList\":[],"
+                                                          + "\"exception\":{\"message\":\"" + FAILURE_MESSAGE + "\"}}";
+    private static final String GROOVY_FAILURE = "{\"outputText\":\"\",\"executionResult\":\"\","
+                                                 + "\"stacktraceText\":\"" + FAILURE_MESSAGE + "\"}";
+    private static final String IMPEX_IMPORT_RESULT = "<div id=\"impexResult\" data-level=\"notice\" "
+                                                      + "data-result=\"Import finished successfully\"></div>";
+    private static final String IMPEX_IMPORT_FAILURE = "<div id=\"impexResult\" data-level=\"error\" "
+                                                       + "data-result=\"Import has encountered problems\"></div>"
+                                                       + "<div class=\"impexResult\"><pre>" + FAILURE_MESSAGE + "</pre></div>";
+    private static final String IMPEX_VALIDATION_RESULT = "<div id=\"validationResultMsg\" data-level=\"notice\" "
+                                                          + "data-result=\"Import script is valid\"></div>";
+    private static final String IMPEX_VALIDATION_FAILURE = "<div id=\"validationResultMsg\" data-level=\"error\" "
+                                                           + "data-result=\"" + FAILURE_MESSAGE + "\"></div>";
+
+    static {
+        // headers and body are written separately, with Nagle's algorithm every response waits for a delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpsServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final Set<String> authenticatedSessions = ConcurrentHashMap.newKeySet();
+    private volatile int flexibleSearchRows;
+    private volatile int slowQueryMillis;
+    private volatile int latencyMillis;
+    private volatile int groovyOutputChars;
+
+    private HacStandInServer() throws IOException, GeneralSecurityException {
+        this.executor = Executors.newFixedThreadPool(8);
+        this.server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setHttpsConfigurator(new HttpsConfigurator(createSslContext()));
+        this.server.setExecutor(executor);
+        this.server.createContext(WEBROOT, this::handle);
+        this.server.start();
+    }
+
+    @NotNull
+    public static HacStandInServer start() throws IOException {
+        try {
+            return new HacStandInServer();
+        } catch (GeneralSecurityException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * URL of the console, the value {@code getHostHacURL()} returns for a real server.
+     */
+    @NotNull
+    public String getHacUrl() {
+        return "https://localhost:" + server.getAddress().getPort() + WEBROOT;
+    }
+
+    /**
+     * Settings of a connection to a stand-in, which accepts any credentials. The uuid keeps the pooled client and
+     * the session of the connection apart from those of other tests.
+     */
+    @NotNull
+    public static HybrisRemoteConnectionSettings createSettings(@NotNull final String uuid) {
+        final HybrisRemoteConnectionSettings settings = new HybrisRemoteConnectionSettings();
+        settings.setUuid(uuid);
+        settings.setHacLogin("admin");
+        settings.setHacPassword("nimda");
+        return settings;
+    }
+
+    public int getRequests() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Makes the FlexibleSearch endpoint stream a generated result with the given number of rows instead of the
+     * canned one, {@code 0} switches back. The result is written while it is generated, in chunks.
+     */
+    public void setFlexibleSearchRows(final int rows) {
+        flexibleSearchRows = rows;
+    }
+
+    public void setSlowQueryMillis(final int millis) {
+        slowQueryMillis = millis;
+    }
+
+    /**
+     * Delays the answer of every console request, the way the processing time of a real server does.
+     */
+    public void setLatencyMillis(final int millis) {
+        latencyMillis = millis;
+    }
+
+    /**
+     * Makes Groovy scripts print an output of the given number of characters, in lines of 100 without runs of
+     * whitespace, which the client would collapse.
+     */
+    public void setGroovyOutputChars(final int chars) {
+        groovyOutputChars = chars;
+    }
+
+    /**
+     * Writes a FlexibleSearch answer of HAC with generated product rows, about 120 bytes each.
+     */
+    public static void writeFlexibleSearchResult(@NotNull final Writer out, final int rows) throws IOException {
+        out.write("{\"headers\":[");
+        for (int column = 0; column < FLEXIBLE_SEARCH_HEADERS.length; column++) {
+            out.write(column > 0 ? ",\"" : "\"");
+            out.write(FLEXIBLE_SEARCH_HEADERS[column]);
+            out.write('"');
+        }
+        out.write("],\"resultList\":[");
+
+        for (int row = 0; row < rows; row++) {
+            out.write(row > 0 ? "," : "");
+            out.write("[\"" + (8796093054977L + row)
+                      + "\",\"product-" + row
+                      + "\",\"Product " + row % 997
+                      + "\",\"Default:Staged\",\""
+                      + (row % 3 == 0 ? "approved" : "check")
+                      + "\",\"2021-03-0" + (row % 9 + 1) + " 10:15:00.0\"]");
+        }
+        out.write("],\"exception\":null}");
+    }
+
+    /**
+     * Opens a logged-in session without going through the login page.
+     */
+    @NotNull
+    public String openSession() {
+        final String sessionId = newSessionId();
+        authenticatedSessions.add(sessionId);
+        return sessionId;
+    }
+
+    /**
+     * Logs out all sessions, the way a server restart or a session timeout does.
+     */
+    public void expireSessions() {
+        authenticatedSessions.clear();
+    }
+
+    @NotNull
+    public static String getCsrfToken(@NotNull final String sessionId) {
+        return "csrf-" + sessionId;
+    }
+
+    private void handle(@NotNull final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        // the body has to be read completely, otherwise the connection is not kept alive
+        final String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        final String path = exchange.getRequestURI().getPath();
+        String sessionId = getSessionId(exchange);
+
+        if ("GET".equals(exchange.getRequestMethod())) {
+            if (sessionId == null) {
+                sessionId = newSessionId();
+                setSessionCookie(exchange, sessionId);
+            }
+            respond(exchange, 200, "text/html", "<html><head><meta name=\"_csrf\" content=\"" + getCsrfToken(sessionId) + "\"/></head></html>");
+            return;
+        }
+        if (sessionId == null || !getCsrfToken(sessionId).equals(exchange.getRequestHeaders().getFirst("X-CSRF-TOKEN"))) {
+            respond(exchange, 403, "text/html", "");
+            return;
+        }
+        if (path.endsWith("/j_spring_security_check")) {
+            if (!body.contains("_csrf=" + getCsrfToken(sessionId))) {
+                respond(exchange, 403, "text/html", "");
+                return;
+            }
+            setSessionCookie(exchange, openSession());
+            exchange.getResponseHeaders().add("Location", WEBROOT + '/');
+            respond(exchange, 302, "text/html", "");
+            return;
+        }
+        if (!authenticatedSessions.contains(sessionId)) {
+            exchange.getResponseHeaders().add("Location", WEBROOT + "/login");
+            respond(exchange, 302, "text/html", "");
+            return;
+        }
+        pause(latencyMillis);
+        final String parameters = URLDecoder.decode(body, StandardCharsets.UTF_8);
+        final boolean failing = parameters.contains(FAILURE_MARKER);
+
+        if (path.endsWith("/console/flexsearch/execute") && failing) {
+            respond(exchange, 200, "application/json", FLEXIBLE_SEARCH_FAILURE);
+        } else if (path.endsWith("/console/flexsearch/execute") && slowQueryMillis > 0 && parameters.contains(SLOW_QUERY_MARKER)) {
+            pause(slowQueryMillis);
+            respond(exchange, 200, "application/json", FLEXIBLE_SEARCH_RESULT);
+        } else if (path.endsWith("/console/flexsearch/execute") && flexibleSearchRows > 0) {
+            respondWithRows(exchange, flexibleSearchRows);
+        } else if (path.endsWith("/console/flexsearch/execute")) {
+            respond(exchange, 200, "application/json", FLEXIBLE_SEARCH_RESULT);
+        } else if (path.endsWith("/console/scripting/execute")) {
+            respond(exchange, 200, "application/json", failing ? GROOVY_FAILURE : createGroovyResult(groovyOutputChars));
+        } else if (path.endsWith("/console/impex/import/validate")) {
+            respond(exchange, 200, "text/html", htmlPage(failing ? IMPEX_VALIDATION_FAILURE : IMPEX_VALIDATION_RESULT));
+        } else if (path.endsWith("/console/impex/import")) {
+            respond(exchange, 200, "text/html", htmlPage(failing ? IMPEX_IMPORT_FAILURE : IMPEX_IMPORT_RESULT));
+        } else {
+            respond(exchange, 404, "text/html", "");
+        }
+    }
+
+    @NotNull
+    private static String createGroovyResult(final int outputChars) {
+        final StringBuilder json = new StringBuilder(outputChars + 128).append("{\"outputText\":\"");
+        int written = 0;
+        for (int line = 0; written < outputChars; line++) {
+            final String prefix = "stand-in output line " + line + ' ';
+            final String text = prefix + ".".repeat(99 - prefix.length());
+            final int length = Math.min(text.length(), outputChars - written);
+            json.append(text, 0, length);
+            written += length;
+            if (written < outputChars) {
+                json.append("\\n");
+                written++;
+            }
+        }
+        return json.append("\",\"executionResult\":\"stand-in\",\"stacktraceText\":\"\"}").toString();
+    }
+
+    @NotNull
+    private static String htmlPage(@NotNull final String result) {
+        return "<html><head><meta name=\"_csrf\" content=\"\"/></head><body>" + result + "</body></html>";
+    }
+
+    private static void pause(final int millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nullable
+    private static String getSessionId(@NotNull final HttpExchange exchange) {
+        final String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+        return cookie != null && cookie.startsWith(SESSION_COOKIE)
+            ? cookie.substring(SESSION_COOKIE.length())
+            : null;
+    }
+
+    private static void setSessionCookie(@NotNull final HttpExchange exchange, @NotNull final String sessionId) {
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + sessionId + "; Path=" + WEBROOT);
+    }
+
+    @NotNull
+    private String newSessionId() {
+        return "stand-in-session-" + sessions.incrementAndGet();
+    }
+
+    private static void respond(
+        @NotNull final HttpExchange exchange,
+        final int status,
+        @NotNull final String contentType,
+        @NotNull final String body
+    ) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType + ";charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void respondWithRows(@NotNull final HttpExchange exchange, final int rows) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 64 * 1024)) {
+            writeFlexibleSearchResult(out, rows);
+        } catch (IOException e) {
+            // the client closed the connection, e.g. because the export was cancelled
+        }
+    }
+
+    @NotNull
+    private static SSLContext createSslContext() throws IOException, GeneralSecurityException {
+        final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = HacStandInServer.class.getResourceAsStream(KEYSTORE)) {
+            if (in == null) {
+                throw new IOException("Missing test resource " + KEYSTORE);
+            }
+            keyStore.load(in, KEYSTORE_PASSWORD.toCharArray());
+        }
+        final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, KEYSTORE_PASSWORD.toCharArray());
+
+        final SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+        return sslContext;
+    }
+}
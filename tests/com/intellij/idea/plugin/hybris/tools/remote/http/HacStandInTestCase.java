@@ -0,0 +1,60 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+
+/**
+ * Starts a {@link HacStandInServer} and a {@link HybrisHacHttpClient} for every test and stops both afterwards.
+ * Requests block, so the tests run outside of the EDT.
+ */
+public abstract class HacStandInTestCase extends BasePlatformTestCase {
+
+    protected HacStandInServer server;
+    protected HybrisHacHttpClient client;
+    protected HybrisRemoteConnectionSettings settings;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        server = HacStandInServer.start();
+        client = new HybrisHacHttpClient();
+        settings = HacStandInServer.createSettings(getClass().getSimpleName() + '.' + getName());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            if (client != null) {
+                client.dispose();
+            }
+            if (server != null) {
+                server.close();
+            }
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    @Override
+    protected boolean runInDispatchThread() {
+        return false;
+    }
+}
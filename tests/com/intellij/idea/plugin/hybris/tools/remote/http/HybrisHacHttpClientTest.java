@@ -0,0 +1,212 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http;
+
+import com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch.FlexibleSearchResult;
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Every console operation of {@link HybrisHacHttpClient} - FlexibleSearch, Groovy scripting, ImpEx import and
+ * validation - against a local {@link HacStandInServer}, for its result and its failure. Then a mix of all operations
+ * is sent from several threads with a server latency, where requests have to run in parallel.
+ */
+public class HybrisHacHttpClientTest extends HacStandInTestCase {
+
+    private static final String QUERY = "SELECT {pk} FROM {Product}";
+    private static final String IMPEX = "INSERT_UPDATE Product;code[unique=true]";
+    private static final int FLEXIBLE_SEARCH_ROWS = 50_000;
+    private static final int FLEXIBLE_SEARCH_MAX_ROWS = 200;
+    private static final int GROOVY_OUTPUT_CHARS = 256 * 1024;
+    private static final int OPERATIONS = 500;
+    private static final int THREADS = 8;
+    private static final int LATENCY_MILLIS = 20;
+    private static final double MIN_REQUESTS_IN_FLIGHT = 2;
+
+    public void testFlexibleSearchResult() {
+        final HybrisHttpResult result = flexibleSearch("SELECT {pk}, {code} FROM {Product}");
+        final FlexibleSearchResult rows = result.getFlexibleSearchResult();
+
+        assertFalse(result.getErrorMessage(), result.hasError());
+        assertNotNull(rows);
+        assertEquals(1, rows.getRowCount());
+        assertEquals(Arrays.asList("PK", "code"), rows.getHeaders());
+    }
+
+    public void testFlexibleSearchException() {
+        final HybrisHttpResult result = flexibleSearch(HacStandInServer.FAILURE_MARKER + ' ' + QUERY);
+
+        assertTrue(result.hasError());
+        assertEquals(HacStandInServer.FAILURE_MESSAGE, result.getErrorMessage());
+    }
+
+    public void testFlexibleSearchRowLimit() {
+        server.setFlexibleSearchRows(FLEXIBLE_SEARCH_ROWS);
+        final FlexibleSearchResult rows = flexibleSearch(QUERY).getFlexibleSearchResult();
+
+        assertNotNull(rows);
+        assertEquals(FLEXIBLE_SEARCH_MAX_ROWS, rows.getRowCount());
+        assertEquals(FLEXIBLE_SEARCH_ROWS - FLEXIBLE_SEARCH_MAX_ROWS, rows.getSkippedRows());
+    }
+
+    public void testGroovyResult() {
+        final HybrisHttpResult result = groovy("println 'stand-in'");
+
+        assertFalse(result.getErrorMessage(), result.hasError());
+        assertEquals("stand-in", result.getResult());
+    }
+
+    public void testGroovyLargeOutput() {
+        server.setGroovyOutputChars(GROOVY_OUTPUT_CHARS);
+        final HybrisHttpResult result = groovy("1000.times { println it }");
+
+        assertFalse(result.getErrorMessage(), result.hasError());
+        assertNotNull(result.getOutput());
+        assertEquals(GROOVY_OUTPUT_CHARS, result.getOutput().length());
+    }
+
+    public void testGroovyStacktrace() {
+        final HybrisHttpResult result = groovy(HacStandInServer.FAILURE_MARKER + " throw new IllegalStateException()");
+
+        assertTrue(result.hasError());
+        assertEquals(HacStandInServer.FAILURE_MESSAGE, result.getErrorMessage());
+    }
+
+    public void testImpexImport() {
+        final HybrisHttpResult result = importImpex(IMPEX);
+
+        assertFalse(result.getErrorMessage(), result.hasError());
+        assertEquals("Import finished successfully", result.getOutput());
+    }
+
+    public void testImpexImportError() {
+        final HybrisHttpResult result = importImpex(HacStandInServer.FAILURE_MARKER + IMPEX);
+
+        assertTrue(result.hasError());
+        assertEquals(HacStandInServer.FAILURE_MESSAGE, result.getDetailMessage());
+    }
+
+    public void testImpexValidation() {
+        final HybrisHttpResult result = validateImpex(IMPEX);
+
+        assertFalse(result.getErrorMessage(), result.hasError());
+        assertEquals("Import script is valid", result.getOutput());
+    }
+
+    public void testImpexValidationError() {
+        final HybrisHttpResult result = validateImpex(HacStandInServer.FAILURE_MARKER + IMPEX);
+
+        assertTrue(result.hasError());
+        assertEquals(HacStandInServer.FAILURE_MESSAGE, result.getErrorMessage());
+    }
+
+    public void testReloginAfterSessionsExpired() {
+        assertFalse(flexibleSearch(QUERY).hasError());
+
+        server.expireSessions();
+        final HybrisHttpResult result = flexibleSearch(QUERY);
+
+        assertFalse(result.getErrorMessage(), result.hasError());
+        assertNotNull(result.getFlexibleSearchResult());
+    }
+
+    public void testConcurrentOperationsRunInParallel() throws Exception {
+        final List<Function<HybrisHacHttpClientTest, HybrisHttpResult>> mix = Arrays.asList(
+            it -> it.flexibleSearch(QUERY),
+            it -> it.groovy("println 'stand-in'"),
+            it -> it.importImpex(IMPEX),
+            it -> it.validateImpex(IMPEX)
+        );
+        // log in up front, so that only the operations are measured
+        assertFalse(flexibleSearch(QUERY).hasError());
+        server.setLatencyMillis(LATENCY_MILLIS);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final long startedAt = System.nanoTime();
+            final List<Future<HybrisHttpResult>> results = new ArrayList<>(OPERATIONS);
+            for (int i = 0; i < OPERATIONS; i++) {
+                final Function<HybrisHacHttpClientTest, HybrisHttpResult> operation = mix.get(i % mix.size());
+                results.add(executor.submit(() -> operation.apply(this)));
+            }
+            int failed = 0;
+            for (Future<HybrisHttpResult> result : results) {
+                if (result.get().hasError()) {
+                    failed++;
+                }
+            }
+            final long nanos = System.nanoTime() - startedAt;
+            final double requestsInFlight = OPERATIONS * LATENCY_MILLIS * 1e6 / Math.max(1, nanos);
+
+            assertEquals(0, failed);
+            assertTrue(
+                String.format(
+                    "%.1f requests were in flight on average with %d ms latency, expected at least %.1f",
+                    requestsInFlight, LATENCY_MILLIS, MIN_REQUESTS_IN_FLIGHT
+                ),
+                requestsInFlight >= MIN_REQUESTS_IN_FLIGHT
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @NotNull
+    private HybrisHttpResult flexibleSearch(@NotNull final String query) {
+        return client.executeFlexibleSearch(
+            settings, server.getHacUrl(), false, false, String.valueOf(FLEXIBLE_SEARCH_MAX_ROWS), query
+        );
+    }
+
+    @NotNull
+    private HybrisHttpResult groovy(@NotNull final String script) {
+        return client.executeGroovyScript(settings, server.getHacUrl(), script, false);
+    }
+
+    @NotNull
+    private HybrisHttpResult importImpex(@NotNull final String script) {
+        return client.importImpex(settings, server.getHacUrl(), createImpexParams(script));
+    }
+
+    @NotNull
+    private HybrisHttpResult validateImpex(@NotNull final String script) {
+        return client.validateImpex(settings, server.getHacUrl(), createImpexParams(script));
+    }
+
+    @NotNull
+    private static Map<String, String> createImpexParams(@NotNull final String script) {
+        final Map<String, String> params = new HashMap<>();
+        params.put("scriptContent", script);
+        params.put("validationEnum", "IMPORT_STRICT");
+        params.put("encoding", "UTF-8");
+        params.put("maxThreads", "4");
+        params.put("_legacyMode", "on");
+        return params;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch;
+
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares results whose column names differ only in case, as returned by different databases.
+ */
+public class FlexibleSearchResultDiffTest extends UsefulTestCase {
+
+    private static final List<String> NAMES = Arrays.asList("hsql", "oracle");
+
+    public void testColumnsAreMatchedIgnoringCase() {
+        final FlexibleSearchResultDiff diff = FlexibleSearchResultDiff.compare(NAMES, Arrays.asList(
+            result(Arrays.asList("PK", "code"), Arrays.asList("1", "a"), Arrays.asList("2", "b")),
+            result(Arrays.asList("pk", "CODE"), Arrays.asList("1", "a"), Arrays.asList("2", "c"))
+        ));
+
+        assertEquals(
+            Arrays.asList(FlexibleSearchResultDiff.STATUS_HEADER, FlexibleSearchResultDiff.CONNECTIONS_HEADER, "PK", "code"),
+            diff.getResult().getHeaders()
+        );
+        assertEquals(1, diff.getSameRows());
+        // rows are matched by the PK column, so the row with another code is changed instead of missing twice
+        assertEquals(2, diff.getChangedRows());
+        assertEquals(0, diff.getMissingRows());
+    }
+
+    @SafeVarargs
+    @NotNull
+    private static FlexibleSearchResult result(@NotNull final List<String> headers, @NotNull final List<String>... rows) {
+        final FlexibleSearchResult result = new FlexibleSearchResult();
+        result.setHeaders(headers);
+        Arrays.stream(rows).forEach(result::addRow);
+        return result;
+    }
+}
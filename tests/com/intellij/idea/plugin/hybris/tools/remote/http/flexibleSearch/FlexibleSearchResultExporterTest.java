@@ -0,0 +1,155 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch;
+
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacStandInTestCase;
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.util.io.FileUtil;
+import org.apache.http.message.BasicNameValuePair;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Exports a FlexibleSearch result of a hundred megabytes from a local stand-in of HAC to a CSV file and checks that
+ * the heap stays flat while doing so, and that a cancelled export removes its partial file.
+ */
+public class FlexibleSearchResultExporterTest extends HacStandInTestCase {
+
+    private static final int ROWS = 1_000_000;
+    private static final int SAMPLE_ROWS = 250_000;
+    private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+    private static final String QUERY = "SELECT {pk}, {code}, {name} FROM {Product}";
+
+    private File target;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        target = FileUtil.createTempFile("flexible-search-export", ".csv", true);
+        server.setFlexibleSearchRows(ROWS);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            if (target != null) {
+                FileUtil.delete(target);
+            }
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testExportKeepsHeapFlat() throws IOException {
+        final HeapSamplingIndicator indicator = new HeapSamplingIndicator(-1);
+
+        final HybrisHttpResult result = client.exportFlexibleSearch(
+            settings, server.getHacUrl(), false, QUERY, target, FlexibleSearchResultExporter.Format.CSV, indicator
+        );
+
+        assertFalse(result.getErrorMessage(), result.hasError());
+        assertEquals(ROWS + 1, countLines(target));
+        assertTrue(
+            String.format(
+                "heap grew by %,d KB during the export, at most %,d KB expected",
+                indicator.maxHeapGrowth / 1024, MAX_HEAP_GROWTH / 1024
+            ),
+            indicator.maxHeapGrowth <= MAX_HEAP_GROWTH
+        );
+    }
+
+    public void testCancelledExportRemovesPartialFile() {
+        try {
+            client.exportFlexibleSearch(
+                settings, server.getHacUrl(), false, QUERY, target, FlexibleSearchResultExporter.Format.CSV,
+                new HeapSamplingIndicator(ROWS / 2)
+            );
+            fail("cancelled export ran to the end");
+        } catch (ProcessCanceledException e) {
+            // expected
+        }
+        assertFalse("cancelled export left a partial file behind", target.exists());
+
+        server.setFlexibleSearchRows(0);
+        final int status = client.post(
+            settings,
+            server.getHacUrl(),
+            server.getHacUrl() + "/console/flexsearch/execute",
+            Collections.singletonList(new BasicNameValuePair("flexibleSearchQuery", QUERY)),
+            true
+        ).getStatusLine().getStatusCode();
+
+        assertEquals("query after the cancelled export failed", SC_OK, status);
+    }
+
+    private static long countLines(@NotNull final File file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            long lines = 0;
+            while (reader.readLine() != null) {
+                lines++;
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Every {@link #SAMPLE_ROWS} rows collects the garbage and records how much the live heap has grown since the
+     * export started, optionally cancels after the given number of rows.
+     */
+    private static class HeapSamplingIndicator extends EmptyProgressIndicator {
+
+        private final int cancelAfterRows;
+        private final long initialHeap = usedHeapAfterGc();
+        private long maxHeapGrowth;
+        private int rows;
+
+        HeapSamplingIndicator(final int cancelAfterRows) {
+            this.cancelAfterRows = cancelAfterRows;
+        }
+
+        @Override
+        public void setText2(final String text) {
+            // the exporter reports progress every thousand rows
+            rows += 1_000;
+
+            if (cancelAfterRows > 0 && rows >= cancelAfterRows) {
+                cancel();
+            }
+            if (rows % SAMPLE_ROWS == 0) {
+                maxHeapGrowth = Math.max(maxHeapGrowth, usedHeapAfterGc() - initialHeap);
+            }
+        }
+
+        private static long usedHeapAfterGc() {
+            System.gc();
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+    }
+}
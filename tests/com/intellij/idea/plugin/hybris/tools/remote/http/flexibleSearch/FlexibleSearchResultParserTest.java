@@ -0,0 +1,144 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.flexibleSearch;
+
+import com.google.gson.Gson;
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacStandInServer;
+import com.intellij.testFramework.UsefulTestCase;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jsoup.Jsoup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Turns a large FlexibleSearch answer of HAC into console text twice: the way it was done before, through a Jsoup
+ * document, a Gson map and a single padded string, and through {@link FlexibleSearchResultParser} with page by
+ * page rendering.
+ */
+public class FlexibleSearchResultParserTest extends UsefulTestCase {
+
+    private static final int ROWS = 100_000;
+    private static final int MIN_ALLOCATION_RATIO = 2;
+
+    public void testStreamedResultIsPrintedAsBefore() throws IOException {
+        final byte[] json = createResponse(ROWS);
+
+        final FlexibleSearchResult result = FlexibleSearchResultParser.parse(new ByteArrayInputStream(json), Integer.MAX_VALUE);
+
+        assertEquals(ROWS, result.getRowCount());
+        assertEquals(renderWithTree(json), renderPages(result));
+    }
+
+    public void testRowLimitSkipsRemainingRows() throws IOException {
+        final int maxRows = 200;
+
+        final FlexibleSearchResult result = FlexibleSearchResultParser.parse(new ByteArrayInputStream(createResponse(ROWS)), maxRows);
+
+        assertEquals(maxRows, result.getRowCount());
+        assertEquals(ROWS - maxRows, result.getSkippedRows());
+    }
+
+    public void testStreamingAllocatesLessThanTree() throws IOException {
+        final byte[] json = createResponse(ROWS);
+        // warm up both pipelines, so that class loading does not count as allocation
+        renderWithTree(json);
+        renderPages(FlexibleSearchResultParser.parse(new ByteArrayInputStream(json), Integer.MAX_VALUE));
+
+        long allocatedAt = allocatedBytes();
+        renderWithTree(json);
+        final long treeBytes = allocatedBytes() - allocatedAt;
+
+        allocatedAt = allocatedBytes();
+        renderPages(FlexibleSearchResultParser.parse(new ByteArrayInputStream(json), Integer.MAX_VALUE));
+        final long streamingBytes = allocatedBytes() - allocatedAt;
+
+        assertTrue("allocated bytes of the current thread are not available", treeBytes >= 0 && streamingBytes >= 0);
+        assertTrue(
+            String.format(
+                "streaming allocated %,d KB, expected at most 1/%d of the %,d KB allocated before",
+                streamingBytes / 1024, MIN_ALLOCATION_RATIO, treeBytes / 1024
+            ),
+            streamingBytes * MIN_ALLOCATION_RATIO <= treeBytes
+        );
+    }
+
+    @NotNull
+    private static String renderPages(@NotNull final FlexibleSearchResult result) {
+        final StringBuilder text = new StringBuilder();
+        for (int page = 0; page < result.getPageCount(); page++) {
+            text.append(result.renderPage(page));
+        }
+        return text.toString();
+    }
+
+    @NotNull
+    private static byte[] createResponse(final int rows) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer out = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            HacStandInServer.writeFlexibleSearchResult(out, rows);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private static String renderWithTree(@NotNull final byte[] json) throws IOException {
+        final String body = Jsoup.parse(new ByteArrayInputStream(json), StandardCharsets.UTF_8.name(), "")
+                                 .getElementsByTag("body")
+                                 .text();
+        final HashMap<String, Object> tree = new Gson().fromJson(body, HashMap.class);
+        final List<List<String>> table = new ArrayList<>();
+        table.add((List<String>) tree.get("headers"));
+        table.addAll((List<List<String>>) tree.get("resultList"));
+
+        final int[] widths = new int[table.get(0).size()];
+        for (List<String> row : table) {
+            for (int column = 0; column < row.size(); column++) {
+                widths[column] = Math.max(widths[column], StringUtils.length(row.get(column)));
+            }
+        }
+        final StringBuilder text = new StringBuilder();
+        for (List<String> row : table) {
+            for (int column = 0; column < row.size(); column++) {
+                text.append(StringUtils.rightPad(StringUtils.defaultString(row.get(column)), widths[column])).append("| ");
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    private static long allocatedBytes() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.solr.impl;
+
+import com.intellij.idea.plugin.hybris.settings.HybrisRemoteConnectionSettings;
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult;
+import com.intellij.idea.plugin.hybris.tools.remote.http.solr.SolrCoreData;
+import com.intellij.idea.plugin.hybris.tools.remote.http.solr.SolrQueryObject;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.sun.management.UnixOperatingSystemMXBean;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The Solr client pool of {@link DefaultSolrHttpClient} against a local {@link SolrStandInServer}. Requests block,
+ * so the tests run outside of the EDT.
+ */
+public class DefaultSolrHttpClientTest extends BasePlatformTestCase {
+
+    /**
+     * Connections the pool keeps per route, concurrent requests beyond it wait for a free connection.
+     */
+    private static final int MAX_POOLED_CONNECTIONS = 4;
+    private static final int MAX_DESCRIPTOR_GROWTH = 4 * MAX_POOLED_CONNECTIONS;
+    private static final int REQUESTS = 5_000;
+    private static final int THREADS = 8;
+    private static final int CORE_STATUS_EVERY = 10;
+    private static final int SHORT_SOCKET_TIMEOUT_MILLIS = 300;
+    private static final int SLOW_CORE_MILLIS = 3_000;
+
+    private SolrStandInServer server;
+    private DefaultSolrHttpClient client;
+    private HybrisRemoteConnectionSettings settings;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        server = SolrStandInServer.start(THREADS + 1);
+        client = new DefaultSolrHttpClient();
+        settings = new HybrisRemoteConnectionSettings();
+        settings.setUuid(getClass().getSimpleName() + '.' + getName());
+        settings.setType(HybrisRemoteConnectionSettings.Type.SOLR);
+        settings.setAdminLogin("solrserver");
+        settings.setAdminPassword("server123");
+        settings.setGeneratedURL(server.getSolrUrl());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            if (client != null) {
+                client.dispose();
+            }
+            if (server != null) {
+                server.close();
+            }
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    @Override
+    protected boolean runInDispatchThread() {
+        return false;
+    }
+
+    public void testCoresAndQueryResult() {
+        final SolrCoreData[] cores = client.coresData(getProject(), settings);
+
+        assertEquals(SolrStandInServer.CORES.length, cores.length);
+        for (SolrCoreData core : cores) {
+            assertEquals(core.getCore(), SolrStandInServer.NUM_DOCS, core.getDocs());
+        }
+
+        final HybrisHttpResult result = client.executeSolrQuery(getProject(), settings, query(SolrStandInServer.CORES[0]));
+
+        assertFalse(result.getErrorMessage(), result.hasError());
+        assertEquals(SolrStandInServer.SELECT_RESPONSE, result.getOutput());
+    }
+
+    public void testConcurrentRequestsReusePooledConnections() throws Exception {
+        // open the connection up front, so that only the requests are counted
+        assertFalse(client.executeSolrQuery(getProject(), settings, query(SolrStandInServer.CORES[1])).hasError());
+        final long descriptorsBefore = getOpenFileDescriptors();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                final Callable<Boolean> request = i % CORE_STATUS_EVERY == 0
+                    ? () -> client.coresData(getProject(), settings).length == SolrStandInServer.CORES.length
+                    : () -> !client.executeSolrQuery(getProject(), settings, query(SolrStandInServer.CORES[1])).hasError();
+                results.add(executor.submit(request));
+            }
+            int failed = 0;
+            for (Future<Boolean> result : results) {
+                if (!result.get()) {
+                    failed++;
+                }
+            }
+            assertEquals(0, failed);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(
+            String.format(
+                "%,d requests were sent over %d connections, expected at most %d",
+                REQUESTS, server.getConnections(), MAX_POOLED_CONNECTIONS
+            ),
+            server.getConnections() <= MAX_POOLED_CONNECTIONS
+        );
+        if (descriptorsBefore >= 0) {
+            final long descriptorGrowth = getOpenFileDescriptors() - descriptorsBefore;
+            assertTrue(
+                String.format(
+                    "%,d open file descriptors more after %,d requests, expected at most %d",
+                    descriptorGrowth, REQUESTS, MAX_DESCRIPTOR_GROWTH
+                ),
+                descriptorGrowth <= MAX_DESCRIPTOR_GROWTH
+            );
+        }
+    }
+
+    public void testSocketTimeoutApplies() {
+        server.setSlowCoreMillis(SLOW_CORE_MILLIS);
+        settings.setSocketTimeout(SHORT_SOCKET_TIMEOUT_MILLIS);
+
+        final long startedAt = System.nanoTime();
+        final HybrisHttpResult slow = client.executeSolrQuery(getProject(), settings, query(SolrStandInServer.SLOW_CORE));
+        final long millis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertTrue("query of a core answering after the socket timeout succeeded", slow.hasError());
+        assertTrue(
+            String.format(
+                "query of a core answering after %,d ms with a socket timeout of %d ms took %,d ms",
+                SLOW_CORE_MILLIS, SHORT_SOCKET_TIMEOUT_MILLIS, millis
+            ),
+            millis < SLOW_CORE_MILLIS
+        );
+        assertFalse(
+            "query after a timed out one failed",
+            client.executeSolrQuery(getProject(), settings, query(SolrStandInServer.CORES[0])).hasError()
+        );
+    }
+
+    public void testDisposedClientRejectsQueries() {
+        assertFalse(client.executeSolrQuery(getProject(), settings, query(SolrStandInServer.CORES[0])).hasError());
+
+        client.dispose();
+
+        assertTrue(client.executeSolrQuery(getProject(), settings, query(SolrStandInServer.CORES[0])).hasError());
+    }
+
+    @NotNull
+    private static SolrQueryObject query(@NotNull final String core) {
+        return new SolrQueryObject("*:*", core, 10);
+    }
+
+    /**
+     * @return the open file descriptors of the test process or {@code -1} where they cannot be counted
+     */
+    private static long getOpenFileDescriptors() {
+        final OperatingSystemMXBean system = ManagementFactory.getOperatingSystemMXBean();
+        return system instanceof UnixOperatingSystemMXBean
+            ? ((UnixOperatingSystemMXBean) system).getOpenFileDescriptorCount()
+            : -1;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of "hybris integration" plugin for Intellij IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.solr.impl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.solr.common.util.JavaBinCodec;
+import org.apache.solr.common.util.NamedList;
+import org.apache.solr.common.util.SimpleOrderedMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTP server which answers like Solr: the core admin STATUS action with the cores and their document counts
+ * in javabin, the select handler of every core with a canned JSON response. Queries to {@link #SLOW_CORE} are
+ * answered only after the delay set by {@link #setSlowCoreMillis(int)}.
+ * <p>
+ * The server remembers the client port of every request, so the tests can tell how many connections a client
+ * opened for its requests.
+ */
+public class SolrStandInServer implements AutoCloseable {
+
+    public static final String WEBROOT = "/solr";
+    public static final String[] CORES = {"master_apparel-uk_Product_default", "master_electronics_Product_default"};
+    public static final int NUM_DOCS = 4_200;
+    public static final String SLOW_CORE = "slow";
+    public static final String SELECT_RESPONSE = "{\"responseHeader\":{\"status\":0,\"QTime\":0},"
+                                                 + "\"response\":{\"numFound\":1,\"start\":0,\"docs\":[{\"code\":\"stand-in\"}]}}";
+
+    static {
+        // headers and body are written separately, with Nagle's algorithm every response waits for a delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final byte[] coresStatus;
+    private volatile int slowCoreMillis;
+
+    private SolrStandInServer(final int threads) throws IOException {
+        this.coresStatus = createCoresStatus();
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext(WEBROOT, this::handle);
+        this.server.start();
+    }
+
+    /**
+     * @param threads requests answered at once, a slow core keeps one of them busy
+     */
+    @NotNull
+    public static SolrStandInServer start(final int threads) throws IOException {
+        return new SolrStandInServer(threads);
+    }
+
+    /**
+     * URL of Solr, the value {@code getGeneratedURL()} returns for a real server.
+     */
+    @NotNull
+    public String getSolrUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + WEBROOT;
+    }
+
+    public int getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Number of distinct client sockets requests came from, since the last {@link #resetConnections()}.
+     */
+    public int getConnections() {
+        return clientAddresses.size();
+    }
+
+    public void resetConnections() {
+        clientAddresses.clear();
+    }
+
+    public void setSlowCoreMillis(final int millis) {
+        slowCoreMillis = millis;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(@NotNull final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        clientAddresses.add(exchange.getRemoteAddress());
+
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+        final String path = exchange.getRequestURI().getPath();
+
+        if (path.equals(WEBROOT + "/admin/cores")) {
+            respond(exchange, "application/octet-stream", coresStatus);
+        } else if (path.equals(WEBROOT + '/' + SLOW_CORE + "/select")) {
+            sleep(slowCoreMillis);
+            respond(exchange, "application/json;charset=utf-8", SELECT_RESPONSE.getBytes(StandardCharsets.UTF_8));
+        } else if (path.startsWith(WEBROOT + '/') && path.endsWith("/select")) {
+            respond(exchange, "application/json;charset=utf-8", SELECT_RESPONSE.getBytes(StandardCharsets.UTF_8));
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        }
+    }
+
+    private static void respond(
+        @NotNull final HttpExchange exchange,
+        @NotNull final String contentType,
+        @NotNull final byte[] bytes
+    ) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(final int millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The STATUS answer of the core admin handler: a map per core with the index information as named list.
+     */
+    @NotNull
+    private static byte[] createCoresStatus() throws IOException {
+        final NamedList<Object> header = new SimpleOrderedMap<>();
+        header.add("status", 0);
+        header.add("QTime", 0);
+
+        final NamedList<Object> status = new NamedList<>();
+        for (String core : CORES) {
+            final NamedList<Object> index = new SimpleOrderedMap<>();
+            index.add("numDocs", NUM_DOCS);
+
+            final Map<String, Object> coreStatus = new LinkedHashMap<>();
+            coreStatus.put("name", core);
+            coreStatus.put("index", index);
+            status.add(core, coreStatus);
+        }
+        final NamedList<Object> response = new NamedList<>();
+        response.add("responseHeader", header);
+        response.add("initFailures", new SimpleOrderedMap<>());
+        response.add("status", status);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JavaBinCodec codec = new JavaBinCodec()) {
+            codec.marshal(response, out);
+        }
+        return out.toByteArray();
+    }
+}